@@ -21,6 +21,9 @@ import com.duckstar.repository.Episode.EpisodeRepository;
 import com.duckstar.repository.SurveyCandidate.SurveyCandidateRepository;
 import com.duckstar.repository.Week.WeekRepository;
 import com.duckstar.s3.S3Uploader;
+import com.duckstar.service.AnimeService.AnimeTitleChangedEvent;
+import com.duckstar.service.SurveyCandidateIdCache;
+import com.duckstar.service.WeekChartSnapshotService;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sksamuel.scrimage.ImmutableImage;
@@ -32,6 +35,7 @@ import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
 import org.apache.commons.io.input.BOMInputStream;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.FileSystemUtils;
@@ -72,6 +76,9 @@ public class CsvImportService {
     private final AnilabRepository anilabRepository;
     private final SurveyRepository surveyRepository;
     private final SurveyCandidateRepository surveyCandidateRepository;
+    private final SurveyCandidateIdCache surveyCandidateIdCache;
+    private final WeekChartSnapshotService weekChartSnapshotService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
@@ -86,6 +93,7 @@ public class CsvImportService {
         if (animeCornerCsv == null || animeCornerCsv.isEmpty()) {
             return;
         }
+        weekChartSnapshotService.invalidate(weekId);
 
         Week week = weekRepository.findWeekById(weekId)
                 .orElseThrow(() -> new WeekHandler(ErrorStatus.WEEK_NOT_FOUND));
@@ -157,6 +165,7 @@ public class CsvImportService {
         if (anilabCsv == null || anilabCsv.isEmpty()) {
             return;
         }
+        weekChartSnapshotService.invalidate(weekId);
 
         Week week = weekRepository.findWeekById(weekId)
                 .orElseThrow(() -> new WeekHandler(ErrorStatus.WEEK_NOT_FOUND));
@@ -314,6 +323,9 @@ public class CsvImportService {
                 log.error("❌ CSV 레코드 처리 실패: {}", record, e);
             }
         }
+
+        // 투표지 검증용 후보 ID 집합 (커밋 이후)
+        surveyCandidateIdCache.evict(surveyId);
     }
 
     void importEpisodes(
@@ -658,6 +670,8 @@ public class CsvImportService {
                         .build();
 
                 Anime saved = animeRepository.save(anime);
+                // 검색 색인 (커밋 이후)
+                eventPublisher.publishEvent(new AnimeTitleChangedEvent(saved.getId()));
 
                 animeQuarterRepository.save(AnimeQuarter.create(saved, quarter));
 
@@ -72,6 +72,9 @@ public enum ErrorStatus implements BaseErrorCode {
 
     VOTE_AUTH_REQUIRED(HttpStatus.CONFLICT, "VOTE4091", "투표 인증 정보가 존재하지 않습니다."),
 
+    VOTE_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "VOTE5031", "투표 요청이 많아 잠시 후 다시 시도해 주세요."),
+    VOTE_PENDING(HttpStatus.SERVICE_UNAVAILABLE, "VOTE5032", "이전 투표를 반영하는 중입니다. 잠시 후 다시 시도해 주세요."),
+
     // 인증 관련
     UNSUPPORTED_OAUTH_TYPE(HttpStatus.BAD_REQUEST, "AUTH4001", "지원하지 않는 소셜 로그인 제공자입니다."),
     REFRESH_TOKEN_MISSING(HttpStatus.BAD_REQUEST, "AUTH4002", "리프레시 토큰이 요청에 포함되어 있지 않습니다."),
@@ -93,6 +96,7 @@ public enum ErrorStatus implements BaseErrorCode {
     COMMENT_CONTENT_REQUIRED(HttpStatus.BAD_REQUEST, "COMMENT4001", "댓글 작성 시 사진이나 글 중 하나는 있어야 합니다."),
     COMMENT_NOT_FOUND(HttpStatus.BAD_REQUEST, "COMMENT4002", "댓글이 존재하지 않습니다."),
     CANNOT_POST_BEFORE_EPISODE_START(HttpStatus.BAD_REQUEST, "COMMENT4003", "아직 방영하지 않은 에피소드에는 댓글을 달 수 없습니다."),
+    INVALID_COMMENT_CURSOR(HttpStatus.BAD_REQUEST, "COMMENT4004", "잘못된 댓글 커서입니다."),
 
     POST_UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "COMMENT4011", "댓글/답글 작성 권한이 없습니다."),
     DELETE_UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "COMMENT4012", "댓글/답글 삭제 권한이 없습니다."),
@@ -111,10 +115,14 @@ public enum ErrorStatus implements BaseErrorCode {
     INVALID_S3_IMAGE_URL(HttpStatus.BAD_REQUEST, "IMAGE4002", "유효하지 않은 S3 URL 형식입니다."),
     FILE_SIZE_EXCEEDED(HttpStatus.PAYLOAD_TOO_LARGE, "IMAGE4003", "파일 크기가 너무 큽니다. 20MB 이하의 파일을 선택해주세요."),
     IMAGE_RESOLUTION_TOO_HIGH(HttpStatus.BAD_REQUEST, "IMAGE4004", "이미지 해상도가 너무 높습니다. 4096x4096 이하로 조정해주세요."),
+    INVALID_OG_IMAGE_REQUEST(HttpStatus.BAD_REQUEST, "IMAGE4005", "지원하지 않는 OG 이미지 형식 또는 크기입니다."),
+    OG_IMAGE_SOURCE_NOT_ALLOWED(HttpStatus.BAD_REQUEST, "IMAGE4006", "허용되지 않은 이미지 주소입니다."),
 
     UNSUPPORTED_IMAGE_EXTENSION(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "IMAGE4151", "지원하지 않는 이미지 확장자입니다."),
 
     S3_FILE_UPLOAD_FAILURE(HttpStatus.BAD_GATEWAY, "IMAGE5021", "S3 업로드에 실패했습니다"),
+    OG_IMAGE_RENDER_FAILURE(HttpStatus.BAD_GATEWAY, "IMAGE5022", "OG 이미지를 만들지 못했습니다."),
+    OG_IMAGE_RENDER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "IMAGE5031", "OG 이미지 요청이 많습니다. 잠시 후 다시 시도해주세요."),
 
     // 관리자 관련
     BAN_NOT_FOUND(HttpStatus.BAD_REQUEST, "ADMIN4001", "밴 목록에 없는 IP 해시값입니다."),
@@ -0,0 +1,11 @@
+package com.duckstar.cache;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.time.Instant;
+
+/**
+ * chart.snapshot 캐시 값 - 압축 해제한 주차 전체 차트
+ *  - 페이지는 요청마다 chart 에서 잘라서 응답
+ */
+public record LoadedChartSnapshot(ObjectNode chart, String etag, Instant publishedAt) {}
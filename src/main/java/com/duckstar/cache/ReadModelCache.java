@@ -0,0 +1,197 @@
+package com.duckstar.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 모델 캐시 (프로세스 내 1차 + 선택적 2차 티어)
+ *
+ *  - 1차: 크기 제한 LRU + TTL
+ *  - 같은 키를 동시에 여러 요청이 놓치면 로드는 한 번만 하고 나머지는 그 결과를 기다린다. (stampede 방지)
+ *  - 로드는 읽기 전용 트랜잭션 안에서 실행 (캐시 적중 시에는 트랜잭션/커넥션을 잡지 않음)
+ *  - 로드 도중 비우기(evict) 가 일어나면 그 로드 결과는 1차에 넣지 않는다.
+ *  - 지표: cache.gets{result=hit|miss}, cache.puts, cache.evictions, cache.size, cache.loads.coalesced
+ */
+public class ReadModelCache<K, V> {
+
+    private record Entry<V>(V value, long expiresAt) {}
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ReadModelCacheTier secondTier;  // nullable
+
+    private final Map<K, Entry<V>> entries;
+    private final Map<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+    private long generation = 0L;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter putCounter;
+    private final Counter evictionCounter;
+    private final Counter coalescedCounter;
+
+    ReadModelCache(
+            String name,
+            int maxSize,
+            Duration ttl,
+            TransactionTemplate readOnlyTransaction,
+            ReadModelCacheTier secondTier,
+            MeterRegistry meterRegistry
+    ) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.secondTier = secondTier;
+
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                boolean isOver = size() > ReadModelCache.this.maxSize;
+                if (isOver) evictionCounter.increment();
+                return isOver;
+            }
+        };
+
+        this.hitCounter = Counter.builder("cache.gets")
+                .tag("cache", name).tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("cache.gets")
+                .tag("cache", name).tag("result", "miss")
+                .register(meterRegistry);
+        this.putCounter = Counter.builder("cache.puts")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("cache.evictions")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("cache.loads.coalesced")
+                .tag("cache", name)
+                .register(meterRegistry);
+        Gauge.builder("cache.size", this, ReadModelCache::size)
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public V get(K key, Supplier<V> loader) {
+        V cached = getIfPresent(key);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+
+        //=== 같은 키 로드는 한 번만 ===//
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = loading.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalescedCounter.increment();
+            return await(existing);
+        }
+
+        try {
+            // 기다리는 사이 다른 로드가 끝났을 수 있음
+            cached = getIfPresent(key);
+            if (cached != null) {
+                hitCounter.increment();
+                mine.complete(cached);
+                return cached;
+            }
+            missCounter.increment();
+
+            long loadGeneration = currentGeneration();
+            V value = load(key, loader);
+            put(key, value, loadGeneration);
+
+            mine.complete(value);
+            return value;
+
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, mine);
+        }
+    }
+
+    public void evictAll() {
+        int evicted;
+        synchronized (this) {
+            generation += 1;
+            evicted = entries.size();
+            entries.clear();
+        }
+        if (evicted > 0) evictionCounter.increment(evicted);
+
+        if (secondTier != null) secondTier.evictAll(name);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private V load(K key, Supplier<V> loader) {
+        if (secondTier != null) {
+            @SuppressWarnings("unchecked")
+            V fromTier = (V) secondTier.get(name, key);
+            if (fromTier != null) return fromTier;
+        }
+
+        V value = readOnlyTransaction.execute(status -> loader.get());
+
+        if (secondTier != null && value != null) {
+            secondTier.put(name, key, value, Duration.ofMillis(ttlMillis));
+        }
+        return value;
+    }
+
+    private synchronized V getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) return null;
+
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(key);
+            evictionCounter.increment();
+            return null;
+        }
+        return entry.value();
+    }
+
+    private synchronized long currentGeneration() {
+        return generation;
+    }
+
+    private synchronized void put(K key, V value, long loadGeneration) {
+        if (value == null || loadGeneration != generation) return;
+
+        entries.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+        putCounter.increment();
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // 로드한 쪽과 같은 예외 (GeneralException 등) 를 그대로 전달
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) throw runtimeException;
+            if (cause instanceof Error error) throw error;
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.duckstar.cache;
+
+import java.time.Duration;
+
+/**
+ * 읽기 모델 캐시 2차 티어 (선택)
+ *  - 빈으로 등록하면 1차(프로세스 내) 캐시를 놓쳤을 때 DB 보다 먼저 조회한다. (예: 여러 인스턴스가 공유하는 Redis)
+ *  - 등록하지 않으면 1차만 사용
+ */
+public interface ReadModelCacheTier {
+
+    /**
+     * @return 없으면 null
+     */
+    Object get(String cacheName, Object key);
+
+    void put(String cacheName, Object key, Object value, Duration ttl);
+
+    void evictAll(String cacheName);
+}
@@ -0,0 +1,114 @@
+package com.duckstar.cache;
+
+import com.duckstar.web.dto.HomeDto;
+import com.duckstar.web.dto.HomeDto.WeeklyTopDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.duckstar.web.dto.WeekResponseDto.*;
+
+/**
+ * 홈/차트 공개 조회용 읽기 모델 캐시 모음
+ *
+ *  - 데이터는 주차 차트 발표(calculateRankByYQW), 배너 생성, 관리자 수정, 새 주차 시작 때만 바뀌므로
+ *    그때 명시적으로 비우고, TTL 은 놓친 경우를 위한 안전망
+ *  - 트랜잭션 안에서 비우면 커밋 이후에 비운다. (커밋 전 값을 다시 읽어 캐시하는 것 방지)
+ */
+@Slf4j
+@Component
+public class ReadModelCaches {
+
+    public record WeeklyTopKey(Long weekId, int size) {}
+
+    public record YQWKey(Integer year, Integer quarter, Integer week) {}
+
+    private final ReadModelCache<Integer, HomeDto> home;
+    private final ReadModelCache<WeeklyTopKey, WeeklyTopDto> weeklyTop;
+    private final ReadModelCache<String, List<WeekDto>> announcedWeeks;
+    private final ReadModelCache<Long, LoadedChartSnapshot> chartSnapshot;
+    private final ReadModelCache<YQWKey, Long> weekIdByYQW;
+
+    private final List<ReadModelCache<?, ?>> weeklyCaches;
+
+    public ReadModelCaches(
+            PlatformTransactionManager transactionManager,
+            ObjectProvider<ReadModelCacheTier> secondTierProvider,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.read-model.ttl-seconds:600}") long ttlSeconds
+    ) {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        ReadModelCacheTier secondTier = secondTierProvider.getIfAvailable();
+        Duration ttl = Duration.ofSeconds(ttlSeconds);
+
+        this.home = new ReadModelCache<>(
+                "home", 64, ttl, readOnlyTransaction, secondTier, meterRegistry);
+        this.weeklyTop = new ReadModelCache<>(
+                "home.weeklyTop", 256, ttl, readOnlyTransaction, secondTier, meterRegistry);
+        this.announcedWeeks = new ReadModelCache<>(
+                "chart.weeks", 1, ttl, readOnlyTransaction, secondTier, meterRegistry);
+        // 주차별 전체 차트 (페이지는 요청마다 잘라서 응답)
+        this.chartSnapshot = new ReadModelCache<>(
+                "chart.snapshot", 64, ttl, readOnlyTransaction, secondTier, meterRegistry);
+        // 주차 ID 는 바뀌지 않으므로 비우지 않음
+        this.weekIdByYQW = new ReadModelCache<>(
+                "chart.weekIdByYQW", 1024, Duration.ofDays(1), readOnlyTransaction, secondTier, meterRegistry);
+
+        this.weeklyCaches = List.of(home, weeklyTop, announcedWeeks, chartSnapshot);
+
+        if (secondTier != null) {
+            log.info("읽기 모델 캐시 2차 티어 사용 - {}", secondTier.getClass().getSimpleName());
+        }
+    }
+
+    public ReadModelCache<Integer, HomeDto> home() {
+        return home;
+    }
+
+    public ReadModelCache<WeeklyTopKey, WeeklyTopDto> weeklyTop() {
+        return weeklyTop;
+    }
+
+    public ReadModelCache<String, List<WeekDto>> announcedWeeks() {
+        return announcedWeeks;
+    }
+
+    public ReadModelCache<Long, LoadedChartSnapshot> chartSnapshot() {
+        return chartSnapshot;
+    }
+
+    public ReadModelCache<YQWKey, Long> weekIdByYQW() {
+        return weekIdByYQW;
+    }
+
+    /**
+     * 차트 발표, 배너 생성, 관리자 수정, 새 주차 시작 시 호출
+     */
+    public void evictWeekly() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictWeeklyNow();
+                }
+            });
+        } else {
+            evictWeeklyNow();
+        }
+    }
+
+    private void evictWeeklyNow() {
+        weeklyCaches.forEach(ReadModelCache::evictAll);
+    }
+}
@@ -12,7 +12,9 @@ public class HasherConfig {
 
     @Bean
     public Hasher hasher(@Value("${spring.security.ip-hash.key}") String key,
-                         @Value("${spring.security.ip-hash.use-hex:false}") boolean useHex) {
-        return new Hasher(key.getBytes(StandardCharsets.UTF_8), useHex);
+                         @Value("${spring.security.ip-hash.use-hex:false}") boolean useHex,
+                         @Value("${spring.security.ip-hash.memo-size:4096}") int memoSize,
+                         @Value("${spring.security.ip-hash.memo-ttl-ms:60000}") long memoTtlMillis) {
+        return new Hasher(key.getBytes(StandardCharsets.UTF_8), useHex, memoSize, memoTtlMillis);
     }
 }
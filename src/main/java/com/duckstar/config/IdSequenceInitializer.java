@@ -0,0 +1,83 @@
+package com.duckstar.config;
+
+import com.duckstar.domain.common.IdSequences;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * IDENTITY -> 채번 테이블 전환용 시작값 맞춤 (기동 시 1회)
+ *
+ *  - 채번 행이 없거나 max(id) 보다 뒤처져 있으면 max(id) + 1 + ALLOCATION_SIZE 로 올림
+ *    (pooled / pooled-lo 어느 쪽으로 해석해도 기존 id 와 겹치지 않는 값)
+ *  - 앞서 있으면 건드리지 않으므로 여러 인스턴스가 동시에 떠도 안전
+ *  - EntityManagerFactory 에 의존 -> ddl-auto 로 테이블이 만들어진 뒤, 첫 INSERT 전에 실행
+ */
+@Slf4j
+@Component
+public class IdSequenceInitializer {
+
+    // 채번 이름 -> 테이블 (@TableGenerator pkColumnValue 와 같아야 함)
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "episode", "episode",
+            "survey_vote", "survey_vote",
+            "survey_vote_submission", "survey_vote_submission",
+            "comment", "comment"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequenceInitializer(
+            JdbcTemplate jdbcTemplate,
+            EntityManagerFactory entityManagerFactory
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        jdbcTemplate.execute(
+                "CREATE TABLE IF NOT EXISTS " + IdSequences.TABLE + " (" +
+                        IdSequences.NAME_COLUMN + " VARCHAR(255) NOT NULL PRIMARY KEY, " +
+                        IdSequences.VALUE_COLUMN + " BIGINT)"
+        );
+
+        SEQUENCES.forEach(this::alignSequence);
+    }
+
+    private void alignSequence(String sequenceName, String tableName) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + tableName, Long.class);
+        long start = (maxId == null ? 0L : maxId) + 1 + IdSequences.ALLOCATION_SIZE;
+
+        String update = "UPDATE " + IdSequences.TABLE +
+                " SET " + IdSequences.VALUE_COLUMN + " = ?" +
+                " WHERE " + IdSequences.NAME_COLUMN + " = ? AND " + IdSequences.VALUE_COLUMN + " < ?";
+
+        int updated = jdbcTemplate.update(update, start, sequenceName, start);
+        if (updated > 0) {
+            log.info("id 채번 시작값 조정 - {}: {}", sequenceName, start);
+            return;
+        }
+
+        Integer exists = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + IdSequences.TABLE + " WHERE " + IdSequences.NAME_COLUMN + " = ?",
+                Integer.class, sequenceName);
+        if (exists != null && exists > 0) return;
+
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO " + IdSequences.TABLE +
+                            " (" + IdSequences.NAME_COLUMN + ", " + IdSequences.VALUE_COLUMN + ") VALUES (?, ?)",
+                    sequenceName, start);
+            log.info("id 채번 행 생성 - {}: {}", sequenceName, start);
+        } catch (DuplicateKeyException e) {
+            // 다른 인스턴스가 먼저 만듦 -> 뒤처져 있을 때만 올림
+            jdbcTemplate.update(update, start, sequenceName, start);
+        }
+    }
+}
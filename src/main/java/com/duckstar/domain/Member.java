@@ -12,6 +12,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -21,6 +22,7 @@ import java.util.UUID;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@DynamicUpdate  // 바뀐 컬럼만 UPDATE -> 비동기 처리가 JDBC 로 교체한 profileImageUrl 을 다른 수정이 덮어쓰지 않게
 @Table(
         indexes = {
                 @Index(name = "idx_member_pp",
@@ -0,0 +1,46 @@
+package com.duckstar.domain;
+
+import com.duckstar.domain.common.BaseEntity;
+import com.duckstar.domain.enums.ImageTarget;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 처리 중인 업로드 이미지의 자리표시 URL (ImageUrlPatchRepository 가 JDBC 로 넣고 지움, 엔티티는 스키마 정의용)
+ *  - 자리표시로 저장하는 트랜잭션에서 같이 넣고, 처리 결과를 반영하면 지움
+ *  - 남아 있는 행만 멈춘 자리표시 정리 대상 (댓글/답글/회원 테이블을 훑지 않음)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_pending_image_placeholder_url",
+                        columnNames = {"placeholder_url"})
+        },
+        indexes = {
+                @Index(name = "idx_pending_image_placeholder_c",
+                        columnList = "created_at")
+        }
+)
+public class PendingImagePlaceholder extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(columnDefinition = "varchar(10)", nullable = false)
+    private ImageTarget target;
+
+    @Column(nullable = false)
+    private Long targetId;
+
+    @Column(name = "placeholder_url", nullable = false)
+    private String placeholderUrl;
+
+    // 멈췄을 때 되돌릴 URL (프로필의 이전 사진, 없으면 비움)
+    private String fallbackUrl;
+}
@@ -0,0 +1,68 @@
+package com.duckstar.domain;
+
+import com.duckstar.domain.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_week_chart_snapshot_w",
+                        columnNames = {"week_id"})
+        }
+)
+public class WeekChartSnapshot extends BaseEntity {
+    /// 발표된 주차의 전체 애니 차트 (덕스타 + Anime Trend + AniLab)
+    ///  - gzip 된 JSON, 발표 후에는 바뀌지 않음 (관리자 수정 시 삭제 후 다시 발행)
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "week_id", nullable = false)
+    private Week week;
+
+    @Lob
+    @Column(columnDefinition = "mediumblob", nullable = false)
+    private byte[] payload;
+
+    @Column(length = 64, nullable = false)
+    private String etag;
+
+    @Column(nullable = false)
+    private LocalDateTime publishedAt;
+
+    protected WeekChartSnapshot(
+            Week week,
+            byte[] payload,
+            String etag,
+            LocalDateTime publishedAt
+    ) {
+        this.week = week;
+        this.payload = payload;
+        this.etag = etag;
+        this.publishedAt = publishedAt;
+    }
+
+    public static WeekChartSnapshot create(
+            Week week,
+            byte[] payload,
+            String etag,
+            LocalDateTime publishedAt
+    ) {
+        return new WeekChartSnapshot(week, payload, etag, publishedAt);
+    }
+
+    public void replace(byte[] payload, String etag, LocalDateTime publishedAt) {
+        this.payload = payload;
+        this.etag = etag;
+        this.publishedAt = publishedAt;
+    }
+}
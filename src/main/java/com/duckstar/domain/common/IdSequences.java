@@ -0,0 +1,18 @@
+package com.duckstar.domain.common;
+
+/**
+ * 대량 INSERT 테이블의 id 채번 테이블 (@TableGenerator 공용 설정)
+ *
+ *  - IDENTITY 는 INSERT 마다 DB 가 id 를 정해 줘야 해서 Hibernate 가 JDBC 배치를 끈다.
+ *    채번 테이블에서 ALLOCATION_SIZE 개씩 미리 받아 두면 batch_size 만큼 묶어서 INSERT
+ *  - 기존 데이터가 있는 테이블은 기동 시 IdSequenceInitializer 가 max(id) 뒤로 시작값을 맞춘다.
+ */
+public final class IdSequences {
+
+    public static final String TABLE = "id_sequence";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 100;
+
+    private IdSequences() {}
+}
@@ -0,0 +1,5 @@
+package com.duckstar.domain.enums;
+
+public enum ImageTarget {
+    COMMENT, REPLY, PROFILE
+}
@@ -8,13 +8,16 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+// 운영 DB 의 유니크 키는 resources/db/like_unique_keys.sql 로 (중복 정리 후 추가)
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_comment_like_cm",
+                        columnNames = {"comment_id", "member_id"}),
+        },
         indexes = {
-                @Index(name = "idx_comment_like_cm",
-                        columnList = "comment_id, member_id"),
                 @Index(name = "idx_comment_like_c",
                         columnList = "comment_id")
         }
@@ -40,22 +43,10 @@ public class CommentLike extends BaseEntity {
         this.member = member;
     }
 
+    /**
+     * 좋아요 수는 LikeCounter 로 따로 반영, 취소/복구는 CommentLikeRepository.updateLiked
+     */
     public static CommentLike create(Comment comment, Member member) {
-        comment.addLikeCount();
         return new CommentLike(comment, member);
     }
-
-    public void restoreLike() {
-        if (!isLiked) {
-            isLiked = true;
-            comment.addLikeCount();
-        }
-    }
-
-    public void discardLike() {
-        if (isLiked) {
-            isLiked = false;
-            comment.removeLikeCount();
-        }
-    }
 }
\ No newline at end of file
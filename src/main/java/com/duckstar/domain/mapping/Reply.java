@@ -11,6 +11,9 @@ import lombok.NoArgsConstructor;
 
 import java.util.Optional;
 
+/**
+ * updatable = false 컬럼(attachedImageUrl, likeCount) 은 Comment 와 같이 JDBC 로만 바뀜
+ */
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -40,7 +43,7 @@ public class Reply extends BaseEntity {
 
     private Integer voteCount;
 
-    @Column(length = 512)
+    @Column(length = 512, updatable = false)  // ImageUrlPatchRepository 가 교체
     private String attachedImageUrl;
 
     @Lob
@@ -50,6 +53,7 @@ public class Reply extends BaseEntity {
     @Column(columnDefinition = "varchar(15)", nullable = false)
     private CommentStatus status = CommentStatus.NORMAL;
 
+    @Column(updatable = false)  // LikeCounter 가 증감
     private Integer likeCount = 0;
 
     protected Reply(
@@ -90,12 +94,4 @@ public class Reply extends BaseEntity {
     public void setStatus(CommentStatus status) {
         this.status = status;
     }
-
-    public void addLikeCount() {
-        likeCount += 1;
-    }
-
-    public void removeLikeCount() {
-        if (likeCount > 0) likeCount -= 1;
-    }
 }
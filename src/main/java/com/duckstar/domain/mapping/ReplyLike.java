@@ -8,13 +8,16 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+// 운영 DB 의 유니크 키는 resources/db/like_unique_keys.sql 로 (중복 정리 후 추가)
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_reply_like_rm",
+                        columnNames = {"reply_id", "member_id"}),
+        },
         indexes = {
-                @Index(name = "idx_reply_like_rm",
-                        columnList = "reply_id, member_id"),
                 @Index(name = "idx_reply_like_r",
                         columnList = "reply_id"),
         }
@@ -40,18 +43,10 @@ public class ReplyLike extends BaseEntity {
         this.member = member;
     }
 
+    /**
+     * 좋아요 수는 LikeCounter 로 따로 반영, 취소/복구는 ReplyLikeRepository.updateLiked
+     */
     public static ReplyLike create(Reply reply, Member member) {
-        reply.addLikeCount();
         return new ReplyLike(reply, member);
     }
-
-    public void restoreLike() {
-        isLiked = true;
-        reply.addLikeCount();
-    }
-
-    public void discardLike() {
-        isLiked = false;
-        reply.removeLikeCount();
-    }
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.duckstar.domain.mapping.comment;
+
+import com.duckstar.domain.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 애니별 댓글 + 답글 수 (삭제 제외, AnimeCommentCounter 가 JDBC 로 증감 반영, 엔티티는 스키마 정의용)
+ *  - 댓글 목록 첫 슬라이스의 totalCount 를 매번 COUNT 하지 않기 위해 유지
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AnimeCommentCount extends BaseEntity {
+
+    @Id
+    @Column(name = "anime_id")
+    private Long animeId;
+
+    @Column(name = "comment_count", nullable = false)
+    private Integer commentCount = 0;
+}
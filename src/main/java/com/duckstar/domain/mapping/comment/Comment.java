@@ -2,6 +2,7 @@ package com.duckstar.domain.mapping.comment;
 
 import com.duckstar.domain.Member;
 import com.duckstar.domain.common.BaseEntity;
+import com.duckstar.domain.common.IdSequences;
 import com.duckstar.domain.enums.CommentStatus;
 import com.duckstar.domain.mapping.weeklyVote.Episode;
 import jakarta.persistence.*;
@@ -9,6 +10,10 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * updatable = false 인 attachedImageUrl, likeCount 는 생성 후 JDBC 로만 바뀜
+ * (엔티티를 수정해 저장해도 그 값을 덮어쓰지 않게)
+ */
 @Entity
 @Getter
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
@@ -20,12 +25,25 @@ import lombok.NoArgsConstructor;
                         columnList = "contentIdForIdx, episode_id, created_at"),
                 @Index(name = "idx_comment_cc",
                         columnList = "contentIdForIdx, created_at"),
+                // 애니 댓글 목록 커서 (RECENT, OLDEST / POPULAR)
+                @Index(name = "idx_comment_cdsc",
+                        columnList = "contentIdForIdx, dtype, status, created_at, id"),
+                @Index(name = "idx_comment_cdslrc",
+                        columnList = "contentIdForIdx, dtype, status, like_count, reply_count, created_at, id"),
         }
 )
 public abstract class Comment extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comment_id")
+    @TableGenerator(
+            name = "comment_id",
+            table = IdSequences.TABLE,
+            pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = "comment",
+            allocationSize = IdSequences.ALLOCATION_SIZE
+    )
     private Long id;
 
     /**
@@ -57,7 +75,7 @@ public abstract class Comment extends BaseEntity {
 
     private Integer voteCount;
 
-    @Column(length = 512)
+    @Column(length = 512, updatable = false)  // ImageUrlPatchRepository 가 교체
     private String attachedImageUrl;
 
     @Lob
@@ -67,6 +85,7 @@ public abstract class Comment extends BaseEntity {
     @Column(columnDefinition = "varchar(15)", nullable = false)
     protected CommentStatus status = CommentStatus.NORMAL;
 
+    @Column(updatable = false)  // LikeCounter 가 증감
     private Integer likeCount = 0;
 
     private Integer replyCount = 0;
@@ -89,14 +108,6 @@ public abstract class Comment extends BaseEntity {
         this.body = body;
     }
 
-    public void addLikeCount() {
-        likeCount += 1;
-    }
-
-    public void removeLikeCount() {
-        if (likeCount > 0) likeCount -= 1;
-    }
-
     public void addReply() {
         replyCount += 1;
     }
@@ -0,0 +1,62 @@
+package com.duckstar.domain.mapping.surveyVote;
+
+import com.duckstar.domain.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 진행 중 서베이의 후보별 실시간 집계 (SurveyLiveTally 가 JDBC 로 증감 반영, 엔티티는 스키마 정의용)
+ *  - 제외 IP 필터 없는 원시 집계, 최종 결과는 마감 후 buildSurveyAwards 가 SurveyCandidate 에 기록
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        indexes = {
+                @Index(name = "idx_survey_candidate_tally_s",
+                        columnList = "survey_id")
+        }
+)
+public class SurveyCandidateTally extends BaseEntity {
+
+    @Id
+    @Column(name = "candidate_id")
+    private Long candidateId;
+
+    @Column(name = "survey_id", nullable = false)
+    private Long surveyId;
+
+    @Column(name = "score", nullable = false)
+    private Integer score = 0;  // 도장 점수 합
+
+    @Column(name = "vote_count", nullable = false)
+    private Integer voteCount = 0;  // 표(행) 수
+
+    //=== 1. 표 종류 ===//
+    @Column(name = "normal_count", nullable = false)
+    private Integer normalCount = 0;
+    @Column(name = "bonus_count", nullable = false)
+    private Integer bonusCount = 0;
+
+    //=== 2. 성별 ===//
+    @Column(name = "male_count", nullable = false)
+    private Integer maleCount = 0;
+    @Column(name = "female_count", nullable = false)
+    private Integer femaleCount = 0;
+
+    //=== 3. 연령대 ===//
+    @Column(name = "under14_count", nullable = false)
+    private Integer under14Count = 0;
+    @Column(name = "age1519_count", nullable = false)
+    private Integer age1519Count = 0;
+    @Column(name = "age2024_count", nullable = false)
+    private Integer age2024Count = 0;
+    @Column(name = "age2529_count", nullable = false)
+    private Integer age2529Count = 0;
+    @Column(name = "age3034_count", nullable = false)
+    private Integer age3034Count = 0;
+    @Column(name = "over35_count", nullable = false)
+    private Integer over35Count = 0;
+}
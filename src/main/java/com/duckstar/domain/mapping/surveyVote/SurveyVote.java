@@ -1,6 +1,7 @@
 package com.duckstar.domain.mapping.surveyVote;
 
 import com.duckstar.domain.common.BaseEntity;
+import com.duckstar.domain.common.IdSequences;
 import com.duckstar.domain.enums.BallotType;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -21,7 +22,15 @@ import lombok.NoArgsConstructor;
 public class SurveyVote extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "survey_vote_id")
+    @TableGenerator(
+            name = "survey_vote_id",
+            table = IdSequences.TABLE,
+            pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = "survey_vote",
+            allocationSize = IdSequences.ALLOCATION_SIZE
+    )
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -3,6 +3,7 @@ package com.duckstar.domain.mapping.surveyVote;
 import com.duckstar.domain.Member;
 import com.duckstar.domain.Survey;
 import com.duckstar.domain.common.BaseEntity;
+import com.duckstar.domain.common.IdSequences;
 import com.duckstar.domain.enums.AgeGroup;
 import com.duckstar.domain.enums.ContentType;
 import com.duckstar.domain.enums.Gender;
@@ -27,7 +28,15 @@ import lombok.NoArgsConstructor;
 public class SurveyVoteSubmission extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "survey_vote_submission_id")
+    @TableGenerator(
+            name = "survey_vote_submission_id",
+            table = IdSequences.TABLE,
+            pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = "survey_vote_submission",
+            allocationSize = IdSequences.ALLOCATION_SIZE
+    )
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -3,11 +3,13 @@ package com.duckstar.domain.mapping.weeklyVote;
 import com.duckstar.domain.Anime;
 import com.duckstar.domain.Week;
 import com.duckstar.domain.common.BaseEntity;
+import com.duckstar.domain.common.IdSequences;
 import com.duckstar.domain.enums.EpEvaluateState;
 import com.duckstar.domain.vo.RankInfo;
 import com.duckstar.util.QuarterUtil;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -15,6 +17,9 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+// 바뀐 컬럼만 UPDATE -> EpisodeStarHistogram 이 JDBC 로 증감한 voterCount/star_x 를
+// 다른 수정(상태, 순위 등)이 읽어 둔 옛 값으로 덮어쓰지 않게 (setStats 주간 재집계는 그대로 씀)
+@DynamicUpdate
 @Table(
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk_episode_as",
@@ -33,7 +38,15 @@ public class Episode extends BaseEntity {
     ///
     /// TODO 추후 반드시 정규화
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "episode_id")
+    @TableGenerator(
+            name = "episode_id",
+            table = IdSequences.TABLE,
+            pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = "episode",
+            allocationSize = IdSequences.ALLOCATION_SIZE
+    )
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
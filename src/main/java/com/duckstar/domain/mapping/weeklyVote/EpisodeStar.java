@@ -11,6 +11,10 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_episode_star_se",
+                        columnNames = {"submission_id", "episode_id"}),
+        },
         indexes = {
                 @Index(name = "idx_episode_star_s",
                         columnList = "submission_id"),
@@ -68,6 +72,22 @@ public class EpisodeStar extends BaseEntity {
         );
     }
 
+    /**
+     * Episode 통계는 호출한 쪽에서 따로 반영 (EpisodeStarHistogram)
+     */
+    public static EpisodeStar createWithoutStats(
+            WeekVoteSubmission weekVoteSubmission,
+            Episode episode,
+            Integer starScore
+    ) {
+        return new EpisodeStar(
+                weekVoteSubmission,
+                episode,
+                starScore,
+                episode.getEvaluateState() == EpEvaluateState.LOGIN_REQUIRED
+        );
+    }
+
     public void updateStarScore(boolean isBlocked, int newScore) {
         Integer oldScore = this.starScore;
 
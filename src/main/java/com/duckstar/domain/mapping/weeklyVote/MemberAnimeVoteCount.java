@@ -0,0 +1,37 @@
+package com.duckstar.domain.mapping.weeklyVote;
+
+import com.duckstar.domain.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원별 애니 별점 투표 수 (MemberVoteCounter 가 JDBC 로 증감 반영, 엔티티는 스키마 정의용)
+ *  - 댓글/답글 작성자 뱃지(voteCount) 를 작성할 때마다 episode_star 를 COUNT 하지 않기 위해 유지
+ *  - 회수한 별점(star_score = null) 행도 셈 (기존 COUNT 와 같은 기준)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_member_anime_vote_count_ma",
+                        columnNames = {"member_id", "anime_id"})
+        }
+)
+public class MemberAnimeVoteCount extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "anime_id", nullable = false)
+    private Long animeId;
+
+    @Column(name = "vote_count", nullable = false)
+    private Integer voteCount = 0;
+}
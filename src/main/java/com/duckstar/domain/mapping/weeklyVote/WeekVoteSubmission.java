@@ -21,7 +21,9 @@ import lombok.NoArgsConstructor;
                 @Index(name = "idx_submission_wp",
                         columnList = "week_id, principal_key"),
                 @Index(name = "idx_submission_wm",
-                        columnList = "week_id, member_id")
+                        columnList = "week_id, member_id"),
+                @Index(name = "idx_submission_wc",
+                        columnList = "week_id, cookie_id")
         }
 )
 public class WeekVoteSubmission extends BaseEntity {
@@ -0,0 +1,54 @@
+package com.duckstar.repository.AnimeComment;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 애니별 댓글 수(anime_comment_count) JDBC 쿼리
+ *  - 증감은 `comment_count = comment_count + ?` 형태의 원자적 갱신으로만 (엔티티 더티 체킹으로 덮어쓰지 않게)
+ *  - 행이 없으면 증감하지 않음 -> 처음 읽을 때 COUNT 로 채움
+ */
+@Repository
+@RequiredArgsConstructor
+public class AnimeCommentCountRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<Integer> findCount(Long animeId) {
+        List<Integer> counts = jdbcTemplate.queryForList(
+                "SELECT comment_count FROM anime_comment_count WHERE anime_id = ?",
+                Integer.class,
+                animeId);
+        return counts.isEmpty() ? Optional.empty() : Optional.ofNullable(counts.get(0));
+    }
+
+    /**
+     * @return 갱신된 행 수 (0 이면 아직 채워지지 않은 애니)
+     */
+    public int addCount(Long animeId, int delta) {
+        return jdbcTemplate.update(
+                "UPDATE anime_comment_count SET comment_count = GREATEST(comment_count + ?, 0), updated_at = ?" +
+                        " WHERE anime_id = ?",
+                delta,
+                Timestamp.valueOf(LocalDateTime.now()),
+                animeId);
+    }
+
+    /**
+     * 이미 있으면 그대로 둠 (동시에 채운 쪽이 먼저)
+     */
+    public void insertIfAbsent(Long animeId, int count) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(
+                "INSERT INTO anime_comment_count (anime_id, comment_count, created_at, updated_at)" +
+                        " VALUES (?, ?, ?, ?)" +
+                        " ON DUPLICATE KEY UPDATE anime_id = anime_id",
+                animeId, count, now, now);
+    }
+}
@@ -3,6 +3,8 @@ package com.duckstar.repository.AnimeComment;
 import com.duckstar.domain.mapping.comment.AnimeComment;
 import com.duckstar.domain.mapping.weeklyVote.Episode;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
@@ -19,4 +21,12 @@ public interface AnimeCommentRepository extends JpaRepository<AnimeComment, Long
     List<AnimeComment> findAllByAnime_IdAndCreatedAtGreaterThanEqualOrderByCreatedAtAsc(Long animeId, LocalDateTime createdAtIsGreaterThan);
 
     boolean existsByEpisode(Episode episode);
+
+    // 좋아요 처리용 (댓글 엔티티를 읽지 않고 존재 확인 + 현재 값)
+    @Query("select c.likeCount from AnimeComment c where c.id = :commentId")
+    Optional<Integer> findLikeCountById(@Param("commentId") Long commentId);
+
+    // 같은 댓글의 첫 좋아요 생성을 한 줄로 세움 (커밋까지 잠금 유지)
+    @Query(value = "SELECT id FROM comment WHERE id = :commentId FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockById(@Param("commentId") Long commentId);
 }
@@ -7,13 +7,23 @@ import com.duckstar.web.dto.CommentResponseDto.CommentDto;
 import java.util.List;
 
 public interface AnimeCommentRepositoryCustom {
-    List<CommentDto> getCommentDtos(
+
+    /**
+     * @param nextCursor 마지막 댓글의 정렬 키 (다음 슬라이스가 없으면 null)
+     */
+    record CommentSlice(List<CommentDto> commentDtos, boolean hasNext, CommentCursor nextCursor) {}
+
+    /**
+     * cursor 가 있으면 그 다음부터 (keyset), 없으면 offset 부터 size 개
+     */
+    CommentSlice getCommentSlice(
             Long animeId,
             List<Long> episodeIds,
             CommentSortType sortBy,
             MemberPrincipal principal,
+            CommentCursor cursor,
             int offset,
-            int limit
+            int size
     );
 
     Integer countTotalElements(Long animeId, List<Long> episodeIds);
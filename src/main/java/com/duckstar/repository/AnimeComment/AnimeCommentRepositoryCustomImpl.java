@@ -2,18 +2,14 @@ package com.duckstar.repository.AnimeComment;
 
 import com.duckstar.domain.enums.CommentSortType;
 import com.duckstar.domain.enums.CommentStatus;
-import com.duckstar.domain.mapping.QCommentLike;
 import com.duckstar.domain.mapping.QReply;
 import com.duckstar.domain.mapping.comment.QAnimeComment;
 import com.duckstar.domain.mapping.weeklyVote.QEpisode;
 import com.duckstar.domain.mapping.weeklyVote.QEpisodeStar;
 import com.duckstar.security.MemberPrincipal;
 import com.querydsl.core.Tuple;
-import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -31,53 +27,23 @@ public class AnimeCommentRepositoryCustomImpl implements AnimeCommentRepositoryC
 
     private final JPAQueryFactory queryFactory;
     private final QAnimeComment animeComment = QAnimeComment.animeComment;
-    private final QCommentLike commentLike = QCommentLike.commentLike;
     private final QReply reply = QReply.reply;
     private final QEpisode episode = QEpisode.episode;
     private final QEpisodeStar episodeStar = QEpisodeStar.episodeStar;
 
     @Override
-    public List<CommentDto> getCommentDtos(
+    public CommentSlice getCommentSlice(
             Long animeId,
             List<Long> episodeIds,
             CommentSortType sortBy,
             MemberPrincipal principal,
+            CommentCursor cursor,
             int offset,
-            int limit
+            int size
     ) {
-        Long principalId;
-        boolean isAdmin;
-        Expression<Long> likeIdSubquery;
-        Expression<Boolean> isLikedExpression;
-
-        if (principal != null) {
-            principalId = principal.getId();
-            isAdmin = principal.isAdmin();
-
-            likeIdSubquery = JPAExpressions
-                    .select(commentLike.id)
-                    .from(commentLike)
-                    .where(
-                            commentLike.comment.id.eq(animeComment.id),
-                            commentLike.member.id.eq(principalId)
-                    )
-                    .limit(1);
-
-            isLikedExpression = JPAExpressions
-                    .select(commentLike.isLiked)
-                    .from(commentLike)
-                    .where(
-                            commentLike.comment.id.eq(animeComment.id),
-                            commentLike.member.id.eq(principalId)
-                    )
-                    .limit(1);
-        } else {
-            principalId = null;
-            isAdmin = false;
-
-            likeIdSubquery = Expressions.nullExpression(Long.class);
-            isLikedExpression = Expressions.constant(false);
-        }
+        // 조회자 좋아요 상태는 ViewerLikeHydrator 가 페이지 단위로 채움
+        Long principalId = principal != null ? principal.getId() : null;
+        boolean isAdmin = principal != null && principal.isAdmin();
 
         BooleanExpression animeCondition = animeComment.dtype.eq("A").and(
                 animeComment.contentIdForIdx.eq(animeId));
@@ -85,8 +51,6 @@ public class AnimeCommentRepositoryCustomImpl implements AnimeCommentRepositoryC
         BooleanExpression episodeCondition = episodeIds.isEmpty() ? null : episode.id.in(episodeIds);
 
         List<Tuple> tuples = queryFactory.select(
-                        likeIdSubquery,
-                        isLikedExpression,
                         animeComment.status,
                         animeComment.id,
                         animeComment.likeCount,
@@ -111,40 +75,67 @@ public class AnimeCommentRepositoryCustomImpl implements AnimeCommentRepositoryC
                         animeCondition,
                         episodeCondition,
                         animeComment.status.notIn(CommentStatus.DELETED, CommentStatus.ADMIN_DELETED)
-                                .or(animeComment.replyCount.gt(0))
+                                .or(animeComment.replyCount.gt(0)),
+                        afterCursor(sortBy, cursor)
                 )
                 .orderBy(getOrder(sortBy))  // 정렬
-                .offset(offset)
-                .limit(limit)
+                .offset(cursor == null ? offset : 0)
+                .limit(size + 1)  // 다음 슬라이스 여부 확인용 1개 더
                 .fetch();
 
-        //=== 이 부분 왜 있지? ===//
-        List<Long> commentIds = tuples.stream()
-                .map(t -> t.get(animeComment.id))
-                .toList();
-        if (commentIds.isEmpty()) {
-            return List.of();
+        boolean hasNext = tuples.size() > size;
+        if (hasNext) tuples = tuples.subList(0, size);
+
+        if (tuples.isEmpty()) {
+            return new CommentSlice(List.of(), false, null);
         }
-        //=== 주석 처리하고 테스트 ===//
-
-        return tuples.stream()
-                .map(t ->
-                        toCommentDto(
-                                t,
-                                principalId,
-                                isAdmin,
-                                isLikedExpression,
-                                likeIdSubquery
-                        ))
+
+        List<CommentDto> commentDtos = tuples.stream()
+                .map(t -> toCommentDto(t, principalId, isAdmin))
                 .toList();
+
+        CommentCursor nextCursor = hasNext ? toCursor(sortBy, tuples.get(tuples.size() - 1)) : null;
+
+        return new CommentSlice(commentDtos, hasNext, nextCursor);
+    }
+
+    private CommentCursor toCursor(CommentSortType sortBy, Tuple last) {
+        return new CommentCursor(
+                sortBy,
+                Optional.ofNullable(last.get(animeComment.likeCount)).orElse(0),
+                Optional.ofNullable(last.get(animeComment.replyCount)).orElse(0),
+                last.get(animeComment.createdAt),
+                Objects.requireNonNull(last.get(animeComment.id))
+        );
+    }
+
+    /**
+     * 커서 다음 행 조건 (정렬 순서와 같은 사전식 비교)
+     */
+    private BooleanExpression afterCursor(CommentSortType sortBy, CommentCursor cursor) {
+        if (cursor == null) return null;
+
+        BooleanExpression timeThenId = sortBy == CommentSortType.OLDEST ?
+                animeComment.createdAt.gt(cursor.createdAt()).or(
+                        animeComment.createdAt.eq(cursor.createdAt()).and(animeComment.id.gt(cursor.id()))) :
+                animeComment.createdAt.lt(cursor.createdAt()).or(
+                        animeComment.createdAt.eq(cursor.createdAt()).and(animeComment.id.lt(cursor.id())));
+
+        if (sortBy != CommentSortType.POPULAR) return timeThenId;
+
+        return animeComment.likeCount.lt(cursor.likeCount()).or(
+                animeComment.likeCount.eq(cursor.likeCount()).and(
+                        animeComment.replyCount.lt(cursor.replyCount()).or(
+                                animeComment.replyCount.eq(cursor.replyCount()).and(timeThenId))));
     }
 
+    /**
+     * isLiked, commentLikeId 는 기본값 (조회자 상태는 ViewerLikeHydrator)
+     */
     public CommentDto toCommentDto(
             Tuple t,
             Long principalId,
-            boolean isAdmin,
-            Expression<Boolean> isLikedExpression,
-            Expression<Long> likeIdSubquery
+            boolean isAdmin
     ) {
         Long commentId = t.get(animeComment.id);
 
@@ -177,8 +168,8 @@ public class AnimeCommentRepositoryCustomImpl implements AnimeCommentRepositoryC
 
                 .canDeleteThis(canDelete)
 
-                .isLiked(t.get(isLikedExpression))
-                .commentLikeId(t.get(likeIdSubquery))
+                .isLiked(false)
+                .commentLikeId(null)
                 .likeCount(t.get(animeComment.likeCount))
 
                 .authorId(authorId)
@@ -239,10 +230,11 @@ public class AnimeCommentRepositoryCustomImpl implements AnimeCommentRepositoryC
             case POPULAR -> new OrderSpecifier<?>[]{
                     animeComment.likeCount.desc(),
                     animeComment.replyCount.desc(),
-                    animeComment.createdAt.desc()
+                    animeComment.createdAt.desc(),
+                    animeComment.id.desc()
             };
-            case RECENT -> new OrderSpecifier<?>[]{animeComment.createdAt.desc()};
-            case OLDEST -> new OrderSpecifier<?>[]{animeComment.createdAt.asc()};
+            case RECENT -> new OrderSpecifier<?>[]{animeComment.createdAt.desc(), animeComment.id.desc()};
+            case OLDEST -> new OrderSpecifier<?>[]{animeComment.createdAt.asc(), animeComment.id.asc()};
         };
     }
 }
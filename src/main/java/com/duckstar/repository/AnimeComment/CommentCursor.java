@@ -0,0 +1,60 @@
+package com.duckstar.repository.AnimeComment;
+
+import com.duckstar.apiPayload.code.status.ErrorStatus;
+import com.duckstar.apiPayload.exception.handler.CommentHandler;
+import com.duckstar.domain.enums.CommentSortType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 댓글 목록 커서 (마지막으로 받은 댓글의 정렬 키)
+ *
+ *  - RECENT, OLDEST: (createdAt, id)
+ *  - POPULAR: (likeCount, replyCount, createdAt, id)
+ *  - 클라이언트에는 불투명 토큰(base64url) 으로만 전달, 정렬 종류가 다른 토큰은 거부
+ */
+public record CommentCursor(
+        CommentSortType sortBy,
+        int likeCount,
+        int replyCount,
+        LocalDateTime createdAt,
+        long id
+) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = String.join(DELIMITER,
+                sortBy.name(),
+                String.valueOf(likeCount),
+                String.valueOf(replyCount),
+                createdAt.toString(),
+                String.valueOf(id));
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CommentCursor decode(String token, CommentSortType sortBy) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 5 || CommentSortType.valueOf(parts[0]) != sortBy) {
+                throw new CommentHandler(ErrorStatus.INVALID_COMMENT_CURSOR);
+            }
+
+            return new CommentCursor(
+                    sortBy,
+                    Integer.parseInt(parts[1]),
+                    Integer.parseInt(parts[2]),
+                    LocalDateTime.parse(parts[3]),
+                    Long.parseLong(parts[4])
+            );
+        } catch (CommentHandler e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new CommentHandler(ErrorStatus.INVALID_COMMENT_CURSOR);
+        }
+    }
+}
@@ -2,6 +2,27 @@ package com.duckstar.repository;
 
 import com.duckstar.domain.Anime;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface AnimeRepository extends JpaRepository<Anime, Long> {
+
+    // 검색 색인용 (제목만)
+    interface AnimeTitleView {
+        Long getId();
+        String getTitleKor();
+        String getTitleOrigin();
+        String getTitleEng();
+    }
+
+    @Query("select a.id as id, a.titleKor as titleKor, a.titleOrigin as titleOrigin, a.titleEng as titleEng " +
+            "from Anime a")
+    List<AnimeTitleView> findAllTitles();
+
+    @Query("select a.id as id, a.titleKor as titleKor, a.titleOrigin as titleOrigin, a.titleEng as titleEng " +
+            "from Anime a where a.id in :animeIds")
+    List<AnimeTitleView> findTitlesByIdIn(@Param("animeIds") Collection<Long> animeIds);
 }
@@ -1,12 +1,66 @@
 package com.duckstar.repository;
 
-import com.duckstar.domain.Member;
 import com.duckstar.domain.mapping.CommentLike;
-import com.duckstar.domain.mapping.comment.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CommentLikeRepository extends JpaRepository<CommentLike, Long> {
-    Optional<CommentLike> findByCommentAndMember(Comment comment, Member member);
+
+    // 조회자 좋아요 상태 (목록 한 페이지분을 한 번에)
+    interface LikeState {
+        Long getTargetId();
+        Long getLikeId();
+        Boolean getIsLiked();
+    }
+
+    @Query("select l.comment.id as targetId, l.id as likeId, l.isLiked as isLiked " +
+            "from CommentLike l where l.member.id = :memberId and l.comment.id in :commentIds")
+    List<LikeState> findLikeStates(
+            @Param("memberId") Long memberId,
+            @Param("commentIds") Collection<Long> commentIds
+    );
+
+    Optional<CommentLike> findByComment_IdAndMember_Id(Long commentId, Long memberId);
+
+    /**
+     * 잠금 조회라 먼저 커밋된 좋아요까지 보임 (댓글 행을 잠근 뒤에 호출)
+     */
+    @Query(value = "SELECT COUNT(*) FROM comment_like WHERE comment_id = :commentId AND member_id = :memberId FOR UPDATE",
+            nativeQuery = true)
+    long countForUpdate(
+            @Param("commentId") Long commentId,
+            @Param("memberId") Long memberId
+    );
+
+    /**
+     * 일반 INSERT - 중복, FK 위반은 예외로 올라옴 (INSERT IGNORE 처럼 삼키지 않음)
+     * @return 넣은 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO comment_like (comment_id, member_id, is_liked, created_at, updated_at) " +
+            "VALUES (:commentId, :memberId, true, :now, :now)", nativeQuery = true)
+    int insertLike(
+            @Param("commentId") Long commentId,
+            @Param("memberId") Long memberId,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * @return 실제로 바뀌었으면 1, 이미 그 상태면 0 (같은 요청이 겹쳐도 한 번만 1)
+     */
+    @Modifying
+    @Query("update CommentLike l set l.isLiked = :liked, l.updatedAt = :now " +
+            "where l.id = :likeId and l.isLiked <> :liked")
+    int updateLiked(
+            @Param("likeId") Long likeId,
+            @Param("liked") boolean liked,
+            @Param("now") LocalDateTime now
+    );
 }
@@ -5,9 +5,9 @@ import com.duckstar.domain.mapping.weeklyVote.Episode;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
-import static com.duckstar.service.AnimeService.AnimeCommandServiceImpl.*;
 import static com.duckstar.web.dto.AnimeResponseDto.*;
 import static com.duckstar.web.dto.EpisodeResponseDto.*;
 import static com.duckstar.web.dto.SearchResponseDto.*;
@@ -17,15 +17,15 @@ import static com.duckstar.web.dto.admin.ContentResponseDto.*;
 public interface EpisodeRepositoryCustom {
     List<EpisodeDto> getEpisodeDtosByAnimeId(Long animeId);
 
-    List<LiveCandidateDto> getLiveCandidateDtos(List<String> principalKeys);
+    List<LiveCandidateDto> getLiveCandidateDtos(List<String> principalKeys, Map<Long, int[]> pendingStats);
 
     List<WeekCandidateDto> getWeekCandidateDtos(Long weekId, String principalKey);
 
     List<AnimePreviewDto> getAnimePreviewsByDuration(LocalDateTime weekStart, LocalDateTime weekEnd);
 
-    List<AnimeRankDto> getAnimeRankDtosByWeekId(Long weekId, LocalDateTime weekEndDateTime, int offset, int limit);
+    List<AnimePreviewDto> getSearchPreviewsByAnimeIds(List<Long> animeIds, LocalDateTime now);
 
-    List<PremieredEpRecord> findPremieredEpRecordsInWindow(LocalDateTime windowStart, LocalDateTime windowEnd);
+    List<AnimeRankDto> getAnimeRankDtosByWeekId(Long weekId, LocalDateTime weekEndDateTime, int offset, int limit);
 
     Optional<CandidateFormDto> getCandidateFormDto(Long episodeId, List<String> principalKeys);
 
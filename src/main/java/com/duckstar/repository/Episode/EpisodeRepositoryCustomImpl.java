@@ -19,12 +19,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-import static com.duckstar.service.AnimeService.AnimeCommandServiceImpl.*;
 import static com.duckstar.util.QuarterUtil.*;
 import static com.duckstar.web.dto.AnimeResponseDto.*;
 import static com.duckstar.web.dto.EpisodeResponseDto.*;
@@ -80,7 +81,7 @@ public class EpisodeRepositoryCustomImpl implements EpisodeRepositoryCustom {
     }
 
     @Override
-    public List<LiveCandidateDto> getLiveCandidateDtos(List<String> principalKeys) {
+    public List<LiveCandidateDto> getLiveCandidateDtos(List<String> principalKeys, Map<Long, int[]> pendingStats) {
         List<Tuple> tuples = queryFactory.select(
                         anime.id,
                         anime.titleKor,
@@ -124,17 +125,20 @@ public class EpisodeRepositoryCustomImpl implements EpisodeRepositoryCustom {
                             getThisWeekRecord(scheduledAt) :
                             null;
 
+                    // 아직 DB 에 반영되지 않은 별점 증감분
+                    int[] pending = pendingStats.get(episode.getId());
+
                     // EpisodeStar 존재 시 별점 통계 셋팅
                     StarInfoDto info = null;
                     EpisodeStar episodeStar = t.get(this.episodeStar);
                     if (episodeStar != null) {
                         Boolean isBlocked = t.get(this.episodeStar.weekVoteSubmission.isBlocked);
-                        info = StarInfoDto.of(isBlocked, episodeStar, episode);
+                        info = StarInfoDto.of(isBlocked, episodeStar, episode, pending);
                     }
 
                     // VoteResultDto 구성
                     VoteResultDto result = VoteResultDto.builder()
-                            .voterCount(episode.getVoterCount())
+                            .voterCount(episode.getVoterCount() + (pending != null ? pending[0] : 0))
                             .info(info)
                             .build();
 
@@ -186,6 +190,83 @@ public class EpisodeRepositoryCustomImpl implements EpisodeRepositoryCustom {
                 .fetch();
     }
 
+    /**
+     * 검색 결과 미리보기 (현재 에피소드 + OTT 를 애니 수와 무관하게 쿼리 두 번으로)
+     *  - 반환 순서는 보장하지 않음
+     */
+    @Override
+    public List<AnimePreviewDto> getSearchPreviewsByAnimeIds(List<Long> animeIds, LocalDateTime now) {
+        if (animeIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Tuple> tuples = queryFactory.select(
+                        anime.id,
+                        anime.titleKor,
+                        anime.mainThumbnailUrl,
+                        anime.status,
+                        anime.genre,
+                        anime.medium,
+                        anime.dayOfWeek,
+                        anime.airTime,
+                        episode.scheduledAt,
+                        episode.isBreak,
+                        episode.isRescheduled
+                )
+                .from(anime)
+                // 현재 에피소드 (AnimeQueryService.findCurrentEpisode 와 같은 조건)
+                .leftJoin(episode).on(episode.anime.id.eq(anime.id)
+                        .and(episode.scheduledAt.loe(now))
+                        .and(episode.nextEpScheduledAt.gt(now)))
+                .where(anime.id.in(animeIds))
+                .fetch();
+
+        List<Tuple> animeOttTuples = queryFactory
+                .select(
+                        animeOtt.anime.id,
+                        ott.type,
+                        animeOtt.watchUrl
+                )
+                .from(animeOtt)
+                .join(animeOtt.ott, ott)
+                .where(animeOtt.anime.id.in(animeIds))
+                .orderBy(ott.typeOrder.asc())
+                .fetch();
+
+        Map<Long, List<OttDto>> ottDtosMap = animeOttTuples.stream()
+                .collect(Collectors.groupingBy(
+                        t -> t.get(animeOtt.anime.id),
+                        Collectors.mapping(
+                                t -> new OttDto(
+                                        t.get(ott.type),
+                                        t.get(animeOtt.watchUrl)
+                                ),
+                                Collectors.toList()
+                        )
+                ));
+
+        Map<Long, AnimePreviewDto> previewMap = new LinkedHashMap<>();
+        for (Tuple t : tuples) {
+            Long animeId = t.get(anime.id);
+            previewMap.putIfAbsent(animeId, AnimePreviewDto.builder()
+                    .animeId(animeId)
+                    .mainThumbnailUrl(t.get(anime.mainThumbnailUrl))
+                    .status(t.get(anime.status))
+                    .isBreak(t.get(episode.isBreak))
+                    .titleKor(t.get(anime.titleKor))
+                    .dayOfWeek(t.get(anime.dayOfWeek))
+                    .isRescheduled(t.get(episode.isRescheduled))
+                    .scheduledAt(t.get(episode.scheduledAt))
+                    .airTime(t.get(anime.airTime))
+                    .genre(t.get(anime.genre))
+                    .medium(t.get(anime.medium))
+                    .ottDtos(ottDtosMap.getOrDefault(animeId, List.of()))
+                    .build());
+        }
+
+        return new ArrayList<>(previewMap.values());
+    }
+
     @Override
     public List<AnimePreviewDto> getAnimePreviewsByDuration(
             LocalDateTime weekStart, LocalDateTime weekEnd) {
@@ -366,47 +447,6 @@ public class EpisodeRepositoryCustomImpl implements EpisodeRepositoryCustom {
                 .toList();
     }
 
-    @Override
-    public List<PremieredEpRecord> findPremieredEpRecordsInWindow(
-            LocalDateTime windowStart, LocalDateTime windowEnd) {
-        // 방영 종료 체크: scheduledAt + 24분이 윈도우 안에 있는 경우
-        // 즉, scheduledAt이 (windowStart - 24분) ~ (windowEnd - 24분) 범위에 있어야 함
-        LocalDateTime finishedEpWindowStart = windowStart.minusMinutes(24);
-        LocalDateTime finishedEpWindowEnd = windowEnd.minusMinutes(24);
-
-        // 실시간 투표 종료 체크 : scheduledAt + 36시간
-        LocalDateTime liveVoteFinishedEpWindowStart = windowStart.minusHours(36);
-        LocalDateTime liveVoteFinishedEpWindowEnd = windowEnd.minusHours(36);
-
-        return queryFactory.select(
-                        Projections.constructor(
-                                PremieredEpRecord.class,
-                                episode,
-                                episode.scheduledAt.eq(anime.premiereDateTime),  // 첫 번째 에피소드인지
-                                episode.isLastEpisode,  // 마지막 에피소드인지
-                                episode.scheduledAt.between(
-                                        finishedEpWindowStart, finishedEpWindowEnd),
-                                episode.scheduledAt.between(
-                                        liveVoteFinishedEpWindowStart, liveVoteFinishedEpWindowEnd),
-                                anime
-                        )
-                )
-                .from(episode)
-                .join(episode.anime, anime)
-                .where(
-                        episode.isBreak.isFalse(),
-                        // 방영 시작 체크: scheduledAt이 윈도우 안에 있음
-                        episode.scheduledAt.between(windowStart, windowEnd)
-                                // 방영 종료 체크: scheduledAt + 24분이 윈도우 안에 있음
-                                .or(episode.scheduledAt.between(
-                                        finishedEpWindowStart, finishedEpWindowEnd))
-                                // 실시간 투표 종료 체크: scheduledAt + 36시간이 윈도우 안에 있음
-                                .or(episode.scheduledAt.between(
-                                        liveVoteFinishedEpWindowStart, liveVoteFinishedEpWindowEnd))
-                )
-                .fetch();
-    }
-
     @Override
     public Optional<CandidateFormDto> getCandidateFormDto(Long episodeId, List<String> principalKeys) {
         Tuple t = queryFactory.select(
@@ -0,0 +1,220 @@
+package com.duckstar.repository.Episode;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 에피소드 평가 상태 / 애니 방영 상태 일괄 전이용 JDBC 쿼리
+ *  - 엔티티를 읽지 않고 id 목록 단위 UPDATE 한 번으로 전이
+ *  - 모든 UPDATE 는 현재 상태 + scheduled_at 조건을 다시 확인하므로
+ *    같은 전이를 여러 번 실행하거나, 예약 이후 일정이 바뀐 에피소드가 섞여도 안전하다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EpisodeStateBatchRepository {
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public record TransitionRef(Long episodeId, LocalDateTime scheduledAt) {}
+
+    /**
+     * 휴방 아닌 에피소드 중 scheduled_at 이 [from, to) 인 것
+     */
+    public List<TransitionRef> findTransitionRefs(LocalDateTime from, LocalDateTime to) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("from", Timestamp.valueOf(from))
+                .addValue("to", Timestamp.valueOf(to));
+
+        return namedJdbcTemplate.query("""
+                        SELECT id, scheduled_at
+                        FROM episode
+                        WHERE is_break = false
+                          AND scheduled_at >= :from
+                          AND scheduled_at < :to
+                        """,
+                params,
+                (rs, rowNum) -> new TransitionRef(
+                        rs.getLong(1),
+                        rs.getTimestamp(2).toLocalDateTime()
+                )
+        );
+    }
+
+    /**
+     * CLOSED -> VOTING_WINDOW (방영 시작 ~ 36시간)
+     */
+    public int openVotingWindow(Collection<Long> episodeIds, LocalDateTime now) {
+        if (episodeIds.isEmpty()) return 0;
+
+        return namedJdbcTemplate.update("""
+                        UPDATE episode
+                        SET evaluate_state = 'VOTING_WINDOW'
+                        WHERE id IN (:ids)
+                          AND is_break = false
+                          AND evaluate_state = 'CLOSED'
+                          AND scheduled_at <= :now
+                          AND scheduled_at > :liveVoteClosedBefore
+                        """,
+                transitionParams(episodeIds, now)
+        );
+    }
+
+    /**
+     * CLOSED, VOTING_WINDOW -> LOGIN_REQUIRED (방영 36시간 후)
+     */
+    public int requireLogin(Collection<Long> episodeIds, LocalDateTime now) {
+        if (episodeIds.isEmpty()) return 0;
+
+        return namedJdbcTemplate.update("""
+                        UPDATE episode
+                        SET evaluate_state = 'LOGIN_REQUIRED'
+                        WHERE id IN (:ids)
+                          AND is_break = false
+                          AND evaluate_state IN ('CLOSED', 'VOTING_WINDOW')
+                          AND scheduled_at <= :liveVoteClosedBefore
+                        """,
+                transitionParams(episodeIds, now)
+        );
+    }
+
+    /**
+     * 첫 방영 에피소드 시작 -> 애니 UPCOMING 에서 NOW_SHOWING
+     */
+    public int startShowing(Collection<Long> episodeIds, LocalDateTime now) {
+        if (episodeIds.isEmpty()) return 0;
+
+        return namedJdbcTemplate.update("""
+                        UPDATE anime
+                        SET status = 'NOW_SHOWING'
+                        WHERE status = 'UPCOMING'
+                          AND EXISTS (
+                              SELECT 1
+                              FROM episode e
+                              WHERE e.anime_id = anime.id
+                                AND e.id IN (:ids)
+                                AND e.is_break = false
+                                AND e.scheduled_at = anime.premiere_date_time
+                                AND e.scheduled_at <= :now
+                          )
+                        """,
+                transitionParams(episodeIds, now)
+        );
+    }
+
+    /**
+     * 마지막 에피소드 방영 종료 (24분 후) -> 애니 NOW_SHOWING 에서 ENDED
+     */
+    public int endShowing(Collection<Long> episodeIds, LocalDateTime now) {
+        if (episodeIds.isEmpty()) return 0;
+
+        return namedJdbcTemplate.update("""
+                        UPDATE anime
+                        SET status = 'ENDED'
+                        WHERE status = 'NOW_SHOWING'
+                          AND EXISTS (
+                              SELECT 1
+                              FROM episode e
+                              WHERE e.anime_id = anime.id
+                                AND e.id IN (:ids)
+                                AND e.is_break = false
+                                AND e.is_last_episode = true
+                                AND e.scheduled_at <= :premiereFinishedBefore
+                          )
+                        """,
+                transitionParams(episodeIds, now)
+        );
+    }
+
+    //=== 기동 시 상태 정합성 맞추기 (scheduled_at 범위 단위, 계산된 상태와 다른 행만) ===//
+    // ALWAYS_OPEN 은 주차 집계(buildDuckstars) 가 정하는 최종 상태이므로 지난 주차에서는 건드리지 않음
+
+    /**
+     * 방영 전 (now < scheduled_at) -> CLOSED
+     */
+    public int reconcileUpcoming(LocalDateTime now) {
+        return namedJdbcTemplate.update("""
+                        UPDATE episode
+                        SET evaluate_state = 'CLOSED'
+                        WHERE is_break = false
+                          AND scheduled_at > :now
+                          AND (evaluate_state IS NULL OR evaluate_state <> 'CLOSED')
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("now", Timestamp.valueOf(now))
+        );
+    }
+
+    /**
+     * 실시간 투표 (now - 36시간 < scheduled_at <= now) -> VOTING_WINDOW
+     */
+    public int reconcileVotingWindow(LocalDateTime now) {
+        return namedJdbcTemplate.update("""
+                        UPDATE episode
+                        SET evaluate_state = 'VOTING_WINDOW'
+                        WHERE is_break = false
+                          AND scheduled_at > :liveVoteClosedBefore
+                          AND scheduled_at <= :now
+                          AND (evaluate_state IS NULL OR evaluate_state <> 'VOTING_WINDOW')
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("now", Timestamp.valueOf(now))
+                        .addValue("liveVoteClosedBefore", Timestamp.valueOf(now.minusHours(36)))
+        );
+    }
+
+    /**
+     * 이번 주차 실시간 투표 종료 (weekStart <= scheduled_at <= now - 36시간) -> LOGIN_REQUIRED
+     *  - 아직 마감 전인 주차이므로 ALWAYS_OPEN 도 되돌린다.
+     */
+    public int reconcileThisWeekLoginRequired(LocalDateTime weekStartedAt, LocalDateTime now) {
+        LocalDateTime liveVoteClosedBefore = now.minusHours(36);
+        if (liveVoteClosedBefore.isBefore(weekStartedAt)) return 0;
+
+        return namedJdbcTemplate.update("""
+                        UPDATE episode
+                        SET evaluate_state = 'LOGIN_REQUIRED'
+                        WHERE is_break = false
+                          AND scheduled_at >= :weekStartedAt
+                          AND scheduled_at <= :liveVoteClosedBefore
+                          AND (evaluate_state IS NULL OR evaluate_state <> 'LOGIN_REQUIRED')
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("weekStartedAt", Timestamp.valueOf(weekStartedAt))
+                        .addValue("liveVoteClosedBefore", Timestamp.valueOf(liveVoteClosedBefore))
+        );
+    }
+
+    /**
+     * 지난 주차들 (scheduled_at < weekStart, scheduled_at <= now - 36시간) 중 투표가 열려 있거나 열린 적 없는 것
+     * -> LOGIN_REQUIRED (주차 집계 대기)
+     */
+    public int reconcilePastWeeksLoginRequired(LocalDateTime weekStartedAt, LocalDateTime now) {
+        return namedJdbcTemplate.update("""
+                        UPDATE episode
+                        SET evaluate_state = 'LOGIN_REQUIRED'
+                        WHERE is_break = false
+                          AND scheduled_at < :weekStartedAt
+                          AND scheduled_at <= :liveVoteClosedBefore
+                          AND (evaluate_state IS NULL OR evaluate_state IN ('CLOSED', 'VOTING_WINDOW'))
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("weekStartedAt", Timestamp.valueOf(weekStartedAt))
+                        .addValue("liveVoteClosedBefore", Timestamp.valueOf(now.minusHours(36)))
+        );
+    }
+
+    private MapSqlParameterSource transitionParams(Collection<Long> episodeIds, LocalDateTime now) {
+        return new MapSqlParameterSource()
+                .addValue("ids", episodeIds)
+                .addValue("now", Timestamp.valueOf(now))
+                .addValue("premiereFinishedBefore", Timestamp.valueOf(now.minusMinutes(24)))
+                .addValue("liveVoteClosedBefore", Timestamp.valueOf(now.minusHours(36)));
+    }
+}
@@ -0,0 +1,354 @@
+package com.duckstar.repository.EpisodeStar;
+
+import com.duckstar.domain.enums.ContentType;
+import com.duckstar.repository.JdbcStreaming;
+import com.duckstar.service.VoteService.StarVoteCommand;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 별점 대량 처리용 JDBC 쿼리
+ *  - JPA 영속성 컨텍스트를 거치지 않고 episode_star, week_vote_submission 에 직접 반영 (write-behind)
+ *  - Episode 통계는 `col = col + ?` 형태의 원자적 증감으로만 수정
+ *  - 주간 집계용 별점 행은 엔티티 대신 필요한 컬럼만 스트리밍
+ */
+@Repository
+@RequiredArgsConstructor
+public class EpisodeStarBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public record SubmissionRef(Long id, String principalKey, boolean isBlocked, Long memberId) {}
+
+    public record StarRef(Long id, Long episodeId, Long submissionId, Integer starScore) {}
+
+    public record NewStar(Long submissionId, Long episodeId, Integer starScore) {}
+
+    public record ScoreUpdate(Long episodeStarId, Integer starScore) {}
+
+    public record EpisodeStatsSignature(long episodeCount, long breakCount, long voterCount, long weightedSum) {}
+
+    /**
+     * @param stats [voterCount, star_0_5, ..., star_5_0] (EpisodeStarHistogram 증감분과 같은 배치)
+     */
+    public record ProvisionalRow(
+            Long episodeId,
+            Integer episodeNumber,
+            Long animeId,
+            String titleKor,
+            String mainThumbnailUrl,
+            int[] stats
+    ) {}
+
+    @FunctionalInterface
+    public interface StarRowHandler {
+        void accept(long episodeId, long submissionId, String ipHash, int starScore);
+    }
+
+    /**
+     * findAllEligibleByWeekId 와 같은 조건 (회수된 표, 차단된 제출 제외) 의 별점 행을 한 줄씩 넘긴다.
+     */
+    public void streamEligibleStars(Long weekId, StarRowHandler handler) {
+        jdbcTemplate.query(
+                con -> {
+                    PreparedStatement ps = JdbcStreaming.prepare(con, """
+                                    SELECT es.episode_id, es.submission_id, s.ip_hash, es.star_score
+                                    FROM episode_star es
+                                    JOIN week_vote_submission s ON s.id = es.submission_id
+                                    WHERE s.week_id = ?
+                                      AND es.star_score IS NOT NULL
+                                      AND s.is_blocked = false
+                                    """
+                    );
+                    ps.setLong(1, weekId);
+                    return ps;
+                },
+                (RowCallbackHandler) rs -> handler.accept(
+                        rs.getLong(1),
+                        rs.getLong(2),
+                        rs.getString(3),
+                        rs.getInt(4)
+                )
+        );
+    }
+
+    public Map<String, SubmissionRef> findSubmissionRefs(Long weekId, Collection<String> principalKeys) {
+        if (principalKeys.isEmpty()) return new HashMap<>();
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("weekId", weekId)
+                .addValue("category", ContentType.ANIME.name())
+                .addValue("principalKeys", principalKeys);
+
+        Map<String, SubmissionRef> result = new HashMap<>();
+        namedJdbcTemplate.query("""
+                        SELECT id, principal_key, is_blocked, member_id
+                        FROM week_vote_submission
+                        WHERE week_id = :weekId
+                          AND category = :category
+                          AND principal_key IN (:principalKeys)
+                        """,
+                params,
+                rs -> {
+                    SubmissionRef ref = toSubmissionRef(rs);
+                    result.put(ref.principalKey(), ref);
+                });
+        return result;
+    }
+
+    /**
+     * 로그인으로 회원에게 옮겨진 비로그인 제출 (principal_key 는 "m:{memberId}" 로 바뀌고 cookie_id 는 남음)
+     * @return cookieId -> 제출
+     */
+    public Map<String, SubmissionRef> findMigratedSubmissionRefs(Long weekId, Collection<String> cookieIds) {
+        if (cookieIds.isEmpty()) return new HashMap<>();
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("weekId", weekId)
+                .addValue("category", ContentType.ANIME.name())
+                .addValue("cookieIds", cookieIds);
+
+        Map<String, SubmissionRef> result = new HashMap<>();
+        namedJdbcTemplate.query("""
+                        SELECT id, principal_key, is_blocked, member_id, cookie_id
+                        FROM week_vote_submission
+                        WHERE week_id = :weekId
+                          AND category = :category
+                          AND cookie_id IN (:cookieIds)
+                          AND member_id IS NOT NULL
+                        """,
+                params,
+                rs -> {
+                    result.put(rs.getString("cookie_id"), toSubmissionRef(rs));
+                });
+        return result;
+    }
+
+    private static SubmissionRef toSubmissionRef(ResultSet rs) throws SQLException {
+        return new SubmissionRef(
+                rs.getLong("id"),
+                rs.getString("principal_key"),
+                rs.getBoolean("is_blocked"),
+                rs.getObject("member_id", Long.class)
+        );
+    }
+
+    /**
+     * (week_id, principal_key, category) 유니크 키에 걸리면 기존 제출을 그대로 둔다.
+     */
+    public void insertSubmissionsIfAbsent(List<StarVoteCommand> votes, Set<String> bannedIpHashes) {
+        if (votes.isEmpty()) return;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = votes.stream()
+                .map(v -> new Object[]{
+                        v.weekId(),
+                        v.memberId(),
+                        v.cookieId(),
+                        v.ipHash(),
+                        v.userAgent(),
+                        v.fpHash(),
+                        bannedIpHashes.contains(v.ipHash()),
+                        v.principalKey(),
+                        ContentType.ANIME.name(),
+                        now,
+                        now
+                })
+                .toList();
+
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO week_vote_submission
+                            (week_id, member_id, cookie_id, ip_hash, user_agent, fp_hash,
+                             is_blocked, principal_key, category, created_at, updated_at)
+                        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                        ON DUPLICATE KEY UPDATE id = id
+                        """,
+                args);
+    }
+
+    /**
+     * 제출 행 잠금 (id 순서로 잠가 교착 방지)
+     *  - 별점 행 INSERT 는 FK 검사로 부모 제출 행을 공유 잠금하므로,
+     *    잠근 동안 동기 경로(늦참 투표 등) 가 같은 제출에 별점 행을 새로 만들 수 없다.
+     *  - 먼저 만든 쪽이 있으면 그 커밋까지 기다린 뒤 잠그므로 이어지는 조회에 그 행이 보인다.
+     */
+    public void lockSubmissions(Collection<Long> submissionIds) {
+        if (submissionIds.isEmpty()) return;
+
+        namedJdbcTemplate.query("""
+                        SELECT id
+                        FROM week_vote_submission
+                        WHERE id IN (:submissionIds)
+                        ORDER BY id
+                        FOR UPDATE
+                        """,
+                new MapSqlParameterSource("submissionIds", submissionIds),
+                (rs, rowNum) -> rs.getLong(1));
+    }
+
+    /**
+     * 잠금 조회 -> 증감 계산이 끝날 때까지 같은 제출의 별점 행이 바뀌지 않음
+     *  (새로 생기지 않는 것은 lockSubmissions 로 보장)
+     */
+    public List<StarRef> findStarRefs(Collection<Long> submissionIds) {
+        if (submissionIds.isEmpty()) return List.of();
+
+        return namedJdbcTemplate.query("""
+                        SELECT id, episode_id, submission_id, star_score
+                        FROM episode_star
+                        WHERE submission_id IN (:submissionIds)
+                        FOR UPDATE
+                        """,
+                new MapSqlParameterSource("submissionIds", submissionIds),
+                (rs, rowNum) -> new StarRef(
+                        rs.getLong("id"),
+                        rs.getLong("episode_id"),
+                        rs.getLong("submission_id"),
+                        rs.getObject("star_score", Integer.class)
+                ));
+    }
+
+    /**
+     * 중복은 덮어쓰지 않고 예외 (uk_episode_star_se)
+     *  - 덮어쓰면 계획한 증감(새 표 +1) 과 실제 변경(점수 수정) 이 어긋나므로,
+     *    배치를 롤백하고 다음 시도에서 별점 행을 다시 읽어 계획한다.
+     */
+    public void insertStars(List<NewStar> stars) {
+        if (stars.isEmpty()) return;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = stars.stream()
+                .map(s -> new Object[]{s.submissionId(), s.episodeId(), s.starScore(), now, now})
+                .toList();
+
+        // write-behind 는 VOTING_WINDOW 투표만 받으므로 늦참 아님
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO episode_star
+                            (submission_id, episode_id, star_score, is_late_participating, created_at, updated_at)
+                        VALUES (?, ?, ?, false, ?, ?)
+                        """,
+                args);
+    }
+
+    public void updateStarScores(List<ScoreUpdate> updates) {
+        if (updates.isEmpty()) return;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = updates.stream()
+                .map(u -> new Object[]{u.starScore(), now, u.episodeStarId()})
+                .toList();
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE episode_star SET star_score = ?, updated_at = ? WHERE id = ?",
+                args);
+    }
+
+    /**
+     * @param deltas episodeId -> [voterCount 증감, star_0_5 증감, ..., star_5_0 증감] (길이 11)
+     */
+    public void applyEpisodeDeltas(Map<Long, int[]> deltas) {
+        if (deltas.isEmpty()) return;
+
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        for (Map.Entry<Long, int[]> entry : deltas.entrySet()) {
+            int[] d = entry.getValue();
+            args.add(new Object[]{
+                    d[0], d[1], d[2], d[3], d[4], d[5], d[6], d[7], d[8], d[9], d[10],
+                    entry.getKey()
+            });
+        }
+
+        jdbcTemplate.batchUpdate("""
+                        UPDATE episode SET
+                            voter_count = voter_count + ?,
+                            star_0_5 = star_0_5 + ?,
+                            star_1_0 = star_1_0 + ?,
+                            star_1_5 = star_1_5 + ?,
+                            star_2_0 = star_2_0 + ?,
+                            star_2_5 = star_2_5 + ?,
+                            star_3_0 = star_3_0 + ?,
+                            star_3_5 = star_3_5 + ?,
+                            star_4_0 = star_4_0 + ?,
+                            star_4_5 = star_4_5 + ?,
+                            star_5_0 = star_5_0 + ?
+                        WHERE id = ?
+                        """,
+                args);
+    }
+
+    /**
+     * [from, to) 방영 에피소드들의 통계 요약 - 잠정 차트 변경 감지용
+     *  - episode 행만 한 번 훑는 집계 (episode_star, 엔티티 로딩 없음)
+     *  - 다른 인스턴스의 flush, 히스토그램 미사용 시의 JPA 반영까지 모두 잡힌다.
+     */
+    public EpisodeStatsSignature findStatsSignature(LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.queryForObject("""
+                        SELECT COUNT(*),
+                               COALESCE(SUM(CASE WHEN is_break THEN 1 ELSE 0 END), 0),
+                               COALESCE(SUM(voter_count), 0),
+                               COALESCE(SUM(
+                                   star_0_5 + 2 * star_1_0 + 3 * star_1_5 + 4 * star_2_0 + 5 * star_2_5 +
+                                   6 * star_3_0 + 7 * star_3_5 + 8 * star_4_0 + 9 * star_4_5 + 10 * star_5_0
+                               ), 0)
+                        FROM episode
+                        WHERE scheduled_at >= ?
+                          AND scheduled_at < ?
+                        """,
+                (rs, rowNum) -> new EpisodeStatsSignature(
+                        rs.getLong(1),
+                        rs.getLong(2),
+                        rs.getLong(3),
+                        rs.getLong(4)
+                ),
+                Timestamp.valueOf(from),
+                Timestamp.valueOf(to)
+        );
+    }
+
+    /**
+     * [from, to) 방영 휴방 아닌 에피소드들의 통계 + 애니 제목/썸네일 - 잠정 차트 계산용
+     *  - 엔티티를 읽지 않고 anime 조인 한 번 (에피소드마다 애니를 따로 읽지 않음)
+     */
+    public List<ProvisionalRow> findProvisionalRows(LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query("""
+                        SELECT e.id, e.episode_number, a.id, a.title_kor, a.main_thumbnail_url,
+                               e.voter_count,
+                               e.star_0_5, e.star_1_0, e.star_1_5, e.star_2_0, e.star_2_5,
+                               e.star_3_0, e.star_3_5, e.star_4_0, e.star_4_5, e.star_5_0
+                        FROM episode e
+                        JOIN anime a ON a.id = e.anime_id
+                        WHERE e.is_break = false
+                          AND e.scheduled_at >= ?
+                          AND e.scheduled_at < ?
+                        """,
+                (rs, rowNum) -> {
+                    int[] stats = new int[11];
+                    for (int i = 0; i < stats.length; i++) {
+                        stats[i] = rs.getInt(6 + i);
+                    }
+                    return new ProvisionalRow(
+                            rs.getLong(1),
+                            rs.getObject(2, Integer.class),
+                            rs.getLong(3),
+                            rs.getString(4),
+                            rs.getString(5),
+                            stats
+                    );
+                },
+                Timestamp.valueOf(from),
+                Timestamp.valueOf(to)
+        );
+    }
+}
@@ -7,5 +7,7 @@ import java.util.List;
 public interface EpisodeStarRepositoryCustom {
     List<EpisodeStar> findAllEligibleByWeekId(Long weekId);
 
+    int countEligibleVotersByWeekId(Long weekId);
+
     Long getVoteTimeLeftForLatestEpVoted(Long submissionId);
 }
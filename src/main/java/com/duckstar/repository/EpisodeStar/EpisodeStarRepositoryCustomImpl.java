@@ -30,6 +30,21 @@ public class EpisodeStarRepositoryCustomImpl implements EpisodeStarRepositoryCus
                 .fetch();
     }
 
+    @Override
+    public int countEligibleVotersByWeekId(Long weekId) {
+        Long count = queryFactory.select(weekVoteSubmission.id.countDistinct())
+                .from(episodeStar)
+                .join(episodeStar.weekVoteSubmission, weekVoteSubmission)
+                .where(
+                        weekVoteSubmission.week.id.eq(weekId)
+                                .and(episodeStar.starScore.isNotNull())
+                                .and(weekVoteSubmission.isBlocked.isFalse())
+                )
+                .fetchOne();
+
+        return count != null ? count.intValue() : 0;
+    }
+
     @Override
     public Long getVoteTimeLeftForLatestEpVoted(Long submissionId) {
         LocalDateTime latestEpScheduledAt = queryFactory.select(
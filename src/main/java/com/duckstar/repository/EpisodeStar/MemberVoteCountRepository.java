@@ -0,0 +1,172 @@
+package com.duckstar.repository.EpisodeStar;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 회원별 애니 별점 투표 수(member_anime_vote_count) JDBC 쿼리
+ *  - 증감은 `vote_count = vote_count + ?` 형태의 원자적 UPSERT 로만
+ *  - 재집계는 episode_star 를 제출(회원) + 에피소드(애니) 기준으로 다시 센 값
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberVoteCountRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public record MemberAnime(Long memberId, Long animeId) {}
+
+    public Optional<Integer> findCount(Long memberId, Long animeId) {
+        List<Integer> counts = jdbcTemplate.queryForList(
+                "SELECT vote_count FROM member_anime_vote_count WHERE member_id = ? AND anime_id = ?",
+                Integer.class,
+                memberId, animeId);
+        return counts.isEmpty() ? Optional.empty() : Optional.ofNullable(counts.get(0));
+    }
+
+    /**
+     * @param deltas (회원, 애니) -> 증감, 행이 없으면 증감 값으로 새로 만듦
+     */
+    public void addCounts(Map<MemberAnime, Integer> deltas) {
+        if (deltas.isEmpty()) return;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((key, delta) -> args.add(new Object[]{
+                key.memberId(), key.animeId(), Math.max(delta, 0), now, now, delta, now
+        }));
+
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO member_anime_vote_count
+                            (member_id, anime_id, vote_count, created_at, updated_at)
+                        VALUES (?, ?, ?, ?, ?)
+                        ON DUPLICATE KEY UPDATE
+                            vote_count = GREATEST(vote_count + ?, 0),
+                            updated_at = ?
+                        """,
+                args);
+    }
+
+    /**
+     * @return 에피소드 ID -> 애니 ID
+     */
+    public Map<Long, Long> findAnimeIds(Collection<Long> episodeIds) {
+        if (episodeIds.isEmpty()) return new HashMap<>();
+
+        Map<Long, Long> result = new HashMap<>();
+        namedJdbcTemplate.query(
+                "SELECT id, anime_id FROM episode WHERE id IN (:episodeIds)",
+                new MapSqlParameterSource("episodeIds", episodeIds),
+                (RowCallbackHandler) rs -> result.put(rs.getLong("id"), rs.getLong("anime_id")));
+        return result;
+    }
+
+    /**
+     * @return 제출 하나의 애니 ID -> 별점 행 수 (회수한 별점 포함)
+     */
+    public Map<Long, Integer> countStarsBySubmission(Long submissionId) {
+        Map<Long, Integer> result = new HashMap<>();
+        jdbcTemplate.query("""
+                        SELECT e.anime_id, COUNT(*)
+                        FROM episode_star es
+                        JOIN episode e ON e.id = es.episode_id
+                        WHERE es.submission_id = ?
+                        GROUP BY e.anime_id
+                        """,
+                (RowCallbackHandler) rs -> result.put(rs.getLong(1), rs.getInt(2)),
+                submissionId);
+        return result;
+    }
+
+    public void deleteByMemberId(Long memberId) {
+        jdbcTemplate.update("DELETE FROM member_anime_vote_count WHERE member_id = ?", memberId);
+    }
+
+    //=== 재집계 ===//
+
+    /**
+     * @return (회원, 애니) -> 저장된 투표 수
+     */
+    public Map<MemberAnime, Integer> findAllCounts() {
+        Map<MemberAnime, Integer> result = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT member_id, anime_id, vote_count FROM member_anime_vote_count",
+                (RowCallbackHandler) rs -> result.put(
+                        new MemberAnime(rs.getLong(1), rs.getLong(2)), rs.getInt(3)));
+        return result;
+    }
+
+    /**
+     * @return (회원, 애니) -> episode_star 를 다시 센 값 (0 인 쌍은 없음)
+     */
+    public Map<MemberAnime, Integer> recountAll() {
+        Map<MemberAnime, Integer> result = new HashMap<>();
+        jdbcTemplate.query("""
+                        SELECT s.member_id, e.anime_id, COUNT(*)
+                        FROM episode_star es
+                        JOIN week_vote_submission s ON s.id = es.submission_id
+                        JOIN episode e ON e.id = es.episode_id
+                        WHERE s.member_id IS NOT NULL
+                        GROUP BY s.member_id, e.anime_id
+                        """,
+                (RowCallbackHandler) rs -> result.put(
+                        new MemberAnime(rs.getLong(1), rs.getLong(2)), rs.getInt(3)));
+        return result;
+    }
+
+    /**
+     * 회원 한 명의 행을 잠근다 (행이 없어도 범위 잠금) -> 잠근 동안 그 회원의 증감은 대기
+     */
+    public void lockMember(Long memberId) {
+        jdbcTemplate.queryForList(
+                "SELECT id FROM member_anime_vote_count WHERE member_id = ? FOR UPDATE",
+                Long.class,
+                memberId);
+    }
+
+    /**
+     * @return 애니 ID -> episode_star 를 다시 센 값
+     */
+    public Map<Long, Integer> recountMember(Long memberId) {
+        Map<Long, Integer> result = new HashMap<>();
+        jdbcTemplate.query("""
+                        SELECT e.anime_id, COUNT(*)
+                        FROM episode_star es
+                        JOIN week_vote_submission s ON s.id = es.submission_id
+                        JOIN episode e ON e.id = es.episode_id
+                        WHERE s.member_id = ?
+                        GROUP BY e.anime_id
+                        """,
+                (RowCallbackHandler) rs -> result.put(rs.getLong(1), rs.getInt(2)),
+                memberId);
+        return result;
+    }
+
+    /**
+     * 회원 한 명의 행을 통째로 교체
+     */
+    public void replaceMember(Long memberId, Map<Long, Integer> countsByAnime) {
+        deleteByMemberId(memberId);
+        if (countsByAnime.isEmpty()) return;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(countsByAnime.size());
+        countsByAnime.forEach((animeId, count) -> args.add(new Object[]{memberId, animeId, count, now, now}));
+
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO member_anime_vote_count
+                            (member_id, anime_id, vote_count, created_at, updated_at)
+                        VALUES (?, ?, ?, ?, ?)
+                        """,
+                args);
+    }
+}
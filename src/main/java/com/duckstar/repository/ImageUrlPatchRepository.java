@@ -0,0 +1,104 @@
+package com.duckstar.repository;
+
+import com.duckstar.domain.enums.ImageTarget;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 비동기 이미지 처리가 끝난 뒤 자리표시 URL 을 실제 URL 로 교체하는 JDBC 쿼리
+ *  - 업로드마다 다른 자리표시 URL 이 아직 그대로일 때만 교체 -> 그 사이 다시 바뀌었으면 0 행
+ *  - 엔티티 쪽은 해당 컬럼을 덮어쓰지 않음 (Comment/Reply: updatable = false, Member: @DynamicUpdate)
+ *  - 처리 중인 자리표시는 pending_image_placeholder 에 따로 적어 두고, 멈춘 것 정리는 그 표만 본다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ImageUrlPatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 댓글 (AnimeComment 등 comment 테이블 공용)
+     */
+    public int patchCommentImage(Long commentId, String placeholderUrl, String imageUrl) {
+        return jdbcTemplate.update(
+                "UPDATE comment SET attached_image_url = ? WHERE id = ? AND attached_image_url = ?",
+                imageUrl, commentId, placeholderUrl);
+    }
+
+    public int patchReplyImage(Long replyId, String placeholderUrl, String imageUrl) {
+        return jdbcTemplate.update(
+                "UPDATE reply SET attached_image_url = ? WHERE id = ? AND attached_image_url = ?",
+                imageUrl, replyId, placeholderUrl);
+    }
+
+    public int patchProfileImage(Long memberId, String placeholderUrl, String imageUrl) {
+        return jdbcTemplate.update(
+                "UPDATE member SET profile_image_url = ? WHERE id = ? AND profile_image_url = ?",
+                imageUrl, memberId, placeholderUrl);
+    }
+
+    //=== 처리 중인 자리표시 (pending_image_placeholder) ===//
+
+    public record PendingPlaceholder(
+            Long id,
+            ImageTarget target,
+            Long targetId,
+            String placeholderUrl,
+            String fallbackUrl
+    ) {}
+
+    /**
+     * 자리표시 URL 로 저장하는 트랜잭션 안에서 호출 (롤백되면 같이 사라짐)
+     */
+    public void trackPending(ImageTarget target, Long targetId, String placeholderUrl, String fallbackUrl) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(
+                "INSERT INTO pending_image_placeholder" +
+                        " (target, target_id, placeholder_url, fallback_url, created_at, updated_at)" +
+                        " VALUES (?, ?, ?, ?, ?, ?)",
+                target.name(), targetId, placeholderUrl, fallbackUrl, now, now);
+    }
+
+    public void untrackPending(String placeholderUrl) {
+        jdbcTemplate.update(
+                "DELETE FROM pending_image_placeholder WHERE placeholder_url = ?",
+                placeholderUrl);
+    }
+
+    /**
+     * cutoff 이전에 넣은 것 중 오래된 순으로 limit 개 (created_at 인덱스 범위)
+     */
+    public List<PendingPlaceholder> findStalePending(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.query(
+                "SELECT id, target, target_id, placeholder_url, fallback_url FROM pending_image_placeholder" +
+                        " WHERE created_at < ? ORDER BY created_at LIMIT ?",
+                (rs, rowNum) -> new PendingPlaceholder(
+                        rs.getLong(1),
+                        ImageTarget.valueOf(rs.getString(2)),
+                        rs.getLong(3),
+                        rs.getString(4),
+                        rs.getString(5)
+                ),
+                Timestamp.valueOf(cutoff), limit);
+    }
+
+    /**
+     * 아직 자리표시 URL 그대로면 되돌림 (댓글/답글은 이미지 없음, 프로필은 fallbackUrl) - 추적 행은 지움
+     * @return 되돌린 행 수
+     */
+    public int clearPending(PendingPlaceholder pending) {
+        String placeholderUrl = pending.placeholderUrl();
+        int cleared = switch (pending.target()) {
+            case COMMENT -> patchCommentImage(pending.targetId(), placeholderUrl, null);
+            case REPLY -> patchReplyImage(pending.targetId(), placeholderUrl, null);
+            case PROFILE -> patchProfileImage(pending.targetId(), placeholderUrl, pending.fallbackUrl());
+        };
+        jdbcTemplate.update("DELETE FROM pending_image_placeholder WHERE id = ?", pending.id());
+        return cleared;
+    }
+}
@@ -0,0 +1,28 @@
+package com.duckstar.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 결과를 메모리에 통째로 올리지 않고 한 줄씩 읽는 조회용 PreparedStatement
+ * (EpisodeStarBatchRepository, SurveyVoteBatchRepository 의 전체 재집계 스트리밍)
+ */
+public final class JdbcStreaming {
+
+    private JdbcStreaming() {}
+
+    public static PreparedStatement prepare(Connection con, String sql) throws SQLException {
+        PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        ps.setFetchSize(fetchSize(con));
+        return ps;
+    }
+
+    private static int fetchSize(Connection con) throws SQLException {
+        // MySQL 드라이버는 Integer.MIN_VALUE 일 때만 결과를 통째로 올리지 않고 스트리밍
+        return "MySQL".equalsIgnoreCase(con.getMetaData().getDatabaseProductName()) ?
+                Integer.MIN_VALUE :
+                1000;
+    }
+}
@@ -0,0 +1,47 @@
+package com.duckstar.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 댓글/답글 좋아요 수 증감 JDBC 쿼리
+ *  - `like_count = like_count + ?` 형태의 원자적 갱신 (엔티티는 like_count 를 수정하지 않음)
+ *  - 여기서 0 으로 자르지 않음: 인스턴스마다 따로 모은 증감이 -1 이 먼저 도착하면 잘린 만큼 영구히 어긋남
+ *    -> 잠시 음수가 될 수 있고, 읽는 쪽(LikeCounter.countOf) 에서 0 으로 보정
+ */
+@Repository
+@RequiredArgsConstructor
+public class LikeCountBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param deltas 댓글 ID -> 증감
+     */
+    public void addCommentLikeCounts(Map<Long, Integer> deltas) {
+        addLikeCounts("comment", deltas);
+    }
+
+    /**
+     * @param deltas 답글 ID -> 증감
+     */
+    public void addReplyLikeCounts(Map<Long, Integer> deltas) {
+        addLikeCounts("reply", deltas);
+    }
+
+    private void addLikeCounts(String table, Map<Long, Integer> deltas) {
+        if (deltas.isEmpty()) return;
+
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((id, delta) -> args.add(new Object[]{delta, id}));
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE " + table + " SET like_count = like_count + ? WHERE id = ?",
+                args);
+    }
+}
@@ -2,11 +2,22 @@ package com.duckstar.repository.Reply;
 
 import com.duckstar.domain.mapping.Reply;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ReplyRepository extends JpaRepository<Reply, Long>, ReplyRepositoryCustom {
     Integer countAllByParent_id(Long parentId);
 
     List<Reply> findAllByAuthor_Id(Long authorId);
+
+    // 좋아요 처리용 (답글 엔티티를 읽지 않고 존재 확인 + 현재 값)
+    @Query("select r.likeCount from Reply r where r.id = :replyId")
+    Optional<Integer> findLikeCountById(@Param("replyId") Long replyId);
+
+    // 같은 답글의 첫 좋아요 생성을 한 줄로 세움 (커밋까지 잠금 유지)
+    @Query(value = "SELECT id FROM reply WHERE id = :replyId FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockById(@Param("replyId") Long replyId);
 }
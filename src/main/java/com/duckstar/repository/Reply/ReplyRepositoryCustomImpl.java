@@ -3,12 +3,8 @@ package com.duckstar.repository.Reply;
 import com.duckstar.domain.Member;
 import com.duckstar.domain.enums.CommentStatus;
 import com.duckstar.domain.mapping.QReply;
-import com.duckstar.domain.mapping.QReplyLike;
 import com.duckstar.security.MemberPrincipal;
 import com.querydsl.core.Tuple;
-import com.querydsl.core.types.Expression;
-import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -23,7 +19,6 @@ import static com.duckstar.web.dto.CommentResponseDto.*;
 public class ReplyRepositoryCustomImpl implements ReplyRepositoryCustom {
     private final JPAQueryFactory queryFactory;
     private final QReply reply = QReply.reply;
-    private final QReplyLike replyLike = QReplyLike.replyLike;
 
     @Override
     public List<ReplyDto> getReplyDtos(
@@ -32,44 +27,11 @@ public class ReplyRepositoryCustomImpl implements ReplyRepositoryCustom {
             int offset,
             int limit
     ) {
-        Long principalId;
-        boolean isAdmin;
-
-        Expression<Long> likeIdSubquery;
-        Expression<Boolean> isLikedExpression;
-
-        if (principal != null) {
-            principalId = principal.getId();
-            isAdmin = principal.isAdmin();
-
-            likeIdSubquery = JPAExpressions
-                    .select(replyLike.id)
-                    .from(replyLike)
-                    .where(
-                            replyLike.reply.id.eq(reply.id),
-                            replyLike.member.id.eq(principalId)
-                    )
-                    .limit(1);
-
-            isLikedExpression = JPAExpressions
-                    .select(replyLike.isLiked)
-                    .from(replyLike)
-                    .where(
-                            replyLike.reply.id.eq(reply.id),
-                            replyLike.member.id.eq(principalId)
-                    )
-                    .limit(1);
-        } else {
-            principalId = null;
-            isAdmin = false;
-
-            likeIdSubquery = Expressions.nullExpression(Long.class);
-            isLikedExpression = Expressions.constant(false);
-        }
+        // 조회자 좋아요 상태는 ViewerLikeHydrator 가 페이지 단위로 채움
+        Long principalId = principal != null ? principal.getId() : null;
+        boolean isAdmin = principal != null && principal.isAdmin();
 
         List<Tuple> tuples = queryFactory.select(
-                        likeIdSubquery,
-                        isLikedExpression,
                         reply.status,
                         reply.id,
                         reply.likeCount,
@@ -117,8 +79,8 @@ public class ReplyRepositoryCustomImpl implements ReplyRepositoryCustom {
 
                             .canDeleteThis(canDelete)
 
-                            .isLiked(t.get(isLikedExpression))
-                            .replyLikeId(t.get(likeIdSubquery))
+                            .isLiked(false)
+                            .replyLikeId(null)
                             .likeCount(t.get(reply.likeCount))
 
                             .authorId(authorId)
@@ -2,10 +2,15 @@ package com.duckstar.repository.SurveyCandidate;
 
 import com.duckstar.domain.mapping.surveyVote.SurveyCandidate;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface SurveyCandidateRepository extends JpaRepository<SurveyCandidate, Long>, SurveyCandidateRepositoryCustom {
     List<SurveyCandidate> findAllBySurvey_Id(Long surveyId);
     List<SurveyCandidate> findAllBySurvey_IdAndQuarter_Id(Long surveyId, Long quarterId);
+
+    @Query("select c.id from SurveyCandidate c where c.survey.id = :surveyId")
+    List<Long> findIdsBySurveyId(@Param("surveyId") Long surveyId);
 }
\ No newline at end of file
@@ -11,7 +11,6 @@ import static com.duckstar.web.dto.SurveyResponseDto.*;
 
 public interface SurveyCandidateRepositoryCustom {
     List<AnimeCandidateDto> getCandidateDtosBySurveyId(Long surveyId);
-    List<Long> findValidIdsForSurvey(Long surveyId, List<Long> candidateIds);
     Page<SurveyRankDto> getSurveyRankDtosBySurveyId(
             Long surveyId,
             MemberPrincipal principal,
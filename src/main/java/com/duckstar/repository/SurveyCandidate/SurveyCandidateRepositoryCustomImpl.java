@@ -3,7 +3,6 @@ package com.duckstar.repository.SurveyCandidate;
 import com.duckstar.domain.QAnime;
 import com.duckstar.domain.QQuarter;
 import com.duckstar.domain.enums.CommentStatus;
-import com.duckstar.domain.mapping.QCommentLike;
 import com.duckstar.domain.mapping.QReply;
 import com.duckstar.domain.mapping.comment.QAnimeComment;
 import com.duckstar.domain.mapping.surveyVote.QSurveyCandidate;
@@ -13,10 +12,7 @@ import com.duckstar.repository.AnimeComment.AnimeCommentRepositoryCustomImpl;
 import com.duckstar.security.MemberPrincipal;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.group.GroupBy;
-import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Projections;
-import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -37,7 +33,6 @@ public class SurveyCandidateRepositoryCustomImpl implements SurveyCandidateRepos
     private final QSurveyCandidate surveyCandidate = QSurveyCandidate.surveyCandidate;
     private final QAnime anime = QAnime.anime;
     private final QQuarter quarter = QQuarter.quarter;
-    private final QCommentLike commentLike = QCommentLike.commentLike;
     private final QAnimeComment animeComment = QAnimeComment.animeComment;
     private final QEpisode episode = QEpisode.episode;
     private final QEpisodeStar episodeStar = QEpisodeStar.episodeStar;
@@ -65,17 +60,6 @@ public class SurveyCandidateRepositoryCustomImpl implements SurveyCandidateRepos
                 .fetch();
     }
 
-    @Override
-    public List<Long> findValidIdsForSurvey(Long surveyId, List<Long> candidateIds) {
-        if (candidateIds == null || candidateIds.isEmpty()) return List.of();
-
-        return queryFactory.select(surveyCandidate.id)
-                .from(surveyCandidate)
-                .where(surveyCandidate.survey.id.eq(surveyId),
-                        surveyCandidate.id.in(candidateIds))
-                .fetch();
-    }
-
     @Override
     public Page<SurveyRankDto> getSurveyRankDtosBySurveyId(
             Long surveyId,
@@ -127,39 +111,9 @@ public class SurveyCandidateRepositoryCustomImpl implements SurveyCandidateRepos
                 .toList();
 
         if (!animeIds.isEmpty()) {
-            Long principalId;
-            boolean isAdmin;
-            Expression<Long> likeIdSubquery;
-            Expression<Boolean> isLikedExpression;
-
-            if (principal != null) {
-                principalId = principal.getId();
-                isAdmin = principal.isAdmin();
-
-                likeIdSubquery = JPAExpressions
-                        .select(commentLike.id)
-                        .from(commentLike)
-                        .where(
-                                commentLike.comment.id.eq(animeComment.id),
-                                commentLike.member.id.eq(principalId)
-                        )
-                        .limit(1);
-
-                isLikedExpression = JPAExpressions
-                        .select(commentLike.isLiked)
-                        .from(commentLike)
-                        .where(
-                                commentLike.comment.id.eq(animeComment.id),
-                                commentLike.member.id.eq(principalId)
-                        )
-                        .limit(1);
-            } else {
-                principalId = null;
-                isAdmin = false;
-
-                likeIdSubquery = Expressions.nullExpression(Long.class);
-                isLikedExpression = Expressions.constant(false);
-            }
+            // 조회자 좋아요 상태는 ViewerLikeHydrator 가 채움 (SurveyService)
+            Long principalId = principal != null ? principal.getId() : null;
+            boolean isAdmin = principal != null && principal.isAdmin();
 
             // 1. 댓글 맵 구성
             Map<Long, List<Tuple>> tupleMap = queryFactory.from(animeComment)
@@ -176,8 +130,6 @@ public class SurveyCandidateRepositoryCustomImpl implements SurveyCandidateRepos
                                     Projections.tuple(
                                             animeComment.status,
                                             animeComment.id,
-                                            isLikedExpression,
-                                            likeIdSubquery,
                                             animeComment.likeCount,
                                             animeComment.author.id,
                                             animeComment.author.nickname,
@@ -220,13 +172,7 @@ public class SurveyCandidateRepositoryCustomImpl implements SurveyCandidateRepos
                 List<Tuple> tuples = tupleMap.getOrDefault(animeId, List.of());
                 List<CommentDto> commentDtos = tuples.stream()
                         .limit(3)
-                        .map(t -> animeCommentRepositoryCustomImpl.toCommentDto(
-                                t,
-                                principalId,
-                                isAdmin,
-                                isLikedExpression,
-                                likeIdSubquery
-                        ))
+                        .map(t -> animeCommentRepositoryCustomImpl.toCommentDto(t, principalId, isAdmin))
                         .toList();
 
                 dto.setCommentDtos(commentDtos);
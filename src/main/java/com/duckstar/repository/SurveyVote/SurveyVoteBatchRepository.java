@@ -0,0 +1,132 @@
+package com.duckstar.repository.SurveyVote;
+
+import com.duckstar.domain.enums.AgeGroup;
+import com.duckstar.domain.enums.Gender;
+import com.duckstar.repository.JdbcStreaming;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 서베이 표 대량 처리용 JDBC 쿼리
+ *  - 시상 집계용 (제출, 표) 행은 엔티티 대신 필요한 컬럼만 스트리밍
+ *  - 실시간 집계(survey_candidate_tally) 는 `col = col + ?` 형태의 원자적 증감으로만 수정
+ *
+ *  집계 배열 순서 (길이 TALLY_SLOTS):
+ *  [점수 합, 표 수, 일반, 보너스, 남, 여, 14 이하, 15-19, 20-24, 25-29, 30-34, 35 이상]
+ */
+@Repository
+@RequiredArgsConstructor
+public class SurveyVoteBatchRepository {
+
+    public static final int TALLY_SLOTS = 12;
+
+    private static final List<String> TALLY_COLUMNS = List.of(
+            "score", "vote_count",
+            "normal_count", "bonus_count",
+            "male_count", "female_count",
+            "under14_count", "age1519_count", "age2024_count",
+            "age2529_count", "age3034_count", "over35_count"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record CandidateDelta(Long candidateId, Long surveyId, int[] delta) {}
+
+    @FunctionalInterface
+    public interface BallotRowHandler {
+        /**
+         * @param candidateId 표가 없는 제출이면 0
+         */
+        void accept(long submissionId, String ipHash, Gender gender, AgeGroup ageGroup, long candidateId, int score);
+    }
+
+    /**
+     * 서베이의 모든 제출을 표와 함께 한 줄씩 넘긴다. (표 없는 제출도 한 줄)
+     */
+    public void streamBallots(Long surveyId, BallotRowHandler handler) {
+        jdbcTemplate.query(
+                con -> {
+                    PreparedStatement ps = JdbcStreaming.prepare(con, """
+                                    SELECT s.id, s.ip_hash, s.gender, s.age_group, v.candidate_id, v.score
+                                    FROM survey_vote_submission s
+                                    LEFT JOIN survey_vote v ON v.submission_id = s.id
+                                    WHERE s.survey_id = ?
+                                    """
+                    );
+                    ps.setLong(1, surveyId);
+                    return ps;
+                },
+                (RowCallbackHandler) rs -> {
+                    String gender = rs.getString(3);
+                    String ageGroup = rs.getString(4);
+                    handler.accept(
+                            rs.getLong(1),
+                            rs.getString(2),
+                            gender == null ? null : Gender.valueOf(gender),
+                            ageGroup == null ? null : AgeGroup.valueOf(ageGroup),
+                            rs.getLong(5),
+                            rs.getInt(6)
+                    );
+                }
+        );
+    }
+
+    /**
+     * @return 후보 ID -> 집계 배열
+     */
+    public Map<Long, int[]> findCandidateTallies(Long surveyId) {
+        Map<Long, int[]> result = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT candidate_id, " + String.join(", ", TALLY_COLUMNS) +
+                        " FROM survey_candidate_tally WHERE survey_id = ?",
+                (RowCallbackHandler) rs -> {
+                    int[] tally = new int[TALLY_SLOTS];
+                    for (int i = 0; i < TALLY_SLOTS; i++) {
+                        tally[i] = rs.getInt(i + 2);
+                    }
+                    result.put(rs.getLong(1), tally);
+                },
+                surveyId
+        );
+        return result;
+    }
+
+    /**
+     * 후보 행이 없으면 증감분으로 만들고, 있으면 더한다.
+     */
+    public void applyCandidateDeltas(List<CandidateDelta> deltas) {
+        if (deltas.isEmpty()) return;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        for (CandidateDelta d : deltas) {
+            Object[] row = new Object[2 + TALLY_SLOTS * 2 + 3];
+            int i = 0;
+            row[i++] = d.candidateId();
+            row[i++] = d.surveyId();
+            for (int v : d.delta()) row[i++] = v;
+            row[i++] = now;
+            row[i++] = now;
+            for (int v : d.delta()) row[i++] = v;
+            row[i] = now;
+            args.add(row);
+        }
+
+        StringJoiner increments = new StringJoiner(", ");
+        TALLY_COLUMNS.forEach(col -> increments.add(col + " = " + col + " + ?"));
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO survey_candidate_tally (candidate_id, survey_id, " +
+                        String.join(", ", TALLY_COLUMNS) + ", created_at, updated_at)" +
+                        " VALUES (?, ?, " + "?, ".repeat(TALLY_SLOTS) + "?, ?)" +
+                        " ON DUPLICATE KEY UPDATE " + increments + ", updated_at = ?",
+                args);
+    }
+}
@@ -1,12 +1,51 @@
 package com.duckstar.repository.SurveyVote;
 
+import com.duckstar.domain.enums.BallotType;
 import com.duckstar.domain.mapping.surveyVote.SurveyVote;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 
 public interface SurveyVoteRepository extends JpaRepository<SurveyVote, Long>, SurveyVoteRepositoryCustom {
-    void deleteAllBySurveyVoteSubmission_IdAndSurveyCandidate_IdIn(Long surveyVoteSubmissionId, Collection<Long> surveyCandidateIds);
-    List<SurveyVote> findAllBySurveyVoteSubmission_IdAndSurveyCandidate_IdIn(Long surveyVoteSubmissionId, Collection<Long> surveyCandidateIds);
-}
\ No newline at end of file
+
+    interface BallotScore {
+        Long getCandidateId();
+        Integer getScore();
+    }
+
+    @Query("""
+            select v.surveyCandidate.id as candidateId, v.score as score
+            from SurveyVote v
+            where v.surveyVoteSubmission.id = :submissionId and v.surveyCandidate.id in :candidateIds
+            """)
+    List<BallotScore> findBallotScores(
+            @Param("submissionId") Long submissionId,
+            @Param("candidateIds") Collection<Long> candidateIds);
+
+    @Modifying
+    @Query("""
+            delete from SurveyVote v
+            where v.surveyVoteSubmission.id = :submissionId and v.surveyCandidate.id in :candidateIds
+            """)
+    int deleteBallots(
+            @Param("submissionId") Long submissionId,
+            @Param("candidateIds") Collection<Long> candidateIds);
+
+    @Modifying
+    @Query("""
+            update SurveyVote v
+            set v.ballotType = :ballotType, v.score = :score, v.updatedAt = :now
+            where v.surveyVoteSubmission.id = :submissionId and v.surveyCandidate.id in :candidateIds
+            """)
+    int updateBallotTypes(
+            @Param("submissionId") Long submissionId,
+            @Param("candidateIds") Collection<Long> candidateIds,
+            @Param("ballotType") BallotType ballotType,
+            @Param("score") Integer score,
+            @Param("now") LocalDateTime now);
+}
@@ -6,7 +6,6 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -26,23 +25,4 @@ public class SurveyVoteSubmissionRepositoryCustomImpl implements SurveyVoteSubmi
                         )
                         .fetchOne());
     }
-
-    @Override
-    public Long getEligibleCountBySurveyId(Long surveyId, List<String> outlaws) {
-        if (outlaws == null || outlaws.isEmpty()) {
-            return queryFactory
-                    .select(surveyVoteSubmission.count())
-                    .from(surveyVoteSubmission)
-                    .where(surveyVoteSubmission.survey.id.eq(surveyId))
-                    .fetchOne();
-        }
-
-        return queryFactory.select(surveyVoteSubmission.count())
-                .from(surveyVoteSubmission)
-                .where(
-                        surveyVoteSubmission.survey.id.eq(surveyId),
-                        surveyVoteSubmission.ipHash.notIn(outlaws)
-                )
-                .fetchOne();
-    }
 }
@@ -4,6 +4,7 @@ import com.duckstar.domain.Quarter;
 import com.duckstar.domain.Week;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -17,4 +18,18 @@ public interface WeekRepository extends JpaRepository<Week, Long>, WeekRepositor
     Optional<Week> findWeekById(Long id);
 
     Optional<Week> findByQuarterAndWeekValue(Quarter quarter, Integer weekValue);
+
+    interface WeekSlotView {
+        Long getWeekId();
+        Integer getYearValue();
+        Integer getQuarterValue();
+        Integer getWeekValue();
+        LocalDateTime getStartDateTime();
+        LocalDateTime getEndDateTime();
+    }
+
+    @Query("select w.id as weekId, q.yearValue as yearValue, q.quarterValue as quarterValue," +
+            " w.weekValue as weekValue, w.startDateTime as startDateTime, w.endDateTime as endDateTime" +
+            " from Week w join w.quarter q")
+    List<WeekSlotView> findAllWeekSlots();
 }
@@ -0,0 +1,28 @@
+package com.duckstar.repository;
+
+import com.duckstar.domain.WeekChartSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface WeekChartSnapshotRepository extends JpaRepository<WeekChartSnapshot, Long> {
+    Optional<WeekChartSnapshot> findByWeek_Id(Long weekId);
+
+    @Modifying
+    @Query("delete from WeekChartSnapshot s where s.week.id = :weekId")
+    int deleteByWeekId(@Param("weekId") Long weekId);
+
+    // 해당 애니가 차트에 오른 주차들
+    @Modifying
+    @Query("""
+            delete from WeekChartSnapshot s
+            where s.week.id in (
+                select e.week.id from Episode e
+                where e.anime.id = :animeId and e.week is not null
+            )
+            """)
+    int deleteByAnimeId(@Param("animeId") Long animeId);
+}
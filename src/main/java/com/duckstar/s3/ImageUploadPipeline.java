@@ -0,0 +1,364 @@
+package com.duckstar.s3;
+
+import com.duckstar.apiPayload.code.status.ErrorStatus;
+import com.duckstar.apiPayload.exception.handler.ImageHandler;
+import com.duckstar.domain.enums.ImageTarget;
+import com.duckstar.repository.ImageUrlPatchRepository;
+import com.duckstar.repository.ImageUrlPatchRepository.PendingPlaceholder;
+import com.duckstar.utils.GifFrameExtractor;
+import com.duckstar.utils.ImageProbe;
+import com.duckstar.utils.ImageProbe.ImageInfo;
+import com.sksamuel.scrimage.ImmutableImage;
+import com.sksamuel.scrimage.webp.WebpWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FilenameUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 이미지 비동기 처리 (댓글/답글 첨부, 프로필)
+ *
+ *  요청 스레드: 크기/형식 검증 -> 임시 파일로 옮김 -> 헤더만 읽어 실제 포맷/해상도 검증 -> 자리표시 URL 로 저장
+ *  처리 스레드: (커밋 이후) WebP 변환 + 긴 변 축소 -> 파일에서 스트리밍 업로드 -> 자리표시 URL 을 실제 URL 로 교체
+ *
+ *  - 자리표시 URL 은 업로드마다 달라서, 그 사이 다른 업로드로 바뀌었으면 교체하지 않고 올린 이미지를 지움
+ *  - 처리 실패 시 결과 핸들러에 null 을 넘김 (댓글은 이미지 없음, 프로필은 이전 이미지로 되돌림)
+ *  - 처리 큐가 가득 차면 요청 스레드에서 직접 처리 (커밋 이후라 트랜잭션은 잡지 않음)
+ *  - 움직이는 GIF 첨부는 그대로 올림 (프로필은 첫 프레임만)
+ *  - 처리 도중 종료 등으로 오래 남은 자리표시 URL 은 주기적으로 비움 (댓글은 이미지 없음, 프로필은 기본 이미지)
+ *  - 지표: image.pipeline.queue, image.pipeline.process{result}, image.pipeline.stale_placeholder
+ */
+@Slf4j
+@Component
+public class ImageUploadPipeline {
+
+    private static final long MAX_FILE_SIZE = 20 * 1024 * 1024;  // 20MB
+    private static final int MAX_RESOLUTION = 4096;
+    private static final int SWEEP_BATCH = 500;
+
+    private static final List<String> ALLOWED_EXT = List.of("jpg", "jpeg", "png", "gif", "webp");
+    private static final List<String> ALLOWED_MIME = List.of("image/jpeg", "image/png", "image/gif", "image/webp");
+    private static final List<String> ALLOWED_FORMAT = List.of("jpeg", "png", "gif", "webp");
+
+    public enum Usage {
+        COMMENT("comments", 1600, true),
+        PROFILE("members", 512, false);
+
+        private final String dir;
+        private final int maxEdge;  // 긴 변 최대 픽셀
+        private final boolean keepAnimatedGif;
+
+        Usage(String dir, int maxEdge, boolean keepAnimatedGif) {
+            this.dir = dir;
+            this.maxEdge = maxEdge;
+            this.keepAnimatedGif = keepAnimatedGif;
+        }
+    }
+
+    /**
+     * 검증을 마치고 임시 파일로 옮겨 둔 업로드
+     */
+    public record StagedImage(Usage usage, Path file, ImageInfo info, String placeholderUrl) {}
+
+    @FunctionalInterface
+    public interface ResultHandler {
+        /**
+         * 처리 결과 반영, 새 트랜잭션 안에서 호출
+         * @param imageUrl 처리된 이미지 URL, 실패면 null
+         * @return 반영했으면 true, 아니면 (이미 다른 이미지로 바뀜 등) 올린 이미지를 지움
+         */
+        boolean apply(String imageUrl);
+    }
+
+    private record Processed(File file, String contentType, String ext) {}
+
+    private final S3Uploader s3Uploader;
+    private final GifFrameExtractor gifFrameExtractor;
+    private final ImageUrlPatchRepository imageUrlPatchRepository;
+    private final TransactionTemplate patchTransaction;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Counter stalePlaceholderCounter;
+
+    @Value("${app.image.placeholder-url:https://img.duckstar.kr/static/processing.webp}")
+    private String placeholderUrl;
+
+    @Value("${app.image.placeholder-sweep.stale-after-ms:1800000}")
+    private long staleAfterMs;
+
+    public ImageUploadPipeline(
+            S3Uploader s3Uploader,
+            GifFrameExtractor gifFrameExtractor,
+            ImageUrlPatchRepository imageUrlPatchRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.image.pipeline.threads:2}") int threads,
+            @Value("${app.image.pipeline.queue-capacity:100}") int queueCapacity
+    ) {
+        this.s3Uploader = s3Uploader;
+        this.gifFrameExtractor = gifFrameExtractor;
+        this.imageUrlPatchRepository = imageUrlPatchRepository;
+
+        this.patchTransaction = new TransactionTemplate(transactionManager);
+        this.patchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-pipeline-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+
+        Gauge.builder("image.pipeline.queue", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        this.successTimer = Timer.builder("image.pipeline.process")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.failureTimer = Timer.builder("image.pipeline.process")
+                .tag("result", "failure")
+                .register(meterRegistry);
+        this.stalePlaceholderCounter = Counter.builder("image.pipeline.stale_placeholder")
+                .register(meterRegistry);
+    }
+
+    //=== 요청 스레드 ===//
+
+    /**
+     * 업로드 검증 후 임시 파일로 옮김 (픽셀 디코딩 없음), 트랜잭션이 롤백되면 임시 파일 삭제
+     */
+    public StagedImage stage(MultipartFile file, Usage usage) {
+        // 파일 크기 검증 (20MB)
+        if (file.getSize() > MAX_FILE_SIZE) {
+            throw new ImageHandler(ErrorStatus.FILE_SIZE_EXCEEDED);
+        }
+
+        String contentType = file.getContentType();
+        if (contentType == null || !contentType.startsWith("image/")) {
+            throw new ImageHandler(ErrorStatus.INVALID_IMAGE_FILE);
+        }
+
+        String ext = FilenameUtils.getExtension(file.getOriginalFilename()).toLowerCase(Locale.ROOT);
+        if (!ALLOWED_EXT.contains(ext) || !ALLOWED_MIME.contains(contentType)) {
+            throw new ImageHandler(ErrorStatus.UNSUPPORTED_IMAGE_EXTENSION);
+        }
+
+        // 디스크에 받아 둔 multipart 면 옮기기만 함
+        Path tmp;
+        try {
+            tmp = Files.createTempFile("duckstar-upload-", "." + ext);
+            file.transferTo(tmp);
+        } catch (IOException e) {
+            throw new ImageHandler(ErrorStatus.S3_FILE_UPLOAD_FAILURE);
+        }
+
+        try {
+            ImageInfo info = ImageProbe.probe(tmp.toFile())
+                    .orElseThrow(() -> new ImageHandler(ErrorStatus.INVALID_IMAGE_FILE));
+            if (!ALLOWED_FORMAT.contains(info.format())) {
+                throw new ImageHandler(ErrorStatus.UNSUPPORTED_IMAGE_EXTENSION);
+            }
+            // 이미지 해상도 검증 (최대 4096x4096)
+            if (info.width() > MAX_RESOLUTION || info.height() > MAX_RESOLUTION) {
+                throw new ImageHandler(ErrorStatus.IMAGE_RESOLUTION_TOO_HIGH);
+            }
+
+            StagedImage staged = new StagedImage(usage, tmp, info, placeholderUrl + "?upload=" + UUID.randomUUID());
+            deleteOnRollback(staged);
+            return staged;
+
+        } catch (RuntimeException e) {
+            deleteQuietly(tmp);
+            throw e;
+        }
+    }
+
+    /**
+     * 처리 중인 자리표시로 적어 두고 (트랜잭션 안이면 같이 커밋), 커밋 이후 처리 시작
+     * @param fallbackUrl 멈췄을 때 되돌릴 URL (프로필의 이전 사진), 없으면 null
+     */
+    public void processAfterCommit(
+            StagedImage staged,
+            ImageTarget target,
+            Long targetId,
+            String fallbackUrl,
+            ResultHandler handler
+    ) {
+        imageUrlPatchRepository.trackPending(target, targetId, staged.placeholderUrl(),
+                isPlaceholder(fallbackUrl) ? null : fallbackUrl);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(staged, handler);
+                }
+            });
+        } else {
+            submit(staged, handler);
+        }
+    }
+
+    public boolean isPlaceholder(String url) {
+        return url != null && url.startsWith(placeholderUrl + "?upload=");
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("이미지 처리 종료 대기 초과 - 남은 작업 {}건은 자리표시 URL 로 남음", executor.getQueue().size());
+        }
+    }
+
+    //=== 처리 스레드 ===//
+
+    private void submit(StagedImage staged, ResultHandler handler) {
+        executor.execute(() -> process(staged, handler));
+    }
+
+    private void process(StagedImage staged, ResultHandler handler) {
+        long startedAt = System.nanoTime();
+        File output = null;
+        String imageUrl = null;
+        try {
+            Processed processed = transcode(staged);
+            output = processed.file();
+
+            String key = staged.usage().dir + "/" + UUID.randomUUID() + "." + processed.ext();
+            imageUrl = s3Uploader.upload(processed.file(), key, processed.contentType());
+
+        } catch (Exception e) {
+            log.warn("이미지 처리 실패 - usage={}, format={}, {}x{}", staged.usage(),
+                    staged.info().format(), staged.info().width(), staged.info().height(), e);
+        } finally {
+            deleteQuietly(staged.file());
+            if (output != null) deleteQuietly(output.toPath());
+        }
+
+        String result = imageUrl;
+        try {
+            Boolean applied = patchTransaction.execute(status -> {
+                imageUrlPatchRepository.untrackPending(staged.placeholderUrl());
+                return handler.apply(result);
+            });
+            if (result != null && !Boolean.TRUE.equals(applied)) {
+                s3Uploader.delete(result);
+            }
+        } catch (Exception e) {
+            log.error("이미지 URL 교체 실패 - usage={}, url={}", staged.usage(), result, e);
+        }
+
+        (result != null ? successTimer : failureTimer)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private Processed transcode(StagedImage staged) throws IOException {
+        File source = staged.file().toFile();
+        Usage usage = staged.usage();
+        boolean isGif = staged.info().format().equals("gif");
+
+        if (isGif && usage.keepAnimatedGif) {
+            return new Processed(source, "image/gif", "gif");
+        }
+
+        ImmutableImage image = isGif ?
+                ImmutableImage.fromAwt(gifFrameExtractor.extractFirstFrame(source)) :
+                ImmutableImage.loader().fromFile(source);
+
+        if (image.width > usage.maxEdge || image.height > usage.maxEdge) {
+            image = image.bound(usage.maxEdge, usage.maxEdge);
+        }
+
+        File output = Files.createTempFile("duckstar-processed-", ".webp").toFile();
+        image.output(WebpWriter.DEFAULT.withQ(80), output);  // 품질 80%
+        return new Processed(output, "image/webp", "webp");
+    }
+
+    //=== 멈춘 자리표시 정리 ===//
+
+    /**
+     * 처리 큐는 메모리에만 있어서 종료/장애 시 작업이 사라짐 -> 기동 직후와 이후 주기적으로,
+     * staleAfterMs 넘게 처리 중으로 남은 자리표시를 되돌림 (그 뒤 늦게 끝난 처리는 교체 0 행 -> 올린 이미지 삭제)
+     *  - pending_image_placeholder 의 created_at 범위만 읽음, 한 번에 SWEEP_BATCH 개씩
+     */
+    @Scheduled(
+            initialDelayString = "${app.image.placeholder-sweep.initial-delay-ms:60000}",
+            fixedDelayString = "${app.image.placeholder-sweep.interval-ms:600000}"
+    )
+    public void sweepStalePlaceholders() {
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(staleAfterMs * 1_000_000);
+        try {
+            int cleared = 0;
+            List<PendingPlaceholder> stale;
+            do {
+                stale = imageUrlPatchRepository.findStalePending(cutoff, SWEEP_BATCH);
+                for (PendingPlaceholder pending : stale) {
+                    Integer count = patchTransaction.execute(status ->
+                            imageUrlPatchRepository.clearPending(pending));
+                    cleared += count == null ? 0 : count;
+                }
+            } while (stale.size() == SWEEP_BATCH);
+
+            if (cleared > 0) {
+                stalePlaceholderCounter.increment(cleared);
+                log.warn("처리되지 않은 자리표시 이미지 {}건 정리", cleared);
+            }
+        } catch (Exception e) {
+            log.error("자리표시 이미지 정리 실패", e);
+        }
+    }
+
+    //=== 내부 ===//
+
+    private void deleteOnRollback(StagedImage staged) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) deleteQuietly(staged.file());
+            }
+        });
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패 - {}", path, e);
+        }
+    }
+}
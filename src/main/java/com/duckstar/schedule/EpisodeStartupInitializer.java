@@ -1,6 +1,5 @@
 package com.duckstar.schedule;
 
-import com.duckstar.service.EpisodeService.EpisodeCommandService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Profile;
@@ -14,13 +13,11 @@ import java.time.LocalDateTime;
 @Profile("!test")
 public class EpisodeStartupInitializer {
 
-    private final EpisodeCommandService episodeCommandService;
     private final ScheduleHandler scheduleHandler;
+    private final EpisodeStateReconciler episodeStateReconciler;
 
     @EventListener(ApplicationReadyEvent.class)
     public void onReady() {
-        episodeCommandService.updateAllEpisodeStates();
-
         // 이번 주 Week 없다면 생성
         LocalDateTime now = LocalDateTime.now();
         scheduleHandler.getSafeWeekByTime(now);
@@ -28,5 +25,8 @@ public class EpisodeStartupInitializer {
         // 지난 주 Week 없다면 생성
         LocalDateTime nowMinusWeek = LocalDateTime.now().minusWeeks(1);
         scheduleHandler.getSafeWeekByTime(nowMinusWeek);
+
+        // 에피소드 상태 정합성 맞춘 뒤 상태 전이 시작 (비동기)
+        episodeStateReconciler.reconcileAndStartTimeline();
     }
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.duckstar.schedule;
+
+import com.duckstar.repository.Episode.EpisodeStateBatchRepository;
+import com.duckstar.util.QuarterUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.function.IntSupplier;
+
+/**
+ * 기동 시 에피소드 평가 상태 정합성 맞추기
+ *
+ *  - 전체 에피소드를 엔티티로 읽어 하나씩 갱신하지 않고,
+ *    scheduled_at 범위별 UPDATE 몇 개로 계산된 상태와 다른 행만 고친다.
+ *      방영 전              -> CLOSED
+ *      방영 ~ 36시간         -> VOTING_WINDOW
+ *      이번 주차, 36시간 이후 -> LOGIN_REQUIRED
+ *      지난 주차, 미마감     -> LOGIN_REQUIRED (ALWAYS_OPEN 은 유지)
+ *  - ApplicationReadyEvent 를 막지 않도록 비동기로 돌고, 끝나면 상태 전이 타임라인을 시작한다.
+ */
+@Slf4j
+@Component
+public class EpisodeStateReconciler {
+
+    private final EpisodeStateBatchRepository stateBatchRepository;
+    private final EpisodeStateTimeline episodeStateTimeline;
+    private final TransactionTemplate transactionTemplate;
+
+    public EpisodeStateReconciler(
+            EpisodeStateBatchRepository stateBatchRepository,
+            EpisodeStateTimeline episodeStateTimeline,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.stateBatchRepository = stateBatchRepository;
+        this.episodeStateTimeline = episodeStateTimeline;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Async
+    public void reconcileAndStartTimeline() {
+        try {
+            reconcile(LocalDateTime.now());
+        } catch (Exception e) {
+            log.error("에피소드 상태 정합성 맞추기 실패", e);
+        } finally {
+            episodeStateTimeline.start();
+        }
+    }
+
+    public void reconcile(LocalDateTime now) {
+        LocalDateTime weekStartedAt = QuarterUtil.getThisWeekStartedAt(now);
+        long startedAt = System.nanoTime();
+
+        int upcoming = step("방영 전 -> CLOSED",
+                () -> stateBatchRepository.reconcileUpcoming(now));
+        int votingWindow = step("실시간 투표 -> VOTING_WINDOW",
+                () -> stateBatchRepository.reconcileVotingWindow(now));
+        int thisWeek = step("이번 주차 -> LOGIN_REQUIRED",
+                () -> stateBatchRepository.reconcileThisWeekLoginRequired(weekStartedAt, now));
+        int pastWeeks = step("지난 주차 미마감 -> LOGIN_REQUIRED",
+                () -> stateBatchRepository.reconcilePastWeeksLoginRequired(weekStartedAt, now));
+
+        log.info("에피소드 상태 정합성 완료 - 변경 {}행 ({}ms)",
+                upcoming + votingWindow + thisWeek + pastWeeks,
+                (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private int step(String name, IntSupplier update) {
+        long startedAt = System.nanoTime();
+
+        // 단계마다 바로 커밋 (긴 트랜잭션으로 행 잠금을 오래 잡지 않도록)
+        Integer count = transactionTemplate.execute(status -> update.getAsInt());
+        int changed = count != null ? count : 0;
+
+        log.info("에피소드 상태 정합성 [{}] - 변경 {}행 ({}ms)",
+                name, changed, (System.nanoTime() - startedAt) / 1_000_000);
+        return changed;
+    }
+}
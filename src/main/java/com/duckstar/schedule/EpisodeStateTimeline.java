@@ -0,0 +1,210 @@
+package com.duckstar.schedule;
+
+import com.duckstar.repository.Episode.EpisodeStateBatchRepository;
+import com.duckstar.repository.Episode.EpisodeStateBatchRepository.TransitionRef;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 에피소드 상태 전이 타임라인
+ *
+ *  - 매 분 ±30초 윈도우를 조회하던 방식 대신, 가까운 미래(horizon) 의 전이 시각만 우선순위 큐에 올려두고
+ *    시각이 된 전이를 종류별 id 목록 UPDATE 한 번으로 실행한다.
+ *      방영 시작        : CLOSED -> VOTING_WINDOW, 첫 화면 애니 UPCOMING -> NOW_SHOWING
+ *      방영 24분 후     : 마지막 화면 애니 NOW_SHOWING -> ENDED
+ *      방영 36시간 후   : VOTING_WINDOW -> LOGIN_REQUIRED
+ *    (주차 마감 ALWAYS_OPEN 은 집계와 함께 ChartService.buildDuckstars 에서 전이)
+ *  - 기동 시 catch-up-hours 만큼 과거의 전이도 함께 올리므로,
+ *    다운타임 동안 놓친 전이는 첫 실행에서 종류별 UPDATE 한 번으로 따라잡는다.
+ *  - UPDATE 마다 현재 상태와 scheduled_at 을 다시 확인하므로 큐가 오래되었거나 중복되어도 안전하다.
+ *    일정 변경/에피소드 생성 시에는 requestReload() 로 큐를 다시 채운다.
+ */
+@Slf4j
+@Component
+public class EpisodeStateTimeline {
+
+    enum Transition {
+        PREMIERED(Duration.ZERO),
+        PREMIERE_FINISHED(Duration.ofMinutes(24)),
+        LIVE_VOTE_CLOSED(Duration.ofHours(36));
+
+        private final Duration offset;
+
+        Transition(Duration offset) {
+            this.offset = offset;
+        }
+    }
+
+    record Entry(LocalDateTime at, Long episodeId, Transition transition) {}
+
+    private static final Duration MAX_OFFSET = Transition.LIVE_VOTE_CLOSED.offset;
+
+    private final EpisodeStateBatchRepository stateBatchRepository;
+    private final TransactionTemplate transitionTransaction;
+
+    @Value("${app.episode.timeline.horizon-hours:6}")
+    private long horizonHours;
+
+    @Value("${app.episode.timeline.catch-up-hours:168}")
+    private long catchUpHours;
+
+    @Value("${app.episode.timeline.reload-interval-minutes:10}")
+    private long reloadIntervalMinutes;
+
+    private final PriorityQueue<Entry> queue =
+            new PriorityQueue<>(Comparator.comparing(Entry::at));
+
+    private volatile boolean started = false;
+    private volatile boolean reloadRequested = false;
+
+    private LocalDateTime firedUntil;   // 이 시각까지의 전이는 실행 완료
+    private LocalDateTime loadedUntil;  // 큐에 올라간 전이 시각의 상한 (미포함)
+    private LocalDateTime loadedAt;
+
+    public EpisodeStateTimeline(
+            EpisodeStateBatchRepository stateBatchRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.stateBatchRepository = stateBatchRepository;
+        this.transitionTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 기동 후 한 번 호출 (EpisodeStateReconciler 정합성 맞추기 이후)
+     */
+    public void start() {
+        start(LocalDateTime.now());
+    }
+
+    synchronized void start(LocalDateTime now) {
+        firedUntil = now.minusHours(catchUpHours);
+        loadedUntil = now;
+        loadedAt = now;
+        reloadRequested = true;
+        started = true;
+
+        // 놓친 전이 따라잡기 (실패해도 다음 tick 에서 재시도)
+        tick(now);
+    }
+
+    /**
+     * 에피소드 일정이 바뀌거나 새로 생기면 호출
+     *  - 트랜잭션 안이면 커밋 이후 다음 tick 에서 다시 조회
+     */
+    public void requestReload() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reloadRequested = true;
+                }
+            });
+        } else {
+            reloadRequested = true;
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.episode.timeline.tick-ms:1000}",
+            fixedDelayString = "${app.episode.timeline.tick-ms:1000}"
+    )
+    public void tick() {
+        tick(LocalDateTime.now());
+    }
+
+    synchronized void tick(LocalDateTime now) {
+        if (!started) return;
+
+        try {
+            boolean isHorizonNear = !now.plusHours(horizonHours / 2).isBefore(loadedUntil);
+            boolean isStale = !now.isBefore(loadedAt.plusMinutes(reloadIntervalMinutes));
+            if (reloadRequested || isHorizonNear || isStale) {
+                reloadRequested = false;
+                load(now);
+            }
+
+            fireDue(now);
+        } catch (Exception e) {
+            log.warn("에피소드 상태 전이 실패 - 다음 tick 에서 재시도", e);
+        }
+    }
+
+    /**
+     * 전이 시각이 (firedUntil, now + horizon) 인 전이를 큐에 올린다.
+     */
+    private void load(LocalDateTime now) {
+        LocalDateTime until = now.plusHours(horizonHours);
+
+        List<TransitionRef> refs = stateBatchRepository.findTransitionRefs(
+                firedUntil.minus(MAX_OFFSET), until);
+
+        queue.clear();
+        for (TransitionRef ref : refs) {
+            for (Transition transition : Transition.values()) {
+                LocalDateTime at = ref.scheduledAt().plus(transition.offset);
+                if (at.isAfter(firedUntil) && at.isBefore(until)) {
+                    queue.add(new Entry(at, ref.episodeId(), transition));
+                }
+            }
+        }
+
+        loadedUntil = until;
+        loadedAt = now;
+    }
+
+    private void fireDue(LocalDateTime now) {
+        Entry head = queue.peek();
+        if (head == null || head.at().isAfter(now)) {
+            firedUntil = now;
+            return;
+        }
+
+        //=== 시각이 된 전이를 종류별로 모으기 ===//
+        List<Entry> due = new ArrayList<>();
+        Map<Transition, Set<Long>> idsMap = new EnumMap<>(Transition.class);
+        for (Transition transition : Transition.values()) {
+            idsMap.put(transition, new HashSet<>());
+        }
+        while (!queue.isEmpty() && !queue.peek().at().isAfter(now)) {
+            Entry entry = queue.poll();
+            due.add(entry);
+            idsMap.get(entry.transition()).add(entry.episodeId());
+        }
+
+        //=== 종류별 UPDATE 한 번씩 ===//
+        int[] counts;
+        try {
+            counts = transitionTransaction.execute(status -> {
+                Set<Long> premiered = idsMap.get(Transition.PREMIERED);
+                Set<Long> premiereFinished = idsMap.get(Transition.PREMIERE_FINISHED);
+                Set<Long> liveVoteClosed = idsMap.get(Transition.LIVE_VOTE_CLOSED);
+
+                return new int[]{
+                        stateBatchRepository.openVotingWindow(premiered, now),
+                        stateBatchRepository.startShowing(premiered, now),
+                        stateBatchRepository.endShowing(premiereFinished, now),
+                        stateBatchRepository.requireLogin(liveVoteClosed, now)
+                };
+            });
+        } catch (RuntimeException e) {
+            queue.addAll(due);  // 다음 tick 에서 재시도
+            throw e;
+        }
+        firedUntil = now;
+
+        if (counts != null && Arrays.stream(counts).anyMatch(c -> c > 0)) {
+            log.info("에피소드 상태 전이 - 투표 시작 {}, 방영 시작 애니 {}, 종영 애니 {}, 실시간 투표 종료 {}",
+                    counts[0], counts[1], counts[2], counts[3]);
+        }
+    }
+}
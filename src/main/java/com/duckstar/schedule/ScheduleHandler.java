@@ -2,7 +2,6 @@ package com.duckstar.schedule;
 
 import com.duckstar.domain.Quarter;
 import com.duckstar.domain.Week;
-import com.duckstar.service.AnimeService.AnimeCommandService;
 import com.duckstar.service.QuarterService;
 import com.duckstar.service.SurveyService;
 import com.duckstar.service.WeekService;
@@ -25,16 +24,9 @@ public class ScheduleHandler {
     private static final int ANCHOR_HOUR = 18;
 
     private final WeekService weekService;
-    private final AnimeCommandService animeCommandService;
     private final SurveyService surveyService;
     private final QuarterService quarterService;
 
-    // 매 분마다 시작 or 종영 체크
-    @Scheduled(cron = "0 * * * * *")
-    public void checkAnimeStatus() {
-        animeCommandService.updateStatesByWindows();
-    }
-
     // ⚠️확장할 때 주의 : 매 1시간마다 서베이 상태 체크
     @Scheduled(cron = "0 0 * * * *")
     public void checkSurveyStatus() {
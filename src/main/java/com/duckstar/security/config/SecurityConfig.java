@@ -4,6 +4,7 @@ import com.duckstar.security.jwt.JwtAuthenticationFilter;
 import com.duckstar.security.oauth2.CustomOAuth2AccessTokenResponseConverter;
 import com.duckstar.security.oauth2.CustomOAuth2UserService;
 import com.duckstar.security.oauth2.UserLoginSuccessHandler;
+import com.duckstar.security.ratelimit.RateLimitFilter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -44,6 +45,7 @@ public class SecurityConfig {
     private final CustomOAuth2UserService customOAuth2UserService;
     private final UserLoginSuccessHandler userLoginSuccessHandler;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     @Bean
     public OAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> customAccessTokenResponseClient() {
@@ -147,6 +149,9 @@ public class SecurityConfig {
 
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
 
+                        // 캐시 등 지표 조회
+                        .requestMatchers("/actuator/metrics/**").hasRole("ADMIN")
+
                         .anyRequest().authenticated()
                 )
                 .oauth2Login(oauth ->
@@ -164,7 +169,9 @@ public class SecurityConfig {
                                 )
                 )
                 // JWT 검증 필터 (모든 요청에서 AccessToken 확인)
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // 투표/인증 API 요청 수 제한 (회원 키를 쓰므로 JWT 필터 다음)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -4,7 +4,6 @@ import com.duckstar.apiPayload.ApiResponse;
 import com.duckstar.apiPayload.code.status.ErrorStatus;
 import com.duckstar.apiPayload.exception.handler.AuthHandler;
 import com.duckstar.domain.Member;
-import com.duckstar.security.jwt.JwtTokenProvider;
 import com.duckstar.security.MemberPrincipal;
 import com.duckstar.security.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -16,7 +15,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.Duration;
 import java.util.Map;
 
 @Slf4j
@@ -26,23 +24,10 @@ import java.util.Map;
 public class AuthController {
 
     private final AuthService authService;
-    private final JwtTokenProvider jwtTokenProvider;
-    private final SimpleRateLimiter rateLimiter;
 
     @Operation(summary = "Refresh Token 재발급 API")
     @PostMapping("/token/refresh")
     public ResponseEntity<Map<String, String>> refresh(HttpServletRequest request) {
-        String clientIp = request.getRemoteAddr();
-
-        // refresh token 파싱 → memberId 얻기
-        String refreshToken = jwtTokenProvider.resolveFromCookie(request, "REFRESH_TOKEN");
-        Long memberId = jwtTokenProvider.extractMemberId(refreshToken);
-
-        if (!rateLimiter.isAllowedByIp(clientIp, 10, Duration.ofMinutes(1)) ||
-                !rateLimiter.isAllowedByUser(memberId, 10, Duration.ofMinutes(1))) {
-            throw new AuthHandler(ErrorStatus.TOO_MANY_REQUESTS);
-        }
-
         return authService.refresh(request);
     }
 
@@ -51,12 +36,6 @@ public class AuthController {
             " 프론트는 해당 시간만큼 중복 투표 방지 화면을 띄움.")
     @PostMapping("/logout")
     public ApiResponse<Long> logout(HttpServletRequest request, HttpServletResponse response) {
-        String clientIp = request.getRemoteAddr();
-
-        if (!rateLimiter.isAllowedByIp(clientIp, 30, Duration.ofMinutes(1))) {
-            throw new AuthHandler(ErrorStatus.TOO_MANY_REQUESTS);
-        }
-
         return ApiResponse.onSuccess(authService.logout(request, response));
     }
 
@@ -70,10 +49,6 @@ public class AuthController {
             throw new AuthHandler(ErrorStatus.PRINCIPAL_NOT_FOUND);
 
         Long memberId = principal.getId();
-        if (!rateLimiter.isAllowedByUser(memberId, 10, Duration.ofMinutes(1))) {
-            throw new AuthHandler(ErrorStatus.TOO_MANY_REQUESTS);
-        }
-
         authService.withdrawKakao(response, memberId);
         return ResponseEntity.ok().build();
     }
@@ -107,10 +82,6 @@ public class AuthController {
             throw new AuthHandler(ErrorStatus.PRINCIPAL_NOT_FOUND);
 
         Long memberId = principal.getId();
-        if (!rateLimiter.isAllowedByUser(memberId, 10, Duration.ofMinutes(1))) {
-            throw new AuthHandler(ErrorStatus.TOO_MANY_REQUESTS);
-        }
-
         authService.withdrawGoogle(response, memberId);
         return ResponseEntity.ok().build();
     }
@@ -125,10 +96,6 @@ public class AuthController {
             throw new AuthHandler(ErrorStatus.PRINCIPAL_NOT_FOUND);
 
         Long memberId = principal.getId();
-        if (!rateLimiter.isAllowedByUser(memberId, 10, Duration.ofMinutes(1))) {
-            throw new AuthHandler(ErrorStatus.TOO_MANY_REQUESTS);
-        }
-
         authService.withdrawNaver(response, memberId);
         return ResponseEntity.ok().build();
     }
@@ -0,0 +1,256 @@
+package com.duckstar.security.jwt;
+
+import com.duckstar.apiPayload.code.status.ErrorStatus;
+import com.duckstar.apiPayload.exception.handler.MemberHandler;
+import com.duckstar.security.MemberPrincipal;
+import com.duckstar.security.repository.MemberRepository;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JWT 인증 캐시 (요청마다 서명 검증 + 회원 조회를 반복하지 않도록)
+ *
+ *  - 토큰 캐시: 토큰 SHA-256 -> 검증된 클레임 (memberId, 종류, 만료 시각)
+ *    보관 기간은 token-ttl 과 토큰 만료 중 빠른 쪽, 검증 실패한 토큰은 넣지 않는다.
+ *  - 회원 캐시: memberId -> MemberPrincipal (권한), 짧은 TTL
+ *    탈퇴/복구/로그아웃 시 evictMember 로 비운다. (트랜잭션 안이면 커밋 이후)
+ *  - 지표: cache.gets{cache=auth.token|auth.principal, result=hit|miss},
+ *    auth.member.lookups, auth.member.lookups.per.request (인증된 요청당 회원 조회 수, 정상 상태면 0)
+ */
+@Component
+public class JwtAuthenticationCache {
+
+    public record VerifiedToken(Long memberId, boolean isAccessToken, long expiresAt) {}
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final MemberRepository memberRepository;
+
+    private final long tokenTtlMillis;
+    private final long principalTtlMillis;
+
+    private final ConcurrentTtlMap<String, VerifiedToken> tokens;
+    private final ConcurrentTtlMap<Long, MemberPrincipal> principals;
+
+    private final Counter memberLookupCounter;
+    private final DistributionSummary lookupsPerRequest;
+
+    public JwtAuthenticationCache(
+            JwtTokenProvider jwtTokenProvider,
+            MemberRepository memberRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.auth.cache.token-max-size:100000}") int tokenMaxSize,
+            @Value("${app.auth.cache.token-ttl-seconds:600}") long tokenTtlSeconds,
+            @Value("${app.auth.cache.principal-max-size:50000}") int principalMaxSize,
+            @Value("${app.auth.cache.principal-ttl-seconds:60}") long principalTtlSeconds
+    ) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.memberRepository = memberRepository;
+        this.tokenTtlMillis = tokenTtlSeconds * 1000L;
+        this.principalTtlMillis = principalTtlSeconds * 1000L;
+
+        this.tokens = new ConcurrentTtlMap<>("auth.token", tokenMaxSize, meterRegistry);
+        this.principals = new ConcurrentTtlMap<>("auth.principal", principalMaxSize, meterRegistry);
+
+        this.memberLookupCounter = Counter.builder("auth.member.lookups")
+                .register(meterRegistry);
+        this.lookupsPerRequest = DistributionSummary.builder("auth.member.lookups.per.request")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 검증된 클레임 (만료/발급자 불일치면 null, 서명 오류는 AuthHandler)
+     */
+    public VerifiedToken verify(String token) {
+        String key = digest(token);
+        long now = System.currentTimeMillis();
+
+        VerifiedToken cached = tokens.get(key, now);
+        if (cached != null) return cached;
+
+        long generation = tokens.generation();
+        Claims claims = jwtTokenProvider.parseVerifiedClaims(token);
+        if (claims == null) return null;
+
+        VerifiedToken verified = new VerifiedToken(
+                Long.valueOf(claims.getSubject()),
+                jwtTokenProvider.isAccessToken(claims),
+                claims.getExpiration().getTime()
+        );
+        tokens.put(key, verified, Math.min(now + tokenTtlMillis, verified.expiresAt()), generation);
+        return verified;
+    }
+
+    /**
+     * 인증된 요청마다 한 번 호출
+     */
+    public MemberPrincipal getPrincipal(Long memberId) {
+        long now = System.currentTimeMillis();
+
+        MemberPrincipal cached = principals.get(memberId, now);
+        if (cached != null) {
+            lookupsPerRequest.record(0);
+            return cached;
+        }
+
+        // 조회 도중 비우기가 일어나면 조회 결과는 넣지 않음 (비우기 전 권한이 남는 것 방지)
+        long generation = principals.generation();
+        memberLookupCounter.increment();
+        lookupsPerRequest.record(1);
+
+        MemberPrincipal principal = memberRepository.findById(memberId)
+                .map(MemberPrincipal::of)
+                .orElseThrow(() -> new MemberHandler(ErrorStatus.MEMBER_NOT_FOUND));
+
+        principals.put(memberId, principal, now + principalTtlMillis, generation);
+        return principal;
+    }
+
+    /**
+     * 권한/상태가 바뀌었을 때 (탈퇴, 복구, 로그아웃)
+     */
+    public void evictMember(Long memberId) {
+        if (memberId == null) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    principals.remove(memberId);
+                }
+            });
+        } else {
+            principals.remove(memberId);
+        }
+    }
+
+    public void evictToken(String token) {
+        if (token == null) return;
+        tokens.remove(digest(token));
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 항목별 만료 시각이 있는 ConcurrentHashMap (요청마다 거치므로 조회에 잠금 없음)
+     *  - 크기를 넘으면 넣는 쪽 하나가 정리: 만료된 것부터, 그래도 넘치면 임의로 max-size 의 90% 까지
+     *  - 조회 도중 비우기가 일어나면 그 조회 결과는 넣지 않음 (넣은 직후 세대가 바뀌었으면 되돌림)
+     */
+    private static final class ConcurrentTtlMap<K, V> {
+
+        private record Entry<V>(V value, long expiresAt) {}
+
+        private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+        private final int maxSize;
+        private final AtomicLong generation = new AtomicLong();
+        private final AtomicBoolean trimming = new AtomicBoolean();
+
+        private final Counter hitCounter;
+        private final Counter missCounter;
+        private final Counter evictionCounter;
+
+        private ConcurrentTtlMap(String name, int maxSize, MeterRegistry meterRegistry) {
+            this.maxSize = maxSize;
+
+            this.hitCounter = Counter.builder("cache.gets")
+                    .tag("cache", name).tag("result", "hit")
+                    .register(meterRegistry);
+            this.missCounter = Counter.builder("cache.gets")
+                    .tag("cache", name).tag("result", "miss")
+                    .register(meterRegistry);
+            this.evictionCounter = Counter.builder("cache.evictions")
+                    .tag("cache", name)
+                    .register(meterRegistry);
+            Gauge.builder("cache.size", entries, Map::size)
+                    .tag("cache", name)
+                    .register(meterRegistry);
+        }
+
+        private V get(K key, long now) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && entry.expiresAt() <= now) {
+                if (entries.remove(key, entry)) evictionCounter.increment();
+                entry = null;
+            }
+
+            if (entry == null) {
+                missCounter.increment();
+                return null;
+            }
+            hitCounter.increment();
+            return entry.value();
+        }
+
+        private void put(K key, V value, long expiresAt, long loadGeneration) {
+            if (generation.get() != loadGeneration) return;
+
+            Entry<V> entry = new Entry<>(value, expiresAt);
+            entries.put(key, entry);
+            if (generation.get() != loadGeneration) {
+                entries.remove(key, entry);
+                return;
+            }
+
+            if (entries.size() > maxSize) trim(System.currentTimeMillis());
+        }
+
+        private void remove(K key) {
+            // 세대를 먼저 올려야 이 사이에 넣은 조회 결과도 put 에서 되돌려짐
+            generation.incrementAndGet();
+            if (entries.remove(key) != null) evictionCounter.increment();
+        }
+
+        private long generation() {
+            return generation.get();
+        }
+
+        private void trim(long now) {
+            if (!trimming.compareAndSet(false, true)) return;
+            try {
+                int evicted = 0;
+                Iterator<Map.Entry<K, Entry<V>>> it = entries.entrySet().iterator();
+                while (it.hasNext()) {
+                    if (it.next().getValue().expiresAt() <= now) {
+                        it.remove();
+                        evicted++;
+                    }
+                }
+
+                int target = maxSize - maxSize / 10;
+                it = entries.entrySet().iterator();
+                while (entries.size() > target && it.hasNext()) {
+                    it.next();
+                    it.remove();
+                    evicted++;
+                }
+                if (evicted > 0) evictionCounter.increment(evicted);
+            } finally {
+                trimming.set(false);
+            }
+        }
+    }
+}
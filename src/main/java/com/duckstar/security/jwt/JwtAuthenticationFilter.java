@@ -1,11 +1,7 @@
 package com.duckstar.security.jwt;
 
-import com.duckstar.apiPayload.code.status.ErrorStatus;
-import com.duckstar.apiPayload.exception.handler.MemberHandler;
-import com.duckstar.domain.Member;
 import com.duckstar.security.MemberPrincipal;
-import com.duckstar.security.repository.MemberRepository;
-import io.jsonwebtoken.Claims;
+import com.duckstar.security.jwt.JwtAuthenticationCache.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -28,7 +24,7 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final MemberRepository memberRepository;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
 
     @Override
     protected void doFilterInternal(
@@ -43,34 +39,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (token != null) {
             try {
 
-                // 2. 토큰 검증
-                if (jwtTokenProvider.validateToken(token)) {
-                    Claims claims = jwtTokenProvider.parseClaims(token);
+                // 2. 토큰 검증 (같은 토큰은 캐시된 검증 결과 사용)
+                VerifiedToken verified = jwtAuthenticationCache.verify(token);
 
-                    if (jwtTokenProvider.isAccessToken(claims)) {
-                        Long memberId = Long.valueOf(claims.getSubject());
+                if (verified != null && verified.isAccessToken()) {
+                    Long memberId = verified.memberId();
 
-                        // 3. DB 조회 (권한 포함)
-                        Member member = memberRepository.findById(memberId)
-                                .orElseThrow(() -> new MemberHandler(ErrorStatus.MEMBER_NOT_FOUND));
+                    // 3. 권한 조회 (짧게 캐시, 놓치면 DB 조회)
+                    MemberPrincipal principal = jwtAuthenticationCache.getPrincipal(memberId);
 
-                        MemberPrincipal principal = MemberPrincipal.of(member);
+                    // 4. Authentication 객체 생성
+                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                            principal,
+                            null,
+                            principal.getAuthorities()
+                    );
 
-                        // 4. Authentication 객체 생성
-                        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                                principal,
-                                null,
-                                principal.getAuthorities()
-                        );
+                    authentication.setDetails(
+                            new WebAuthenticationDetailsSource().buildDetails(request)
+                    );
 
-                        authentication.setDetails(
-                                new WebAuthenticationDetailsSource().buildDetails(request)
-                        );
-
-                        // 5. SecurityContext에 저장
-                        SecurityContextHolder.getContext().setAuthentication(authentication);
-                        log.debug("✅ JWT 인증 성공 - memberId={}", memberId);
-                    }
+                    // 5. SecurityContext에 저장
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    log.debug("✅ JWT 인증 성공 - memberId={}", memberId);
                 }
 
             } catch (Exception e) {
@@ -61,8 +61,15 @@ public class JwtTokenProvider {
     }
 
     public boolean validateToken(String token) {
+        return parseVerifiedClaims(token) != null;
+    }
+
+    /**
+     * 파싱(서명 확인) 한 번으로 만료/발급자까지 검증 (검증 실패 시 null)
+     */
+    public Claims parseVerifiedClaims(String token) {
         Claims claims = parseClaims(token);
-        return validateClaims(claims);
+        return validateClaims(claims) ? claims : null;
     }
 
     public Claims parseClaims(String token) {
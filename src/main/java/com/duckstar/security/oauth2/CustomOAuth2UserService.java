@@ -6,6 +6,7 @@ import com.duckstar.domain.Member;
 import com.duckstar.security.MemberPrincipal;
 import com.duckstar.security.domain.enums.MemberStatus;
 import com.duckstar.security.domain.enums.OAuthProvider;
+import com.duckstar.security.jwt.JwtAuthenticationCache;
 import com.duckstar.security.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +27,7 @@ import java.util.UUID;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final MemberRepository memberRepository;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
 
     @Override
     @Transactional
@@ -69,6 +71,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
                 .map(m -> {
                     if (m.getStatus() == MemberStatus.INACTIVE) {
                         m.restore(oauthProvider, providerId, nickname, profileImageUrl);
+                        jwtAuthenticationCache.evictMember(m.getId());
                     }
                     return m;
                 })
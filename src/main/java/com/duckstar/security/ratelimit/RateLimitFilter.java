@@ -0,0 +1,162 @@
+package com.duckstar.security.ratelimit;
+
+import com.duckstar.apiPayload.ApiResponse;
+import com.duckstar.apiPayload.code.status.ErrorStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 투표/인증 API 요청 수 제한 (JwtAuthenticationFilter 다음, 회원 정보가 있는 상태에서 실행)
+ *
+ *  - 규칙마다 경로 + (선택) 메서드 + 키 종류 + 분당 허용 수, 규칙마다 별도 RateLimiter
+ *  - 하나라도 넘으면 429 + Retry-After(초), 본문은 ApiResponse 실패 형식 (AUTH4291)
+ *    거절된 요청은 앞 규칙에서 받은 토큰을 돌려줌 (거절된 요청이 다른 버킷을 깎지 않게)
+ *  - 지표: rate.limit.rejected{rule}, rate.limit.keys{rule}
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private record Rule(
+            String name,
+            String pattern,
+            HttpMethod method,  // null 이면 모든 메서드
+            RateLimitKeyExtractor keyExtractor,
+            RateLimiter limiter,
+            Counter rejectedCounter
+    ) {}
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final ObjectMapper objectMapper;
+    private final List<Rule> rules = new ArrayList<>();
+
+    public RateLimitFilter(
+            RateLimitKeyExtractors extractors,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.rate-limit.max-keys:100000}") int maxKeys,
+            @Value("${app.rate-limit.vote.ip-per-minute:120}") int voteIpPerMinute,
+            @Value("${app.rate-limit.vote.principal-per-minute:30}") int votePrincipalPerMinute,
+            @Value("${app.rate-limit.auth.refresh-ip-per-minute:10}") int refreshIpPerMinute,
+            @Value("${app.rate-limit.auth.refresh-member-per-minute:10}") int refreshMemberPerMinute,
+            @Value("${app.rate-limit.auth.ip-per-minute:30}") int authIpPerMinute,
+            @Value("${app.rate-limit.auth.withdraw-member-per-minute:10}") int withdrawMemberPerMinute
+    ) {
+        this.objectMapper = objectMapper;
+
+        //=== 투표 ===//
+        addRule("vote.ip", "/api/v1/vote/**", null,
+                extractors.ipHash(), voteIpPerMinute, maxKeys, meterRegistry);
+        addRule("vote.principal", "/api/v1/vote/**", HttpMethod.POST,
+                extractors.principalKey(), votePrincipalPerMinute, maxKeys, meterRegistry);
+
+        //=== 인증 ===//
+        addRule("auth.refresh.ip", "/api/v1/auth/token/refresh", null,
+                extractors.ipHash(), refreshIpPerMinute, maxKeys, meterRegistry);
+        addRule("auth.refresh.member", "/api/v1/auth/token/refresh", null,
+                extractors.refreshTokenMember(), refreshMemberPerMinute, maxKeys, meterRegistry);
+        addRule("auth.ip", "/api/v1/auth/**", null,
+                extractors.ipHash(), authIpPerMinute, maxKeys, meterRegistry);
+        addRule("auth.withdraw.member", "/api/v1/auth/withdraw/**", null,
+                extractors.memberId(), withdrawMemberPerMinute, maxKeys, meterRegistry);
+    }
+
+    private void addRule(
+            String name,
+            String pattern,
+            HttpMethod method,
+            RateLimitKeyExtractor keyExtractor,
+            int perMinute,
+            int maxKeys,
+            MeterRegistry meterRegistry
+    ) {
+        RateLimiter limiter = new RateLimiter(perMinute, Duration.ofMinutes(1), maxKeys);
+
+        Counter rejectedCounter = Counter.builder("rate.limit.rejected")
+                .tag("rule", name)
+                .register(meterRegistry);
+        Gauge.builder("rate.limit.keys", limiter, RateLimiter::trackedKeys)
+                .tag("rule", name)
+                .register(meterRegistry);
+
+        rules.add(new Rule(name, pattern, method, keyExtractor, limiter, rejectedCounter));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return HttpMethod.OPTIONS.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        String path = request.getRequestURI();
+        List<Rule> acquiredRules = new ArrayList<>();
+        List<String> acquiredKeys = new ArrayList<>();
+
+        for (Rule rule : rules) {
+            if (rule.method() != null && !rule.method().matches(request.getMethod())) continue;
+            if (!pathMatcher.match(rule.pattern(), path)) continue;
+
+            String key;
+            try {
+                key = rule.keyExtractor().extract(request);
+            } catch (Exception e) {
+                log.warn("요청 제한 키 추출 실패 - rule={}, 이유={}", rule.name(), e.getMessage());
+                continue;
+            }
+            if (key == null) continue;
+
+            long waitNanos = rule.limiter().tryAcquire(key);
+            if (waitNanos > 0L) {
+                // 첫 거절에서 멈추고 앞 규칙에서 받은 토큰은 돌려줌
+                for (int i = 0; i < acquiredRules.size(); i++) {
+                    acquiredRules.get(i).limiter().refund(acquiredKeys.get(i));
+                }
+                rule.rejectedCounter().increment();
+                reject(response, waitNanos);
+                return;
+            }
+            acquiredRules.add(rule);
+            acquiredKeys.add(key);
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private void reject(HttpServletResponse response, long retryAfterNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1L, (long) Math.ceil(retryAfterNanos / (double) TimeUnit.SECONDS.toNanos(1)));
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), ApiResponse.onFailure(ErrorStatus.TOO_MANY_REQUESTS));
+    }
+}
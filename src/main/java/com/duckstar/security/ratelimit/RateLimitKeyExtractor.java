@@ -0,0 +1,12 @@
+package com.duckstar.security.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 요청 -> 제한 키 (null 이면 이 규칙은 건너뜀)
+ */
+@FunctionalInterface
+public interface RateLimitKeyExtractor {
+
+    String extract(HttpServletRequest request);
+}
@@ -0,0 +1,71 @@
+package com.duckstar.security.ratelimit;
+
+import com.duckstar.security.MemberPrincipal;
+import com.duckstar.security.jwt.JwtTokenProvider;
+import com.duckstar.web.support.Hasher;
+import com.duckstar.web.support.IdentifierExtractor;
+import com.duckstar.web.support.VoteCookieManager;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 제한 키 종류
+ *  - ipHash: 클라이언트 IP 의 HMAC (원본 IP 는 메모리에 두지 않음)
+ *  - memberId: 로그인 회원 (비로그인이면 null)
+ *  - principalKey: 로그인 회원이면 "m:{memberId}", 아니면 투표 쿠키 "c:{cookieId}" (VoteCookieManager.toPrincipalKey 와 같은 형식)
+ *  - refreshTokenMember: REFRESH_TOKEN 쿠키의 회원 (서명 확인, 없거나 refresh 토큰이 아니면 null)
+ *    재발급 요청에는 access 토큰이 없어 memberId 로는 잡을 수 없음
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitKeyExtractors {
+
+    private final IdentifierExtractor identifierExtractor;
+    private final Hasher hasher;
+    private final VoteCookieManager voteCookieManager;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    public RateLimitKeyExtractor ipHash() {
+        return request -> hasher.hash(identifierExtractor.extract(request));
+    }
+
+    public RateLimitKeyExtractor memberId() {
+        return request -> {
+            Long memberId = currentMemberId();
+            return memberId == null ? null : String.valueOf(memberId);
+        };
+    }
+
+    public RateLimitKeyExtractor principalKey() {
+        return request -> {
+            Long memberId = currentMemberId();
+            if (memberId != null) return voteCookieManager.toPrincipalKey(memberId, null);
+
+            List<String> cookieIds = voteCookieManager.readAllCookies(request);
+            return cookieIds.isEmpty() ? null : voteCookieManager.toPrincipalKey(null, cookieIds.get(0));
+        };
+    }
+
+    public RateLimitKeyExtractor refreshTokenMember() {
+        return request -> {
+            String refreshToken = jwtTokenProvider.resolveFromCookie(request, "REFRESH_TOKEN");
+            if (refreshToken == null) return null;
+
+            Claims claims = jwtTokenProvider.parseClaims(refreshToken);  // 위조/만료면 예외 -> 이 규칙만 건너뜀
+            return jwtTokenProvider.isRefreshToken(claims) ? claims.getSubject() : null;
+        };
+    }
+
+    private static Long currentMemberId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof MemberPrincipal principal) {
+            return principal.getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,131 @@
+package com.duckstar.security.ratelimit;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 키별 토큰 버킷 (capacity 개까지 몰아서 허용, window 동안 capacity 개 비율로 채움)
+ *
+ *  - 키 공간을 stripe 로 나눠 stripe 마다 잠금 (서로 다른 키는 대부분 경합 없음)
+ *  - 추적 키 수는 maxKeys 로 고정: stripe 마다 접근 순서 LRU, 넘치면 가장 오래 안 쓴 키부터 버림
+ *  - 가득 찬 버킷은 없는 것과 같으므로, 가득 찰 만큼 쉰 키(idle) 는 접근할 때마다 앞쪽부터 치운다.
+ *    LRU 로 밀려난 키는 다시 가득 찬 버킷으로 시작 (키가 maxKeys 를 넘게 몰릴 때만 생기는 완화)
+ */
+public class RateLimiter {
+
+    private static final int STRIPES = 16;
+    private static final int EXPIRE_SCAN_LIMIT = 4;
+
+    private final int capacity;
+    private final double tokensPerNano;
+    private final long idleNanos;  // 빈 버킷이 가득 차는 시간
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    public RateLimiter(int capacity, Duration window, int maxKeys) {
+        if (capacity <= 0 || window.isZero() || window.isNegative() || maxKeys < STRIPES) {
+            throw new IllegalArgumentException("capacity > 0, window > 0, maxKeys >= " + STRIPES);
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = (double) capacity / window.toNanos();
+        this.idleNanos = window.toNanos();
+
+        int perStripe = maxKeys / STRIPES;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+    }
+
+    /**
+     * @return 0 이면 허용, 아니면 다음 토큰까지 기다릴 시간 (나노초)
+     */
+    public long tryAcquire(String key) {
+        return tryAcquire(key, System.nanoTime());
+    }
+
+    long tryAcquire(String key, long now) {
+        Stripe stripe = stripes[spread(key.hashCode()) & (STRIPES - 1)];
+
+        synchronized (stripe) {
+            stripe.expireIdle(now, idleNanos);
+
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(capacity, now);
+                stripe.buckets.put(key, bucket);
+            } else {
+                bucket.tokens = Math.min(capacity, bucket.tokens + (now - bucket.updatedAt) * tokensPerNano);
+                bucket.updatedAt = now;
+            }
+
+            if (bucket.tokens >= 1.0) {
+                bucket.tokens -= 1.0;
+                return 0L;
+            }
+            return Math.max(1L, (long) Math.ceil((1.0 - bucket.tokens) / tokensPerNano));
+        }
+    }
+
+    /**
+     * tryAcquire 로 받은 토큰 하나를 돌려줌 (같은 요청의 다른 규칙에서 거절됐을 때)
+     */
+    public void refund(String key) {
+        Stripe stripe = stripes[spread(key.hashCode()) & (STRIPES - 1)];
+
+        synchronized (stripe) {
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket != null) {
+                bucket.tokens = Math.min(capacity, bucket.tokens + 1.0);
+            }
+        }
+    }
+
+    public int trackedKeys() {
+        int total = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                total += stripe.buckets.size();
+            }
+        }
+        return total;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long updatedAt;
+
+        private Bucket(double tokens, long updatedAt) {
+            this.tokens = tokens;
+            this.updatedAt = updatedAt;
+        }
+    }
+
+    private static final class Stripe {
+        private final Map<String, Bucket> buckets;
+
+        private Stripe(int maxKeys) {
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > maxKeys;
+                }
+            };
+        }
+
+        /**
+         * 가장 오래 안 쓴 쪽부터 몇 개만 확인 (요청마다 조금씩 치워서 한 번에 오래 걸리지 않게)
+         */
+        private void expireIdle(long now, long idleNanos) {
+            Iterator<Bucket> it = buckets.values().iterator();
+            for (int i = 0; i < EXPIRE_SCAN_LIMIT && it.hasNext(); i++) {
+                if (now - it.next().updatedAt < idleNanos) return;
+                it.remove();
+            }
+        }
+    }
+}
@@ -2,9 +2,26 @@ package com.duckstar.security.repository;
 
 import com.duckstar.security.domain.ShadowBan;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface ShadowBanRepository extends JpaRepository<ShadowBan, Long> {
     Optional<ShadowBan> findByIpHash(String ipHash);
+
+    @Query("select s.ipHash from ShadowBan s where s.banned = true")
+    List<String> findAllBannedIpHashes();
+
+    /**
+     * 차단 목록 변경 감지용 (행 수 + 마지막 수정 시각)
+     */
+    interface BanVersion {
+        Long getTotal();
+        LocalDateTime getLastUpdatedAt();
+    }
+
+    @Query("select count(s) as total, max(s.updatedAt) as lastUpdatedAt from ShadowBan s")
+    BanVersion getBanVersion();
 }
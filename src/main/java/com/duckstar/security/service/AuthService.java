@@ -20,6 +20,7 @@ import com.duckstar.repository.SurveyRepository;
 import com.duckstar.repository.SurveyVoteSubmission.SurveyVoteSubmissionRepository;
 import com.duckstar.repository.WeekVoteSubmission.WeekVoteSubmissionRepository;
 import com.duckstar.security.domain.MemberToken;
+import com.duckstar.security.jwt.JwtAuthenticationCache;
 import com.duckstar.security.jwt.JwtTokenProvider;
 import com.duckstar.security.providers.google.GoogleApiClient;
 import com.duckstar.security.providers.kakao.KakaoApiClient;
@@ -27,6 +28,8 @@ import com.duckstar.security.providers.naver.NaverApiClient;
 import com.duckstar.security.providers.naver.NaverTokenResponse;
 import com.duckstar.security.repository.MemberRepository;
 import com.duckstar.security.repository.MemberTokenRepository;
+import com.duckstar.service.AnimeCommentCounter;
+import com.duckstar.service.VoteService.MemberVoteCounter;
 import com.duckstar.service.WeekService;
 import com.duckstar.web.support.VoteCookieManager;
 import feign.FeignException;
@@ -47,6 +50,7 @@ import org.springframework.util.MultiValueMap;
 import java.time.DayOfWeek;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -62,6 +66,7 @@ public class AuthService {
     private final ReplyRepository replyRepository;
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
     private final KakaoApiClient kakaoApiClient;
     private final WeekVoteSubmissionRepository weekVoteSubmissionRepository;
     private final VoteCookieManager voteCookieManager;
@@ -69,6 +74,8 @@ public class AuthService {
     private final NaverApiClient naverApiClient;
     private final WeekService weekService;
     private final EpisodeStarRepository episodeStarRepository;
+    private final AnimeCommentCounter animeCommentCounter;
+    private final MemberVoteCounter memberVoteCounter;
 
     private static final String BASE_VOTE_COOKIE = "vote_cookie_id";
     private static final String BASE_SURVEY_COOKIE = "survey_cookie_id";
@@ -204,6 +211,7 @@ public class AuthService {
         //Case 1. 비로그인 투표 기록 ⭕️ -> 투표하지 ❌않은 멤버 로그인
         if (memberSubmissionOpt.isEmpty()) {
             // ** 마이그레이션 ** //
+            memberVoteCounter.addSubmission(member.getId(), localSubmission.getId());
             localSubmission.setMember(
                     member,
                     voteCookieManager.toPrincipalKey(member.getId(), null)
@@ -232,6 +240,7 @@ public class AuthService {
 
             if (!localEpisodeStars.isEmpty()) {
                 List<Long> deleteIds = new ArrayList<>();
+                Map<Long, Integer> movedCounts = new HashMap<>();  // 애니별 멤버 투표 수 증가분
                 for (EpisodeStar localEpisodeStar : localEpisodeStars) {
                     // 이미 멤버가 투표한 적이 있는 후보인가?
                     EpisodeStar memberEpisodeStar =
@@ -244,9 +253,11 @@ public class AuthService {
                     } else {
                         // 새로운 후보에 대한 투표라면, 멤버의 submission 으로 전환
                         localEpisodeStar.setWeekVoteSubmission(memberSubmission);
+                        movedCounts.merge(localEpisodeStar.getEpisode().getAnime().getId(), 1, Integer::sum);
                     }
                 }
                 isMigrated = true;
+                memberVoteCounter.addAll(member.getId(), movedCounts);
 
                 episodeStarRepository.deleteAllById(deleteIds);
             }
@@ -397,6 +408,11 @@ public class AuthService {
 
         memberTokenRepository.deleteByRefreshToken(refreshToken);
 
+        // 인증 캐시에서도 제거
+        jwtAuthenticationCache.evictToken(jwtTokenProvider.resolveFromCookie(request, "ACCESS_TOKEN"));
+        jwtAuthenticationCache.evictToken(refreshToken);
+        jwtAuthenticationCache.evictMember(member.getId());
+
         expireCookie(response, "ACCESS_TOKEN");
         expireCookie(response, "REFRESH_TOKEN");
         expireCookie(response, "AUTH_STATUS"); // 🔑 AUTH_STATUS 쿠키도 삭제
@@ -506,6 +522,7 @@ public class AuthService {
 
     private void cleanupAfterWithdraw(HttpServletResponse response, Long memberId) {
         memberTokenRepository.deleteAllByMember_Id(memberId);
+        jwtAuthenticationCache.evictMember(memberId);  // 권한 NONE 반영
 
         // 투표 기록에서 회원 정보 삭제
         weekVoteSubmissionRepository.findAllByMember_Id(memberId)
@@ -513,16 +530,32 @@ public class AuthService {
                     String cookieId = sub.getCookieId();
                     sub.setMember(null, voteCookieManager.toPrincipalKey(null, cookieId));
                 });
+        memberVoteCounter.clearMember(memberId);
+
+        // 애니별 댓글 수에서 뺄 개수 (이미 삭제된 것 제외)
+        Map<Long, Integer> removedCounts = new HashMap<>();
 
         // 애니 댓글 삭제
         animeCommentRepository.findAllByAuthor_Id(memberId)
-                .forEach(ac -> ac.setStatus(CommentStatus.DELETED));
+                .forEach(ac -> {
+                    if (ac.getStatus() == CommentStatus.NORMAL) {
+                        removedCounts.merge(ac.getContentIdForIdx(), -1, Integer::sum);
+                    }
+                    ac.setStatus(CommentStatus.DELETED);
+                });
 
         // 캐릭터 댓글 삭제
 
         // 답글 삭제
         replyRepository.findAllByAuthor_Id(memberId)
-                .forEach(r -> r.setStatus(CommentStatus.DELETED));
+                .forEach(r -> {
+                    if (r.getStatus() == CommentStatus.NORMAL) {
+                        removedCounts.merge(r.getParent().getContentIdForIdx(), -1, Integer::sum);
+                    }
+                    r.setStatus(CommentStatus.DELETED);
+                });
+
+        animeCommentCounter.addAll(removedCounts);
 
         expireCookie(response, "ACCESS_TOKEN");
         expireCookie(response, "REFRESH_TOKEN");
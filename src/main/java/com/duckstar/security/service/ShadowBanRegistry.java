@@ -0,0 +1,146 @@
+package com.duckstar.security.service;
+
+import com.duckstar.security.domain.ShadowBan;
+import com.duckstar.security.repository.ShadowBanRepository;
+import com.duckstar.security.repository.ShadowBanRepository.BanVersion;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * shadow-ban 된 ipHash 목록 (메모리)
+ *
+ *  - 기동 시 전체를 읽어 두고, 이 인스턴스의 변경(setBanned) 은 커밋 이후 바로 반영
+ *  - 다른 인스턴스의 변경은 sync-interval 마다 (행 수, 마지막 수정 시각) 을 비교해 달라졌을 때만 다시 읽음
+ *  - 읽기 전(기동 직후) 에는 DB 조회로 대신한다.
+ *  - 지표: shadow.ban.lookups{source=memory|db}, shadow.ban.size
+ */
+@Slf4j
+@Component
+public class ShadowBanRegistry {
+
+    private record Version(Long total, LocalDateTime lastUpdatedAt) {}
+
+    private final ShadowBanRepository shadowBanRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile Set<String> bannedIpHashes;  // null 이면 아직 안 읽음
+    private volatile Version loadedVersion;
+
+    private final Counter memoryLookupCounter;
+    private final Counter dbLookupCounter;
+
+    public ShadowBanRegistry(
+            ShadowBanRepository shadowBanRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.shadowBanRepository = shadowBanRepository;
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        this.memoryLookupCounter = Counter.builder("shadow.ban.lookups")
+                .tag("source", "memory")
+                .register(meterRegistry);
+        this.dbLookupCounter = Counter.builder("shadow.ban.lookups")
+                .tag("source", "db")
+                .register(meterRegistry);
+        Gauge.builder("shadow.ban.size", this, registry -> {
+                    Set<String> current = registry.bannedIpHashes;
+                    return current == null ? 0 : current.size();
+                })
+                .register(meterRegistry);
+    }
+
+    public boolean isBanned(String ipHash) {
+        Set<String> current = bannedIpHashes;
+        if (current != null) {
+            memoryLookupCounter.increment();
+            return current.contains(ipHash);
+        }
+
+        dbLookupCounter.increment();
+        return shadowBanRepository.findByIpHash(ipHash)
+                .map(ShadowBan::getBanned)
+                .orElse(false);
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 이후 반영
+     */
+    public void onBanChanged(String ipHash, boolean banned) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(ipHash, banned);
+                }
+            });
+        } else {
+            apply(ipHash, banned);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        reload();
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.shadow-ban.sync-interval-ms:30000}",
+            fixedDelayString = "${app.shadow-ban.sync-interval-ms:30000}"
+    )
+    public void syncIfChanged() {
+        try {
+            Version version = readOnlyTransaction.execute(status -> toVersion(shadowBanRepository.getBanVersion()));
+            if (bannedIpHashes != null && Objects.equals(version, loadedVersion)) return;
+
+            reload();
+        } catch (Exception e) {
+            log.warn("shadow-ban 목록 동기화 실패 - 이전 목록 유지", e);
+        }
+    }
+
+    private synchronized void reload() {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            // 버전을 먼저 읽어야 사이에 생긴 변경을 다음 주기에 다시 잡는다
+            Version version = toVersion(shadowBanRepository.getBanVersion());
+            List<String> ipHashes = shadowBanRepository.findAllBannedIpHashes();
+
+            Set<String> loaded = ConcurrentHashMap.newKeySet(Math.max(16, ipHashes.size() * 2));
+            loaded.addAll(ipHashes);
+
+            bannedIpHashes = loaded;
+            loadedVersion = version;
+            log.info("shadow-ban 목록 로드 - {}건", loaded.size());
+        });
+    }
+
+    private void apply(String ipHash, boolean banned) {
+        Set<String> current = bannedIpHashes;
+        if (current == null) return;  // 아직 안 읽었으면 로드 때 반영됨
+
+        if (banned) current.add(ipHash);
+        else current.remove(ipHash);
+    }
+
+    private static Version toVersion(BanVersion banVersion) {
+        return banVersion == null ? null : new Version(banVersion.getTotal(), banVersion.getLastUpdatedAt());
+    }
+}
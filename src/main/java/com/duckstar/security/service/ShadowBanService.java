@@ -10,6 +10,7 @@ import com.duckstar.security.repository.MemberRepository;
 import com.duckstar.security.repository.ShadowBanRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -20,11 +21,14 @@ public class ShadowBanService {
     private final ShadowBanRepository shadowBanRepository;
     private final AdminActionLogRepository adminActionLogRepository;
     private final MemberRepository memberRepository;
+    private final ShadowBanRegistry shadowBanRegistry;
 
+    /**
+     * 메모리 목록에서 확인 (트랜잭션을 새로 열지 않음)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public boolean isBanned(String ipHash) {
-        return shadowBanRepository.findByIpHash(ipHash)
-                .map(ShadowBan::getBanned)
-                .orElse(false);
+        return shadowBanRegistry.isBanned(ipHash);
     }
 
     @Transactional
@@ -38,6 +42,7 @@ public class ShadowBanService {
                 shadowBanRepository.save(ShadowBan.create(ipHash)));
 
         ban.setBanned(banned);
+        shadowBanRegistry.onBanChanged(ipHash, banned);
 
         // 로그 남기기
         adminActionLogRepository.save(
@@ -0,0 +1,75 @@
+package com.duckstar.service;
+
+import com.duckstar.repository.AnimeComment.AnimeCommentCountRepository;
+import com.duckstar.repository.AnimeComment.AnimeCommentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 애니별 댓글 + 답글 수 (삭제 제외)
+ *
+ *  - 작성/삭제하는 트랜잭션 안에서 같이 증감 (롤백되면 같이 롤백)
+ *  - 아직 행이 없는 애니는 처음 읽을 때 COUNT 로 채움 (읽기 전용 트랜잭션 밖, 새 트랜잭션)
+ *    채우는 COUNT 와 그 사이 커밋된 작성이 엇갈리면 1~2 개 차이가 남을 수 있음 (표시용 숫자라 허용)
+ */
+@Slf4j
+@Component
+public class AnimeCommentCounter {
+
+    private final AnimeCommentCountRepository countRepository;
+    private final AnimeCommentRepository animeCommentRepository;
+    private final TransactionTemplate backfillTransaction;
+
+    public AnimeCommentCounter(
+            AnimeCommentCountRepository countRepository,
+            AnimeCommentRepository animeCommentRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.countRepository = countRepository;
+        this.animeCommentRepository = animeCommentRepository;
+
+        this.backfillTransaction = new TransactionTemplate(transactionManager);
+        this.backfillTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void increase(Long animeId) {
+        add(animeId, 1);
+    }
+
+    public void decrease(Long animeId) {
+        add(animeId, -1);
+    }
+
+    /**
+     * @param deltas 애니 ID -> 증감
+     */
+    public void addAll(Map<Long, Integer> deltas) {
+        deltas.forEach(this::add);
+    }
+
+    public int get(Long animeId) {
+        return countRepository.findCount(animeId)
+                .orElseGet(() -> backfill(animeId));
+    }
+
+    private void add(Long animeId, int delta) {
+        if (animeId == null || delta == 0) return;
+        countRepository.addCount(animeId, delta);  // 행이 없으면 무시 -> 읽을 때 채움
+    }
+
+    private int backfill(Long animeId) {
+        Integer count = backfillTransaction.execute(status -> {
+            int counted = animeCommentRepository.countTotalElements(animeId, List.of());
+            countRepository.insertIfAbsent(animeId, counted);
+            return countRepository.findCount(animeId).orElse(counted);
+        });
+        log.info("애니 댓글 수 채움 - animeId={}, count={}", animeId, count);
+        return count == null ? 0 : count;
+    }
+}
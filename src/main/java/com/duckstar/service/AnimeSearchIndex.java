@@ -0,0 +1,98 @@
+package com.duckstar.service;
+
+import com.duckstar.repository.AnimeRepository;
+import com.duckstar.repository.AnimeRepository.AnimeTitleView;
+import com.duckstar.service.AnimeService.AnimeTitleChangedEvent;
+import com.duckstar.service.AnimeTitleIndex.Title;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 애니 제목 검색 색인 (AnimeTitleIndex) 보관
+ *
+ *  - 첫 검색 때 전체 제목으로 만들고, 애니 생성 시 AnimeTitleChangedEvent 로 해당 애니만 갱신
+ *  - 다른 인스턴스에서 생긴 애니는 refresh-interval 마다 전체 다시 만들기로 반영
+ */
+@Slf4j
+@Component
+public class AnimeSearchIndex {
+
+    private final AnimeRepository animeRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final AnimeTitleIndex index = new AnimeTitleIndex();
+    private volatile boolean isBuilt = false;
+
+    public AnimeSearchIndex(
+            AnimeRepository animeRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.animeRepository = animeRepository;
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public List<Long> search(String query, int limit) {
+        if (!isBuilt) ensureBuilt();
+        return index.search(query, limit);
+    }
+
+    private synchronized void ensureBuilt() {
+        if (!isBuilt) rebuild();
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.search.index.refresh-interval-ms:600000}",
+            fixedDelayString = "${app.search.index.refresh-interval-ms:600000}"
+    )
+    public void refresh() {
+        if (!isBuilt) return;  // 아직 검색이 없으면 첫 검색 때 만든다
+
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("애니 검색 색인 갱신 실패 - 이전 색인 유지", e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTitleChanged(AnimeTitleChangedEvent event) {
+        if (!isBuilt) return;
+
+        List<AnimeTitleView> views = readOnlyTransaction.execute(status ->
+                animeRepository.findTitlesByIdIn(List.of(event.animeId())));
+
+        if (views == null || views.isEmpty()) {
+            index.remove(event.animeId());
+        } else {
+            views.forEach(view -> index.upsert(toTitle(view)));
+        }
+    }
+
+    private synchronized void rebuild() {
+        long startedAt = System.currentTimeMillis();
+
+        List<Title> titles = readOnlyTransaction.execute(status ->
+                animeRepository.findAllTitles().stream()
+                        .map(AnimeSearchIndex::toTitle)
+                        .toList());
+
+        index.replaceAll(titles == null ? List.of() : titles);
+        isBuilt = true;
+
+        log.info("애니 검색 색인 생성 - {}건, {} ms",
+                index.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    static Title toTitle(AnimeTitleView view) {
+        return new Title(view.getId(), view.getTitleKor(), view.getTitleOrigin(), view.getTitleEng());
+    }
+}
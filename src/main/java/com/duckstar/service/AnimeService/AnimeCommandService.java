@@ -9,8 +9,6 @@ import static com.duckstar.web.dto.admin.AdminLogDto.*;
 import static com.duckstar.web.dto.admin.ContentResponseDto.*;
 
 public interface AnimeCommandService {
-    void updateStatesByWindows();
-
     Long createAnime(Long memberId, PostRequestDto request) throws IOException;
 
     Long updateAnimeImage(Long animeId, ImageRequestDto request) throws IOException;
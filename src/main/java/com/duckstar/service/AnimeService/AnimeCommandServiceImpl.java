@@ -18,14 +18,17 @@ import com.duckstar.repository.AnimeRepository;
 import com.duckstar.repository.Episode.EpisodeRepository;
 import com.duckstar.repository.OttRepository;
 import com.duckstar.s3.S3Uploader;
+import com.duckstar.schedule.EpisodeStateTimeline;
 import com.duckstar.security.repository.MemberRepository;
 import com.duckstar.service.AdminActionLogService;
 import com.duckstar.service.CommentService;
 import com.duckstar.service.QuarterService;
+import com.duckstar.service.WeekChartSnapshotService;
 import com.duckstar.web.dto.OttDto;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -59,60 +62,9 @@ public class AnimeCommandServiceImpl implements AnimeCommandService {
     private final CommentService commentService;
     private final AdminActionLogService adminActionLogService;
     private final AnimeCommentRepository animeCommentRepository;
-
-    public record PremieredEpRecord(
-            Episode episode,
-            Boolean isFirstEpisode,
-            Boolean isLastEpisode,
-
-            // 정책
-            Boolean isAfter24Minutes,
-            Boolean isAfter36Hours,
-
-            Anime anime
-    ) {}
-
-    @Override
-    public void updateStatesByWindows() {
-        LocalDateTime now = LocalDateTime.now();
-
-        // 1분 윈도우, 24분 전 윈도우, 36시간 전 윈도우
-        // 에피소드들 조회
-        List<PremieredEpRecord> records = episodeRepository
-                .findPremieredEpRecordsInWindow(now.minusSeconds(30), now.plusSeconds(30));
-
-        records.forEach(record -> {
-            Boolean premiereFinished = record.isAfter24Minutes;
-            Boolean liveVoteFinished = record.isAfter36Hours;
-
-            // 36시간 전 윈도우 내
-            if (liveVoteFinished) {
-                Episode episode = record.episode;
-                episode.setEvaluateState(EpEvaluateState.LOGIN_REQUIRED);
-
-                // 24분 전 윈도우 내
-            } else if (premiereFinished) {
-                // 방영 상태 체크
-                Anime anime = record.anime;
-                if (anime.getStatus() == AnimeStatus.NOW_SHOWING && record.isLastEpisode) {
-                    anime.setStatus(AnimeStatus.ENDED);
-                }
-
-                // 1분 전 윈도우 내
-            } else {
-                Episode episode = record.episode;
-                episode.setEvaluateState(EpEvaluateState.VOTING_WINDOW);
-
-                // 방영 상태 체크
-                Anime anime = record.anime;
-                if (anime.getStatus() == AnimeStatus.UPCOMING && record.isFirstEpisode) {
-                    anime.setStatus(AnimeStatus.NOW_SHOWING);
-
-                    // AnimeCandidate 합류 로직 등 .. 추후 필요할 때 구현
-                }
-            }
-        });
-    }
+    private final EpisodeStateTimeline episodeStateTimeline;
+    private final WeekChartSnapshotService weekChartSnapshotService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Long createAnime(Long memberId, PostRequestDto request) throws IOException {
@@ -162,6 +114,8 @@ public class AnimeCommandServiceImpl implements AnimeCommandService {
         Anime saved = animeRepository.save(anime);
         // 방영 상태 결정
         saved.setStatusWhenCreateByBase(LocalDateTime.now());
+        // 검색 색인 (커밋 이후)
+        eventPublisher.publishEvent(new AnimeTitleChangedEvent(saved.getId()));
 
         //=== webp 변환, s3 업로드, DB UPDATE ===//
         MultipartFile mainImage = request.getMainImage();
@@ -228,6 +182,7 @@ public class AnimeCommandServiceImpl implements AnimeCommandService {
                     }
                 }
                 episodeRepository.saveAll(episodes);
+                episodeStateTimeline.requestReload();
 
                 //=== lastEpScheduledAt에 따라 존재하는 모든 소속 분기 추가 ===//
                 lastEpWeekRecord = getThisWeekRecord(scheduledAt);
@@ -287,6 +242,8 @@ public class AnimeCommandServiceImpl implements AnimeCommandService {
             } else {
                 csvImportService.uploadAnimeMain(reqMain, anime);
             }
+            // 차트 스냅샷/홈 썸네일 (이전 이미지는 지워짐)
+            weekChartSnapshotService.invalidateByAnime(animeId);
 
             return anime.getId();
         } else {
@@ -370,6 +327,7 @@ public class AnimeCommandServiceImpl implements AnimeCommandService {
 
                 scheduledAt = nextEpScheduledAt;
             }
+            episodeStateTimeline.requestReload();
 
         } else {
             anime.setTotalEpisodes(newTotal);
@@ -479,6 +437,8 @@ public class AnimeCommandServiceImpl implements AnimeCommandService {
                 }
             }
 
+            episodeStateTimeline.requestReload();
+
             logs.add(adminActionLogService.saveAdminActionLog(
                     member, anime, AdminTaskType.ANIME_DIRECTION_UPDATE));
         }
@@ -501,6 +461,9 @@ public class AnimeCommandServiceImpl implements AnimeCommandService {
                     member, anime, AdminTaskType.ANIME_INFO_UPDATE));
         }
 
+        // 차트/홈의 제목, 상태 등
+        if (!logs.isEmpty()) weekChartSnapshotService.invalidateByAnime(animeId);
+
         return logs.stream()
                 .map(log -> ManagerProfileDto.of(member, log))
                 .toList();
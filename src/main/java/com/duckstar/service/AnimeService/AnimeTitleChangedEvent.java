@@ -0,0 +1,7 @@
+package com.duckstar.service.AnimeService;
+
+/**
+ * 애니 생성 등으로 제목이 바뀜 (검색 색인 갱신용)
+ *  - 커밋 이후에 처리된다.
+ */
+public record AnimeTitleChangedEvent(Long animeId) {}
@@ -0,0 +1,308 @@
+package com.duckstar.service;
+
+import com.duckstar.util.ChosungUtil;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 애니 제목 n-gram 색인 (titleKor, titleOrigin, titleEng)
+ *
+ *  - 제목마다 소문자 + 공백 제거 형태와 초성 형태를 미리 만들어 두고, 각 형태의 1-gram/2-gram -> 슬롯 목록을 색인
+ *  - 검색 의미는 ChosungUtil.searchMatch 와 같다. (띄어쓰기 무시 포함 검색, 초성만 입력하면 초성 포함 검색)
+ *    질의의 2-gram 목록을 교집합해 후보를 좁힌 뒤 실제 포함 여부를 확인
+ *  - 순위: 제목 전체 일치 > 앞부분 일치(타이핑 중) > 포함, 같으면 한국어 제목 일치 우선, 짧은 제목 우선
+ *  - 갱신은 슬롯을 새로 붙이고 이전 슬롯을 지운 것으로 표시, 지운 슬롯이 절반을 넘으면 통째로 다시 만든다.
+ */
+public class AnimeTitleIndex {
+
+    public record Title(Long animeId, String titleKor, String titleOrigin, String titleEng) {}
+
+    private static final int EXACT = 0;
+    private static final int PREFIX = 1;
+    private static final int CONTAINS = 2;
+
+    /**
+     * @param forms   제목별 소문자 + 공백 제거 형태 (titleKor, titleOrigin, titleEng 순, 없으면 null)
+     * @param chosung 제목별 초성 형태
+     */
+    private record Doc(Title title, String[] forms, String[] chosung) {}
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final List<Doc> slots = new ArrayList<>();
+    private final Map<Long, Integer> slotByAnimeId = new HashMap<>();
+    private final Map<Integer, Postings> grams = new HashMap<>();
+    private final Map<Integer, Postings> chosungGrams = new HashMap<>();
+    private int deadCount = 0;
+
+    public AnimeTitleIndex() {
+    }
+
+    public AnimeTitleIndex(Collection<Title> titles) {
+        replaceAll(titles);
+    }
+
+    //=== 갱신 ===//
+
+    public void replaceAll(Collection<Title> titles) {
+        lock.writeLock().lock();
+        try {
+            clear();
+            for (Title title : titles) {
+                add(title);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsert(Title title) {
+        lock.writeLock().lock();
+        try {
+            markDead(title.animeId());
+            add(title);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long animeId) {
+        lock.writeLock().lock();
+        try {
+            markDead(animeId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotByAnimeId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    //=== 검색 ===//
+
+    /**
+     * @return 순위 순 애니 ID (최대 limit 개)
+     */
+    public List<Long> search(String searchQuery, int limit) {
+        if (searchQuery == null || limit <= 0) return List.of();
+
+        String trimmed = searchQuery.trim().toLowerCase();
+        if (trimmed.isEmpty()) return List.of();
+
+        boolean isChosung = ChosungUtil.isChosungOnly(trimmed);
+        String query = ChosungUtil.removeSpaces(trimmed);
+
+        lock.readLock().lock();
+        try {
+            int[] candidates = candidates(isChosung ? chosungGrams : grams, query);
+            if (candidates == null) return List.of();
+
+            Comparator<long[]> order = Comparator
+                    .<long[]>comparingLong(hit -> hit[0])
+                    .thenComparing(hit -> slots.get((int) hit[1]).title().titleKor(),
+                            Comparator.nullsLast(Comparator.<String>naturalOrder()))
+                    .thenComparingLong(hit -> slots.get((int) hit[1]).title().animeId());
+
+            // 상위 limit 개만 유지 (가장 뒤 순위가 head)
+            PriorityQueue<long[]> top = new PriorityQueue<>(order.reversed());
+            for (int slot : candidates) {
+                Doc doc = slots.get(slot);
+                if (doc == null) continue;
+
+                long score = score(isChosung ? doc.chosung() : doc.forms(), query);
+                if (score < 0) continue;
+
+                long[] hit = {score, slot};
+                if (top.size() < limit) {
+                    top.add(hit);
+                } else if (order.compare(hit, top.peek()) < 0) {
+                    top.poll();
+                    top.add(hit);
+                }
+            }
+
+            Long[] animeIds = new Long[top.size()];
+            for (int i = animeIds.length - 1; i >= 0; i--) {
+                animeIds[i] = slots.get((int) top.poll()[1]).title().animeId();
+            }
+            return Arrays.asList(animeIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 질의 n-gram 들의 교집합 (없으면 null)
+     */
+    private int[] candidates(Map<Integer, Postings> index, String query) {
+        if (query.length() == 1) {
+            Postings postings = index.get(unigram(query.charAt(0)));
+            return postings == null ? null : postings.toArray();
+        }
+
+        List<Postings> lists = new ArrayList<>(query.length() - 1);
+        for (int i = 0; i + 1 < query.length(); i++) {
+            Postings postings = index.get(bigram(query.charAt(i), query.charAt(i + 1)));
+            if (postings == null) return null;
+            lists.add(postings);
+        }
+        lists.sort(Comparator.comparingInt(Postings::size));
+
+        int[] result = lists.get(0).toArray();
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = lists.get(i).intersect(result);
+        }
+        return result;
+    }
+
+    /**
+     * 낮을수록 앞, 포함하지 않으면 -1
+     *  - 상위 비트: 일치 종류, 그 다음: 제목 종류(한국어 제목 우선), 하위: 제목 길이
+     */
+    private static long score(String[] forms, String query) {
+        long best = -1;
+        for (int field = 0; field < forms.length; field++) {
+            String form = forms[field];
+            if (form == null) continue;
+
+            int at = form.indexOf(query);
+            if (at < 0) continue;
+
+            int match = form.length() == query.length() ? EXACT : at == 0 ? PREFIX : CONTAINS;
+            long score = ((long) match << 40) | ((long) field << 32) | form.length();
+            if (best < 0 || score < best) best = score;
+        }
+        return best;
+    }
+
+    //=== 내부 ===//
+
+    private void add(Title title) {
+        String[] raw = {title.titleKor(), title.titleOrigin(), title.titleEng()};
+        String[] forms = new String[raw.length];
+        String[] chosung = new String[raw.length];
+        for (int i = 0; i < raw.length; i++) {
+            if (raw[i] == null || raw[i].isBlank()) continue;
+
+            String lower = raw[i].toLowerCase();
+            forms[i] = ChosungUtil.removeSpaces(lower);
+            chosung[i] = ChosungUtil.extractChosung(lower);
+        }
+
+        int slot = slots.size();
+        slots.add(new Doc(title, forms, chosung));
+        slotByAnimeId.put(title.animeId(), slot);
+
+        for (int i = 0; i < raw.length; i++) {
+            indexGrams(grams, forms[i], slot);
+            // 초성(자음)이 없는 제목은 초성 질의에 걸릴 일이 없음
+            if (hasChosung(chosung[i])) {
+                indexGrams(chosungGrams, chosung[i], slot);
+            }
+        }
+    }
+
+    private static void indexGrams(Map<Integer, Postings> index, String form, int slot) {
+        if (form == null) return;
+
+        for (int i = 0; i < form.length(); i++) {
+            index.computeIfAbsent(unigram(form.charAt(i)), k -> new Postings()).append(slot);
+            if (i + 1 < form.length()) {
+                index.computeIfAbsent(bigram(form.charAt(i), form.charAt(i + 1)), k -> new Postings()).append(slot);
+            }
+        }
+    }
+
+    private static boolean hasChosung(String chosung) {
+        if (chosung == null) return false;
+
+        for (int i = 0; i < chosung.length(); i++) {
+            char ch = chosung.charAt(i);
+            if (ch >= 'ㄱ' && ch <= 'ㅎ') return true;
+        }
+        return false;
+    }
+
+    private void markDead(Long animeId) {
+        Integer old = slotByAnimeId.remove(animeId);
+        if (old != null) {
+            slots.set(old, null);
+            deadCount += 1;
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (deadCount <= 64 || deadCount * 2 < slots.size()) return;
+
+        List<Title> live = new ArrayList<>(slotByAnimeId.size());
+        for (Doc doc : slots) {
+            if (doc != null) live.add(doc.title());
+        }
+        clear();
+        live.forEach(this::add);
+    }
+
+    private void clear() {
+        slots.clear();
+        slotByAnimeId.clear();
+        grams.clear();
+        chosungGrams.clear();
+        deadCount = 0;
+    }
+
+    // 1-gram 은 하위 16비트만, 2-gram 은 첫 글자를 상위 16비트에 (첫 글자가 0 인 2-gram 은 없다고 봄)
+    private static int unigram(char c) {
+        return c;
+    }
+
+    private static int bigram(char a, char b) {
+        return (a << 16) | b;
+    }
+
+    /**
+     * 오름차순 슬롯 목록 (슬롯은 항상 증가하는 순서로 붙음)
+     */
+    private static final class Postings {
+        private int[] slots = new int[4];
+        private int size = 0;
+
+        void append(int slot) {
+            if (size > 0 && slots[size - 1] == slot) return;  // 같은 문서의 중복 n-gram
+            if (size == slots.length) slots = Arrays.copyOf(slots, size * 2);
+            slots[size++] = slot;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(slots, size);
+        }
+
+        int[] intersect(int[] sorted) {
+            int[] out = new int[Math.min(size, sorted.length)];
+            int n = 0, i = 0, j = 0;
+            while (i < size && j < sorted.length) {
+                if (slots[i] < sorted[j]) i++;
+                else if (slots[i] > sorted[j]) j++;
+                else {
+                    out[n++] = slots[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(out, n);
+        }
+    }
+}
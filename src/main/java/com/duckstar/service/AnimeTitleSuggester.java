@@ -0,0 +1,109 @@
+package com.duckstar.service;
+
+import com.duckstar.repository.AnimeRepository;
+import com.duckstar.service.AnimeService.AnimeTitleChangedEvent;
+import com.duckstar.service.AnimeTitleIndex.Title;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static com.duckstar.web.dto.SearchResponseDto.*;
+
+/**
+ * 제목 자동완성
+ *
+ *  - 요청은 메모리의 불변 트라이(TitleSuggestTrie) 만 읽는다. (DB 조회 없음, 락 없음)
+ *  - 기동 시 만들고, AnimeTitleChangedEvent 가 오면 다음 확인 주기에 통째로 다시 만들어 참조를 바꾼다. (연속 생성은 한 번으로)
+ *  - 다른 인스턴스에서 생긴 애니는 refresh-interval 마다 다시 만들어 반영
+ */
+@Slf4j
+@Component
+public class AnimeTitleSuggester {
+
+    private final AnimeRepository animeRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Value("${app.search.suggest.top-n:10}")
+    private int topN;
+
+    @Value("${app.search.suggest.refresh-interval-ms:600000}")
+    private long refreshIntervalMillis;
+
+    private volatile TitleSuggestTrie<TitleSuggestionDto> trie;
+    private volatile boolean isDirty = false;
+    private long builtAt = 0L;
+
+    public AnimeTitleSuggester(
+            AnimeRepository animeRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.animeRepository = animeRepository;
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public List<TitleSuggestionDto> suggest(String query, int size) {
+        TitleSuggestTrie<TitleSuggestionDto> current = trie;
+        if (current == null) return List.of();  // 기동 직후
+
+        return current.suggest(query, Math.min(size, topN));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTitleChanged(AnimeTitleChangedEvent event) {
+        isDirty = true;
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.search.suggest.check-interval-ms:1000}",
+            fixedDelayString = "${app.search.suggest.check-interval-ms:1000}"
+    )
+    public void rebuildIfNeeded() {
+        boolean isStale = System.currentTimeMillis() - builtAt >= refreshIntervalMillis;
+        if (!isDirty && !isStale) return;
+
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("자동완성 트라이 갱신 실패 - 이전 트라이 유지", e);
+        }
+    }
+
+    private synchronized void rebuild() {
+        isDirty = false;
+        long startedAt = System.currentTimeMillis();
+
+        List<Title> titles = readOnlyTransaction.execute(status ->
+                animeRepository.findAllTitles().stream()
+                        .map(AnimeSearchIndex::toTitle)
+                        .toList());
+
+        trie = TitleSuggestTrie.build(
+                titles == null ? List.of() : titles,
+                topN,
+                (title, matchedTitle) -> TitleSuggestionDto.builder()
+                        .animeId(title.animeId())
+                        .titleKor(title.titleKor())
+                        .matchedTitle(matchedTitle)
+                        .build()
+        );
+        builtAt = System.currentTimeMillis();
+
+        log.info("자동완성 트라이 생성 - {}건, {} ms", titles == null ? 0 : titles.size(), builtAt - startedAt);
+    }
+}
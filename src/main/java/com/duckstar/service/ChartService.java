@@ -3,6 +3,7 @@ package com.duckstar.service;
 import com.duckstar.apiPayload.code.status.ErrorStatus;
 import com.duckstar.apiPayload.exception.handler.SurveyHandler;
 import com.duckstar.apiPayload.exception.handler.WeekHandler;
+import com.duckstar.cache.ReadModelCaches;
 import com.duckstar.domain.HomeBanner;
 import com.duckstar.domain.Survey;
 import com.duckstar.domain.Week;
@@ -11,40 +12,41 @@ import com.duckstar.domain.enums.EpEvaluateState;
 import com.duckstar.domain.enums.SurveyStatus;
 import com.duckstar.domain.mapping.surveyVote.SurveyCandidate;
 import com.duckstar.domain.mapping.weeklyVote.Episode;
-import com.duckstar.domain.mapping.weeklyVote.EpisodeStar;
 import com.duckstar.domain.vo.RankInfo;
 import com.duckstar.repository.Episode.EpisodeRepository;
-import com.duckstar.repository.EpisodeStar.EpisodeStarRepository;
+import com.duckstar.repository.EpisodeStar.EpisodeStarBatchRepository;
 import com.duckstar.repository.HomeBannerRepository;
 import com.duckstar.repository.SurveyCandidate.SurveyCandidateRepository;
 import com.duckstar.repository.SurveyRepository;
-import com.duckstar.repository.SurveyVote.SurveyVoteRepository;
-import com.duckstar.repository.SurveyVoteSubmission.SurveyVoteSubmissionRepository;
+import com.duckstar.repository.SurveyVote.SurveyVoteBatchRepository;
 import com.duckstar.repository.Week.WeekRepository;
+import com.duckstar.service.VoteService.EpisodeStarHistogram;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
+import static com.duckstar.service.DuckstarRanking.*;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChartService {
 
     private final WeekRepository weekRepository;
     private final EpisodeRepository episodeRepository;
-    private final EpisodeStarRepository episodeStarRepository;
+    private final EpisodeStarBatchRepository episodeStarBatchRepository;
     private final HomeBannerRepository homeBannerRepository;
+    private final EpisodeStarHistogram starHistogram;
+    private final ReadModelCaches readModelCaches;
+    private final WeekChartSnapshotService weekChartSnapshotService;
 
-    // 0.5(중간 수준) -> 0.3 으로 작아질 수록 평점 가중치 우선됨
-    // ⚠️ 권장: 0.5 또는 0.3
-    private static final double BASE_WEIGHT = 0.5;
     private final SurveyRepository surveyRepository;
     private final SurveyCandidateRepository surveyCandidateRepository;
-    private final SurveyVoteRepository surveyVoteRepository;
-    private final SurveyVoteSubmissionRepository surveyVoteSubmissionRepository;
+    private final SurveyVoteBatchRepository surveyVoteBatchRepository;
 
     @Transactional
     public void calculateRankByYQW(Long weekId) {
@@ -57,6 +59,12 @@ public class ChartService {
 
     @Transactional
     public void buildDuckstars(Long lastWeekId, Boolean isForOrganizing) {
+        // 재집계 값에 덮어써지도록 밀린 증감분 먼저 반영
+        starHistogram.flush();
+
+        // 발표된 차트 스냅샷, 홈/차트 캐시 (커밋 이후)
+        weekChartSnapshotService.invalidate(lastWeekId);
+
         Week lastWeek = weekRepository.findWeekById(lastWeekId).orElseThrow(() ->
                 new WeekHandler(ErrorStatus.WEEK_NOT_FOUND));
 
@@ -67,10 +75,12 @@ public class ChartService {
         //=== 회수된 표 제외 ===//
         // WeekVoteSubmission과 관계지은 EpisodeStar들만 조회
         // ALWAYS_OPEN 인 에피소드는 WeekVoteSubmission의 관계 없이 생성되므로 OK (추후 개발)
-        List<EpisodeStar> allEpisodeStars = episodeStarRepository.findAllEligibleByWeekId(lastWeekId);
+        // 엔티티 대신 (에피소드, 제출, IP, 점수) 만 스트리밍하며 한 번에 집계
+        DuckstarTally tally = new DuckstarTally();
+        episodeStarBatchRepository.streamEligibleStars(lastWeekId, tally::add);
 
-        Map<Long, List<EpisodeStar>> episodeStarMap = allEpisodeStars.stream()
-                .collect(Collectors.groupingBy(es -> es.getEpisode().getId()));
+        //=== 같은 ip 에서 같은 점수 4개 이상 준 경우 제외 ===//
+        tally.finish();
 
         //=== 이번 주 휴방 아닌 에피소드들 - 표 집계 ===//
         List<Episode> episodes = episodeRepository
@@ -80,87 +90,40 @@ public class ChartService {
                 .filter(e -> !e.isBreak())
                 .toList();
 
-        List<Integer> voterCountList = new ArrayList<>();
+        List<Integer> votedCountList = new ArrayList<>();  // 에피소드별 득표수 (0 제외)
+        int totalVotes = 0;  // 전체 투표 수
         for (Episode episode : episodes) {
-            List<EpisodeStar> thisEpisodeStars =
-                    episodeStarMap.get(episode.getId());
-
             if (!isForOrganizing
                     // 모든 에피소드가 주차 마감을 기다리는 상태여야 함
                     && episode.getEvaluateState() != EpEvaluateState.LOGIN_REQUIRED) {
                 throw new WeekHandler(ErrorStatus.WEEK_NOT_CLOSED);
             }
 
-            if (thisEpisodeStars == null || thisEpisodeStars.isEmpty()) {
-                voterCountList.add(0);
-
-            } else {
-                //=== 같은 ip 에서 같은 점수 4개 이상 준 경우 감지 ===//
-                Map<String, List<Integer>> ipHashScoresMap = thisEpisodeStars.stream()
-                        .collect(Collectors.groupingBy(
-                                        es -> es.getWeekVoteSubmission().getIpHash(),
-                                        Collectors.mapping(EpisodeStar::getStarScore, Collectors.toList())
-                                )
-                        );
-
-                List<String> blockedIpHashes = new ArrayList<>();
-
-                for (Map.Entry<String, List<Integer>> entry : ipHashScoresMap.entrySet()) {
-                    Map<Integer, Long> scoreCountMap = entry.getValue().stream()
-                            .collect(Collectors.groupingBy(s -> s, Collectors.counting()));
-
-                    boolean hasRepeatedScore = scoreCountMap.values().stream()
-                            .anyMatch(count -> count >= 4);
+            Long episodeId = episode.getId();
+            if (!tally.hasStars(episodeId)) continue;
 
-                    if (hasRepeatedScore) {
-                        blockedIpHashes.add(entry.getKey());
-                    }
-                }
-
-                // 제외시키기
-                thisEpisodeStars = thisEpisodeStars.stream()
-                        .filter(es -> !blockedIpHashes.contains(es.getWeekVoteSubmission().getIpHash()))
-                        .toList();
-
-                int voterCount = thisEpisodeStars.size();
-                voterCountList.add(voterCount);
-
-                int[] scores = new int[10];
-
-                for (EpisodeStar episodeStar : thisEpisodeStars) {
-                    Integer starScore = episodeStar.getStarScore();
-                    int idx = starScore - 1;
-                    scores[idx] += 1;
-                }
+            int voterCount = tally.voterCountOf(episodeId);
+            if (voterCount > 0) {
+                votedCountList.add(voterCount);
+                totalVotes += voterCount;
+            }
 
-                episode.setStats(voterCount, scores);
+            episode.setStats(voterCount, tally.scoresOf(episodeId));
 
-                // 투표 마감
-                episode.setEvaluateState(EpEvaluateState.ALWAYS_OPEN);
-            }
+            // 투표 마감
+            episode.setEvaluateState(EpEvaluateState.ALWAYS_OPEN);
         }
+        votedCountList.sort(null);
 
         List<Episode> votedEpisodes = new ArrayList<>(
                 episodes.stream()
                         .filter(e -> e.getVoterCount() != null && e.getVoterCount() > 0)
                         .toList()
         );
-        List<Integer> votedCountList = new ArrayList<>(
-                voterCountList.stream()
-                        .filter(c -> c > 0)
-                        .sorted()
-                        .toList()
-        );
-        // 전체 투표 수
-        int totalVotes = votedCountList.stream().mapToInt(Integer::intValue).sum();
 
         // 고유 투표자 수
-        int uniqueVoterCount = (int) allEpisodeStars.stream()
-                    .map(es -> es.getWeekVoteSubmission().getId())
-                    .distinct()
-                    .count();
+        int uniqueVoterCount = tally.uniqueVoterCount();
         lastWeek.updateAnimeVotes(totalVotes, uniqueVoterCount);
-        int minVotes = (int) Math.ceil(0.1 * uniqueVoterCount);
 
         // 가중치 총 합계
         double weightedSum = votedEpisodes.stream()
@@ -168,44 +131,24 @@ public class ChartService {
                 .sum();  // 전체 합계 10점 만점 스케일로 맞춤
 
         // === median 리스트 만들기 === //
-        List<Integer> medianList = votedEpisodes.stream()
-                .map(Episode::getVoterCount)
+        int[] medianList = votedEpisodes.stream()
+                .mapToInt(Episode::getVoterCount)
                 .sorted()
-                .toList();
-
-        int size = medianList.size();
-
-        int median = (size == 0) ? 0 :
-                (size % 2 == 1)
-                        ? medianList.get(size / 2)
-                        : (medianList.get(size / 2 - 1) + medianList.get(size / 2)) / 2;
-
-        double C = totalVotes == 0 ? 0.0 : weightedSum / totalVotes;
-
-        int p75 = computeP75(votedCountList);  // 에피소드별 득표수의 75 분위수
-        int mRule = Math.round(0.25f * uniqueVoterCount);
-        int m = Math.max(median, Math.max(p75, mRule));
+                .toArray();
 
-        m = Math.max(m, 10); // 하한
-
-        int mCap = (int) Math.min(100, Math.round(0.3 * uniqueVoterCount));
-        m = Math.min(m, mCap); // 상한 (유입 급증 방지)
+        Policy policy = DuckstarRanking.policyOf(
+                totalVotes,
+                uniqueVoterCount,
+                weightedSum,
+                medianList,
+                votedCountList
+        );
 
-        System.out.println("=====투표 정책=====");
-        System.out.println("totalVotes = " + totalVotes);
-        System.out.println("uniqueVoterCount = " + uniqueVoterCount);
-        System.out.println("minVotes = " + minVotes);
-        System.out.println("weightedSum = " + weightedSum);
-        System.out.println("m = " + m);
-        System.out.println("C = " + C);
+        log.info("[투표 정책] weekId={}, totalVotes={}, uniqueVoterCount={}, minVotes={}, weightedSum={}, m={}, C={}",
+                lastWeekId, totalVotes, uniqueVoterCount, policy.minVotes(), weightedSum, policy.m(), policy.C());
 
         //=== 정렬 및 차트 만들기 ===//
-        Map<Integer, List<Episode>> chart = buildChart(
-                votedEpisodes,
-                m,
-                C,
-                minVotes
-        );
+        Map<Integer, List<Episode>> chart = buildChart(votedEpisodes, policy);
 
         //=== Anime 스트릭과 결합, RankInfo 셋팅 ===//
         for (Map.Entry<Integer, List<Episode>> entry : chart.entrySet()) {
@@ -228,125 +171,29 @@ public class ChartService {
         lastWeek.setAnnouncePrepared(true);
     }
 
-    private int computeP75(List<Integer> voterCountList) {
-        if (voterCountList == null || voterCountList.isEmpty()) {
-            return 0; // 안전장치
-        }
-
-        List<Integer> sorted = voterCountList.stream()
-                .sorted()
-                .toList();
-
-        int n = sorted.size();
-        double pos = 0.75 * (n - 1);
-        int lowerIndex = (int) Math.floor(pos);
-        int upperIndex = (int) Math.ceil(pos);
-
-        if (lowerIndex == upperIndex) {
-            return sorted.get(lowerIndex);
-        } else {
-            double lower = sorted.get(lowerIndex);
-            double upper = sorted.get(upperIndex);
-            double value = lower + (pos - lowerIndex) * (upper - lower);
-            return (int) Math.round(value); // 분위수를 정수로 반환
-        }
-    }
-
     private Map<Integer, List<Episode>> buildChart(
             List<Episode> episodes,
-            int m,
-            double C,
-            int minVotes
+            Policy policy
     ) {
-        final double kappa = 0.6;
         //=== 베이지안 계산 ===//
         for (Episode episode : episodes) {
-            int deficit = Math.max(0, minVotes - episode.getVoterCount());
-            int mDynamic = m + (int) (kappa * deficit);
-            mDynamic = Math.min(mDynamic, 100);  // 상한
-
-            episode.calculateBayesScore(mDynamic, C);
-        }
-
-        //=== episodes 정렬 ===//
-
-        episodes.sort((a, b) -> {
-            double bBayes = b.getBayesScore();
-            double aBayes = a.getBayesScore();
-            double bayesDiff = bBayes - aBayes;  // DESC
-
-            int bV = b.getVoterCount();
-            int aV = a.getVoterCount();
-            // 베이지안 점수 우선
-            if (Math.abs(bayesDiff) >= epsDynamic(aV, bV)) {  // 동적 엡실론 타이브레이커
-                return bayesDiff > 0 ? 1 : -1;
-            }
-
-            // 점수 차이가 EPS 미만 -> 동점으로 간주
-            int byVoterCount = Integer.compare(bV, aV);
-            if (byVoterCount != 0) return byVoterCount;
-
-            double averageDiff = b.getUiStarAverage() - a.getUiStarAverage();  // DESC
-            if (averageDiff != 0) {
-                return averageDiff > 0 ? 1 : -1;
-            }
-            return 0;
-        });
-
-        //=== Competition Ranking (공통 루틴) ===//
-        Map<Integer, List<Episode>> chart = new LinkedHashMap<>();
-        int processed = 0;                 // 누적 항목 수
-        int currentGroupSize = 0;          // 현재 그룹 크기
-        int rank = 1;
-
-        //=== episodes 그룹핑 (키: bayesScore + voterCount) ===//
-        double prevScore = Double.NaN;
-        int prevVoterCount = Integer.MIN_VALUE;
-        double prevAverage = Double.NaN;
-
-        for (Episode episode : episodes) {
-            double bayesScore = episode.getBayesScore();
-            int voterCount = episode.getVoterCount();
-            double starAverage = episode.getUiStarAverage();
-
-            boolean newGroup = currentGroupSize == 0
-                    || Math.abs(prevScore - bayesScore) > epsDynamic(voterCount, prevVoterCount)
-                    || prevAverage != starAverage
-                    || prevVoterCount != voterCount;
-
-            if (newGroup) {
-                // 이전 그룹 마감 → 누적 반영 & 새 랭크
-                processed += currentGroupSize;
-                rank = processed + 1;
-                chart.put(rank, new ArrayList<>());
-                currentGroupSize = 0;
-            }
-            chart.get(rank).add(episode);  // 동일 순위 처리
-            currentGroupSize += 1;
-
-            prevScore = bayesScore;
-            prevVoterCount = voterCount;
-            prevAverage = starAverage;
+            int mDynamic = DuckstarRanking.mDynamic(policy, episode.getVoterCount());
+            episode.calculateBayesScore(mDynamic, policy.C());
         }
-        // 마지막 그룹 반영 (마감)
-        processed += currentGroupSize;
 
-        // ...
-
-        return chart;
-    }
-
-    private double epsDynamic(int a, int b) {
-        // 작은 표본 쪽 불확실성 우선 반영
-        double base = BASE_WEIGHT * (1/Math.sqrt(a) + 1/Math.sqrt(b));
-
-        // 최소 허용치
-        double min = 0.005;
-        return Math.max(min, base);
+        //=== 정렬 및 Competition Ranking ===//
+        return DuckstarRanking.rank(
+                episodes,
+                Episode::getBayesScore,
+                Episode::getVoterCount,
+                Episode::getUiStarAverage
+        );
     }
 
     @Transactional
     public void createBanners(Long lastWeekId) {
+        readModelCaches.evictWeekly();
+
         Week lastWeek = weekRepository.findWeekById(lastWeekId).orElseThrow(() ->
                 new WeekHandler(ErrorStatus.WEEK_NOT_FOUND));
 
@@ -443,15 +290,16 @@ public class ChartService {
             throw new SurveyHandler(ErrorStatus.SURVEY_NOT_CLOSED);
         }
 
-        // 전체 표에서 제외, 통계 맵 구성
-        Map<Long, SurveyStatRecord> statMap = surveyVoteRepository
-                .getEligibleStatMapBySurveyId(surveyId, outlaws);
+        // 제출/표를 한 번만 스트리밍하며 제외 IP 를 거르고 후보별로 집계
+        SurveyAwardTally tally = new SurveyAwardTally(outlaws);
+        surveyVoteBatchRepository.streamBallots(surveyId, tally::add);
 
         //=== 통계 셋팅 ===//
+        // 후보 엔티티 변경은 flush 시 batch_size 단위 UPDATE 로 묶임
         int totalVotes = 0;
         List<SurveyCandidate> candidates = surveyCandidateRepository.findAllBySurvey_Id(surveyId);
         for (SurveyCandidate candidate : candidates) {
-            SurveyStatRecord record = statMap.get(candidate.getId());
+            SurveyStatRecord record = tally.statOf(candidate.getId());
             if (record == null) {
                 continue;
             }
@@ -503,12 +351,6 @@ public class ChartService {
         }
 
         // 전체 투표자 수
-        Long totalVoterCount = surveyVoteSubmissionRepository
-                .getEligibleCountBySurveyId(surveyId, outlaws);
-
-        survey.setVotesAndVoterCount(
-                totalVotes,
-                totalVoterCount == null ? 0 : totalVoterCount.intValue()
-        );
+        survey.setVotesAndVoterCount(totalVotes, tally.voterCount());
     }
 }
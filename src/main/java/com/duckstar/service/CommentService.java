@@ -6,19 +6,26 @@ import com.duckstar.domain.Anime;
 import com.duckstar.domain.Member;
 import com.duckstar.domain.enums.CommentSortType;
 import com.duckstar.domain.enums.CommentStatus;
+import com.duckstar.domain.enums.ImageTarget;
 import com.duckstar.domain.mapping.CommentLike;
 import com.duckstar.domain.mapping.weeklyVote.Episode;
 import com.duckstar.domain.mapping.weeklyVote.EpisodeStar;
 import com.duckstar.domain.mapping.comment.AnimeComment;
 import com.duckstar.repository.AnimeComment.AnimeCommentRepository;
+import com.duckstar.repository.AnimeComment.AnimeCommentRepositoryCustom.CommentSlice;
+import com.duckstar.repository.AnimeComment.CommentCursor;
 import com.duckstar.repository.AnimeRepository;
 import com.duckstar.repository.CommentLikeRepository;
 import com.duckstar.repository.Episode.EpisodeRepository;
-import com.duckstar.repository.EpisodeStar.EpisodeStarRepository;
-import com.duckstar.s3.S3Uploader;
+import com.duckstar.repository.ImageUrlPatchRepository;
+import com.duckstar.s3.ImageUploadPipeline;
+import com.duckstar.s3.ImageUploadPipeline.StagedImage;
+import com.duckstar.s3.ImageUploadPipeline.Usage;
 import com.duckstar.security.MemberPrincipal;
 import com.duckstar.security.repository.MemberRepository;
 import com.duckstar.service.AnimeService.AnimeQueryService;
+import com.duckstar.service.VoteService.EpisodeStarHistogram;
+import com.duckstar.service.VoteService.MemberVoteCounter;
 import com.duckstar.web.dto.CommentResponseDto.CommentDto;
 import com.duckstar.web.dto.CommentResponseDto.DeleteResultDto;
 import com.duckstar.web.dto.PageInfo;
@@ -45,10 +52,15 @@ public class CommentService {
     private final CommentLikeRepository commentLikeRepository;
     private final MemberRepository memberRepository;
     private final AnimeRepository animeRepository;
-    private final EpisodeStarRepository episodeStarRepository;
+    private final MemberVoteCounter memberVoteCounter;
 
     private final AnimeQueryService animeQueryService;
-    private final S3Uploader s3Uploader;
+    private final ImageUploadPipeline imageUploadPipeline;
+    private final ImageUrlPatchRepository imageUrlPatchRepository;
+    private final EpisodeStarHistogram starHistogram;
+    private final AnimeCommentCounter animeCommentCounter;
+    private final LikeCounter likeCounter;
+    private final ViewerLikeHydrator viewerLikeHydrator;
 
     @Transactional
     public CommentDto leaveAnimeComment(
@@ -67,11 +79,7 @@ public class CommentService {
         Member author = memberRepository.findById(memberId).orElseThrow(() ->
                 new MemberHandler(ErrorStatus.MEMBER_NOT_FOUND));
 
-        int voteCount = episodeStarRepository
-                .countAllByEpisode_Anime_IdAndWeekVoteSubmission_Member_Id(
-                        animeId,
-                        memberId
-                );
+        int voteCount = memberVoteCounter.countOf(memberId, animeId);
 
         boolean isUserTaggedEp = false;
         Long episodeId = request.getEpisodeId();
@@ -91,10 +99,13 @@ public class CommentService {
                     .orElse(null);
         }
 
+        // 첨부 이미지는 자리표시 URL 로 먼저 저장, 커밋 이후 처리되면 교체
+        StagedImage stagedImage = null;
         String imageUrl = null;
         MultipartFile image = request.getAttachedImage();
         if (image != null && !image.isEmpty()) {
-            imageUrl = s3Uploader.uploadWithUUID(image, "comments");
+            stagedImage = imageUploadPipeline.stage(image, Usage.COMMENT);
+            imageUrl = stagedImage.placeholderUrl();
         }
 
         AnimeComment animeComment = AnimeComment.create(
@@ -108,6 +119,14 @@ public class CommentService {
         );
 
         AnimeComment saved = animeCommentRepository.save(animeComment);
+        animeCommentCounter.increase(animeId);
+
+        if (stagedImage != null) {
+            Long commentId = saved.getId();
+            String placeholderUrl = imageUrl;
+            imageUploadPipeline.processAfterCommit(stagedImage, ImageTarget.COMMENT, commentId, null, url ->
+                    imageUrlPatchRepository.patchCommentImage(commentId, placeholderUrl, url) > 0);
+        }
 
         return CommentDto.ofCreated(saved, author, voteCount);
     }
@@ -116,6 +135,7 @@ public class CommentService {
             Long animeId,
             List<Long> episodeIds,
             CommentSortType sortBy,
+            String cursor,
             Pageable pageable,
             MemberPrincipal principal
     ) {
@@ -123,35 +143,50 @@ public class CommentService {
             episodeIds = List.of();
         }
 
-        int page = pageable.getPageNumber();
+        // 커서가 없으면 첫 슬라이스 (page 는 커서 이전 클라이언트 호환용 offset)
+        CommentCursor after = cursor == null || cursor.isBlank() ?
+                null :
+                CommentCursor.decode(cursor, sortBy);
+
+        int page = after == null ? pageable.getPageNumber() : 0;
         int size = pageable.getPageSize();
 
         Integer totalCount = null;
-        if (page == 0) {
-            totalCount = animeCommentRepository.countTotalElements(animeId, episodeIds);
+        if (after == null && page == 0) {
+            // 에피소드 필터는 조합이 많아 유지하지 않고 그때 COUNT
+            totalCount = episodeIds.isEmpty() ?
+                    animeCommentCounter.get(animeId) :
+                    animeCommentRepository.countTotalElements(animeId, episodeIds);
         }
 
-        List<CommentDto> rows = animeCommentRepository.getCommentDtos(
+        CommentSlice slice = animeCommentRepository.getCommentSlice(
                 animeId,
                 episodeIds,
                 sortBy,
                 principal,
+                after,
                 page * size,
-                size + 1
+                size
         );
 
-        boolean commentsHasNext = rows.size() > size;
-        if (commentsHasNext) rows = rows.subList(0, size);
+        viewerLikeHydrator.hydrateComments(slice.commentDtos(), principal);
+
+        // 아직 반영되지 않은 좋아요 증감분 합산
+        for (CommentDto dto : slice.commentDtos()) {
+            if (dto.getLikeCount() == null) continue;
+            dto.setLikeCount(likeCounter.countOf(LikeCounter.Target.COMMENT, dto.getCommentId(), dto.getLikeCount()));
+        }
 
         PageInfo pageInfo = PageInfo.builder()
-                .hasNext(commentsHasNext)
+                .hasNext(slice.hasNext())
                 .page(page)
                 .size(size)
+                .nextCursor(slice.nextCursor() == null ? null : slice.nextCursor().encode())
                 .build();
 
         return AnimeCommentSliceDto.builder()
                 .totalCount(totalCount)
-                .commentDtos(rows)
+                .commentDtos(slice.commentDtos())
                 .pageInfo(pageInfo)
                 .build();
     }
@@ -166,33 +201,41 @@ public class CommentService {
             throw new AuthHandler(ErrorStatus.PRINCIPAL_NOT_FOUND);
         }
 
-        AnimeComment comment = animeCommentRepository.findById(commentId).orElseThrow(() ->
+        // 댓글, 회원 엔티티는 읽지 않음 (좋아요 수는 LikeCounter 가 따로 반영)
+        Integer persistedCount = animeCommentRepository.findLikeCountById(commentId).orElseThrow(() ->
                 new CommentHandler(ErrorStatus.COMMENT_NOT_FOUND));
-        Member member = memberRepository.findById(principal.getId()).orElseThrow(() ->
-                new MemberHandler(ErrorStatus.MEMBER_NOT_FOUND));
+        Long memberId = principal.getId();
 
         CommentLike commentLike = null;
+        int delta = 0;
         if (commentLikeId != null) {
             commentLike = commentLikeRepository.findById(commentLikeId)
                     .orElseThrow(() -> new LikeHandler(ErrorStatus.LIKE_NOT_FOUND));
 
-            if (!Objects.equals(commentLike.getComment(), comment) ||
-                    !Objects.equals(commentLike.getMember(), member)) {
+            if (!Objects.equals(commentLike.getComment().getId(), commentId) ||
+                    !Objects.equals(commentLike.getMember().getId(), memberId)) {
                 throw new LikeHandler(ErrorStatus.LIKE_UNAUTHORIZED);
             }
 
-            commentLike.restoreLike();
+            delta = commentLikeRepository.updateLiked(commentLikeId, true, LocalDateTime.now());
         } else {
-            Optional<CommentLike> likeOpt = commentLikeRepository.findByCommentAndMember(comment, member);
-            // 여기서 존재하는 경우는 그냥 무시-> 빈 dto 반환
+            // 동시에 들어온 같은 요청은 부모 행 잠금에서 줄 섬 (유니크 키가 없는 DB 에서도 한 행만 생김)
+            animeCommentRepository.lockById(commentId).orElseThrow(() ->
+                    new CommentHandler(ErrorStatus.COMMENT_NOT_FOUND));
 
-            if (likeOpt.isEmpty()) {
-                commentLike = CommentLike.create(comment, member);
-                commentLike = commentLikeRepository.save(commentLike);
+            // 여기서 존재하는 경우는 그냥 무시-> 빈 dto 반환
+            if (commentLikeRepository.countForUpdate(commentId, memberId) == 0) {
+                delta = commentLikeRepository.insertLike(commentId, memberId, LocalDateTime.now());
+                commentLike = commentLikeRepository.findByComment_IdAndMember_Id(commentId, memberId)
+                        .orElseThrow(() -> new LikeHandler(ErrorStatus.LIKE_NOT_FOUND));
             }
         }
 
-        return LikeResultDto.ofComment(commentLike);
+        likeCounter.record(LikeCounter.Target.COMMENT, commentId, delta);
+
+        // 이번 증감은 커밋 이후 반영되므로 직접 더함 (음수 보정은 countOf 에서 합친 뒤에)
+        int likeCount = likeCounter.countOf(LikeCounter.Target.COMMENT, commentId, persistedCount + delta);
+        return LikeResultDto.ofComment(commentLike, likeCount);
     }
 
     @Transactional
@@ -205,10 +248,9 @@ public class CommentService {
             throw new AuthHandler(ErrorStatus.PRINCIPAL_NOT_FOUND);
         }
 
-        AnimeComment comment = animeCommentRepository.findById(commentId).orElseThrow(() ->
+        Integer persistedCount = animeCommentRepository.findLikeCountById(commentId).orElseThrow(() ->
                 new CommentHandler(ErrorStatus.COMMENT_NOT_FOUND));
-        Member member = memberRepository.findById(principal.getId()).orElseThrow(() ->
-                new MemberHandler(ErrorStatus.MEMBER_NOT_FOUND));
+        Long memberId = principal.getId();
 
         if (commentLikeId == null) {
             throw new AuthHandler(ErrorStatus.LIKE_NOT_FOUND);
@@ -216,16 +258,18 @@ public class CommentService {
         CommentLike commentLike = commentLikeRepository.findById(commentLikeId)
                 .orElseThrow(() -> new LikeHandler(ErrorStatus.LIKE_NOT_FOUND));
 
-        if (!Objects.equals(commentLike.getComment(), comment) ||
-                !Objects.equals(commentLike.getMember(), member)) {
+        if (!Objects.equals(commentLike.getComment().getId(), commentId) ||
+                !Objects.equals(commentLike.getMember().getId(), memberId)) {
             throw new LikeHandler(ErrorStatus.DISLIKE_UNAUTHORIZED);
         }
 
-        commentLike.discardLike();
+        LocalDateTime now = LocalDateTime.now();
+        int delta = -commentLikeRepository.updateLiked(commentLikeId, false, now);
+        likeCounter.record(LikeCounter.Target.COMMENT, commentId, delta);
 
         return DiscardLikeResultDto.builder()
-                .likeCount(commentLike.getComment().getLikeCount())
-                .discardedAt(commentLike.getUpdatedAt())
+                .likeCount(likeCounter.countOf(LikeCounter.Target.COMMENT, commentId, persistedCount + delta))
+                .discardedAt(delta != 0 ? now : commentLike.getUpdatedAt())
                 .build();
     }
 
@@ -240,6 +284,7 @@ public class CommentService {
 
         AnimeComment comment = animeCommentRepository.findById(commentId).orElseThrow(() ->
                 new CommentHandler(ErrorStatus.COMMENT_NOT_FOUND));
+        boolean wasCounted = comment.getStatus() == CommentStatus.NORMAL;
 
         boolean isAuthor = Objects.equals(comment.getAuthor().getId(), principal.getId());
         boolean isAdmin = principal.isAdmin();
@@ -247,7 +292,7 @@ public class CommentService {
         //=== 만약 늦참에 의해 생성된 댓글이라면 별점도 회수 ===//
         EpisodeStar episodeStar = comment.getEpisodeStar();
         if (episodeStar != null && episodeStar.isLateParticipating()) {
-            episodeStar.withdrawScore();
+            starHistogram.withdraw(episodeStar);
         }
 
         if (isAuthor) {
@@ -260,6 +305,10 @@ public class CommentService {
             throw new CommentHandler(ErrorStatus.DELETE_UNAUTHORIZED);
         }
 
+        if (wasCounted) {
+            animeCommentCounter.decrease(comment.getContentIdForIdx());
+        }
+
         return DeleteResultDto.builder()
                 .status(comment.getStatus())
                 .createdAt(comment.getCreatedAt())
@@ -0,0 +1,185 @@
+package com.duckstar.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 키별 증감분(int[]) 을 메모리에 모았다가 주기적으로 한 번에 DB 에 더하는 공용 누산기
+ * (EpisodeStarHistogram, SurveyLiveTally, LikeCounter 가 사용)
+ *
+ *  - add: 키마다 원자적으로 합침 (ConcurrentHashMap.compute), 합이 0 이 되면 항목을 지움
+ *  - stripes > 1 이면 스레드별로 다른 맵에 더해 같은 키에 몰리는 경합을 나눔 (flush 때 합침)
+ *  - flush: 꺼낸 증감분을 inFlight 로 옮긴 뒤 새 트랜잭션(REQUIRES_NEW) 에서 applier 호출.
+ *    호출한 쪽 트랜잭션과 무관하게 바로 커밋되고, 실패하면 다시 쌓아 다음 주기에 재시도
+ *  - 미반영분(pendingOf, snapshot) = 쌓인 증감분 + 반영 중인 증감분 (커밋 직전까지는 DB 에 없으므로)
+ */
+@Slf4j
+public class DeltaAccumulator<K> {
+
+    private final String name;
+    private final int slots;
+    private final Consumer<Map<K, int[]>> applier;
+    private final TransactionTemplate flushTransaction;
+
+    private final List<Map<K, int[]>> stripes = new ArrayList<>();
+    private final Map<K, int[]> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param name    로그에 남길 이름
+     * @param slots   증감분 배열 길이
+     * @param stripes 1 이상, 2 의 거듭제곱
+     * @param applier 꺼낸 증감분을 DB 에 더함 (flush 트랜잭션 안에서 호출)
+     */
+    public DeltaAccumulator(
+            String name,
+            int slots,
+            int stripes,
+            Consumer<Map<K, int[]>> applier,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.name = name;
+        this.slots = slots;
+        this.applier = applier;
+        for (int i = 0; i < stripes; i++) {
+            this.stripes.add(new ConcurrentHashMap<>());
+        }
+
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+        this.flushTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void add(K key, int[] delta) {
+        if (isZero(delta)) return;
+
+        stripe().compute(key, (k, current) -> {
+            int[] sum = current == null ? new int[slots] : current.clone();
+            for (int i = 0; i < slots; i++) {
+                sum[i] += delta[i];
+            }
+            return isZero(sum) ? null : sum;
+        });
+    }
+
+    public void add(K key, int slot, int delta) {
+        if (delta == 0) return;
+
+        int[] single = new int[slots];
+        single[slot] = delta;
+        add(key, single);
+    }
+
+    //=== 미반영분 조회 ===//
+
+    /**
+     * 아직 DB 에 반영되지 않은 증감분, 없으면 null
+     */
+    public int[] pendingOf(K key) {
+        int[] result = null;
+        for (Map<K, int[]> stripe : stripes) {
+            result = addTo(result, stripe.get(key));
+        }
+        return addTo(result, inFlight.get(key));
+    }
+
+    public Map<K, int[]> snapshot() {
+        Map<K, int[]> snapshot = new HashMap<>();
+        for (Map<K, int[]> stripe : stripes) {
+            stripe.forEach((key, delta) -> snapshot.merge(key, delta.clone(), this::sum));
+        }
+        inFlight.forEach((key, delta) -> snapshot.merge(key, delta.clone(), this::sum));
+        return snapshot;
+    }
+
+    /**
+     * 미반영분 스냅샷과 action 을 flush 와 겹치지 않게 함께 실행
+     *  - 스냅샷 뒤 DB 읽기 전에 flush 가 커밋되면 같은 증감이 두 번 세짐 (반대 순서면 빠짐)
+     *  - action 의 DB 읽기는 새 트랜잭션으로 (먼저 열린 읽기 스냅샷은 그 사이 커밋된 flush 를 못 봄)
+     */
+    public synchronized <T> T withSnapshot(Function<Map<K, int[]>, T> action) {
+        return action.apply(snapshot());
+    }
+
+    /**
+     * 쌓여 있는 키 수 (스트라이프가 여럿이면 같은 키가 중복으로 셀 수 있음)
+     */
+    public int size() {
+        int size = 0;
+        for (Map<K, int[]> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    //=== DB 반영 ===//
+
+    public synchronized void flush() {
+        Map<K, int[]> deltas = drain();
+        if (deltas.isEmpty()) return;
+
+        inFlight.putAll(deltas);
+        try {
+            flushTransaction.executeWithoutResult(status -> applier.accept(deltas));
+
+        } catch (Exception e) {
+            log.error("{} 반영 실패 - 다음 주기에 재시도, keys={}", name, deltas.size(), e);
+            deltas.forEach(this::add);
+
+        } finally {
+            inFlight.keySet().removeAll(deltas.keySet());
+        }
+    }
+
+    /**
+     * 키마다 remove 로 꺼냄 (꺼낸 뒤 들어온 증감은 새 항목으로 다음 주기에)
+     */
+    private Map<K, int[]> drain() {
+        Map<K, int[]> drained = new HashMap<>();
+        for (Map<K, int[]> stripe : stripes) {
+            for (K key : stripe.keySet()) {
+                int[] delta = stripe.remove(key);
+                if (delta != null) {
+                    drained.merge(key, delta, this::sum);
+                }
+            }
+        }
+        drained.values().removeIf(DeltaAccumulator::isZero);
+        return drained;
+    }
+
+    private Map<K, int[]> stripe() {
+        if (stripes.size() == 1) return stripes.get(0);
+
+        long id = Thread.currentThread().getId();
+        int h = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return stripes.get((h ^ (h >>> 16)) & (stripes.size() - 1));
+    }
+
+    private int[] sum(int[] a, int[] b) {
+        for (int i = 0; i < slots; i++) {
+            a[i] += b[i];
+        }
+        return a;
+    }
+
+    private int[] addTo(int[] result, int[] delta) {
+        if (delta == null) return result;
+        return result == null ? delta.clone() : sum(result, delta);
+    }
+
+    private static boolean isZero(int[] delta) {
+        for (int d : delta) {
+            if (d != 0) return false;
+        }
+        return true;
+    }
+}
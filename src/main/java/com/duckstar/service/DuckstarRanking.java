@@ -0,0 +1,182 @@
+package com.duckstar.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * 덕스타 베이지안 랭킹 공통 루틴
+ *  - 주간 확정 차트(ChartService.buildDuckstars) 와 실시간 잠정 차트(ProvisionalChartService) 가 함께 사용
+ */
+final class DuckstarRanking {
+
+    // 0.5(중간 수준) -> 0.3 으로 작아질 수록 평점 가중치 우선됨
+    // ⚠️ 권장: 0.5 또는 0.3
+    private static final double BASE_WEIGHT = 0.5;
+
+    private static final double KAPPA = 0.6;
+
+    private DuckstarRanking() {}
+
+    record Policy(int m, double C, int minVotes) {}
+
+    /**
+     * @param sortedMedianCounts 투표 받은 에피소드들의 투표 수 (오름차순)
+     * @param sortedVotedCounts  에피소드별 득표수 (0 제외, 오름차순)
+     */
+    static Policy policyOf(
+            int totalVotes,
+            int uniqueVoterCount,
+            double weightedSum,
+            int[] sortedMedianCounts,
+            List<Integer> sortedVotedCounts
+    ) {
+        int minVotes = (int) Math.ceil(0.1 * uniqueVoterCount);
+
+        int size = sortedMedianCounts.length;
+
+        int median = (size == 0) ? 0 :
+                (size % 2 == 1)
+                        ? sortedMedianCounts[size / 2]
+                        : (sortedMedianCounts[size / 2 - 1] + sortedMedianCounts[size / 2]) / 2;
+
+        double C = totalVotes == 0 ? 0.0 : weightedSum / totalVotes;
+
+        int p75 = computeP75(sortedVotedCounts);  // 에피소드별 득표수의 75 분위수
+        int mRule = Math.round(0.25f * uniqueVoterCount);
+        int m = Math.max(median, Math.max(p75, mRule));
+
+        m = Math.max(m, 10); // 하한
+
+        int mCap = (int) Math.min(100, Math.round(0.3 * uniqueVoterCount));
+        m = Math.min(m, mCap); // 상한 (유입 급증 방지)
+
+        return new Policy(m, C, minVotes);
+    }
+
+    /**
+     * 투표 수가 minVotes 에 못 미칠수록 m 을 키워 평균 쪽으로 더 당긴다
+     */
+    static int mDynamic(Policy policy, int voterCount) {
+        int deficit = Math.max(0, policy.minVotes() - voterCount);
+        int mDynamic = policy.m() + (int) (KAPPA * deficit);
+        return Math.min(mDynamic, 100);  // 상한
+    }
+
+    /**
+     * Episode.calculateBayesScore 와 같은 식
+     */
+    static double bayesScore(int voterCount, double starAverage, int m, double C) {
+        if (voterCount == 0) return 0.0;
+
+        return (double) voterCount / (voterCount + m) * starAverage +
+                (double) m / (voterCount + m) * C;
+    }
+
+    /**
+     * 정렬 후 Competition Ranking (동점은 같은 순위, 다음 순위는 건너뜀)
+     *
+     * @param items 정렬됨 (in-place)
+     * @return 순위 -> 해당 순위 항목들
+     */
+    static <T> Map<Integer, List<T>> rank(
+            List<T> items,
+            ToDoubleFunction<T> bayesScoreOf,
+            ToIntFunction<T> voterCountOf,
+            ToDoubleFunction<T> uiStarAverageOf
+    ) {
+        //=== 정렬 ===//
+        items.sort((a, b) -> {
+            double bBayes = bayesScoreOf.applyAsDouble(b);
+            double aBayes = bayesScoreOf.applyAsDouble(a);
+            double bayesDiff = bBayes - aBayes;  // DESC
+
+            int bV = voterCountOf.applyAsInt(b);
+            int aV = voterCountOf.applyAsInt(a);
+            // 베이지안 점수 우선
+            if (Math.abs(bayesDiff) >= epsDynamic(aV, bV)) {  // 동적 엡실론 타이브레이커
+                return bayesDiff > 0 ? 1 : -1;
+            }
+
+            // 점수 차이가 EPS 미만 -> 동점으로 간주
+            int byVoterCount = Integer.compare(bV, aV);
+            if (byVoterCount != 0) return byVoterCount;
+
+            double averageDiff = uiStarAverageOf.applyAsDouble(b) - uiStarAverageOf.applyAsDouble(a);  // DESC
+            if (averageDiff != 0) {
+                return averageDiff > 0 ? 1 : -1;
+            }
+            return 0;
+        });
+
+        //=== Competition Ranking (공통 루틴) ===//
+        Map<Integer, List<T>> chart = new LinkedHashMap<>();
+        int processed = 0;                 // 누적 항목 수
+        int currentGroupSize = 0;          // 현재 그룹 크기
+        int rank = 1;
+
+        //=== 그룹핑 (키: bayesScore + voterCount) ===//
+        double prevScore = Double.NaN;
+        int prevVoterCount = Integer.MIN_VALUE;
+        double prevAverage = Double.NaN;
+
+        for (T item : items) {
+            double bayesScore = bayesScoreOf.applyAsDouble(item);
+            int voterCount = voterCountOf.applyAsInt(item);
+            double starAverage = uiStarAverageOf.applyAsDouble(item);
+
+            boolean newGroup = currentGroupSize == 0
+                    || Math.abs(prevScore - bayesScore) > epsDynamic(voterCount, prevVoterCount)
+                    || prevAverage != starAverage
+                    || prevVoterCount != voterCount;
+
+            if (newGroup) {
+                // 이전 그룹 마감 → 누적 반영 & 새 랭크
+                processed += currentGroupSize;
+                rank = processed + 1;
+                chart.put(rank, new ArrayList<>());
+                currentGroupSize = 0;
+            }
+            chart.get(rank).add(item);  // 동일 순위 처리
+            currentGroupSize += 1;
+
+            prevScore = bayesScore;
+            prevVoterCount = voterCount;
+            prevAverage = starAverage;
+        }
+
+        return chart;
+    }
+
+    static int computeP75(List<Integer> sorted) {
+        if (sorted == null || sorted.isEmpty()) {
+            return 0; // 안전장치
+        }
+
+        int n = sorted.size();
+        double pos = 0.75 * (n - 1);
+        int lowerIndex = (int) Math.floor(pos);
+        int upperIndex = (int) Math.ceil(pos);
+
+        if (lowerIndex == upperIndex) {
+            return sorted.get(lowerIndex);
+        } else {
+            double lower = sorted.get(lowerIndex);
+            double upper = sorted.get(upperIndex);
+            double value = lower + (pos - lowerIndex) * (upper - lower);
+            return (int) Math.round(value); // 분위수를 정수로 반환
+        }
+    }
+
+    static double epsDynamic(int a, int b) {
+        // 작은 표본 쪽 불확실성 우선 반영
+        double base = BASE_WEIGHT * (1/Math.sqrt(a) + 1/Math.sqrt(b));
+
+        // 최소 허용치
+        double min = 0.005;
+        return Math.max(min, base);
+    }
+}
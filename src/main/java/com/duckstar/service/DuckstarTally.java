@@ -0,0 +1,197 @@
+package com.duckstar.service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 주간 덕스타 집계용 별점 카운터
+ *
+ *  - 별점 행을 한 번만 훑으며 (에피소드, IP, 점수) 별 개수만 원시 타입 해시맵에 누적한다.
+ *  - 집계가 끝나면 "같은 IP 에서 같은 점수 4개 이상" 인 (에피소드, IP) 를 제외하고
+ *    에피소드별 투표 수와 점수 분포를 만든다. (기존 buildDuckstars 필터와 동일한 결과)
+ */
+class DuckstarTally {
+    static final int REPEATED_SCORE_LIMIT = 4;
+
+    private static final int SCORE_BITS = 4;   // 1 ~ 10
+    private static final int IP_BITS = 32;
+
+    private final Map<Long, Integer> episodeIndexMap = new HashMap<>();
+    private final Map<String, Integer> ipIndexMap = new HashMap<>();
+
+    // key: (에피소드 idx, IP idx, 점수) -> 개수
+    private final LongIntHashMap episodeIpScoreCounts = new LongIntHashMap(1 << 12);
+    // 고유 투표자(제출 ID)
+    private final LongIntHashMap submissionIds = new LongIntHashMap(1 << 12);
+
+    private int[][] scores = new int[64][];
+    private int[] voterCounts = new int[64];
+
+    private boolean finished = false;
+
+    public void add(long episodeId, long submissionId, String ipHash, int starScore) {
+        int episodeIdx = episodeIndexMap.computeIfAbsent(episodeId, this::newEpisode);
+        int ipIdx = ipIndexMap.computeIfAbsent(ipHash, k -> ipIndexMap.size());
+
+        scores[episodeIdx][starScore - 1] += 1;
+        voterCounts[episodeIdx] += 1;
+
+        episodeIpScoreCounts.addTo(key(episodeIdx, ipIdx, starScore), 1);
+        submissionIds.addTo(submissionId, 1);
+    }
+
+    /**
+     * IP 남용 필터 적용
+     */
+    public DuckstarTally finish() {
+        if (finished) return this;
+        finished = true;
+
+        // (에피소드, IP) 중 같은 점수를 기준 이상 준 쌍
+        LongIntHashMap blockedPairs = new LongIntHashMap(64);
+        episodeIpScoreCounts.forEach((key, count) -> {
+            if (count >= REPEATED_SCORE_LIMIT) {
+                blockedPairs.addTo(key >>> SCORE_BITS, 1);
+            }
+        });
+        if (blockedPairs.size() == 0) return this;
+
+        // 해당 쌍의 모든 표 제외
+        episodeIpScoreCounts.forEach((key, count) -> {
+            if (blockedPairs.get(key >>> SCORE_BITS) == 0) return;
+
+            int episodeIdx = (int) (key >>> (SCORE_BITS + IP_BITS));
+            int score = (int) (key & ((1 << SCORE_BITS) - 1));
+            scores[episodeIdx][score - 1] -= count;
+            voterCounts[episodeIdx] -= count;
+        });
+        return this;
+    }
+
+    public boolean hasStars(Long episodeId) {
+        return episodeIndexMap.containsKey(episodeId);
+    }
+
+    /**
+     * 필터 후 투표 수 (별점이 하나도 없던 에피소드는 0)
+     */
+    public int voterCountOf(Long episodeId) {
+        Integer idx = episodeIndexMap.get(episodeId);
+        return idx == null ? 0 : voterCounts[idx];
+    }
+
+    /**
+     * 필터 후 점수 분포 [0.5점, 1.0점, ..., 5.0점]
+     */
+    public int[] scoresOf(Long episodeId) {
+        Integer idx = episodeIndexMap.get(episodeId);
+        return idx == null ? new int[10] : scores[idx].clone();
+    }
+
+    public int uniqueVoterCount() {
+        return submissionIds.size();
+    }
+
+    private int newEpisode(Long episodeId) {
+        int idx = episodeIndexMap.size();
+        if (idx == voterCounts.length) {
+            int capacity = idx * 2;
+            scores = Arrays.copyOf(scores, capacity);
+            voterCounts = Arrays.copyOf(voterCounts, capacity);
+        }
+        scores[idx] = new int[10];
+        return idx;
+    }
+
+    private static long key(int episodeIdx, int ipIdx, int starScore) {
+        return ((long) episodeIdx << (SCORE_BITS + IP_BITS))
+                | ((ipIdx & 0xFFFFFFFFL) << SCORE_BITS)
+                | starScore;
+    }
+
+    /**
+     * long -> int 개방 주소법 해시맵 (박싱 없이 카운트만 누적)
+     */
+    static final class LongIntHashMap {
+        private static final long EMPTY = Long.MIN_VALUE;
+
+        private long[] keys;
+        private int[] values;
+        private int size;
+        private int mask;
+
+        LongIntHashMap(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(expected, 4) * 2 - 1) << 1;
+            allocate(capacity);
+        }
+
+        int addTo(long key, int delta) {
+            int i = indexOf(key);
+            if (keys[i] == EMPTY) {
+                keys[i] = key;
+                values[i] = delta;
+                if (++size * 2 > keys.length) {
+                    rehash();
+                }
+                return delta;
+            }
+            return values[i] += delta;
+        }
+
+        int get(long key) {
+            int i = indexOf(key);
+            return keys[i] == EMPTY ? 0 : values[i];
+        }
+
+        int size() {
+            return size;
+        }
+
+        void forEach(LongIntConsumer consumer) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != EMPTY) {
+                    consumer.accept(keys[i], values[i]);
+                }
+            }
+        }
+
+        private int indexOf(long key) {
+            int i = mix(key) & mask;
+            while (keys[i] != EMPTY && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            return i;
+        }
+
+        private void rehash() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            allocate(oldKeys.length * 2);
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    int j = indexOf(oldKeys[i]);
+                    keys[j] = oldKeys[i];
+                    values[j] = oldValues[i];
+                }
+            }
+        }
+
+        private void allocate(int capacity) {
+            keys = new long[capacity];
+            values = new int[capacity];
+            Arrays.fill(keys, EMPTY);
+            mask = capacity - 1;
+        }
+
+        private static int mix(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+
+    @FunctionalInterface
+    interface LongIntConsumer {
+        void accept(long key, int value);
+    }
+}
@@ -8,8 +8,6 @@ import static com.duckstar.web.dto.admin.ContentResponseDto.*;
 import static com.duckstar.web.dto.admin.EpisodeRequestDto.*;
 
 public interface EpisodeCommandService {
-    void updateAllEpisodeStates();
-
     List<ManagerProfileDto> modifyEpisode(Long memberId, Long episodeId, ModifyRequestDto request);
 
     EpisodeManageResultDto breakEpisode(Long memberId, Long episodeId);
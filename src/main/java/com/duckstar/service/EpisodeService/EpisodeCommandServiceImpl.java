@@ -12,6 +12,7 @@ import com.duckstar.domain.mapping.AdminActionLog;
 import com.duckstar.domain.mapping.weeklyVote.Episode;
 import com.duckstar.repository.AnimeRepository;
 import com.duckstar.repository.Episode.EpisodeRepository;
+import com.duckstar.schedule.EpisodeStateTimeline;
 import com.duckstar.security.repository.MemberRepository;
 import com.duckstar.service.AdminActionLogService;
 import com.duckstar.service.CommentService;
@@ -41,17 +42,11 @@ public class EpisodeCommandServiceImpl implements EpisodeCommandService {
 
     private final CommentService commentService;
     private final AdminActionLogService adminActionLogService;
+    private final EpisodeStateTimeline episodeStateTimeline;
 
     final int MIN_EPISODE_GAP_MINUTES = 24;
     private final AnimeRepository animeRepository;
 
-    @Override
-    public void updateAllEpisodeStates() {
-        LocalDateTime now = LocalDateTime.now();
-        List<Episode> allEpisodes = episodeRepository.findAll();
-        allEpisodes.forEach(episode -> episode.updateEvaluateState(now));
-    }
-
     @Override
     public List<ManagerProfileDto> modifyEpisode(
             Long memberId,
@@ -83,6 +78,7 @@ public class EpisodeCommandServiceImpl implements EpisodeCommandService {
 
             // 시간 수정 및 앞뒤 간격 검증
             validateAndReschedule(episodes, idx, rescheduledAt);
+            episodeStateTimeline.requestReload();
 
             logs.add(adminActionLogService.saveAdminActionLog(
                     member, targetEp, AdminTaskType.EPISODE_RESCHEDULE));
@@ -163,6 +159,7 @@ public class EpisodeCommandServiceImpl implements EpisodeCommandService {
                 true
         );
         Episode saved = episodeRepository.save(newLast);
+        episodeStateTimeline.requestReload();
 
         //=== 댓글 연관관계 재설정 및 로그 기록 ===//
         commentService.redefineRelationWithTails(
@@ -227,6 +224,8 @@ public class EpisodeCommandServiceImpl implements EpisodeCommandService {
             }
         }
 
+        episodeStateTimeline.requestReload();
+
         // 애니메이션 totalEpisodes 변경
         Integer totalEpisodes = anime.getTotalEpisodes();
         if (totalEpisodes != null) anime.setTotalEpisodes(totalEpisodes - 1);
@@ -281,6 +280,7 @@ public class EpisodeCommandServiceImpl implements EpisodeCommandService {
                 true
         );
         Episode saved = episodeRepository.save(newLast);
+        episodeStateTimeline.requestReload();
 
         //=== 댓글 연관관계 재설정 및 로그 기록 ===//
         commentService.redefineRelationWithTails(
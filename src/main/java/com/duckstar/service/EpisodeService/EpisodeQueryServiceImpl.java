@@ -9,6 +9,7 @@ import com.duckstar.repository.AnimeRepository;
 import com.duckstar.repository.Episode.EpisodeRepository;
 import com.duckstar.repository.Week.WeekRepository;
 import com.duckstar.schedule.ScheduleHandler;
+import com.duckstar.service.VoteService.EpisodeStarHistogram;
 import com.duckstar.service.WeekService;
 import com.duckstar.web.dto.admin.ContentResponseDto.AdminEpisodeListDto;
 import com.duckstar.web.support.VoteCookieManager;
@@ -38,6 +39,7 @@ public class EpisodeQueryServiceImpl implements EpisodeQueryService {
 
     private final VoteCookieManager voteCookieManager;
     private final ScheduleHandler scheduleHandler;
+    private final EpisodeStarHistogram starHistogram;
 
     /**
      * 별점 투표 방식
@@ -59,7 +61,7 @@ public class EpisodeQueryServiceImpl implements EpisodeQueryService {
 
         // 전체 VOTING_WINDOW 상태 에피소드들 조회
         List<LiveCandidateDto> candidates = episodeRepository
-                .getLiveCandidateDtos(principalKeys);
+                .getLiveCandidateDtos(principalKeys, starHistogram.pendingSnapshot());
 
         LocalDateTime now = LocalDateTime.now();
         Week currentWeek = scheduleHandler.getSafeWeekByTime(now);
@@ -2,6 +2,8 @@ package com.duckstar.service;
 
 import com.duckstar.apiPayload.code.status.ErrorStatus;
 import com.duckstar.apiPayload.exception.handler.WeekHandler;
+import com.duckstar.cache.ReadModelCaches;
+import com.duckstar.cache.ReadModelCaches.WeeklyTopKey;
 import com.duckstar.domain.HomeBanner;
 import com.duckstar.domain.Week;
 import com.duckstar.repository.HomeBannerRepository;
@@ -15,6 +17,7 @@ import com.duckstar.web.dto.WeekResponseDto.WeekDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -29,8 +32,15 @@ public class HomeService {
     private final HomeBannerRepository homeBannerRepository;
 
     private final AnimeQueryService animeQueryService;
+    private final ReadModelCaches readModelCaches;
 
+    // 캐시 적중 시 트랜잭션 없이 반환 (로드는 캐시가 읽기 전용 트랜잭션으로 실행)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public HomeDto getHome(int size) {
+        return readModelCaches.home().get(size, () -> loadHome(size));
+    }
+
+    private HomeDto loadHome(int size) {
         LocalDateTime now = LocalDateTime.now();
         List<Week> nowToPast12Weeks = weekRepository
                 .findByStartDateTimeLessThanEqualOrderByStartDateTimeDesc(
@@ -69,7 +79,7 @@ public class HomeService {
 
         return HomeDto.builder()
                 .weeklyTopDto(
-                        getAnimeWeeklyTop(lastWeek.getId(), size)
+                        loadAnimeWeeklyTop(lastWeek.getId(), size)
                 )
                 .homeBannerDtos(homeBannerDtos)
                 .currentWeekDto(WeekDto.of(currentWeek))
@@ -77,7 +87,13 @@ public class HomeService {
                 .build();
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public WeeklyTopDto getAnimeWeeklyTop(Long weekId, int size) {
+        return readModelCaches.weeklyTop().get(
+                new WeeklyTopKey(weekId, size), () -> loadAnimeWeeklyTop(weekId, size));
+    }
+
+    private WeeklyTopDto loadAnimeWeeklyTop(Long weekId, int size) {
         Week week = weekRepository.findById(weekId)
                 .orElseThrow(() -> new WeekHandler(ErrorStatus.WEEK_NOT_FOUND));
 
@@ -0,0 +1,116 @@
+package com.duckstar.service;
+
+import com.duckstar.repository.LikeCountBatchRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 댓글/답글 좋아요 수 모아서 반영 (app.like.counter.enabled=false 면 호출한 트랜잭션 안에서 바로 반영)
+ *
+ *  - 좋아요 여부(CommentLike, ReplyLike 의 isLiked) 는 바뀐 경우에만 증감을 기록 -> 같은 요청이 반복돼도 한 번만 셈
+ *  - 증감은 커밋 이후 메모리(DeltaAccumulator) 에 대상별로 합쳐 두고, 주기적으로 `like_count = like_count + ?` 배치로 반영
+ *    (인기 댓글 한 행에 좋아요마다 UPDATE 가 몰려 줄 서지 않게, 인스턴스가 여럿이어도 합산됨)
+ *  - 조회 시 DB 값 + 이 인스턴스에서 아직 반영되지 않은 증감분, 음수는 여기서 0 으로
+ *    (DB 에는 증감을 자르지 않고 그대로 더함 -> 인스턴스 간 도착 순서가 달라도 합은 맞음)
+ *  - 종료 시 남은 증감분 반영, 비정상 종료 시 마지막 주기분은 유실될 수 있음 (좋아요 행 자체는 남음)
+ *  - 지표: like.counter.pending{target}
+ */
+@Component
+public class LikeCounter {
+
+    public enum Target { COMMENT, REPLY }
+
+    private final LikeCountBatchRepository batchRepository;
+
+    @Value("${app.like.counter.enabled:true}")
+    private boolean enabled;
+
+    // 대상 -> (ID -> [증감])
+    private final Map<Target, DeltaAccumulator<Long>> accumulators = new EnumMap<>(Target.class);
+
+    public LikeCounter(
+            LikeCountBatchRepository batchRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.batchRepository = batchRepository;
+
+        for (Target target : Target.values()) {
+            DeltaAccumulator<Long> accumulator = new DeltaAccumulator<>(
+                    "좋아요 수(" + target + ")", 1, 1, deltas -> apply(target, countsOf(deltas)), transactionManager);
+            accumulators.put(target, accumulator);
+
+            Gauge.builder("like.counter.pending", accumulator, DeltaAccumulator::size)
+                    .tag("target", target.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 좋아요 수 증감, 트랜잭션 안이면 커밋 이후 반영
+     */
+    public void record(Target target, Long id, int delta) {
+        if (delta == 0) return;
+
+        if (!enabled) {
+            apply(target, Map.of(id, delta));
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    accumulators.get(target).add(id, 0, delta);
+                }
+            });
+        } else {
+            accumulators.get(target).add(id, 0, delta);
+        }
+    }
+
+    /**
+     * @param persisted DB 에서 읽은 like_count
+     * @return DB 값 + 아직 반영되지 않은 증감분
+     */
+    public int countOf(Target target, Long id, Integer persisted) {
+        int count = persisted == null ? 0 : persisted;
+        int[] pending = accumulators.get(target).pendingOf(id);
+        if (pending != null) count += pending[0];
+        return Math.max(count, 0);
+    }
+
+    @Scheduled(fixedDelayString = "${app.like.counter.flush-interval-ms:1000}")
+    public void flush() {
+        accumulators.values().forEach(DeltaAccumulator::flush);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void apply(Target target, Map<Long, Integer> deltas) {
+        switch (target) {
+            case COMMENT -> batchRepository.addCommentLikeCounts(deltas);
+            case REPLY -> batchRepository.addReplyLikeCounts(deltas);
+        }
+    }
+
+    private static Map<Long, Integer> countsOf(Map<Long, int[]> deltas) {
+        Map<Long, Integer> counts = new HashMap<>();
+        deltas.forEach((id, delta) -> counts.put(id, delta[0]));
+        return counts;
+    }
+}
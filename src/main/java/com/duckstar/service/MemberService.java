@@ -4,6 +4,11 @@ import com.duckstar.apiPayload.code.status.ErrorStatus;
 import com.duckstar.apiPayload.exception.handler.AuthHandler;
 import com.duckstar.apiPayload.exception.handler.MemberHandler;
 import com.duckstar.domain.Member;
+import com.duckstar.domain.enums.ImageTarget;
+import com.duckstar.repository.ImageUrlPatchRepository;
+import com.duckstar.s3.ImageUploadPipeline;
+import com.duckstar.s3.ImageUploadPipeline.StagedImage;
+import com.duckstar.s3.ImageUploadPipeline.Usage;
 import com.duckstar.s3.S3Uploader;
 import com.duckstar.security.MemberPrincipal;
 import com.duckstar.security.repository.MemberRepository;
@@ -27,6 +32,8 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final S3Uploader s3Uploader;
+    private final ImageUploadPipeline imageUploadPipeline;
+    private final ImageUrlPatchRepository imageUrlPatchRepository;
 
     public MePreviewDto getCurrentUser(MemberPrincipal principal) {
         if (principal == null) {
@@ -60,16 +67,19 @@ public class MemberService {
 
             String nickname = member.getNickname();
             String profileImageUrl = member.getProfileImageUrl();
+            String previousImageUrl = profileImageUrl;
 
             String reqNickname = request.getNickname();
             if (StringUtils.hasText(reqNickname)) {
                 nickname = reqNickname;
             }
 
+            // 새 프로필 사진은 자리표시 URL 로 먼저 저장, 커밋 이후 처리되면 교체
+            StagedImage stagedImage = null;
             MultipartFile reqImage = request.getImage();
             if (reqImage != null && !reqImage.isEmpty()) {
-                s3Uploader.delete(profileImageUrl);
-                profileImageUrl = s3Uploader.uploadProfileImage(reqImage, "members");
+                stagedImage = imageUploadPipeline.stage(reqImage, Usage.PROFILE);
+                profileImageUrl = stagedImage.placeholderUrl();
             }
 
             boolean nicknameChanged = !Objects.equals(member.getNickname(), nickname);
@@ -80,6 +90,10 @@ public class MemberService {
                 member.updateProfile(nickname, profileImageUrl);
             }
 
+            if (stagedImage != null) {
+                processProfileImage(stagedImage, member.getId(), previousImageUrl);
+            }
+
             return UpdateReceiptDto.builder()
                     .isChanged(isChanged)
                     .mePreviewDto(
@@ -89,5 +103,24 @@ public class MemberService {
         }
     }
 
+    /**
+     * 처리되면 새 이미지로 교체 후 이전 이미지 삭제, 실패하면 이전 이미지로 되돌림
+     */
+    private void processProfileImage(StagedImage stagedImage, Long memberId, String previousImageUrl) {
+        String placeholderUrl = stagedImage.placeholderUrl();
 
+        imageUploadPipeline.processAfterCommit(stagedImage, ImageTarget.PROFILE, memberId, previousImageUrl, url -> {
+            if (url == null) {
+                imageUrlPatchRepository.patchProfileImage(memberId, placeholderUrl, previousImageUrl);
+                return false;
+            }
+            if (imageUrlPatchRepository.patchProfileImage(memberId, placeholderUrl, url) == 0) {
+                return false;  // 그 사이 다른 사진으로 바뀜
+            }
+            if (!imageUploadPipeline.isPlaceholder(previousImageUrl)) {
+                s3Uploader.delete(previousImageUrl);
+            }
+            return true;
+        });
+    }
 }
@@ -0,0 +1,396 @@
+package com.duckstar.service;
+
+import com.duckstar.apiPayload.code.status.ErrorStatus;
+import com.duckstar.apiPayload.exception.handler.ImageHandler;
+import com.duckstar.utils.ImageProbe;
+import com.duckstar.utils.ImageProbe.ImageInfo;
+import com.sksamuel.scrimage.ImmutableImage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Open Graph 공유 이미지 변환 (원본을 받아 JPG/PNG 로 다시 인코딩)
+ *
+ *  - (url, format, width, height) 의 SHA-256 을 키로 디스크에 캐시 -> 같은 요청은 파일을 그대로 스트리밍
+ *  - 같은 키를 동시에 요청하면 한 번만 만들고 나머지는 그 결과를 기다림 (single-flight)
+ *  - 만드는 작업은 고정 크기 풀 + 제한된 큐에서만, 큐가 가득 차면 OG_IMAGE_RENDER_BUSY (503)
+ *  - 원본은 허용된 호스트에서만, 리다이렉트 없이, 최대 바이트/해상도 제한 (헤더로 먼저 확인)
+ *  - 캐시가 최대 크기를 넘으면 오래 안 쓴 파일부터 지움 (히트할 때 수정 시각 갱신)
+ *  - 지표: og.image.request{result=hit|rendered|joined|rejected|failed}
+ */
+@Slf4j
+@Component
+public class OgImageRenderer {
+
+    private static final int OG_WIDTH = 1200;
+    private static final int OG_HEIGHT = 630;
+    private static final int MAX_OUTPUT_EDGE = 2400;
+    private static final int MAX_SOURCE_RESOLUTION = 4096;
+    private static final long EVICT_MIN_AGE_MS = 10 * 60 * 1000;  // 방금 쓴(스트리밍 중일 수 있는) 파일은 지우지 않음
+
+    public record RenderedImage(Path file, String format, String key) {}
+
+    private final Path cacheDir;
+    private final Set<String> allowedHosts;
+    private final long maxSourceBytes;
+    private final long maxCacheBytes;
+    private final int connectTimeoutMs;
+    private final int readTimeoutMs;
+    private final long waitTimeoutMs;
+
+    private final ThreadPoolExecutor executor;
+    private final Map<String, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter renderedCounter;
+    private final Counter joinedCounter;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+
+    public OgImageRenderer(
+            MeterRegistry meterRegistry,
+            @Value("${app.og-image.cache-dir:./data/og-cache}") String cacheDir,
+            @Value("${app.og-image.allowed-hosts:img.duckstar.kr,duckstar.kr}") List<String> allowedHosts,
+            @Value("${app.og-image.max-source-bytes:20971520}") long maxSourceBytes,
+            @Value("${app.og-image.max-cache-bytes:536870912}") long maxCacheBytes,
+            @Value("${app.og-image.connect-timeout-ms:3000}") int connectTimeoutMs,
+            @Value("${app.og-image.read-timeout-ms:10000}") int readTimeoutMs,
+            @Value("${app.og-image.wait-timeout-ms:20000}") long waitTimeoutMs,
+            @Value("${app.og-image.threads:2}") int threads,
+            @Value("${app.og-image.queue-capacity:20}") int queueCapacity
+    ) throws IOException {
+        this.cacheDir = Files.createDirectories(Path.of(cacheDir));
+        this.allowedHosts = new HashSet<>();
+        allowedHosts.forEach(host -> this.allowedHosts.add(host.trim().toLowerCase(Locale.ROOT)));
+        this.maxSourceBytes = maxSourceBytes;
+        this.maxCacheBytes = maxCacheBytes;
+        this.connectTimeoutMs = connectTimeoutMs;
+        this.readTimeoutMs = readTimeoutMs;
+        this.waitTimeoutMs = waitTimeoutMs;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "og-image-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.hitCounter = counter(meterRegistry, "hit");
+        this.renderedCounter = counter(meterRegistry, "rendered");
+        this.joinedCounter = counter(meterRegistry, "joined");
+        this.rejectedCounter = counter(meterRegistry, "rejected");
+        this.failedCounter = counter(meterRegistry, "failed");
+    }
+
+    /**
+     * @param format jpg, jpeg, png
+     * @return 캐시 파일 (응답은 이 파일을 그대로 스트리밍)
+     */
+    public RenderedImage render(String url, String format, Integer width, Integer height) {
+        String outputFormat = normalizeFormat(format);
+        validateSize(width);
+        validateSize(height);
+        URI source = validateSource(url);
+
+        String key = keyOf(source.toString(), outputFormat, width, height);
+        Path target = cacheDir.resolve(key.substring(0, 2)).resolve(key + "." + outputFormat);
+
+        if (Files.exists(target)) {
+            touch(target);
+            hitCounter.increment();
+            return new RenderedImage(target, outputFormat, key);
+        }
+
+        CompletableFuture<Path> created = new CompletableFuture<>();
+        CompletableFuture<Path> running = inFlight.putIfAbsent(key, created);
+        if (running == null) {
+            // 확인과 등록 사이에 다른 요청이 만들어 두었을 수 있음
+            if (Files.exists(target)) {
+                inFlight.remove(key, created);
+                hitCounter.increment();
+                return new RenderedImage(target, outputFormat, key);
+            }
+
+            running = created;
+            try {
+                executor.execute(() -> {
+                    try {
+                        created.complete(renderTo(source, outputFormat, width, height, target));
+                        renderedCounter.increment();
+                    } catch (Throwable e) {
+                        created.completeExceptionally(e);
+                    } finally {
+                        inFlight.remove(key, created);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                inFlight.remove(key, created);
+                rejectedCounter.increment();
+                throw new ImageHandler(ErrorStatus.OG_IMAGE_RENDER_BUSY);
+            }
+        } else {
+            joinedCounter.increment();
+        }
+
+        try {
+            return new RenderedImage(running.get(waitTimeoutMs, TimeUnit.MILLISECONDS), outputFormat, key);
+
+        } catch (TimeoutException e) {
+            // 작업은 계속 돌고, 끝나면 다음 요청부터 캐시 히트
+            rejectedCounter.increment();
+            throw new ImageHandler(ErrorStatus.OG_IMAGE_RENDER_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ImageHandler(ErrorStatus.OG_IMAGE_RENDER_BUSY);
+        } catch (ExecutionException e) {
+            failedCounter.increment();
+            if (e.getCause() instanceof ImageHandler handler) throw handler;
+            log.warn("OG 이미지 변환 실패 - url={}", source, e.getCause());
+            throw new ImageHandler(ErrorStatus.OG_IMAGE_RENDER_FAILURE);
+        }
+    }
+
+    //=== 캐시 정리 ===//
+
+    @Scheduled(
+            initialDelayString = "${app.og-image.evict-interval-ms:600000}",
+            fixedDelayString = "${app.og-image.evict-interval-ms:600000}"
+    )
+    public void evict() {
+        record Entry(Path path, long size, long lastModified) {}
+
+        List<Entry> entries = new ArrayList<>();
+        long total = 0;
+        try (Stream<Path> files = Files.walk(cacheDir)) {
+            for (Path path : files.filter(Files::isRegularFile).toList()) {
+                File file = path.toFile();
+                entries.add(new Entry(path, file.length(), file.lastModified()));
+                total += file.length();
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("OG 이미지 캐시 정리 실패", e);
+            return;
+        }
+        if (total <= maxCacheBytes) return;
+
+        long now = System.currentTimeMillis();
+        entries.sort(Comparator.comparingLong(Entry::lastModified));
+
+        int deleted = 0;
+        for (Entry entry : entries) {
+            if (total <= maxCacheBytes) break;
+            if (now - entry.lastModified() < EVICT_MIN_AGE_MS) break;
+            try {
+                if (Files.deleteIfExists(entry.path())) {
+                    total -= entry.size();
+                    deleted++;
+                }
+            } catch (IOException e) {
+                log.warn("OG 이미지 캐시 파일 삭제 실패 - {}", entry.path(), e);
+            }
+        }
+        log.info("OG 이미지 캐시 정리 - 삭제 {}개, 남은 크기 {}MB", deleted, total / (1024 * 1024));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    //=== 변환 ===//
+
+    private Path renderTo(URI source, String format, Integer width, Integer height, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path download = Files.createTempFile(target.getParent(), "src-", ".tmp");
+        Path output = Files.createTempFile(target.getParent(), "out-", ".tmp");
+        try {
+            download(source, download);
+
+            // 디코딩 전에 헤더로 해상도 확인 (압축 폭탄 방지)
+            ImageInfo info = ImageProbe.probe(download.toFile())
+                    .orElseThrow(() -> new ImageHandler(ErrorStatus.INVALID_IMAGE_FILE));
+            if (info.width() > MAX_SOURCE_RESOLUTION || info.height() > MAX_SOURCE_RESOLUTION) {
+                throw new ImageHandler(ErrorStatus.IMAGE_RESOLUTION_TOO_HIGH);
+            }
+
+            ImmutableImage image = resize(ImmutableImage.loader().fromFile(download.toFile()), width, height);
+
+            BufferedImage buffered = format.equals("jpg") ? toRgb(image.awt()) : image.awt();
+            if (!ImageIO.write(buffered, format, output.toFile())) {
+                throw new IOException("이미지 인코더 없음 - " + format);
+            }
+
+            // 다 쓴 파일만 보이도록 한 번에 옮김
+            Files.move(output, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return target;
+
+        } finally {
+            Files.deleteIfExists(download);
+            Files.deleteIfExists(output);
+        }
+    }
+
+    private void download(URI source, Path destination) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) source.toURL().openConnection();
+        connection.setConnectTimeout(connectTimeoutMs);
+        connection.setReadTimeout(readTimeoutMs);
+        connection.setInstanceFollowRedirects(false);  // 허용 목록 밖으로 새지 않도록
+        try {
+            int status = connection.getResponseCode();
+            if (status != HttpURLConnection.HTTP_OK) {
+                throw new IOException("원본 응답 " + status);
+            }
+            if (connection.getContentLengthLong() > maxSourceBytes) {
+                throw new ImageHandler(ErrorStatus.FILE_SIZE_EXCEEDED);
+            }
+
+            try (InputStream in = connection.getInputStream();
+                 OutputStream out = Files.newOutputStream(destination)) {
+                byte[] buffer = new byte[8192];
+                long total = 0;
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    total += read;
+                    if (total > maxSourceBytes) {
+                        throw new ImageHandler(ErrorStatus.FILE_SIZE_EXCEEDED);
+                    }
+                    out.write(buffer, 0, read);
+                }
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static ImmutableImage resize(ImmutableImage image, Integer width, Integer height) {
+        if (width != null && height != null) {
+            return image.scaleTo(width, height);
+        } else if (width != null) {
+            // width만 지정된 경우 비율 유지
+            double scale = (double) width / image.width;
+            return image.scaleTo(width, Math.max(1, (int) (image.height * scale)));
+        } else if (height != null) {
+            // height만 지정된 경우 비율 유지
+            double scale = (double) height / image.height;
+            return image.scaleTo(Math.max(1, (int) (image.width * scale)), height);
+        }
+
+        // OG 이미지 최적 크기 (1200x630), 비율 유지하며 최소 크기 보장
+        double scale = Math.max((double) OG_WIDTH / image.width, (double) OG_HEIGHT / image.height);
+        return image.scaleTo((int) (image.width * scale), (int) (image.height * scale));
+    }
+
+    /**
+     * JPG 는 알파 채널을 쓸 수 없으므로 흰 배경에 합성
+     */
+    private static BufferedImage toRgb(BufferedImage source) {
+        if (source.getType() == BufferedImage.TYPE_INT_RGB) return source;
+
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rgb.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, rgb.getWidth(), rgb.getHeight());
+            g.drawImage(source, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return rgb;
+    }
+
+    //=== 검증 ===//
+
+    private static String normalizeFormat(String format) {
+        String lower = format == null ? "" : format.toLowerCase(Locale.ROOT);
+        return switch (lower) {
+            case "jpg", "jpeg" -> "jpg";
+            case "png" -> "png";
+            default -> throw new ImageHandler(ErrorStatus.INVALID_OG_IMAGE_REQUEST);
+        };
+    }
+
+    private static void validateSize(Integer size) {
+        if (size != null && (size < 1 || size > MAX_OUTPUT_EDGE)) {
+            throw new ImageHandler(ErrorStatus.INVALID_OG_IMAGE_REQUEST);
+        }
+    }
+
+    private URI validateSource(String url) {
+        URI uri;
+        try {
+            uri = new URI(url).normalize();
+        } catch (Exception e) {
+            throw new ImageHandler(ErrorStatus.OG_IMAGE_SOURCE_NOT_ALLOWED);
+        }
+
+        String scheme = uri.getScheme() == null ? "" : uri.getScheme().toLowerCase(Locale.ROOT);
+        String host = uri.getHost() == null ? "" : uri.getHost().toLowerCase(Locale.ROOT);
+        if (!(scheme.equals("https") || scheme.equals("http")) ||
+                uri.getUserInfo() != null ||
+                !allowedHosts.contains(host)) {
+            throw new ImageHandler(ErrorStatus.OG_IMAGE_SOURCE_NOT_ALLOWED);
+        }
+        return uri;
+    }
+
+    //=== 내부 ===//
+
+    private static String keyOf(String url, String format, Integer width, Integer height) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(
+                    (url + "|" + format + "|" + width + "|" + height).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void touch(Path path) {
+        try {
+            Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException ignored) {
+            // 방금 지워졌을 수 있음 -> 정리 순서에만 영향
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("og.image.request")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,279 @@
+package com.duckstar.service;
+
+import com.duckstar.domain.Week;
+import com.duckstar.repository.EpisodeStar.EpisodeStarBatchRepository;
+import com.duckstar.repository.EpisodeStar.EpisodeStarBatchRepository.EpisodeStatsSignature;
+import com.duckstar.repository.EpisodeStar.EpisodeStarBatchRepository.ProvisionalRow;
+import com.duckstar.repository.EpisodeStar.EpisodeStarRepository;
+import com.duckstar.repository.Week.WeekRepository;
+import com.duckstar.service.VoteService.EpisodeStarHistogram;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.duckstar.service.DuckstarRanking.*;
+import static com.duckstar.web.dto.ChartDto.*;
+import static com.duckstar.web.dto.WeekResponseDto.*;
+
+/**
+ * 이번 주 실시간 잠정 차트
+ *
+ *  - 에피소드별 별점 통계(DB + EpisodeStarHistogram 미반영분) 로 확정 차트와 같은 베이지안 랭킹을 돌린다.
+ *  - refresh-interval 마다 변경 여부만 싸게 확인하고, 바뀌었을 때만 다시 계산 (디바운스)
+ *    변경 신호: 이번 주 episode 행 통계 요약 (다른 인스턴스 flush 포함) + 로컬 히스토그램 변경 횟수
+ *  - 다시 계산할 때는 에피소드 통계 + 애니 제목을 JDBC 조인 한 번으로 읽음 (엔티티 로딩 없음)
+ *    DB 값과 히스토그램 미반영분은 히스토그램 flush 와 겹치지 않게 함께 읽는다. (겹치면 같은 증감이 두 번 세짐)
+ *  - 고유 투표자 수(COUNT DISTINCT) 와 제목, 썸네일처럼 통계 밖의 변경은 max-age 마다 한 번 반영
+ *    (그 사이 고유 투표자 수는 에피소드별 최대 투표 수보다 작아지지 않게만 보정)
+ *  - 결과는 불변 스냅샷으로 통째로 교체하므로 읽기는 volatile 참조 하나만 읽는다. (락 없음)
+ *  - 별점 행 단위 IP 남용 필터는 주간 확정 때만 적용된다.
+ */
+@Slf4j
+@Service
+public class ProvisionalChartService {
+
+    private final WeekRepository weekRepository;
+    private final EpisodeStarRepository episodeStarRepository;
+    private final EpisodeStarBatchRepository episodeStarBatchRepository;
+    private final EpisodeStarHistogram starHistogram;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Value("${app.chart.provisional.max-age-ms:600000}")
+    private long maxAgeMillis;
+
+    private volatile ProvisionalChartDto snapshot;
+    private long lastChangeCount = -1L;
+    private StatsKey lastStatsKey;
+    private long lastComputedAt = 0L;
+    private int lastUniqueVoterCount = 0;
+
+    public ProvisionalChartService(
+            WeekRepository weekRepository,
+            EpisodeStarRepository episodeStarRepository,
+            EpisodeStarBatchRepository episodeStarBatchRepository,
+            EpisodeStarHistogram starHistogram,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.weekRepository = weekRepository;
+        this.episodeStarRepository = episodeStarRepository;
+        this.episodeStarBatchRepository = episodeStarBatchRepository;
+        this.starHistogram = starHistogram;
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public ProvisionalChartDto getProvisionalChart() {
+        ProvisionalChartDto current = snapshot;
+        if (current != null) return current;
+
+        // 기동 직후 첫 요청
+        refresh(true);
+        return snapshot;
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.chart.provisional.refresh-interval-ms:5000}",
+            fixedDelayString = "${app.chart.provisional.refresh-interval-ms:5000}"
+    )
+    public void scheduledRefresh() {
+        try {
+            refresh(false);
+        } catch (Exception e) {
+            log.warn("잠정 차트 계산 실패 - 이전 스냅샷 유지", e);
+        }
+    }
+
+    private synchronized void refresh(boolean onlyIfEmpty) {
+        if (snapshot != null && onlyIfEmpty) return;  // 다른 요청이 먼저 계산함
+
+        // 읽기 전에 잡아야 그 사이 변경이 다음 틱에서 빠지지 않음
+        long changeCount = starHistogram.changeCount();
+        long nowMillis = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+
+        // 주차 DTO 는 quarter 지연 로딩이 있어 조회와 같은 트랜잭션에서
+        CurrentWeek week = readOnlyTransaction.execute(status ->
+                weekRepository.findWeekByStartDateTimeLessThanEqualAndEndDateTimeGreaterThan(now, now)
+                        .map(CurrentWeek::of)
+                        .orElse(null));
+
+        //=== 변경 감지: episode 행 요약 한 번 ===//
+        StatsKey statsKey = week == null ? null : new StatsKey(week.id(), episodeStarBatchRepository.findStatsSignature(
+                week.startDateTime(), week.endDateTime()));
+
+        boolean isExpired = snapshot == null
+                || nowMillis - lastComputedAt >= maxAgeMillis
+                || !Objects.equals(weekIdOf(statsKey), weekIdOf(lastStatsKey));
+        boolean unchanged = !isExpired
+                && changeCount == lastChangeCount
+                && Objects.equals(statsKey, lastStatsKey);
+        if (unchanged) return;
+
+        if (week != null && isExpired) {
+            lastUniqueVoterCount = readOnlyTransaction.execute(status ->
+                    episodeStarRepository.countEligibleVotersByWeekId(week.id()));
+        }
+
+        snapshot = compute(week, now);
+        lastChangeCount = changeCount;
+        lastStatsKey = statsKey;
+        if (isExpired) lastComputedAt = nowMillis;
+    }
+
+    private record StatsKey(Long weekId, EpisodeStatsSignature stats) {}
+
+    private record CurrentWeek(Long id, LocalDateTime startDateTime, LocalDateTime endDateTime, WeekDto weekDto) {
+        static CurrentWeek of(Week week) {
+            return new CurrentWeek(week.getId(), week.getStartDateTime(), week.getEndDateTime(), WeekDto.of(week));
+        }
+    }
+
+    private record StatsRead(List<ProvisionalRow> rows, Map<Long, int[]> pending) {}
+
+    private static Long weekIdOf(StatsKey key) {
+        return key == null ? null : key.weekId();
+    }
+
+    private ProvisionalChartDto compute(CurrentWeek week, LocalDateTime now) {
+        if (week == null) {
+            return ProvisionalChartDto.builder()
+                    .computedAt(now)
+                    .voterCount(0)
+                    .voteTotalCount(0)
+                    .provisionalRankDtos(List.of())
+                    .build();
+        }
+
+        // 새 트랜잭션으로 읽어야 히스토그램 잠금 이전에 커밋된 flush 까지 보임
+        StatsRead read = starHistogram.readWithPending(pending -> new StatsRead(
+                readOnlyTransaction.execute(status -> episodeStarBatchRepository.findProvisionalRows(
+                        week.startDateTime(), week.endDateTime())),
+                pending));
+
+        //=== 휴방 아닌 에피소드들 - 현재 통계 ===//
+        List<Candidate> candidates = new ArrayList<>();
+        List<Integer> votedCountList = new ArrayList<>();
+        int totalVotes = 0;
+        double weightedSum = 0.0;
+        int maxVoterCount = 0;
+        for (ProvisionalRow row : read.rows() == null ? List.<ProvisionalRow>of() : read.rows()) {
+            Candidate candidate = Candidate.of(row, read.pending().get(row.episodeId()));
+            if (candidate.voterCount() <= 0) continue;
+
+            candidates.add(candidate);
+            votedCountList.add(candidate.voterCount());
+            totalVotes += candidate.voterCount();
+            weightedSum += candidate.weightedSum();
+            maxVoterCount = Math.max(maxVoterCount, candidate.voterCount());
+        }
+        votedCountList.sort(null);
+
+        // 고유 투표자 수는 max-age 마다 다시 셈, 그 사이 늘어난 투표는 한 에피소드의 투표 수까지만 반영
+        int uniqueVoterCount = Math.max(lastUniqueVoterCount, maxVoterCount);
+
+        int[] medianList = votedCountList.stream()
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        Policy policy = policyOf(
+                totalVotes,
+                uniqueVoterCount,
+                weightedSum,
+                medianList,
+                votedCountList
+        );
+
+        //=== 확정 차트와 같은 랭킹 ===//
+        List<Candidate> scored = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            int mDynamic = mDynamic(policy, candidate.voterCount());
+            scored.add(candidate.withBayesScore(
+                    bayesScore(candidate.voterCount(), candidate.starAverage(), mDynamic, policy.C())));
+        }
+
+        List<ProvisionalRankDto> rankDtos = new ArrayList<>(scored.size());
+        rank(scored, Candidate::bayesScore, Candidate::voterCount, Candidate::uiStarAverage)
+                .forEach((rank, group) -> group.forEach(c -> rankDtos.add(c.toDto(rank))));
+
+        return ProvisionalChartDto.builder()
+                .weekDto(week.weekDto())
+                .computedAt(now)
+                .voterCount(uniqueVoterCount)
+                .voteTotalCount(totalVotes)
+                .provisionalRankDtos(List.copyOf(rankDtos))
+                .build();
+    }
+
+    private record Candidate(
+            Long episodeId,
+            Integer episodeNumber,
+            Long animeId,
+            String titleKor,
+            String mainThumbnailUrl,
+            int voterCount,
+            double weightedSum,
+            double bayesScore
+    ) {
+        static Candidate of(ProvisionalRow row, int[] pending) {
+            int[] stats = row.stats().clone();  // [voterCount, star_0_5, ..., star_5_0]
+            if (pending != null) {
+                for (int i = 0; i < stats.length; i++) {
+                    stats[i] += pending[i];
+                }
+            }
+
+            // Episode.getWeightedSum 과 같은 스케일 (10점 만점)
+            double weightedSum = 0.0;
+            for (int i = 1; i < stats.length; i++) {
+                weightedSum += i * stats[i];
+            }
+
+            return new Candidate(
+                    row.episodeId(),
+                    row.episodeNumber(),
+                    row.animeId(),
+                    row.titleKor(),
+                    row.mainThumbnailUrl(),
+                    stats[0],
+                    weightedSum,
+                    0.0
+            );
+        }
+
+        double starAverage() {
+            return voterCount == 0 ? 0.0 : weightedSum / voterCount;
+        }
+
+        double uiStarAverage() {
+            return Math.floor(starAverage() * 10.0) / 10.0;
+        }
+
+        Candidate withBayesScore(double bayesScore) {
+            return new Candidate(episodeId, episodeNumber, animeId, titleKor, mainThumbnailUrl,
+                    voterCount, weightedSum, bayesScore);
+        }
+
+        ProvisionalRankDto toDto(int rank) {
+            return ProvisionalRankDto.builder()
+                    .rank(rank)
+                    .episodeId(episodeId)
+                    .episodeNumber(episodeNumber)
+                    .animeId(animeId)
+                    .titleKor(titleKor)
+                    .mainThumbnailUrl(mainThumbnailUrl)
+                    .starAverage(uiStarAverage())
+                    .voterCount(voterCount)
+                    .build();
+        }
+    }
+}
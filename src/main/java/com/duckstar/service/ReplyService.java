@@ -4,16 +4,20 @@ import com.duckstar.apiPayload.code.status.ErrorStatus;
 import com.duckstar.apiPayload.exception.handler.*;
 import com.duckstar.domain.Member;
 import com.duckstar.domain.enums.CommentStatus;
+import com.duckstar.domain.enums.ImageTarget;
 import com.duckstar.domain.mapping.Reply;
 import com.duckstar.domain.mapping.ReplyLike;
 import com.duckstar.domain.mapping.comment.AnimeComment;
 import com.duckstar.repository.AnimeComment.AnimeCommentRepository;
-import com.duckstar.repository.EpisodeStar.EpisodeStarRepository;
+import com.duckstar.repository.ImageUrlPatchRepository;
 import com.duckstar.repository.Reply.ReplyRepository;
 import com.duckstar.repository.ReplyLikeRepository;
-import com.duckstar.s3.S3Uploader;
+import com.duckstar.s3.ImageUploadPipeline;
+import com.duckstar.s3.ImageUploadPipeline.StagedImage;
+import com.duckstar.s3.ImageUploadPipeline.Usage;
 import com.duckstar.security.MemberPrincipal;
 import com.duckstar.security.repository.MemberRepository;
+import com.duckstar.service.VoteService.MemberVoteCounter;
 import com.duckstar.web.dto.PageInfo;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -21,9 +25,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 
 import static com.duckstar.web.dto.BoardRequestDto.*;
 import static com.duckstar.web.dto.CommentResponseDto.*;
@@ -38,8 +42,12 @@ public class ReplyService {
     private final MemberRepository memberRepository;
     private final AnimeCommentRepository animeCommentRepository;
 
-    private final S3Uploader s3Uploader;
-    private final EpisodeStarRepository episodeStarRepository;
+    private final ImageUploadPipeline imageUploadPipeline;
+    private final ImageUrlPatchRepository imageUrlPatchRepository;
+    private final MemberVoteCounter memberVoteCounter;
+    private final AnimeCommentCounter animeCommentCounter;
+    private final LikeCounter likeCounter;
+    private final ViewerLikeHydrator viewerLikeHydrator;
 
     private ReplyLike findLikeByIdOrThrow(Long replyLikeId) {
         return replyLikeRepository.findById(replyLikeId)
@@ -63,11 +71,7 @@ public class ReplyService {
         Member author = memberRepository.findById(memberId).orElseThrow(() ->
                 new MemberHandler(ErrorStatus.MEMBER_NOT_FOUND));
 
-        int voteCount = episodeStarRepository
-                .countAllByEpisode_Anime_IdAndWeekVoteSubmission_Member_Id(
-                        comment.getAnime().getId(),
-                        memberId
-                );
+        int voteCount = memberVoteCounter.countOf(memberId, comment.getAnime().getId());
 
         Long listenerId = request.getListenerId();
         Member listener = listenerId != null ?
@@ -77,10 +81,13 @@ public class ReplyService {
 
         CommentRequestDto content = request.getCommentRequestDto();
 
+        // 첨부 이미지는 자리표시 URL 로 먼저 저장, 커밋 이후 처리되면 교체
+        StagedImage stagedImage = null;
         String imageUrl = null;
         MultipartFile image = content.getAttachedImage();
         if (image != null && !image.isEmpty()) {
-            imageUrl = s3Uploader.uploadWithUUID(image, "comments");
+            stagedImage = imageUploadPipeline.stage(image, Usage.COMMENT);
+            imageUrl = stagedImage.placeholderUrl();
         }
 
         Reply reply = Reply.create(
@@ -93,6 +100,14 @@ public class ReplyService {
         );
 
         Reply saved = replyRepository.save(reply);
+        animeCommentCounter.increase(comment.getAnime().getId());
+
+        if (stagedImage != null) {
+            Long replyId = saved.getId();
+            String placeholderUrl = imageUrl;
+            imageUploadPipeline.processAfterCommit(stagedImage, ImageTarget.REPLY, replyId, null, url ->
+                    imageUrlPatchRepository.patchReplyImage(replyId, placeholderUrl, url) > 0);
+        }
 
         return ReplyDto.ofCreated(
                 saved,
@@ -124,6 +139,14 @@ public class ReplyService {
         boolean repliesHasNext = rows.size() > size;
         if (repliesHasNext) rows = rows.subList(0, size);
 
+        viewerLikeHydrator.hydrateReplies(rows, principal);
+
+        // 아직 반영되지 않은 좋아요 증감분 합산
+        for (ReplyDto dto : rows) {
+            if (dto.getLikeCount() == null) continue;
+            dto.setLikeCount(likeCounter.countOf(LikeCounter.Target.REPLY, dto.getReplyId(), dto.getLikeCount()));
+        }
+
         PageInfo pageInfo = PageInfo.builder()
                 .hasNext(repliesHasNext)
                 .page(page)
@@ -147,32 +170,40 @@ public class ReplyService {
             throw new AuthHandler(ErrorStatus.PRINCIPAL_NOT_FOUND);
         }
 
-        Reply reply = replyRepository.findById(replyId).orElseThrow(() ->
+        // 답글, 회원 엔티티는 읽지 않음 (좋아요 수는 LikeCounter 가 따로 반영)
+        Integer persistedCount = replyRepository.findLikeCountById(replyId).orElseThrow(() ->
                 new ReplyHandler(ErrorStatus.REPLY_NOT_FOUND));
-        Member member = memberRepository.findById(principal.getId()).orElseThrow(() ->
-                new MemberHandler(ErrorStatus.MEMBER_NOT_FOUND));
+        Long memberId = principal.getId();
 
         ReplyLike replyLike = null;
+        int delta = 0;
         if (replyLikeId != null) {
             replyLike = findLikeByIdOrThrow(replyLikeId);
 
-            if (!Objects.equals(replyLike.getReply(), reply) ||
-                    !Objects.equals(replyLike.getMember(), member)) {
+            if (!Objects.equals(replyLike.getReply().getId(), replyId) ||
+                    !Objects.equals(replyLike.getMember().getId(), memberId)) {
                 throw new LikeHandler(ErrorStatus.LIKE_UNAUTHORIZED);
             }
 
-            replyLike.restoreLike();
+            delta = replyLikeRepository.updateLiked(replyLikeId, true, LocalDateTime.now());
         } else {
-            Optional<ReplyLike> likeOpt = replyLikeRepository.findByReplyAndMember(reply, member);
-            // 여기서 존재하는 경우는 그냥 무시-> 빈 dto 반환
+            // 동시에 들어온 같은 요청은 부모 행 잠금에서 줄 섬 (유니크 키가 없는 DB 에서도 한 행만 생김)
+            replyRepository.lockById(replyId).orElseThrow(() ->
+                    new ReplyHandler(ErrorStatus.REPLY_NOT_FOUND));
 
-            if (likeOpt.isEmpty()) {
-                replyLike = ReplyLike.create(reply, member);
-                replyLike = replyLikeRepository.save(replyLike);
+            // 여기서 존재하는 경우는 그냥 무시-> 빈 dto 반환
+            if (replyLikeRepository.countForUpdate(replyId, memberId) == 0) {
+                delta = replyLikeRepository.insertLike(replyId, memberId, LocalDateTime.now());
+                replyLike = replyLikeRepository.findByReply_IdAndMember_Id(replyId, memberId)
+                        .orElseThrow(() -> new LikeHandler(ErrorStatus.LIKE_NOT_FOUND));
             }
         }
 
-        return LikeResultDto.ofReply(replyLike);
+        likeCounter.record(LikeCounter.Target.REPLY, replyId, delta);
+
+        // 이번 증감은 커밋 이후 반영되므로 직접 더함 (음수 보정은 countOf 에서 합친 뒤에)
+        int likeCount = likeCounter.countOf(LikeCounter.Target.REPLY, replyId, persistedCount + delta);
+        return LikeResultDto.ofReply(replyLike, likeCount);
     }
 
     @Transactional
@@ -185,26 +216,27 @@ public class ReplyService {
             throw new AuthHandler(ErrorStatus.PRINCIPAL_NOT_FOUND);
         }
 
-        Reply reply = replyRepository.findById(replyId).orElseThrow(() ->
+        Integer persistedCount = replyRepository.findLikeCountById(replyId).orElseThrow(() ->
                 new ReplyHandler(ErrorStatus.REPLY_NOT_FOUND));
-        Member member = memberRepository.findById(principal.getId()).orElseThrow(() ->
-                new MemberHandler(ErrorStatus.MEMBER_NOT_FOUND));
+        Long memberId = principal.getId();
 
         if (replyLikeId == null) {
             throw new AuthHandler(ErrorStatus.LIKE_NOT_FOUND);
         }
         ReplyLike replyLike = findLikeByIdOrThrow(replyLikeId);
 
-        if (!Objects.equals(replyLike.getReply(), reply) ||
-                !Objects.equals(replyLike.getMember(), member)) {
+        if (!Objects.equals(replyLike.getReply().getId(), replyId) ||
+                !Objects.equals(replyLike.getMember().getId(), memberId)) {
             throw new LikeHandler(ErrorStatus.DISLIKE_UNAUTHORIZED);
         }
 
-        replyLike.discardLike();
+        LocalDateTime now = LocalDateTime.now();
+        int delta = -replyLikeRepository.updateLiked(replyLikeId, false, now);
+        likeCounter.record(LikeCounter.Target.REPLY, replyId, delta);
 
         return DiscardLikeResultDto.builder()
-                .likeCount(replyLike.getReply().getLikeCount())
-                .discardedAt(replyLike.getUpdatedAt())
+                .likeCount(likeCounter.countOf(LikeCounter.Target.REPLY, replyId, persistedCount + delta))
+                .discardedAt(delta != 0 ? now : replyLike.getUpdatedAt())
                 .build();
     }
 
@@ -217,6 +249,8 @@ public class ReplyService {
             throw new AuthHandler(ErrorStatus.DELETE_UNAUTHORIZED);
         }
 
+        boolean wasCounted = reply.getStatus() == CommentStatus.NORMAL;
+
         boolean isAuthor = Objects.equals(reply.getAuthor().getId(), principal.getId());
         boolean isAdmin = principal.isAdmin();
 
@@ -232,6 +266,10 @@ public class ReplyService {
             throw new CommentHandler(ErrorStatus.DELETE_UNAUTHORIZED);
         }
 
+        if (wasCounted) {
+            animeCommentCounter.decrease(reply.getParent().getContentIdForIdx());
+        }
+
         return DeleteResultDto.builder()
                 .status(reply.getStatus())
                 .createdAt(reply.getCreatedAt())
@@ -1,19 +1,18 @@
 package com.duckstar.service;
 
-import com.duckstar.domain.Anime;
-import com.duckstar.domain.mapping.weeklyVote.Episode;
-import com.duckstar.repository.AnimeOtt.AnimeOttRepository;
-import com.duckstar.repository.AnimeRepository;
-import com.duckstar.service.AnimeService.AnimeQueryService;
-import com.duckstar.util.ChosungUtil;
+import com.duckstar.repository.Episode.EpisodeRepository;
 import com.duckstar.web.dto.SearchResponseDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.duckstar.web.dto.SearchResponseDto.*;
 
@@ -21,10 +20,12 @@ import static com.duckstar.web.dto.SearchResponseDto.*;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class SearchService {
-    private final AnimeRepository animeRepository;
-    private final AnimeOttRepository animeOttRepository;
+    private final EpisodeRepository episodeRepository;
 
-    private final AnimeQueryService animeQueryService;
+    private final AnimeSearchIndex animeSearchIndex;
+
+    @Value("${app.search.max-results:100}")
+    private int maxResults;
 
     public SearchResponseDto searchAnimes(String query) {
         if (query == null || query.trim().isEmpty()) {
@@ -34,45 +35,18 @@ public class SearchService {
                     .build();
         }
 
-        List<Anime> animes = animeRepository.findAll();
-
-        // 데이터 수천건 등 쌓인다면 반드시 애니마다 '초성 칼럼' 두고, 인덱싱 필요
-        List<AnimePreviewDto> animePreviews = animes.stream()
-                .filter(anime -> ChosungUtil.searchMatch(query, anime.getTitleKor()))
-                .map(anime -> {
+        // 제목 색인에서 순위 순 ID (DB 조회 없음)
+        List<Long> animeIds = animeSearchIndex.search(query, maxResults);
 
-                    // 에피소드, OTT 등 리포지토리 단에서 최적화 반드시 필요 (N+1 문제)
-                    // 현재는 애니 데이터가 몇 개 없으므로 그냥 둔다.
-                            // (1)
-                            Optional<Episode> episodeOpt =
-                                    animeQueryService.findCurrentEpisode(anime, LocalDateTime.now());
-                            Episode currentEpisode = episodeOpt.orElse(null);
+        // 현재 에피소드, OTT 는 한 번에
+        Map<Long, AnimePreviewDto> previewMap = episodeRepository
+                .getSearchPreviewsByAnimeIds(animeIds, LocalDateTime.now())
+                .stream()
+                .collect(Collectors.toMap(AnimePreviewDto::getAnimeId, Function.identity()));
 
-                            return AnimePreviewDto.builder()
-                                    .animeId(anime.getId())
-                                    .mainThumbnailUrl(anime.getMainThumbnailUrl())
-                                    .status(anime.getStatus())
-                                    .isBreak(
-                                            currentEpisode != null ? currentEpisode.isBreak() : null
-                                    )
-                                    .titleKor(anime.getTitleKor())
-                                    .dayOfWeek(anime.getDayOfWeek())
-                                    .isRescheduled(
-                                            currentEpisode != null ? currentEpisode.getIsRescheduled() : null
-                                    )
-                                    .scheduledAt(
-                                            currentEpisode != null ? currentEpisode.getScheduledAt() : null
-                                    )
-                                    .airTime(anime.getAirTime())
-                                    .genre(anime.getGenre())
-                                    .medium(anime.getMedium())
-                                    .ottDtos(
-                                            // (2)
-                                            animeOttRepository.getOttDtosByAnimeId(anime.getId())
-                                    )
-                                    .build();
-                        }
-                )
+        List<AnimePreviewDto> animePreviews = animeIds.stream()
+                .map(previewMap::get)
+                .filter(Objects::nonNull)  // 색인 갱신 전 삭제된 애니
                 .toList();
 
         return SearchResponseDto.builder()
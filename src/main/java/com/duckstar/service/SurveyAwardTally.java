@@ -0,0 +1,104 @@
+package com.duckstar.service;
+
+import com.duckstar.domain.enums.AgeGroup;
+import com.duckstar.domain.enums.Gender;
+import com.duckstar.service.ChartService.SurveyStatRecord;
+import com.duckstar.service.DuckstarTally.LongIntHashMap;
+
+import java.util.*;
+
+/**
+ * 서베이 시상 집계용 카운터
+ *
+ *  - (제출, 표) 행을 한 번만 훑으며 후보별 점수/표 종류/성별/연령대 개수를 원시 타입 배열에 누적한다.
+ *  - 제외 IP 는 해시 집합으로 행마다 바로 거른다. (쿼리의 ipHash NOT IN 과 같은 결과:
+ *    제외 목록이 있을 때는 ipHash 가 없는 제출도 빠짐)
+ *  - 전체 투표자 수는 걸러지지 않은 제출 ID 개수
+ */
+class SurveyAwardTally {
+
+    private static final int SCORE = 0;
+    private static final int VOTER = 1;
+    private static final int NORMAL = 2;
+    private static final int BONUS = 3;
+    private static final int MALE = 4;
+    private static final int FEMALE = 5;
+    private static final int AGE = 6;  // AGE + AgeGroup.ordinal()
+    private static final int COUNTERS = AGE + AgeGroup.values().length;
+
+    private final Set<String> outlaws;
+
+    private final Map<Long, Integer> candidateIndexMap = new HashMap<>();
+    private int[][] counts = new int[64][];
+
+    // 고유 투표자(제출 ID)
+    private final LongIntHashMap submissionIds = new LongIntHashMap(1 << 12);
+
+    SurveyAwardTally(Collection<String> outlaws) {
+        this.outlaws = outlaws == null ? Set.of() : new HashSet<>(outlaws);
+    }
+
+    /**
+     * @param candidateId 표가 없는 제출이면 0 (투표자 수에만 반영)
+     */
+    public void add(long submissionId, String ipHash, Gender gender, AgeGroup ageGroup, long candidateId, int score) {
+        if (!outlaws.isEmpty() && (ipHash == null || outlaws.contains(ipHash))) return;
+
+        submissionIds.addTo(submissionId, 1);
+        if (candidateId == 0L) return;
+
+        int idx = candidateIndexMap.computeIfAbsent(candidateId, this::newCandidate);
+        int[] c = counts[idx];
+        c[SCORE] += score;
+        c[VOTER] += 1;
+
+        if (score == 100) c[NORMAL] += 1;
+        else if (score == 50) c[BONUS] += 1;
+
+        if (gender == Gender.MALE) c[MALE] += 1;
+        else if (gender == Gender.FEMALE) c[FEMALE] += 1;
+
+        if (ageGroup != null) c[AGE + ageGroup.ordinal()] += 1;
+    }
+
+    /**
+     * @return 후보 통계 (걸러진 뒤 표가 하나도 없으면 null)
+     */
+    public SurveyStatRecord statOf(Long candidateId) {
+        Integer idx = candidateIndexMap.get(candidateId);
+        if (idx == null) return null;
+
+        int[] c = counts[idx];
+        return new SurveyStatRecord(
+                c[SCORE],
+                (long) c[VOTER],
+                c[NORMAL],
+                c[BONUS],
+                c[MALE],
+                c[FEMALE],
+                c[AGE + AgeGroup.UNDER_14.ordinal()],
+                c[AGE + AgeGroup.AGE_15_19.ordinal()],
+                c[AGE + AgeGroup.AGE_20_24.ordinal()],
+                c[AGE + AgeGroup.AGE_25_29.ordinal()],
+                c[AGE + AgeGroup.AGE_30_34.ordinal()],
+                c[AGE + AgeGroup.OVER_35.ordinal()]
+        );
+    }
+
+    public Set<Long> candidateIds() {
+        return candidateIndexMap.keySet();
+    }
+
+    public int voterCount() {
+        return submissionIds.size();
+    }
+
+    private int newCandidate(Long candidateId) {
+        int idx = candidateIndexMap.size();
+        if (idx == counts.length) {
+            counts = Arrays.copyOf(counts, idx * 2);
+        }
+        counts[idx] = new int[COUNTERS];
+        return idx;
+    }
+}
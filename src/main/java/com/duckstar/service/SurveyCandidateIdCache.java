@@ -0,0 +1,90 @@
+package com.duckstar.service;
+
+import com.duckstar.repository.SurveyCandidate.SurveyCandidateRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서베이별 후보 ID 집합 (투표지 검증용, 불변 집합)
+ *
+ *  - 후보는 서베이가 열려 있는 동안 바뀌지 않으므로 한 번 읽고 투표마다 DB 조회 없이 검사
+ *  - 후보를 등록(CsvImportService.importCandidates) 하면 이 인스턴스는 커밋 이후 비움
+ *  - 다른 인스턴스는 evict 를 모르므로
+ *    1) 집합에 없는 ID 가 오면 DB 에서 한 번 다시 읽어 확인 (새 후보를 잘못 거절하지 않음)
+ *    2) 그 외 변경(후보 삭제 등) 은 ttl-ms 안에 반영
+ */
+@Component
+public class SurveyCandidateIdCache {
+
+    // 없는 ID 로 인한 재조회 최소 간격 (잘못된 요청이 몰려도 서베이당 초당 1번)
+    private static final long RELOAD_ON_MISS_INTERVAL_MS = 1_000L;
+
+    private final SurveyCandidateRepository surveyCandidateRepository;
+    private final long ttlMillis;
+
+    private final Map<Long, Entry> idsBySurvey = new ConcurrentHashMap<>();
+
+    private record Entry(Set<Long> ids, long loadedAt) {}
+
+    public SurveyCandidateIdCache(
+            SurveyCandidateRepository surveyCandidateRepository,
+            @Value("${app.survey.candidate-ids.ttl-ms:60000}") long ttlMillis
+    ) {
+        this.surveyCandidateRepository = surveyCandidateRepository;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * candidateIds 가 모두 이 서베이의 후보인지
+     */
+    public boolean containsAll(Long surveyId, Collection<Long> candidateIds) {
+        long now = System.currentTimeMillis();
+
+        Entry entry = idsBySurvey.get(surveyId);
+        if (entry == null || now - entry.loadedAt() >= ttlMillis) {
+            entry = load(surveyId, entry, now);
+        }
+        if (entry.ids().containsAll(candidateIds)) return true;
+
+        // 다른 인스턴스에서 후보가 추가됐을 수 있음
+        if (now - entry.loadedAt() < RELOAD_ON_MISS_INTERVAL_MS) return false;
+        return load(surveyId, entry, now).ids().containsAll(candidateIds);
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 이후 비움 (이 인스턴스만)
+     */
+    public void evict(Long surveyId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    idsBySurvey.remove(surveyId);
+                }
+            });
+        } else {
+            idsBySurvey.remove(surveyId);
+        }
+    }
+
+    /**
+     * DB 조회는 맵 밖에서 (computeIfAbsent 안에서 읽으면 같은 버킷의 다른 서베이까지 막힘)
+     *  - 처음이면 putIfAbsent, 갱신이면 읽기 전 값일 때만 교체 (그 사이 evict/갱신된 것은 덮지 않음)
+     */
+    private Entry load(Long surveyId, Entry previous, long now) {
+        Entry loaded = new Entry(Set.copyOf(surveyCandidateRepository.findIdsBySurveyId(surveyId)), now);
+        if (previous == null) {
+            idsBySurvey.putIfAbsent(surveyId, loaded);
+        } else {
+            idsBySurvey.replace(surveyId, previous, loaded);
+        }
+        return loaded;
+    }
+}
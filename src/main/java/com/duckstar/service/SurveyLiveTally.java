@@ -0,0 +1,362 @@
+package com.duckstar.service;
+
+import com.duckstar.domain.Survey;
+import com.duckstar.domain.enums.AgeGroup;
+import com.duckstar.domain.enums.Gender;
+import com.duckstar.domain.enums.SurveyStatus;
+import com.duckstar.repository.SurveyRepository;
+import com.duckstar.repository.SurveyVote.SurveyVoteBatchRepository;
+import com.duckstar.repository.SurveyVote.SurveyVoteBatchRepository.CandidateDelta;
+import com.duckstar.service.ChartService.SurveyStatRecord;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.duckstar.repository.SurveyVote.SurveyVoteBatchRepository.TALLY_SLOTS;
+
+/**
+ * 진행 중(OPEN) 서베이의 후보별 실시간 집계 (app.survey.live-tally.enabled=true 일 때만 동작)
+ *
+ *  - 표 추가/수정/삭제는 커밋 이후 증감분만 메모리(DeltaAccumulator) 에 모으고,
+ *    주기적으로 survey_candidate_tally 에 `col = col + ?` 원자적 UPSERT 로 반영 (인스턴스가 여럿이어도 합산됨)
+ *  - 실시간 조회는 DB 값 + 이 인스턴스에서 아직 반영되지 않은 증감분
+ *  - 재집계(reconcile): 기동 시(비동기)와 주기적으로 표 전체를 다시 세어 증감 집계와 비교,
+ *    차이가 flush 주기 넘게 떨어진 두 번의 재집계에서 똑같이 나올 때만 그 차이를 증감분으로 더해 교정한다.
+ *    (다른 인스턴스의 미반영 증감분은 그 사이 반영돼 차이가 달라지므로 교정에 섞이지 않음,
+ *     기동 전부터 열려 있던 서베이의 초기값도 이걸로 채움)
+ *  - 지표: survey.tally.reconcile{result=match|suspected|mismatch|skipped}
+ */
+@Slf4j
+@Component
+public class SurveyLiveTally {
+
+    private static final int SCORE = 0;
+    private static final int VOTES = 1;
+    private static final int NORMAL = 2;
+    private static final int BONUS = 3;
+    private static final int MALE = 4;
+    private static final int FEMALE = 5;
+    private static final int AGE = 6;  // AGE + AgeGroup.ordinal()
+
+    public enum ReconcileResult { MATCH, SUSPECTED, REPAIRED, SKIPPED }
+
+    private record CandidateKey(Long surveyId, Long candidateId) {}
+
+    // 서베이별 표 변경: open = 커밋/롤백을 기다리는 트랜잭션 수, seq = 등록/완료마다 증가
+    private record Activity(AtomicInteger open, AtomicLong seq) {}
+
+    // 첫 재집계에서 발견한 차이 (재집계 - 증감분 - DB)
+    private record Drift(Map<Long, int[]> diff, long detectedAt) {}
+
+    private final SurveyVoteBatchRepository batchRepository;
+    private final SurveyRepository surveyRepository;
+    private final DeltaAccumulator<CandidateKey> accumulator;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Value("${app.survey.live-tally.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.survey.live-tally.flush-interval-ms:5000}")
+    private long flushIntervalMs;
+
+    private final Map<Long, Activity> activities = new ConcurrentHashMap<>();
+    private final Map<Long, Drift> drifts = new ConcurrentHashMap<>();
+
+    private final Counter matchCounter;
+    private final Counter suspectedCounter;
+    private final Counter mismatchCounter;
+    private final Counter skippedCounter;
+
+    public SurveyLiveTally(
+            SurveyVoteBatchRepository batchRepository,
+            SurveyRepository surveyRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.batchRepository = batchRepository;
+        this.surveyRepository = surveyRepository;
+
+        this.accumulator = new DeltaAccumulator<>(
+                "서베이 실시간 집계", TALLY_SLOTS, 1, this::apply, transactionManager);
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.matchCounter = Counter.builder("survey.tally.reconcile")
+                .tag("result", "match")
+                .register(meterRegistry);
+        this.suspectedCounter = Counter.builder("survey.tally.reconcile")
+                .tag("result", "suspected")
+                .register(meterRegistry);
+        this.mismatchCounter = Counter.builder("survey.tally.reconcile")
+                .tag("result", "mismatch")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("survey.tally.reconcile")
+                .tag("result", "skipped")
+                .register(meterRegistry);
+    }
+
+    //=== 표 변경 반영 ===//
+
+    /**
+     * 표 한 줄의 점수 변경 (oldScore == null: 추가, newScore == null: 삭제), 트랜잭션 안이면 커밋 이후 반영
+     *  - 성별/연령대는 제출(SurveyVoteSubmission) 기준
+     */
+    public void record(
+            Long surveyId,
+            Long candidateId,
+            Gender gender,
+            AgeGroup ageGroup,
+            Integer oldScore,
+            Integer newScore
+    ) {
+        if (!enabled) return;
+
+        int[] delta = new int[TALLY_SLOTS];
+        if (oldScore != null) accumulate(delta, gender, ageGroup, oldScore, -1);
+        if (newScore != null) accumulate(delta, gender, ageGroup, newScore, 1);
+
+        Activity activity = activityOf(surveyId);
+        activity.seq().incrementAndGet();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 커밋됐지만 아직 더하지 않은 표가 있는 동안은 재집계가 판정하지 않도록 open 으로 표시
+            activity.open().incrementAndGet();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        accumulator.add(new CandidateKey(surveyId, candidateId), delta);
+                    }
+                    activity.seq().incrementAndGet();
+                    activity.open().decrementAndGet();
+                }
+            });
+        } else {
+            accumulator.add(new CandidateKey(surveyId, candidateId), delta);
+        }
+    }
+
+    //=== 실시간 조회 ===//
+
+    /**
+     * @return 후보 ID -> 집계 배열 (DB + 아직 반영되지 않은 증감분)
+     */
+    public Map<Long, int[]> tallyOf(Long surveyId) {
+        Map<Long, int[]> result = batchRepository.findCandidateTallies(surveyId);
+        for (Map.Entry<Long, int[]> entry : pendingOf(accumulator.snapshot(), surveyId).entrySet()) {
+            int[] tally = result.computeIfAbsent(entry.getKey(), id -> new int[TALLY_SLOTS]);
+            addTo(tally, entry.getValue());
+        }
+        return result;
+    }
+
+    //=== DB 반영 ===//
+
+    @Scheduled(fixedDelayString = "${app.survey.live-tally.flush-interval-ms:5000}")
+    public void flush() {
+        if (!enabled) return;
+        accumulator.flush();
+    }
+
+    //=== 재집계 ===//
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        reconcileOpenSurveys();
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.survey.live-tally.reconcile-interval-ms:600000}",
+            fixedDelayString = "${app.survey.live-tally.reconcile-interval-ms:600000}"
+    )
+    public void reconcileOpenSurveys() {
+        if (!enabled) return;
+
+        try {
+            List<Survey> surveys = readOnlyTransaction.execute(status ->
+                    surveyRepository.findAllByStatus(SurveyStatus.OPEN));
+            for (Survey survey : surveys == null ? List.<Survey>of() : surveys) {
+                reconcile(survey.getId());
+            }
+        } catch (Exception e) {
+            log.warn("서베이 실시간 집계 재집계 실패", e);
+        }
+    }
+
+    /**
+     * 표 전체를 다시 세어 증감 집계와 비교
+     *  - 다시 세는 동안(표 전체 스트리밍) 은 잠그지 않음 -> flush, 다른 서베이 재집계가 기다리지 않음
+     *  - 비교와 교정만 flush 와 같은 잠금 안에서 (DB 값 읽기 ~ 교정 사이에 이 인스턴스가 DB 값을 바꾸지 않음)
+     *  - 이 인스턴스에 커밋 대기 중이거나 다시 세는 동안 바뀐 표가 있으면 판정을 건너뜀 (SKIPPED)
+     *  - 차이가 있으면 기록만 하고 (SUSPECTED), flush 주기의 두 배 넘게 지난 다음 재집계에서 같은 차이면
+     *    교정 (REPAIRED). 값을 통째로 바꾸지 않고 차이만 더하므로 다른 인스턴스의 미반영 증감분이 겹쳐 세지지 않음
+     */
+    public ReconcileResult reconcile(Long surveyId) {
+        if (!enabled) return ReconcileResult.SKIPPED;
+
+        flush();
+        Activity activity = activityOf(surveyId);
+        long seqBefore = activity.seq().get();
+        if (activity.open().get() > 0) {
+            skippedCounter.increment();
+            return ReconcileResult.SKIPPED;
+        }
+
+        Map<Long, int[]> recount = readOnlyTransaction.execute(status -> {
+            SurveyAwardTally tally = new SurveyAwardTally(null);
+            batchRepository.streamBallots(surveyId, tally::add);
+            return toTallies(tally);
+        });
+
+        return accumulator.withSnapshot(snapshot -> {
+            if (activity.open().get() > 0 || activity.seq().get() != seqBefore) {
+                skippedCounter.increment();
+                return ReconcileResult.SKIPPED;
+            }
+            return compareAndRepair(surveyId, recount == null ? Map.of() : recount, pendingOf(snapshot, surveyId));
+        });
+    }
+
+    /**
+     * flush 와 같은 잠금 안에서 호출
+     *
+     * @param pending 이 인스턴스에서 아직 반영되지 않은 증감분 (후보 ID -> 증감)
+     */
+    private ReconcileResult compareAndRepair(Long surveyId, Map<Long, int[]> recount, Map<Long, int[]> pending) {
+        Map<Long, int[]> stored = readOnlyTransaction.execute(status ->
+                batchRepository.findCandidateTallies(surveyId));
+
+        // 재집계에는 있지만 DB 에 아직 없는 이 인스턴스의 증감분(반영 실패로 다시 쌓인 것) 은 빼고 비교
+        Map<Long, int[]> diff = new HashMap<>();
+        recount.forEach((id, tally) -> diff.put(id, tally.clone()));
+        pending.forEach((id, delta) ->
+                subtractFrom(diff.computeIfAbsent(id, k -> new int[TALLY_SLOTS]), delta));
+        (stored == null ? Map.<Long, int[]>of() : stored).forEach((id, tally) ->
+                subtractFrom(diff.computeIfAbsent(id, k -> new int[TALLY_SLOTS]), tally));
+        diff.values().removeIf(SurveyLiveTally::isZero);
+
+        if (diff.isEmpty()) {
+            drifts.remove(surveyId);
+            matchCounter.increment();
+            return ReconcileResult.MATCH;
+        }
+
+        long now = System.currentTimeMillis();
+        Drift previous = drifts.get(surveyId);
+        if (previous == null || !sameTallies(previous.diff(), diff)) {
+            drifts.put(surveyId, new Drift(diff, now));
+            suspectedCounter.increment();
+            return ReconcileResult.SUSPECTED;
+        }
+        if (now - previous.detectedAt() < flushIntervalMs * 2) {
+            // 다른 인스턴스가 한 번 이상 flush 할 시간이 지나지 않음 -> 아직 판단 못 함
+            suspectedCounter.increment();
+            return ReconcileResult.SUSPECTED;
+        }
+
+        mismatchCounter.increment();
+        log.warn("서베이 실시간 집계 불일치 - 차이만큼 교정, surveyId={}, candidates(diff)={}", surveyId, diff.size());
+
+        // 차이를 증감분으로 더해 바로 반영 (실패하면 증감분으로 남아 다음 주기에)
+        diff.forEach((id, delta) -> accumulator.add(new CandidateKey(surveyId, id), delta));
+        accumulator.flush();
+        drifts.remove(surveyId);
+        return ReconcileResult.REPAIRED;
+    }
+
+    //=== 내부 ===//
+
+    private void apply(Map<CandidateKey, int[]> deltas) {
+        List<CandidateDelta> rows = new ArrayList<>();
+        deltas.forEach((key, delta) -> rows.add(new CandidateDelta(key.candidateId(), key.surveyId(), delta)));
+        batchRepository.applyCandidateDeltas(rows);
+    }
+
+    private Activity activityOf(Long surveyId) {
+        return activities.computeIfAbsent(surveyId, id -> new Activity(new AtomicInteger(), new AtomicLong()));
+    }
+
+    private static Map<Long, int[]> pendingOf(Map<CandidateKey, int[]> snapshot, Long surveyId) {
+        Map<Long, int[]> result = new HashMap<>();
+        snapshot.forEach((key, delta) -> {
+            if (key.surveyId().equals(surveyId)) result.put(key.candidateId(), delta);
+        });
+        return result;
+    }
+
+    private static void accumulate(int[] delta, Gender gender, AgeGroup ageGroup, int score, int sign) {
+        delta[SCORE] += sign * score;
+        delta[VOTES] += sign;
+
+        if (score == 100) delta[NORMAL] += sign;
+        else if (score == 50) delta[BONUS] += sign;
+
+        if (gender == Gender.MALE) delta[MALE] += sign;
+        else if (gender == Gender.FEMALE) delta[FEMALE] += sign;
+
+        if (ageGroup != null) delta[AGE + ageGroup.ordinal()] += sign;
+    }
+
+    private static Map<Long, int[]> toTallies(SurveyAwardTally tally) {
+        Map<Long, int[]> result = new HashMap<>();
+        for (Long candidateId : tally.candidateIds()) {
+            SurveyStatRecord r = tally.statOf(candidateId);
+            result.put(candidateId, new int[]{
+                    r.score(), r.voterCount().intValue(),
+                    r.normalCount(), r.bonusCount(),
+                    r.maleCount(), r.femaleCount(),
+                    r.under14(), r.age1519(), r.age2024(), r.age2529(), r.age3034(), r.over35()
+            });
+        }
+        return result;
+    }
+
+    /**
+     * 없는 후보는 0 으로 본다.
+     */
+    private static boolean sameTallies(Map<Long, int[]> a, Map<Long, int[]> b) {
+        Map<Long, int[]> other = b == null ? Map.of() : b;
+        Set<Long> ids = new HashSet<>(a.keySet());
+        ids.addAll(other.keySet());
+
+        int[] zero = new int[TALLY_SLOTS];
+        for (Long id : ids) {
+            if (!Arrays.equals(a.getOrDefault(id, zero), other.getOrDefault(id, zero))) return false;
+        }
+        return true;
+    }
+
+    private static void addTo(int[] target, int[] delta) {
+        for (int i = 0; i < TALLY_SLOTS; i++) target[i] += delta[i];
+    }
+
+    private static void subtractFrom(int[] target, int[] delta) {
+        for (int i = 0; i < TALLY_SLOTS; i++) target[i] -= delta[i];
+    }
+
+    private static boolean isZero(int[] delta) {
+        for (int d : delta) {
+            if (d != 0) return false;
+        }
+        return true;
+    }
+}
@@ -4,8 +4,10 @@ import com.duckstar.apiPayload.code.status.ErrorStatus;
 import com.duckstar.apiPayload.exception.handler.SurveyHandler;
 import com.duckstar.domain.Survey;
 import com.duckstar.domain.enums.SurveyStatus;
+import com.duckstar.domain.mapping.surveyVote.SurveyCandidate;
 import com.duckstar.repository.SurveyCandidate.SurveyCandidateRepository;
 import com.duckstar.repository.SurveyRepository;
+import com.duckstar.repository.SurveyVote.SurveyVoteBatchRepository;
 import com.duckstar.repository.SurveyVoteSubmission.SurveyVoteSubmissionRepository;
 import com.duckstar.security.MemberPrincipal;
 import com.duckstar.web.support.VoteCookieManager;
@@ -17,11 +19,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.*;
 
 import static com.duckstar.web.dto.ChartDto.*;
+import static com.duckstar.web.dto.CommentResponseDto.*;
 import static com.duckstar.web.dto.RankInfoDto.*;
 import static com.duckstar.web.dto.SurveyResponseDto.*;
+import static com.duckstar.web.dto.admin.SurveyTallyDto.*;
 
 @Service
 @RequiredArgsConstructor
@@ -32,6 +36,9 @@ public class SurveyService {
     private final VoteCookieManager voteCookieManager;
     private final SurveyVoteSubmissionRepository surveyVoteSubmissionRepository;
     private final SurveyCandidateRepository surveyCandidateRepository;
+    private final SurveyLiveTally surveyLiveTally;
+    private final ViewerLikeHydrator viewerLikeHydrator;
+    private final LikeCounter likeCounter;
 
     @Transactional
     public void updateStatus() {
@@ -55,6 +62,19 @@ public class SurveyService {
         Page<SurveyRankDto> items = surveyCandidateRepository
                 .getSurveyRankDtosBySurveyId(surveyId, principal, pageable);
 
+        // 후보별 미리보기 댓글의 조회자 좋아요 상태를 한 번에
+        List<CommentDto> previewComments = new ArrayList<>();
+        items.getContent().forEach(item -> {
+            if (item.getCommentDtos() != null) previewComments.addAll(item.getCommentDtos());
+        });
+        viewerLikeHydrator.hydrateComments(previewComments, principal);
+
+        // 아직 반영되지 않은 좋아요 증감분 합산
+        for (CommentDto dto : previewComments) {
+            if (dto.getLikeCount() == null) continue;
+            dto.setLikeCount(likeCounter.countOf(LikeCounter.Target.COMMENT, dto.getCommentId(), dto.getLikeCount()));
+        }
+
         return SurveyRankPage.builder()
                 .voteTotalCount(survey.getVotes())
                 .surveyRankDtos(items.getContent())
@@ -67,6 +87,76 @@ public class SurveyService {
                 .build();
     }
 
+    /**
+     * 진행 중 서베이 실시간 순위 (관리자용, 제외 IP 필터 없음)
+     *  - 정렬/동점 기준은 buildSurveyAwards 와 같음: 표 수 -> 일반 표 퍼센트
+     */
+    public LiveLeaderboardDto getLiveLeaderboard(Long surveyId) {
+        Survey survey = surveyRepository.findById(surveyId).orElseThrow(() ->
+                new SurveyHandler(ErrorStatus.SURVEY_NOT_FOUND));
+
+        Map<Long, int[]> tallies = surveyLiveTally.tallyOf(surveyId);
+
+        record Row(SurveyCandidate candidate, int[] tally, int votes, double normalPercent) {}
+
+        int totalVotes = 0;
+        List<Row> rows = new ArrayList<>();
+        for (SurveyCandidate candidate : surveyCandidateRepository.findAllBySurvey_Id(surveyId)) {
+            int[] tally = tallies.getOrDefault(candidate.getId(), new int[SurveyVoteBatchRepository.TALLY_SLOTS]);
+
+            // 보너스(50점) 존재 시 내리기
+            int score = tally[0];
+            int votes = (score % 100 != 0 ? score - 50 : score) / 100;
+            double normalPercent = votes > 0 ? (tally[2] / (double) votes) * 100 : 0.0;
+
+            rows.add(new Row(candidate, tally, votes, normalPercent));
+            totalVotes += votes;
+        }
+        rows.sort(Comparator.comparingInt(Row::votes)
+                .thenComparingDouble(Row::normalPercent)
+                .reversed());
+
+        List<LiveTallyCandidateDto> liveTallyCandidateDtos = new ArrayList<>(rows.size());
+        int rank = 1;
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            if (i > 0) {
+                Row previous = rows.get(i - 1);
+                boolean isTie = row.votes() == previous.votes() &&
+                        Double.compare(row.normalPercent(), previous.normalPercent()) == 0;
+                if (!isTie) rank = i + 1;
+            }
+
+            int[] t = row.tally();
+            liveTallyCandidateDtos.add(LiveTallyCandidateDto.builder()
+                    .rank(rank)
+                    .candidateId(row.candidate().getId())
+                    .title(row.candidate().getTitle())
+                    .votes(row.votes())
+                    .votePercent(totalVotes != 0 ? (row.votes() / (double) totalVotes) * 100 : 0.0)
+                    .score(t[0])
+                    .voteCount(t[1])
+                    .normalCount(t[2])
+                    .bonusCount(t[3])
+                    .maleCount(t[4])
+                    .femaleCount(t[5])
+                    .under14(t[6])
+                    .age1519(t[7])
+                    .age2024(t[8])
+                    .age2529(t[9])
+                    .age3034(t[10])
+                    .over35(t[11])
+                    .build());
+        }
+
+        return LiveLeaderboardDto.builder()
+                .surveyId(surveyId)
+                .status(survey.getStatus())
+                .totalVotes(totalVotes)
+                .liveTallyCandidateDtos(liveTallyCandidateDtos)
+                .build();
+    }
+
     public List<SurveyDto> getSurveyDtos(Long memberId, HttpServletRequest req) {
         List<Survey> surveys = surveyRepository.findAll();
         return surveys.stream()
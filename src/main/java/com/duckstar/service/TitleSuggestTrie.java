@@ -0,0 +1,277 @@
+package com.duckstar.service;
+
+import com.duckstar.service.AnimeTitleIndex.Title;
+import com.duckstar.util.ChosungUtil;
+
+import java.util.*;
+import java.util.function.BiFunction;
+
+/**
+ * 제목 자동완성 트라이 (불변)
+ *
+ *  - 키: 제목(titleKor, titleOrigin, titleEng) 의 각 단어 시작부터 끝까지를 소문자 + 공백 제거한 것 (최대 MAX_KEY_LENGTH 글자)
+ *    초성 트라이에는 같은 키의 초성 형태를 넣는다. (자음이 있는 제목만)
+ *  - 노드마다 상위 topN 개 결과를 미리 계산해 두므로 조회는 입력 길이만큼 내려가서 목록을 읽는 것뿐이다.
+ *  - 빌드 후 배열로 얼려 두고, 결과 값(V) 도 미리 만들어 두므로 요청마다 새로 만드는 것은 결과 목록 하나뿐
+ *  - 순위: 제목 처음부터 일치 > 중간 단어부터 일치, 같으면 한국어 제목 우선, 짧은 제목 우선
+ */
+public class TitleSuggestTrie<V> {
+
+    static final int MAX_KEY_LENGTH = 24;
+    private static final int FIELD_COUNT = 3;
+
+    private final Frozen plain;
+    private final Frozen chosung;
+    private final Object[] values;  // (문서 * FIELD_COUNT + 제목 종류) -> V
+
+    private TitleSuggestTrie(Frozen plain, Frozen chosung, Object[] values) {
+        this.plain = plain;
+        this.chosung = chosung;
+        this.values = values;
+    }
+
+    /**
+     * @param valueFactory (제목, 일치한 제목 문자열) -> 결과 값
+     */
+    public static <V> TitleSuggestTrie<V> build(
+            Collection<Title> titles,
+            int topN,
+            BiFunction<Title, String, V> valueFactory
+    ) {
+        // 같은 점수면 한국어 제목 순이 되도록 문서 순서를 미리 정렬
+        List<Title> docs = new ArrayList<>(titles);
+        docs.sort(Comparator
+                .comparing(Title::titleKor, Comparator.nullsLast(Comparator.<String>naturalOrder()))
+                .thenComparing(Title::animeId));
+
+        Builder plainBuilder = new Builder(topN);
+        Builder chosungBuilder = new Builder(topN);
+        Object[] values = new Object[docs.size() * FIELD_COUNT];
+
+        for (int doc = 0; doc < docs.size(); doc++) {
+            Title title = docs.get(doc);
+            String[] raw = {title.titleKor(), title.titleOrigin(), title.titleEng()};
+
+            for (int field = 0; field < FIELD_COUNT; field++) {
+                if (raw[field] == null || raw[field].isBlank()) continue;
+
+                int code = doc * FIELD_COUNT + field;
+                values[code] = valueFactory.apply(title, raw[field]);
+
+                String lower = raw[field].toLowerCase();
+                int titleLength = lower.length();
+                for (int start = 0; start < lower.length(); start++) {
+                    boolean isWordStart = start == 0 || Character.isWhitespace(lower.charAt(start - 1));
+                    if (!isWordStart || Character.isWhitespace(lower.charAt(start))) continue;
+
+                    long score = ((long) (start == 0 ? 0 : 1) << 40)
+                            | ((long) field << 32)
+                            | titleLength;
+
+                    String tail = lower.substring(start, Math.min(lower.length(), start + MAX_KEY_LENGTH * 2));
+                    plainBuilder.insert(ChosungUtil.removeSpaces(tail), code, score);
+
+                    String chosungKey = ChosungUtil.extractChosung(tail);
+                    if (hasChosung(chosungKey)) {
+                        chosungBuilder.insert(chosungKey, code, score);
+                    }
+                }
+            }
+        }
+
+        return new TitleSuggestTrie<>(plainBuilder.freeze(), chosungBuilder.freeze(), values);
+    }
+
+    /**
+     * @return 순위 순 최대 limit 개 (topN 초과 불가)
+     */
+    @SuppressWarnings("unchecked")
+    public List<V> suggest(String query, int limit) {
+        if (query == null || limit <= 0) return List.of();
+
+        // 자음이 섞여 있으면 (예: "ㄱㅈ", 입력 중인 "귀멸ㅇ") 초성으로 찾는다
+        String key = normalize(query);
+        boolean isChosung = hasJamo(key);
+        if (isChosung) key = ChosungUtil.extractChosung(key);
+        if (key.isEmpty()) return List.of();
+
+        Frozen trie = isChosung ? chosung : plain;
+        int node = trie.find(key);
+        if (node < 0) return List.of();
+
+        int start = trie.topStart[node];
+        int n = Math.min(limit, trie.topStart[node + 1] - start);
+
+        Object[] result = new Object[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = values[trie.topPool[start + i]];
+        }
+        return (List<V>) Arrays.asList(result);
+    }
+
+    private static String normalize(String query) {
+        String key = ChosungUtil.removeSpaces(query.toLowerCase());
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+
+    private static boolean hasJamo(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (ch >= 'ㄱ' && ch <= 'ㅣ') return true;
+        }
+        return false;
+    }
+
+    private static boolean hasChosung(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (ch >= 'ㄱ' && ch <= 'ㅎ') return true;
+        }
+        return false;
+    }
+
+    //=== 빌드용 (노드 객체) ===//
+
+    private static final class Node {
+        private final TreeMap<Character, Node> children = new TreeMap<>();
+        private int[] top = new int[1];
+        private long[] topScores = new long[1];
+        private int topSize = 0;
+    }
+
+    private static final class Builder {
+        private final int topN;
+        private final Node root = new Node();
+        private int nodeCount = 1;
+
+        private Builder(int topN) {
+            this.topN = topN;
+        }
+
+        private void insert(String key, int code, long score) {
+            int length = Math.min(key.length(), MAX_KEY_LENGTH);
+
+            Node node = root;
+            for (int i = 0; i < length; i++) {
+                Node child = node.children.get(key.charAt(i));
+                if (child == null) {
+                    child = new Node();
+                    node.children.put(key.charAt(i), child);
+                    nodeCount += 1;
+                }
+                node = child;
+                offer(node, code, score);
+            }
+        }
+
+        /**
+         * 노드의 상위 목록에 넣기 (같은 문서면 더 좋은 점수만, 점수가 같으면 먼저 넣은 문서 우선)
+         */
+        private void offer(Node node, int code, long score) {
+            int size = node.topSize;
+            int doc = code / FIELD_COUNT;
+
+            for (int i = 0; i < size; i++) {
+                if (node.top[i] / FIELD_COUNT != doc) continue;
+                if (node.topScores[i] <= score) return;
+
+                // 빼고 다시 넣기
+                System.arraycopy(node.top, i + 1, node.top, i, size - i - 1);
+                System.arraycopy(node.topScores, i + 1, node.topScores, i, size - i - 1);
+                size -= 1;
+                break;
+            }
+            if (size == topN && node.topScores[size - 1] <= score) {
+                node.topSize = size;
+                return;
+            }
+
+            if (size == topN) {
+                size -= 1;  // 마지막 밀어내기
+            } else if (size == node.top.length) {
+                int capacity = Math.min(topN, node.top.length * 2);
+                node.top = Arrays.copyOf(node.top, capacity);
+                node.topScores = Arrays.copyOf(node.topScores, capacity);
+            }
+
+            int at = size;
+            while (at > 0 && node.topScores[at - 1] > score) at--;
+            System.arraycopy(node.top, at, node.top, at + 1, size - at);
+            System.arraycopy(node.topScores, at, node.topScores, at + 1, size - at);
+            node.top[at] = code;
+            node.topScores[at] = score;
+            node.topSize = size + 1;
+        }
+
+        /**
+         * 너비 우선으로 번호를 매겨 배열로 얼리기 (노드의 자식 간선은 글자 순으로 연속)
+         */
+        private Frozen freeze() {
+            int[] firstEdge = new int[nodeCount + 1];
+            char[] edgeChars = new char[nodeCount - 1];
+            int[] edgeTargets = new int[nodeCount - 1];
+            int[] topStart = new int[nodeCount + 1];
+            int poolSize = 0;
+
+            List<Node> order = new ArrayList<>(nodeCount);
+            order.add(root);
+            int edge = 0;
+            for (int i = 0; i < order.size(); i++) {
+                Node node = order.get(i);
+                firstEdge[i] = edge;
+                for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+                    edgeChars[edge] = child.getKey();
+                    edgeTargets[edge] = order.size();
+                    order.add(child.getValue());
+                    edge++;
+                }
+                poolSize += node.topSize;
+            }
+            firstEdge[nodeCount] = edge;
+
+            int[] topPool = new int[poolSize];
+            int offset = 0;
+            for (int i = 0; i < order.size(); i++) {
+                topStart[i] = offset;
+                Node node = order.get(i);
+                System.arraycopy(node.top, 0, topPool, offset, node.topSize);
+                offset += node.topSize;
+            }
+            topStart[nodeCount] = offset;
+
+            return new Frozen(firstEdge, edgeChars, edgeTargets, topStart, topPool);
+        }
+    }
+
+    //=== 조회용 (배열) ===//
+
+    private record Frozen(
+            int[] firstEdge,    // 노드 -> 첫 자식 간선 (다음 노드 값까지)
+            char[] edgeChars,
+            int[] edgeTargets,
+            int[] topStart,     // 노드 -> topPool 시작 (다음 노드 값까지)
+            int[] topPool       // 문서 * FIELD_COUNT + 제목 종류
+    ) {
+        private int find(String key) {
+            int node = 0;
+            for (int i = 0; i < key.length(); i++) {
+                int lo = firstEdge[node];
+                int hi = firstEdge[node + 1] - 1;
+                int next = -1;
+                char ch = key.charAt(i);
+                while (lo <= hi) {
+                    int mid = (lo + hi) >>> 1;
+                    if (edgeChars[mid] < ch) lo = mid + 1;
+                    else if (edgeChars[mid] > ch) hi = mid - 1;
+                    else {
+                        next = edgeTargets[mid];
+                        break;
+                    }
+                }
+                if (next < 0) return -1;
+                node = next;
+            }
+            return node;
+        }
+    }
+}
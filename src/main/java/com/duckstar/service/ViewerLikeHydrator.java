@@ -0,0 +1,67 @@
+package com.duckstar.service;
+
+import com.duckstar.domain.enums.CommentStatus;
+import com.duckstar.repository.CommentLikeRepository;
+import com.duckstar.repository.ReplyLikeRepository;
+import com.duckstar.security.MemberPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+import static com.duckstar.web.dto.CommentResponseDto.*;
+
+/**
+ * 댓글/답글 목록의 조회자 좋아요 상태(isLiked, likeId) 채우기
+ *
+ *  - 목록 쿼리는 조회자와 무관하게 한 번 읽고 (행마다 좋아요 서브쿼리 없음),
+ *    페이지에 나온 ID 들로 조회자 좋아요를 `IN (...)` 한 번에 읽어 채운다.
+ *  - 비로그인이면 쿼리 없이 기본값 (isLiked=false, likeId=null) 그대로
+ *  - 삭제된 댓글(NORMAL 아님) 은 isLiked 를 내려주지 않으므로 건너뜀
+ */
+@Component
+@RequiredArgsConstructor
+public class ViewerLikeHydrator {
+
+    private final CommentLikeRepository commentLikeRepository;
+    private final ReplyLikeRepository replyLikeRepository;
+
+    public void hydrateComments(List<CommentDto> dtos, MemberPrincipal principal) {
+        if (principal == null || dtos.isEmpty()) return;
+
+        Set<Long> commentIds = new HashSet<>();
+        for (CommentDto dto : dtos) {
+            if (dto.getStatus() == CommentStatus.NORMAL) commentIds.add(dto.getCommentId());
+        }
+        if (commentIds.isEmpty()) return;
+
+        Map<Long, CommentLikeRepository.LikeState> states = new HashMap<>();
+        commentLikeRepository.findLikeStates(principal.getId(), commentIds)
+                .forEach(s -> states.putIfAbsent(s.getTargetId(), s));
+
+        for (CommentDto dto : dtos) {
+            CommentLikeRepository.LikeState state = states.get(dto.getCommentId());
+            if (state == null || dto.getStatus() != CommentStatus.NORMAL) continue;
+            dto.setViewerLike(state.getLikeId(), Boolean.TRUE.equals(state.getIsLiked()));
+        }
+    }
+
+    public void hydrateReplies(List<ReplyDto> dtos, MemberPrincipal principal) {
+        if (principal == null || dtos.isEmpty()) return;
+
+        Set<Long> replyIds = new HashSet<>();
+        for (ReplyDto dto : dtos) {
+            replyIds.add(dto.getReplyId());
+        }
+
+        Map<Long, ReplyLikeRepository.LikeState> states = new HashMap<>();
+        replyLikeRepository.findLikeStates(principal.getId(), replyIds)
+                .forEach(s -> states.putIfAbsent(s.getTargetId(), s));
+
+        for (ReplyDto dto : dtos) {
+            ReplyLikeRepository.LikeState state = states.get(dto.getReplyId());
+            if (state == null) continue;
+            dto.setViewerLike(state.getLikeId(), Boolean.TRUE.equals(state.getIsLiked()));
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.duckstar.service.VoteService;
+
+import com.duckstar.domain.mapping.weeklyVote.Episode;
+import com.duckstar.domain.mapping.weeklyVote.EpisodeStar;
+import com.duckstar.domain.mapping.weeklyVote.WeekVoteSubmission;
+import com.duckstar.repository.EpisodeStar.EpisodeStarBatchRepository;
+import com.duckstar.service.DeltaAccumulator;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 에피소드 별점 통계 인메모리 히스토그램 (app.vote.star-histogram.enabled=true 일 때만 동작)
+ *
+ *  - 투표마다 Episode 행을 수정(행 잠금 + 더티 체킹)하지 않고, 증감분을 메모리에 모았다가
+ *    주기적으로 `star_x = star_x + ?` 원자적 UPDATE 로 한 번에 반영한다.
+ *  - 증감분 배열: [투표자 수, 0.5점, 1.0점, ..., 5.0점] (길이 11, 인덱스 = starScore)
+ *  - 증감분은 DeltaAccumulator 에 스레드별로 나눠 쌓음 (인기 에피소드에 투표가 몰려도 한 곳에서 경합하지 않게)
+ *  - 실시간 조회는 DB 값 + 아직 반영되지 않은 증감분 (flush 순간 잠깐 어긋날 수 있음)
+ *  - Episode 는 @DynamicUpdate 라 엔티티 수정이 반영된 통계를 덮어쓰지 않음
+ *  - 정상 종료 시 남은 증감분을 반영. 비정상 종료(kill -9, 장애) 시에는 마지막 flush 이후
+ *    flush-interval-ms 동안의 증감분이 사라짐 -> 별점 행(EpisodeStar) 은 이미 커밋돼 있으므로
+ *    주차 마감 집계(ChartService, setStats) 에서 별점 행 기준으로 다시 세어 바로잡힘
+ *
+ *  비활성화 시에는 기존처럼 엔티티 메서드로 Episode 통계를 바로 수정한다.
+ */
+@Component
+public class EpisodeStarHistogram {
+    public static final int SLOTS = 11;
+
+    private final DeltaAccumulator<Long> accumulator;
+
+    @Value("${app.vote.star-histogram.enabled:false}")
+    private boolean enabled;
+
+    private final LongAdder changeCount = new LongAdder();
+
+    public EpisodeStarHistogram(
+            EpisodeStarBatchRepository batchRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.accumulator = new DeltaAccumulator<>(
+                "별점 히스토그램", SLOTS, stripeCount(), batchRepository::applyEpisodeDeltas, transactionManager);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 지금까지 기록된 투표 변경 횟수 (값이 그대로면 통계도 그대로)
+     */
+    public long changeCount() {
+        return changeCount.sum();
+    }
+
+    //=== 투표 반영 (EpisodeStar 엔티티 메서드 대체) ===//
+
+    public EpisodeStar create(
+            boolean isBlocked,
+            WeekVoteSubmission submission,
+            Episode episode,
+            Integer starScore
+    ) {
+        if (!enabled) {
+            return EpisodeStar.create(isBlocked, submission, episode, starScore);
+        }
+
+        if (!isBlocked) {
+            recordWithRollback(episode.getId(), null, starScore);
+        }
+        return EpisodeStar.createWithoutStats(submission, episode, starScore);
+    }
+
+    public void updateScore(boolean isBlocked, EpisodeStar episodeStar, int newScore) {
+        if (!enabled) {
+            episodeStar.updateStarScore(isBlocked, newScore);
+            return;
+        }
+
+        if (!isBlocked) {
+            recordWithRollback(episodeStar.getEpisode().getId(), episodeStar.getStarScore(), newScore);
+        }
+        episodeStar.setStarScore(newScore);
+    }
+
+    public void withdraw(EpisodeStar episodeStar) {
+        if (!enabled) {
+            episodeStar.withdrawScore();
+            return;
+        }
+
+        recordWithRollback(episodeStar.getEpisode().getId(), episodeStar.getStarScore(), null);
+        episodeStar.setStarScore(null);
+    }
+
+    //=== 실시간 조회 ===//
+
+    /**
+     * DB 에 아직 반영되지 않은 증감분, 없으면 null
+     */
+    public int[] pendingOf(Long episodeId) {
+        if (!enabled) return null;
+        return accumulator.pendingOf(episodeId);
+    }
+
+    public Map<Long, int[]> pendingSnapshot() {
+        if (!enabled) return Map.of();
+        return accumulator.snapshot();
+    }
+
+    /**
+     * 미반영분 스냅샷과 DB 읽기를 flush 와 겹치지 않게 함께 (reader 는 새 트랜잭션으로 읽어야 함)
+     */
+    public <T> T readWithPending(Function<Map<Long, int[]>, T> reader) {
+        return accumulator.withSnapshot(reader);
+    }
+
+    //=== DB 반영 ===//
+
+    @Scheduled(fixedDelayString = "${app.vote.star-histogram.flush-interval-ms:1000}")
+    public void flush() {
+        if (!enabled) return;
+        accumulator.flush();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void recordWithRollback(Long episodeId, Integer oldScore, Integer newScore) {
+        record(episodeId, oldScore, newScore);
+
+        // 롤백된 투표는 되돌리기 (그 사이 flush 됐더라도 다음 flush 에서 상쇄됨)
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        record(episodeId, newScore, oldScore);
+                    }
+                }
+            });
+        }
+    }
+
+    private void record(Long episodeId, Integer oldScore, Integer newScore) {
+        changeCount.increment();
+
+        int[] delta = new int[SLOTS];
+        if (oldScore == null) {
+            delta[0] += 1;  // 신규 또는 회수 후 재투표
+        } else {
+            delta[oldScore] -= 1;
+        }
+
+        if (newScore == null) {
+            delta[0] -= 1;  // 회수
+        } else {
+            delta[newScore] += 1;
+        }
+        accumulator.add(episodeId, delta);
+    }
+
+    private static int stripeCount() {
+        int n = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) << 1;
+        return Math.max(2, Math.min(n, 64));
+    }
+}
@@ -0,0 +1,201 @@
+package com.duckstar.service.VoteService;
+
+import com.duckstar.repository.EpisodeStar.EpisodeStarRepository;
+import com.duckstar.repository.EpisodeStar.MemberVoteCountRepository;
+import com.duckstar.repository.EpisodeStar.MemberVoteCountRepository.MemberAnime;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * 회원별 애니 별점 투표 수 (댓글/답글 작성자 뱃지의 voteCount)
+ *
+ *  - 별점 행이 생기거나(JPA, write-behind) 비로그인 투표가 회원으로 옮겨질 때
+ *    그 트랜잭션 안에서 같이 증감 (롤백되면 같이 롤백, 같은 트랜잭션의 댓글 작성에서 바로 보임)
+ *  - 별점 회수는 행이 남으므로 그대로 (기존 COUNT 와 같은 기준), 탈퇴하면 회원 행 삭제
+ *  - 재집계(reconcile): 기동 시(백필)와 주기적으로 episode_star 를 다시 세어 비교,
+ *    다른 회원만 그 회원의 행을 잠근 채 다시 세어 교체 -> 잠근 동안 들어온 증감은 교체 뒤에 더해짐
+ *  - 기동 후 첫 재집계가 끝나기 전에는 기존 COUNT 쿼리로 답함
+ *  - 지표: member.vote.count.reconcile{result=match|repaired|failed}
+ */
+@Slf4j
+@Component
+public class MemberVoteCounter {
+
+    private final MemberVoteCountRepository countRepository;
+    private final EpisodeStarRepository episodeStarRepository;
+    private final TransactionTemplate repairTransaction;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile boolean ready = false;
+
+    private final Counter matchCounter;
+    private final Counter repairedCounter;
+    private final Counter failedCounter;
+
+    public MemberVoteCounter(
+            MemberVoteCountRepository countRepository,
+            EpisodeStarRepository episodeStarRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.countRepository = countRepository;
+        this.episodeStarRepository = episodeStarRepository;
+
+        // 회원 한 명씩 바로 커밋 (잠금을 오래 잡지 않도록)
+        this.repairTransaction = new TransactionTemplate(transactionManager);
+        this.repairTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.matchCounter = Counter.builder("member.vote.count.reconcile")
+                .tag("result", "match")
+                .register(meterRegistry);
+        this.repairedCounter = Counter.builder("member.vote.count.reconcile")
+                .tag("result", "repaired")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("member.vote.count.reconcile")
+                .tag("result", "failed")
+                .register(meterRegistry);
+    }
+
+    public int countOf(Long memberId, Long animeId) {
+        if (!ready) {
+            return episodeStarRepository
+                    .countAllByEpisode_Anime_IdAndWeekVoteSubmission_Member_Id(animeId, memberId);
+        }
+        return countRepository.findCount(memberId, animeId).orElse(0);
+    }
+
+    //=== 투표 변경 반영 ===//
+
+    public void increase(Long memberId, Long animeId) {
+        if (memberId == null || animeId == null) return;
+        countRepository.addCounts(Map.of(new MemberAnime(memberId, animeId), 1));
+    }
+
+    /**
+     * @param deltas 애니 ID -> 증감
+     */
+    public void addAll(Long memberId, Map<Long, Integer> deltas) {
+        if (memberId == null || deltas.isEmpty()) return;
+
+        Map<MemberAnime, Integer> keyed = new HashMap<>();
+        deltas.forEach((animeId, delta) -> {
+            if (delta != 0) keyed.merge(new MemberAnime(memberId, animeId), delta, Integer::sum);
+        });
+        countRepository.addCounts(keyed);
+    }
+
+    /**
+     * write-behind 로 새로 넣은 별점 행 반영
+     * @param episodeIdsByMember 회원 ID -> 새 별점 행의 에피소드 ID 들 (같은 에피소드가 여러 번이면 여러 행)
+     */
+    public void increaseAll(Map<Long, List<Long>> episodeIdsByMember) {
+        if (episodeIdsByMember.isEmpty()) return;
+
+        Set<Long> episodeIds = new HashSet<>();
+        episodeIdsByMember.values().forEach(episodeIds::addAll);
+        Map<Long, Long> animeIds = countRepository.findAnimeIds(episodeIds);
+
+        Map<MemberAnime, Integer> deltas = new HashMap<>();
+        episodeIdsByMember.forEach((memberId, ids) -> {
+            for (Long episodeId : ids) {
+                Long animeId = animeIds.get(episodeId);
+                if (animeId != null) deltas.merge(new MemberAnime(memberId, animeId), 1, Integer::sum);
+            }
+        });
+        countRepository.addCounts(deltas);
+    }
+
+    /**
+     * 제출 하나가 회원 것이 되는 경우 (비로그인 투표 마이그레이션), 같은 트랜잭션의 flush 전에 호출
+     */
+    public void addSubmission(Long memberId, Long submissionId) {
+        addAll(memberId, countRepository.countStarsBySubmission(submissionId));
+    }
+
+    public void clearMember(Long memberId) {
+        if (memberId == null) return;
+        countRepository.deleteByMemberId(memberId);
+    }
+
+    //=== 재집계 ===//
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        reconcile();
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.member-vote-count.reconcile-interval-ms:21600000}",
+            fixedDelayString = "${app.member-vote-count.reconcile-interval-ms:21600000}"
+    )
+    public synchronized void reconcile() {
+        long startedAt = System.nanoTime();
+        try {
+            Map<MemberAnime, Integer> stored = readOnlyTransaction.execute(status ->
+                    countRepository.findAllCounts());
+            Map<MemberAnime, Integer> recount = readOnlyTransaction.execute(status ->
+                    countRepository.recountAll());
+
+            // 잠그지 않고 읽었으므로 그 사이 투표로 달라 보일 수 있음 -> 회원 단위로 잠근 뒤 다시 셈
+            Set<Long> suspects = new TreeSet<>();
+            recount.forEach((key, count) -> {
+                if (!count.equals(stored.get(key))) suspects.add(key.memberId());
+            });
+            stored.forEach((key, count) -> {
+                if (!recount.containsKey(key) && count != 0) suspects.add(key.memberId());
+            });
+
+            if (suspects.isEmpty()) {
+                matchCounter.increment();
+            } else {
+                int repaired = 0;
+                for (Long memberId : suspects) {
+                    if (repair(memberId)) repaired++;
+                }
+                log.warn("회원별 투표 수 불일치 - 재집계 값으로 교정, members={}, repaired={}",
+                        suspects.size(), repaired);
+            }
+
+            ready = true;
+            log.info("회원별 투표 수 재집계 완료 - rows(recount)={} ({}ms)",
+                    recount.size(), (System.nanoTime() - startedAt) / 1_000_000);
+
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.warn("회원별 투표 수 재집계 실패", e);
+        }
+    }
+
+    private boolean repair(Long memberId) {
+        try {
+            repairTransaction.executeWithoutResult(status -> {
+                countRepository.lockMember(memberId);
+                countRepository.replaceMember(memberId, countRepository.recountMember(memberId));
+            });
+            repairedCounter.increment();
+            return true;
+
+        } catch (Exception e) {
+            // 잠금 경합 등, 다음 재집계에서 다시 맞춰진다.
+            failedCounter.increment();
+            log.warn("회원별 투표 수 교정 실패 - memberId={}", memberId, e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.duckstar.service.VoteService;
+
+/**
+ * write-behind 모드에서 큐/WAL 에 쌓이는 별점 투표 한 건
+ *  - 검증이 끝난 요청만 담긴다.
+ *  - 같은 (episodeId, principalKey) 는 마지막 점수로 덮어쓰는 UPSERT 로 반영되므로 재생(replay)해도 안전하다.
+ *  - starScore 가 null 이면 회수
+ */
+public record StarVoteCommand(
+        long seq,
+        Long weekId,
+        Long episodeId,
+        Long memberId,
+        String cookieId,
+        String principalKey,
+        String ipHash,
+        String userAgent,
+        String fpHash,
+        Integer starScore,
+        long enqueuedAt
+) {
+    public StarVoteCommand withSeq(long seq) {
+        return new StarVoteCommand(
+                seq,
+                weekId,
+                episodeId,
+                memberId,
+                cookieId,
+                principalKey,
+                ipHash,
+                userAgent,
+                fpHash,
+                starScore,
+                enqueuedAt
+        );
+    }
+}
@@ -0,0 +1,234 @@
+package com.duckstar.service.VoteService;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 별점 투표 write-behind 용 로컬 WAL (Write-Ahead Log)
+ *
+ *  - 한 줄에 투표 하나(JSON), append 는 쓰기만 하고 응답 전에 sync(seq) 로 fsync 를 기다린다.
+ *    fsync 는 한 번에 한 스레드만 하고, 그동안 쌓인 기록은 다음 fsync 한 번에 함께 내려간다. (group commit)
+ *  - DB 반영이 끝난 seq 는 체크포인트 파일에 기록하고, 전부 반영되면 로그를 비운다.
+ *  - 재시작 시 체크포인트 이후의 투표만 다시 큐에 올린다. (크래시로 잘린 마지막 줄은 버림)
+ *  - 반영할 수 없는 투표(ex. 삭제된 에피소드) 는 버리지 않고 dead-letter 파일에 사유와 함께 남긴 뒤 체크포인트를 넘긴다.
+ */
+@Slf4j
+public class StarVoteWal implements Closeable {
+    private static final String LOG_FILE = "star-vote.wal";
+    private static final String CHECKPOINT_FILE = "star-vote.ckpt";
+    private static final String DEAD_LETTER_FILE = "star-vote.dead";
+
+    public record DeadLetter(StarVoteCommand command, String reason, long failedAt) {}
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Path logPath;
+    private final Path checkpointPath;
+    private final Path deadLetterPath;
+    private final FileChannel channel;
+    private final Object syncLock = new Object();
+
+    private long lastSeq;
+    private volatile long durableSeq;  // fsync 까지 끝난 마지막 seq
+    private volatile long syncCount;
+    private long checkpointSeq;
+    private List<StarVoteCommand> recovered;
+
+    public StarVoteWal(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        this.logPath = dir.resolve(LOG_FILE);
+        this.checkpointPath = dir.resolve(CHECKPOINT_FILE);
+        this.deadLetterPath = dir.resolve(DEAD_LETTER_FILE);
+
+        this.checkpointSeq = readCheckpoint();
+        this.lastSeq = checkpointSeq;
+        this.recovered = readPending();
+        this.durableSeq = lastSeq;
+
+        this.channel = FileChannel.open(
+                logPath,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND
+        );
+        terminateTornLine();
+    }
+
+    /**
+     * 열 때 발견한, 아직 DB 에 반영되지 않은 투표들 (seq 오름차순)
+     */
+    public synchronized List<StarVoteCommand> drainRecovered() {
+        List<StarVoteCommand> result = recovered;
+        recovered = List.of();
+        return result;
+    }
+
+    /**
+     * 쓰기만 함 (fsync X) - 응답 전에 반드시 sync(seq)
+     */
+    public synchronized StarVoteCommand append(StarVoteCommand command) throws IOException {
+        StarVoteCommand logged = command.withSeq(lastSeq + 1);
+
+        byte[] line = (objectMapper.writeValueAsString(logged) + "\n")
+                .getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(line);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+
+        lastSeq = logged.seq();
+        return logged;
+    }
+
+    /**
+     * seq 까지 디스크에 내려갈 때까지 대기
+     *  - append 락 밖에서 fsync 하므로 그동안 다른 요청은 계속 append 한다.
+     *  - 앞 fsync 를 기다린 요청들은 다음 fsync 한 번으로 함께 끝난다.
+     */
+    public void sync(long seq) throws IOException {
+        if (durableSeq >= seq) return;
+
+        synchronized (syncLock) {
+            if (durableSeq >= seq) return;  // 기다리는 동안 다른 스레드가 함께 내려줌
+
+            long upTo = getLastSeq();
+            channel.force(false);
+            durableSeq = upTo;
+            syncCount++;
+        }
+    }
+
+    public long getSyncCount() {
+        return syncCount;
+    }
+
+    /**
+     * 반영할 수 없는 투표를 dead-letter 파일에 남김 (fsync 후 반환, 이후 체크포인트로 넘겨도 됨)
+     */
+    public synchronized void deadLetter(StarVoteCommand command, String reason) throws IOException {
+        byte[] line = (objectMapper.writeValueAsString(
+                new DeadLetter(command, reason, System.currentTimeMillis())) + "\n")
+                .getBytes(StandardCharsets.UTF_8);
+
+        try (FileChannel deadLetters = FileChannel.open(
+                deadLetterPath,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND
+        )) {
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            while (buffer.hasRemaining()) {
+                deadLetters.write(buffer);
+            }
+            deadLetters.force(false);
+        }
+    }
+
+    /**
+     * dead-letter 파일에 남은 투표들 (수동 확인/재처리용)
+     */
+    public synchronized List<DeadLetter> readDeadLetters() throws IOException {
+        List<DeadLetter> deadLetters = new ArrayList<>();
+        if (!Files.exists(deadLetterPath)) return deadLetters;
+
+        for (String line : Files.readAllLines(deadLetterPath, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) continue;
+            deadLetters.add(objectMapper.readValue(line, DeadLetter.class));
+        }
+        return deadLetters;
+    }
+
+    /**
+     * seq 까지 DB 반영 완료
+     */
+    public synchronized void checkpoint(long seq) throws IOException {
+        if (seq <= checkpointSeq) return;
+
+        Path tmp = checkpointPath.resolveSibling(CHECKPOINT_FILE + ".tmp");
+        Files.writeString(tmp, Long.toString(seq), StandardCharsets.UTF_8);
+        Files.move(tmp, checkpointPath,
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        checkpointSeq = seq;
+
+        // 밀린 투표가 없으면 로그 비우기 (seq 는 체크포인트에서 이어감)
+        if (checkpointSeq == lastSeq) {
+            channel.truncate(0);
+            channel.force(true);
+        }
+    }
+
+    public synchronized long getCheckpointSeq() {
+        return checkpointSeq;
+    }
+
+    public synchronized long getLastSeq() {
+        return lastSeq;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private long readCheckpoint() throws IOException {
+        if (!Files.exists(checkpointPath)) return 0L;
+
+        String value = Files.readString(checkpointPath, StandardCharsets.UTF_8).trim();
+        return value.isEmpty() ? 0L : Long.parseLong(value);
+    }
+
+    private List<StarVoteCommand> readPending() throws IOException {
+        List<StarVoteCommand> pending = new ArrayList<>();
+        if (!Files.exists(logPath)) return pending;
+
+        try (BufferedReader reader = Files.newBufferedReader(logPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) continue;
+
+                StarVoteCommand command;
+                try {
+                    command = objectMapper.readValue(line, StarVoteCommand.class);
+                } catch (JsonProcessingException e) {
+                    // 크래시로 중간에 잘린 줄 -> 응답 전이었으므로 버려도 됨
+                    log.warn("WAL 손상된 줄 무시: {}", e.getOriginalMessage());
+                    continue;
+                }
+
+                lastSeq = Math.max(lastSeq, command.seq());
+                if (command.seq() > checkpointSeq) {
+                    pending.add(command);
+                }
+            }
+        }
+        return pending;
+    }
+
+    private void terminateTornLine() throws IOException {
+        long size = channel.size();
+        if (size == 0) return;
+
+        ByteBuffer last = ByteBuffer.allocate(1);
+        try (FileChannel reader = FileChannel.open(logPath, StandardOpenOption.READ)) {
+            reader.read(last, size - 1);
+        }
+        // 잘린 줄 뒤에 새 기록이 이어 붙지 않도록 줄바꿈 보정
+        if (last.get(0) != '\n') {
+            channel.write(ByteBuffer.wrap(new byte[]{'\n'}));
+            channel.force(false);
+        }
+    }
+}
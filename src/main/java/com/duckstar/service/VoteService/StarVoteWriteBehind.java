@@ -0,0 +1,449 @@
+package com.duckstar.service.VoteService;
+
+import com.duckstar.apiPayload.code.status.ErrorStatus;
+import com.duckstar.apiPayload.exception.handler.VoteHandler;
+import com.duckstar.repository.EpisodeStar.EpisodeStarBatchRepository;
+import com.duckstar.security.service.ShadowBanService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static com.duckstar.repository.EpisodeStar.EpisodeStarBatchRepository.*;
+
+/**
+ * 별점 투표 write-behind 파이프라인 (app.vote.write-behind.enabled=true 일 때만 동작)
+ *
+ *  요청 스레드: 검증 -> WAL append -> 메모리 큐 적재 -> WAL fsync 대기(group commit) -> 낙관적 응답
+ *  스케줄러:   큐에서 배치로 꺼내 한 트랜잭션으로 JDBC 배치 UPSERT -> WAL 체크포인트
+ *
+ *  - 회수도 starScore=null 명령으로 같은 큐를 거친다. (앞선 투표보다 먼저 반영되지 않게)
+ *  - 동기 경로(늦참 투표) 는 drain 으로 그 투표자의 밀린 명령부터 반영한 뒤 진행
+ *  - 큐가 가득 차면 VOTE_QUEUE_FULL 로 거절 (back-pressure)
+ *  - 실패한 배치는 버리지 않고 다음 주기에 먼저 재시도, 반복 실패 시 한 건씩 반영
+ *    (반영할 수 없는 투표만 dead-letter 로, 일시적 오류면 처리한 데까지만 체크포인트)
+ */
+@Slf4j
+@Component
+public class StarVoteWriteBehind {
+    private static final int MAX_BATCH_RETRY = 3;
+    private static final int MAX_BATCHES_PER_TICK = 20;  // 스케줄러 스레드 독점 방지
+
+    private final EpisodeStarBatchRepository batchRepository;
+    private final ShadowBanService shadowBanService;
+    private final MemberVoteCounter memberVoteCounter;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // principalKey -> 아직 체크포인트 전인 마지막 seq
+    private final Map<String, Long> pendingSeqs = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+
+    @Value("${app.vote.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.vote.write-behind.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.vote.write-behind.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.vote.write-behind.wal-dir:./data/wal}")
+    private String walDir;
+
+    private BlockingQueue<StarVoteCommand> queue;
+    private StarVoteWal wal;
+
+    private List<StarVoteCommand> retryBatch = List.of();
+    private int retryCount = 0;
+    private volatile long inFlightSince = 0L;
+
+    private Timer flushTimer;
+    private Counter rejectedCounter;
+    private Counter deadLetterCounter;
+
+    public StarVoteWriteBehind(
+            EpisodeStarBatchRepository batchRepository,
+            ShadowBanService shadowBanService,
+            MemberVoteCounter memberVoteCounter,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.batchRepository = batchRepository;
+        this.shadowBanService = shadowBanService;
+        this.memberVoteCounter = memberVoteCounter;
+        this.meterRegistry = meterRegistry;
+
+        // drain 은 요청 트랜잭션 안에서 불리므로 거기에 섞이지 않게
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        if (!enabled) return;
+
+        wal = new StarVoteWal(Path.of(walDir));
+        List<StarVoteCommand> recovered = wal.drainRecovered();
+
+        // 복구분은 용량과 무관하게 전부 적재
+        queue = new ArrayBlockingQueue<>(Math.max(queueCapacity, queueCapacity + recovered.size()));
+        queue.addAll(recovered);
+        recovered.forEach(command -> pendingSeqs.merge(command.principalKey(), command.seq(), Math::max));
+        if (!recovered.isEmpty()) {
+            log.info("별점 WAL 재생 - {}건 재적재", recovered.size());
+        }
+
+        Gauge.builder("vote.star.write_behind.queue.size", queue, Collection::size)
+                .register(meterRegistry);
+        Gauge.builder("vote.star.write_behind.flush.lag", this, StarVoteWriteBehind::flushLagMillis)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("vote.star.write_behind.flush")
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("vote.star.write_behind.rejected")
+                .register(meterRegistry);
+        deadLetterCounter = Counter.builder("vote.star.write_behind.dead_letter")
+                .register(meterRegistry);
+        FunctionCounter.builder("vote.star.write_behind.wal.fsync", wal, StarVoteWal::getSyncCount)
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public StarVoteCommand submit(StarVoteCommand command) {
+        // WAL 순서 = 큐 순서가 되도록 한 번에 처리 (파일 쓰기만, fsync 는 락 밖에서)
+        StarVoteCommand logged;
+        synchronized (this) {
+            if (queue.remainingCapacity() == 0) {
+                rejectedCounter.increment();
+                throw new VoteHandler(ErrorStatus.VOTE_QUEUE_FULL);
+            }
+
+            try {
+                logged = wal.append(command);
+            } catch (IOException e) {
+                log.error("별점 WAL 기록 실패 - episodeId={}", command.episodeId(), e);
+                throw new VoteHandler(ErrorStatus._INTERNAL_SERVER_ERROR);
+            }
+
+            pendingSeqs.put(logged.principalKey(), logged.seq());
+            queue.add(logged);
+        }
+
+        // 동시에 들어온 투표들은 fsync 한 번을 나눠 씀
+        // (실패해도 이미 큐에 있어 반영될 수 있음 -> 재시도해도 UPSERT 라 결과는 같음)
+        try {
+            wal.sync(logged.seq());
+        } catch (IOException e) {
+            log.error("별점 WAL fsync 실패 - seq={}", logged.seq(), e);
+            throw new VoteHandler(ErrorStatus._INTERNAL_SERVER_ERROR);
+        }
+        return logged;
+    }
+
+    @Scheduled(fixedDelayString = "${app.vote.write-behind.flush-interval-ms:200}")
+    public void flush() {
+        if (!enabled) return;
+
+        synchronized (flushLock) {
+            for (int i = 0; i < MAX_BATCHES_PER_TICK; i++) {
+                List<StarVoteCommand> batch = nextBatch();
+                if (batch.isEmpty()) return;
+
+                if (!flushBatch(batch)) return;
+            }
+        }
+    }
+
+    /**
+     * 투표자들의 밀린 명령이 DB 에 반영될 때까지 요청 스레드에서 직접 flush
+     *  - 동기 경로가 별점 행을 읽기 전에 호출 (호출한 쪽 트랜잭션에서 아직 아무것도 읽지 않았어야 반영분이 보임)
+     *  - 큐는 seq 순서대로만 반영되므로 앞선 다른 투표자의 명령도 함께 반영된다.
+     */
+    public void drain(Collection<String> principalKeys) {
+        if (!enabled) return;
+
+        long target = principalKeys.stream()
+                .filter(Objects::nonNull)
+                .map(pendingSeqs::get)
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue)
+                .max()
+                .orElse(0L);
+        if (target == 0L) return;
+
+        synchronized (flushLock) {
+            while (wal.getCheckpointSeq() < target) {
+                List<StarVoteCommand> batch = nextBatch();
+                if (batch.isEmpty() || !flushBatch(batch)) {
+                    throw new VoteHandler(ErrorStatus.VOTE_PENDING);
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        if (!enabled) return;
+
+        // 남은 건 최대한 반영, 못한 건 WAL 에 남아 재시작 시 재생
+        flush();
+        wal.close();
+    }
+
+    private List<StarVoteCommand> nextBatch() {
+        if (!retryBatch.isEmpty()) return retryBatch;
+
+        List<StarVoteCommand> batch = new ArrayList<>(batchSize);
+        queue.drainTo(batch, batchSize);
+        return batch;
+    }
+
+    private boolean flushBatch(List<StarVoteCommand> batch) {
+        inFlightSince = batch.get(0).enqueuedAt();
+        try {
+            if (retryCount >= MAX_BATCH_RETRY) {
+                int handled = writeOneByOne(batch);
+                if (handled < batch.size()) {
+                    // 일시적 오류 -> 처리한 데까지만 체크포인트, 나머지는 다음 주기에 한 건씩 다시
+                    if (handled > 0) checkpoint(batch.get(handled - 1).seq());
+                    retryBatch = new ArrayList<>(batch.subList(handled, batch.size()));
+                    return false;
+                }
+            } else {
+                flushTimer.record(() ->
+                        transactionTemplate.executeWithoutResult(status -> writeBatch(batch)));
+            }
+            checkpoint(batch.get(batch.size() - 1).seq());
+
+            retryBatch = List.of();
+            retryCount = 0;
+            return true;
+
+        } catch (Exception e) {
+            log.error("별점 배치 반영 실패 ({}회) - size={}", retryCount + 1, batch.size(), e);
+            retryBatch = batch;
+            retryCount += 1;
+            return false;
+
+        } finally {
+            inFlightSince = 0L;
+        }
+    }
+
+    private void checkpoint(long seq) throws IOException {
+        wal.checkpoint(seq);
+        pendingSeqs.values().removeIf(pending -> pending <= seq);
+    }
+
+    /**
+     * 한 건씩 반영, 반영할 수 없는 투표(ex. 삭제된 에피소드) 는 dead-letter 로 옮김
+     * @return 앞에서부터 처리(반영 또는 dead-letter)한 건수, 일시적 오류(DB 연결, 락 타임아웃 등) 를 만나면 거기서 멈춤
+     */
+    private int writeOneByOne(List<StarVoteCommand> batch) throws IOException {
+        for (int i = 0; i < batch.size(); i++) {
+            StarVoteCommand command = batch.get(i);
+            try {
+                transactionTemplate.executeWithoutResult(status -> writeBatch(List.of(command)));
+
+            } catch (Exception e) {
+                if (isTransient(e)) {
+                    log.warn("별점 반영 일시 실패 - seq={}부터 다음 주기에 재시도", command.seq(), e);
+                    return i;
+                }
+                wal.deadLetter(command, e.toString());
+                deadLetterCounter.increment();
+                log.error("별점 반영 불가 - dead-letter 로 이동, seq={}, episodeId={}, principalKey={}",
+                        command.seq(), command.episodeId(), command.principalKey(), e);
+            }
+        }
+        return batch.size();
+    }
+
+    private static boolean isTransient(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof TransientDataAccessException ||
+                    t instanceof RecoverableDataAccessException ||
+                    t instanceof DataAccessResourceFailureException ||
+                    t instanceof CannotCreateTransactionException ||
+                    t instanceof SQLTransientException ||
+                    t instanceof SQLRecoverableException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeBatch(List<StarVoteCommand> batch) {
+        //=== 같은 (에피소드, 투표자) 는 마지막 표만 반영 ===//
+        Map<String, StarVoteCommand> latestMap = new LinkedHashMap<>();
+        for (StarVoteCommand command : batch) {
+            latestMap.put(command.episodeId() + "|" + command.principalKey(), command);
+        }
+        Collection<StarVoteCommand> votes = latestMap.values();
+
+        //=== 제출 정보 찾기 또는 생성 ===//
+        Map<Long, List<StarVoteCommand>> votesByWeek = votes.stream()
+                .collect(Collectors.groupingBy(StarVoteCommand::weekId));
+
+        // 주차가 달라도 principalKey 로 구분되도록 weekId 포함
+        Map<String, SubmissionRef> submissionMap = new HashMap<>();
+        for (Map.Entry<Long, List<StarVoteCommand>> entry : votesByWeek.entrySet()) {
+            Long weekId = entry.getKey();
+            Set<String> principalKeys = entry.getValue().stream()
+                    .map(StarVoteCommand::principalKey)
+                    .collect(Collectors.toSet());
+
+            Map<String, SubmissionRef> refs = batchRepository.findSubmissionRefs(weekId, principalKeys);
+
+            // WAL 에 있는 동안 로그인해 회원에게 옮겨진 비로그인 제출 -> 그 제출(회원) 로 반영
+            Map<String, String> cookieIdsByKey = new HashMap<>();
+            for (StarVoteCommand command : entry.getValue()) {
+                if (command.memberId() == null && command.cookieId() != null &&
+                        !refs.containsKey(command.principalKey())) {
+                    cookieIdsByKey.put(command.principalKey(), command.cookieId());
+                }
+            }
+            if (!cookieIdsByKey.isEmpty()) {
+                Map<String, SubmissionRef> migrated = batchRepository.findMigratedSubmissionRefs(
+                        weekId, new HashSet<>(cookieIdsByKey.values()));
+                cookieIdsByKey.forEach((principalKey, cookieId) -> {
+                    SubmissionRef ref = migrated.get(cookieId);
+                    if (ref != null) refs.put(principalKey, ref);
+                });
+            }
+
+            // 회수만 있는 투표자는 제출을 새로 만들지 않음
+            Map<String, StarVoteCommand> missing = new LinkedHashMap<>();
+            for (StarVoteCommand command : entry.getValue()) {
+                if (command.starScore() != null && !refs.containsKey(command.principalKey())) {
+                    missing.putIfAbsent(command.principalKey(), command);
+                }
+            }
+
+            if (!missing.isEmpty()) {
+                Set<String> bannedIpHashes = missing.values().stream()
+                        .map(StarVoteCommand::ipHash)
+                        .distinct()
+                        .filter(shadowBanService::isBanned)
+                        .collect(Collectors.toSet());
+
+                batchRepository.insertSubmissionsIfAbsent(
+                        new ArrayList<>(missing.values()), bannedIpHashes);
+                refs.putAll(batchRepository.findSubmissionRefs(weekId, missing.keySet()));
+            }
+
+            refs.forEach((principalKey, ref) -> submissionMap.put(weekId + "|" + principalKey, ref));
+        }
+
+        //=== 별점 UPSERT ===//
+        Set<Long> submissionIds = submissionMap.values().stream()
+                .map(SubmissionRef::id)
+                .collect(Collectors.toSet());
+
+        // 계획 ~ 반영 사이에 동기 경로가 같은 제출에 별점 행을 만들지 못하게
+        batchRepository.lockSubmissions(submissionIds);
+
+        Map<String, StarRef> starMap = new HashMap<>();
+        for (StarRef ref : batchRepository.findStarRefs(submissionIds)) {
+            starMap.put(ref.episodeId() + "|" + ref.submissionId(), ref);
+        }
+
+        // 로그인 전후 표가 같은 제출로 모이면 (에피소드, 제출) 마다 마지막 표만
+        Map<String, StarVoteCommand> latestBySubmission = new LinkedHashMap<>();
+        for (StarVoteCommand command : votes) {
+            SubmissionRef submission = submissionMap.get(command.weekId() + "|" + command.principalKey());
+            if (submission == null) continue;  // 제출 없는 회수 -> 할 일 없음
+            latestBySubmission.merge(command.episodeId() + "|" + submission.id(), command,
+                    (a, b) -> a.seq() >= b.seq() ? a : b);
+        }
+
+        List<NewStar> newStars = new ArrayList<>();
+        Map<Long, List<Long>> newStarEpisodesByMember = new HashMap<>();
+        List<ScoreUpdate> updates = new ArrayList<>();
+        Map<Long, int[]> deltas = new HashMap<>();
+
+        for (StarVoteCommand command : latestBySubmission.values()) {
+            SubmissionRef submission = submissionMap.get(command.weekId() + "|" + command.principalKey());
+            StarRef star = starMap.get(command.episodeId() + "|" + submission.id());
+            Integer newScore = command.starScore();
+
+            // 차단 유저는 통계 반영 X
+            int[] delta = submission.isBlocked() ?
+                    new int[11] :
+                    deltas.computeIfAbsent(command.episodeId(), k -> new int[11]);
+
+            if (newScore == null) {
+                //=== 회수 ===//
+                if (star == null || star.starScore() == null) continue;
+
+                updates.add(new ScoreUpdate(star.id(), null));
+                delta[0] -= 1;
+                delta[star.starScore()] -= 1;
+
+            } else if (star == null) {
+                newStars.add(new NewStar(submission.id(), command.episodeId(), newScore));
+                // 투표 시점이 아니라 제출 행 기준 회원 (WAL 에 있는 동안 로그인으로 옮겨졌을 수 있음)
+                if (submission.memberId() != null) {
+                    newStarEpisodesByMember
+                            .computeIfAbsent(submission.memberId(), k -> new ArrayList<>())
+                            .add(command.episodeId());
+                }
+                delta[0] += 1;
+                delta[newScore] += 1;
+
+            } else if (!Objects.equals(star.starScore(), newScore)) {
+                updates.add(new ScoreUpdate(star.id(), newScore));
+
+                Integer oldScore = star.starScore();
+                if (oldScore == null) {
+                    delta[0] += 1;  // 회수했던 표 재투표
+                } else {
+                    delta[oldScore] -= 1;
+                }
+                delta[newScore] += 1;
+            }
+        }
+
+        batchRepository.insertStars(newStars);
+        memberVoteCounter.increaseAll(newStarEpisodesByMember);
+        batchRepository.updateStarScores(updates);
+        batchRepository.applyEpisodeDeltas(deltas);
+    }
+
+    private double flushLagMillis() {
+        long oldest = inFlightSince;
+        StarVoteCommand head = queue.peek();
+        if (head != null && (oldest == 0L || head.enqueuedAt() < oldest)) {
+            oldest = head.enqueuedAt();
+        }
+        return oldest == 0L ? 0.0 : System.currentTimeMillis() - oldest;
+    }
+}
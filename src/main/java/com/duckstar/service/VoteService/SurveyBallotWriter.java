@@ -0,0 +1,170 @@
+package com.duckstar.service.VoteService;
+
+import com.duckstar.apiPayload.code.status.ErrorStatus;
+import com.duckstar.apiPayload.exception.handler.VoteHandler;
+import com.duckstar.domain.enums.BallotType;
+import com.duckstar.domain.mapping.surveyVote.SurveyVote;
+import com.duckstar.domain.mapping.surveyVote.SurveyVoteSubmission;
+import com.duckstar.repository.SurveyCandidate.SurveyCandidateRepository;
+import com.duckstar.repository.SurveyVote.SurveyVoteRepository;
+import com.duckstar.repository.SurveyVote.SurveyVoteRepository.BallotScore;
+import com.duckstar.repository.SurveyVoteSubmission.SurveyVoteSubmissionRepository;
+import com.duckstar.service.SurveyLiveTally;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static com.duckstar.web.dto.SurveyRequestDto.*;
+
+/**
+ * 서베이 투표지 쓰기 (검증이 끝난 투표지만 받음)
+ *
+ *  - 신규: 제출 + 표를 영속화만 하고 한 번에 flush -> 제출 INSERT 1번 + 표 배치 INSERT 1번
+ *    (채번 테이블 id 라 persist 때 INSERT 가 나가지 않음, prod 는 rewriteBatchedStatements 로 multi-row INSERT)
+ *  - 재투표: 삭제/수정은 종류별로 집합 DELETE/UPDATE 한 문장씩 (수정은 표 종류별), 추가는 배치 INSERT
+ *  - 바뀐 표는 실시간 집계(SurveyLiveTally) 에 커밋 이후 반영
+ *  - 쓰기 시간은 vote.survey.write (kind=new|revote, p50/p99) 로 측정
+ */
+@Component
+public class SurveyBallotWriter {
+
+    private final SurveyVoteSubmissionRepository surveyVoteSubmissionRepository;
+    private final SurveyVoteRepository surveyVoteRepository;
+    private final SurveyCandidateRepository surveyCandidateRepository;
+    private final SurveyLiveTally surveyLiveTally;
+
+    private final Timer newTimer;
+    private final Timer revoteTimer;
+
+    public SurveyBallotWriter(
+            SurveyVoteSubmissionRepository surveyVoteSubmissionRepository,
+            SurveyVoteRepository surveyVoteRepository,
+            SurveyCandidateRepository surveyCandidateRepository,
+            SurveyLiveTally surveyLiveTally,
+            MeterRegistry meterRegistry
+    ) {
+        this.surveyVoteSubmissionRepository = surveyVoteSubmissionRepository;
+        this.surveyVoteRepository = surveyVoteRepository;
+        this.surveyCandidateRepository = surveyCandidateRepository;
+        this.surveyLiveTally = surveyLiveTally;
+
+        this.newTimer = Timer.builder("vote.survey.write")
+                .tag("kind", "new")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.revoteTimer = Timer.builder("vote.survey.write")
+                .tag("kind", "revote")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    public void writeNew(SurveyVoteSubmission submission, List<BallotRequestDto> ballots) {
+        newTimer.record(() -> doWriteNew(submission, ballots));
+    }
+
+    public void writeRevote(
+            SurveyVoteSubmission submission,
+            List<Long> removeIds,
+            List<BallotRequestDto> updates,
+            List<BallotRequestDto> adds
+    ) {
+        revoteTimer.record(() -> doWriteRevote(submission, removeIds, updates, adds));
+    }
+
+    private void doWriteNew(SurveyVoteSubmission submission, List<BallotRequestDto> ballots) {
+        surveyVoteSubmissionRepository.save(submission);
+        List<SurveyVote> rows = toRows(submission, ballots);
+        surveyVoteRepository.saveAll(rows);
+
+        // 중복 제출(uk_submission_sp) 은 flush 시점에 드러남
+        try {
+            surveyVoteRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw new VoteHandler(ErrorStatus.ALREADY_VOTED);
+        }
+
+        recordAdded(submission, rows);
+    }
+
+    private void doWriteRevote(
+            SurveyVoteSubmission submission,
+            List<Long> removeIds,
+            List<BallotRequestDto> updates,
+            List<BallotRequestDto> adds
+    ) {
+        Long submissionId = submission.getId();
+        Long surveyId = submission.getSurvey().getId();
+
+        // 실시간 집계용 기존 점수 (삭제/수정 대상 한 번에)
+        List<Long> changedIds = new ArrayList<>(removeIds);
+        updates.forEach(dto -> changedIds.add(dto.getCandidateId()));
+        Map<Long, Integer> oldScores = new HashMap<>();
+        if (!changedIds.isEmpty()) {
+            for (BallotScore ballot : surveyVoteRepository.findBallotScores(submissionId, changedIds)) {
+                oldScores.put(ballot.getCandidateId(), ballot.getScore());
+            }
+        }
+
+        //=== 삭제 ===//
+        if (!removeIds.isEmpty()) {
+            surveyVoteRepository.deleteBallots(submissionId, removeIds);
+            for (Long candidateId : removeIds) {
+                Integer oldScore = oldScores.get(candidateId);
+                if (oldScore == null) continue;
+                surveyLiveTally.record(surveyId, candidateId,
+                        submission.getGender(), submission.getAgeGroup(), oldScore, null);
+            }
+        }
+
+        //=== 수정 (표 종류별 한 문장) ===//
+        if (!updates.isEmpty()) {
+            Map<BallotType, List<Long>> idsByType = new EnumMap<>(BallotType.class);
+            for (BallotRequestDto dto : updates) {
+                idsByType.computeIfAbsent(dto.getBallotType(), t -> new ArrayList<>()).add(dto.getCandidateId());
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            idsByType.forEach((type, ids) -> {
+                surveyVoteRepository.updateBallotTypes(submissionId, ids, type, type.getScore(), now);
+                for (Long candidateId : ids) {
+                    Integer oldScore = oldScores.get(candidateId);
+                    if (oldScore == null) continue;
+                    surveyLiveTally.record(surveyId, candidateId,
+                            submission.getGender(), submission.getAgeGroup(), oldScore, type.getScore());
+                }
+            });
+        }
+
+        //=== 추가 ===//
+        if (!adds.isEmpty()) {
+            List<SurveyVote> rows = toRows(submission, adds);
+            surveyVoteRepository.saveAll(rows);
+            surveyVoteRepository.flush();  // 배치 INSERT 를 측정 구간 안에서
+            recordAdded(submission, rows);
+        }
+    }
+
+    private List<SurveyVote> toRows(SurveyVoteSubmission submission, List<BallotRequestDto> ballots) {
+        List<SurveyVote> rows = new ArrayList<>(ballots.size());
+        for (BallotRequestDto dto : ballots) {
+            rows.add(SurveyVote.create(
+                    submission,
+                    surveyCandidateRepository.getReferenceById(dto.getCandidateId()), // 프록시 객체 반환
+                    dto.getBallotType()
+            ));
+        }
+        return rows;
+    }
+
+    private void recordAdded(SurveyVoteSubmission submission, List<SurveyVote> rows) {
+        Long surveyId = submission.getSurvey().getId();
+        for (SurveyVote row : rows) {
+            surveyLiveTally.record(surveyId, row.getSurveyCandidate().getId(),
+                    submission.getGender(), submission.getAgeGroup(), null, row.getScore());
+        }
+    }
+}
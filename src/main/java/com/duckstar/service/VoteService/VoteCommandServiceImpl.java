@@ -4,7 +4,6 @@ import com.duckstar.apiPayload.code.status.ErrorStatus;
 import com.duckstar.apiPayload.exception.handler.*;
 import com.duckstar.domain.*;
 import com.duckstar.domain.mapping.surveyVote.SurveyCandidate;
-import com.duckstar.domain.mapping.surveyVote.SurveyVote;
 import com.duckstar.domain.mapping.surveyVote.SurveyVoteSubmission;
 import com.duckstar.repository.AnimeRepository;
 import com.duckstar.repository.SurveyCandidate.SurveyCandidateRepository;
@@ -17,20 +16,21 @@ import com.duckstar.domain.mapping.weeklyVote.WeekVoteSubmission;
 import com.duckstar.repository.AnimeComment.AnimeCommentRepository;
 import com.duckstar.repository.Episode.EpisodeRepository;
 import com.duckstar.repository.EpisodeStar.EpisodeStarRepository;
-import com.duckstar.repository.SurveyVote.SurveyVoteRepository;
 import com.duckstar.repository.SurveyVoteSubmission.SurveyVoteSubmissionRepository;
 import com.duckstar.repository.Week.WeekRepository;
 import com.duckstar.repository.WeekVoteSubmission.WeekVoteSubmissionRepository;
 import com.duckstar.security.repository.MemberRepository;
 import com.duckstar.security.service.ShadowBanService;
+import com.duckstar.service.AnimeCommentCounter;
+import com.duckstar.service.SurveyCandidateIdCache;
 import com.duckstar.service.WeekService;
+import com.duckstar.service.WeekTimeline.WeekSlot;
 import com.duckstar.web.support.Hasher;
 import com.duckstar.web.support.IdentifierExtractor;
 import com.duckstar.web.support.VoteCookieManager;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -63,9 +63,15 @@ public class VoteCommandServiceImpl implements VoteCommandService {
     private final SurveyRepository surveyRepository;
     private final SurveyVoteSubmissionRepository surveyVoteSubmissionRepository;
     private final SurveyCandidateRepository surveyCandidateRepository;
-    private final SurveyVoteRepository surveyVoteRepository;
     private final AnimeRepository animeRepository;
 
+    private final StarVoteWriteBehind starVoteWriteBehind;
+    private final EpisodeStarHistogram starHistogram;
+    private final SurveyCandidateIdCache surveyCandidateIdCache;
+    private final SurveyBallotWriter surveyBallotWriter;
+    private final AnimeCommentCounter animeCommentCounter;
+    private final MemberVoteCounter memberVoteCounter;
+
     @Override
     public void voteSurvey(
             AnimeVoteRequest request,
@@ -123,12 +129,6 @@ public class VoteCommandServiceImpl implements VoteCommandService {
                 gender,
                 ageGroup
         );
-        SurveyVoteSubmission savedSubmission;
-        try {
-            savedSubmission = surveyVoteSubmissionRepository.save(submission);
-        } catch (DataIntegrityViolationException e) {
-            throw new VoteHandler(ErrorStatus.ALREADY_VOTED);
-        }
 
         //=== 실제 투표지 검사: 후보 유효성(중복 포함됨, 이번 주 후보 아님) ===//
         List<BallotRequestDto> ballotRequests = request.getBallotRequests();
@@ -136,34 +136,10 @@ public class VoteCommandServiceImpl implements VoteCommandService {
         List<Long> candidateIds = ballotRequests.stream()
                 .map(BallotRequestDto::getCandidateId)
                 .toList();
+        validateCandidates(surveyId, candidateIds);
 
-        Set<Long> uniq = new HashSet<>(candidateIds);
-        if (uniq.size() != candidateIds.size()) {
-            throw new VoteHandler(ErrorStatus.DUPLICATE_CANDIDATE_INCLUDED);
-        }
-
-        Set<Long> valid = new HashSet<>(
-                surveyCandidateRepository.findValidIdsForSurvey(surveyId, candidateIds)
-        );
-        if (valid.size() != uniq.size()) {
-            throw new VoteHandler(ErrorStatus.INVALID_CANDIDATE_INCLUDED);
-        }
-
-        //=== 저장 ===//
-        List<SurveyVote> rows = new ArrayList<>();
-        for (BallotRequestDto dto : ballotRequests) {
-            SurveyCandidate candidate =
-                    surveyCandidateRepository.getReferenceById(dto.getCandidateId()); // 프록시 객체 반환
-
-            SurveyVote surveyVote = SurveyVote.create(
-                    savedSubmission,
-                    candidate,
-                    dto.getBallotType()
-            );
-            rows.add(surveyVote);
-        }
-
-        surveyVoteRepository.saveAll(rows);
+        //=== 저장: 제출 + 표 한 번에 (중복 제출이면 ALREADY_VOTED) ===//
+        surveyBallotWriter.writeNew(submission, ballotRequests);
     }
 
     @Override
@@ -218,61 +194,33 @@ public class VoteCommandServiceImpl implements VoteCommandService {
         List<Long> allIds = Stream.of(addReqIds, removeReqIds, updateReqIds)
                 .flatMap(List::stream)
                 .toList();
-
-        if (allIds.size() != new HashSet<>(allIds).size()) {
-            throw new VoteHandler(ErrorStatus.DUPLICATE_CANDIDATE_INCLUDED);
-        }
-
-        Set<Long> valid = new HashSet<>(
-                surveyCandidateRepository.findValidIdsForSurvey(surveyId, allIds)
-        );
-        if (valid.size() != allIds.size()) {
-            throw new VoteHandler(ErrorStatus.INVALID_CANDIDATE_INCLUDED);
-        }
-
-        //=== 삭제 ===//
-        if (!removeReqIds.isEmpty()) {
-            surveyVoteRepository.deleteAllBySurveyVoteSubmission_IdAndSurveyCandidate_IdIn(
-                    submissionId, removeReqIds);
-        }
+        validateCandidates(surveyId, allIds);
 
         SurveyVoteSubmission submission = surveyVoteSubmissionRepository.findById(submissionId)
                 .orElseThrow(() -> new VoteHandler(ErrorStatus.SUBMISSION_NOT_FOUND));
 
-        //=== 수정 ===//
-        if (!updateReqIds.isEmpty()) {
-            List<SurveyVote> votesToUpdate = surveyVoteRepository
-                    .findAllBySurveyVoteSubmission_IdAndSurveyCandidate_IdIn(submission.getId(), updateReqIds);
+        //=== 삭제 / 수정 / 추가 ===//
+        surveyBallotWriter.writeRevote(
+                submission,
+                removeReqIds,
+                updateRequests == null ? List.of() : updateRequests,
+                addRequests == null ? List.of() : addRequests
+        );
 
-            Map<Long, BallotType> map = updateRequests.stream()
-                    .collect(Collectors.toMap(
-                            BallotRequestDto::getCandidateId,
-                            BallotRequestDto::getBallotType
-                    ));
+        submission.setUpdatedAt(LocalDateTime.now());
+    }
 
-            for (SurveyVote vote : votesToUpdate) {
-                vote.updateScore(map.get(vote.getSurveyCandidate().getId()));
-            }
+    /**
+     * 중복 없이, 모두 이 서베이의 후보여야 함 (후보 ID 집합은 메모리)
+     */
+    private void validateCandidates(Long surveyId, List<Long> candidateIds) {
+        if (candidateIds.size() != new HashSet<>(candidateIds).size()) {
+            throw new VoteHandler(ErrorStatus.DUPLICATE_CANDIDATE_INCLUDED);
         }
 
-        //=== 추가 ===//
-        if (!addReqIds.isEmpty()) {
-            List<SurveyVote> rows = new ArrayList<>();
-            for (BallotRequestDto dto : addRequests) {
-                SurveyCandidate candidate =
-                        surveyCandidateRepository.getReferenceById(dto.getCandidateId()); // 프록시 객체 반환
-
-                SurveyVote surveyVote = SurveyVote.create(
-                        submission,
-                        candidate,
-                        dto.getBallotType()
-                );
-                rows.add(surveyVote);
-            }
-            surveyVoteRepository.saveAll(rows);
+        if (!surveyCandidateIdCache.containsAll(surveyId, candidateIds)) {
+            throw new VoteHandler(ErrorStatus.INVALID_CANDIDATE_INCLUDED);
         }
-
-        submission.setUpdatedAt(LocalDateTime.now());
     }
 
     @Override
@@ -291,8 +239,8 @@ public class VoteCommandServiceImpl implements VoteCommandService {
             throw new VoteHandler(ErrorStatus.VOTE_CLOSED);
         }
 
-        // ** 방영된 에피소드가 속한 주
-        Week inlcudedWeek = weekService.getWeekByTime(episode.getScheduledAt());
+        // ** 방영된 에피소드가 속한 주 (메모리 타임라인)
+        WeekSlot includedWeek = weekService.getWeekSlotByTime(episode.getScheduledAt());
 
         //=== 멤버와 쿠키 ID 찾기 ===//
         Member member;
@@ -303,16 +251,27 @@ public class VoteCommandServiceImpl implements VoteCommandService {
             cookieId = null;
         } else {
             member = null;
-            Quarter quarter = inlcudedWeek.getQuarter();
             cookieId = voteCookieManager.ensureVoteCookie(
                     requestRaw,
                     responseRaw,
-                    quarter.getYearValue(),
-                    quarter.getQuarterValue(),
-                    inlcudedWeek.getWeekValue()
+                    includedWeek.yearValue(),
+                    includedWeek.quarterValue(),
+                    includedWeek.weekValue()
             );
         }
 
+        //=== write-behind: 큐 적재 후 바로 응답 ===//
+        // (에피소드, principalKey) 단위 UPSERT 로 반영되므로 episodeStarId 없이도 수정/회수가 된다
+        if (starVoteWriteBehind.isEnabled()) {
+            starVoteWriteBehind.submit(toStarCommand(
+                    includedWeek.weekId(), episodeId, memberId, cookieId, requestRaw, request.getStarScore()));
+
+            return VoteResultDto.builder()
+                    .voterCount(episode.getVoterCount())
+                    .info(StarInfoDto.ofPending(request.getStarScore(), episode))
+                    .build();
+        }
+
         Long episodeStarId = request.getEpisodeStarId();
         EpisodeStar episodeStar;
         if (episodeStarId != null) {
@@ -340,13 +299,13 @@ public class VoteCommandServiceImpl implements VoteCommandService {
                 }
 
                 // 별점 반영
-                episodeStar.updateStarScore(isBlocked, newStarScore);
+                starHistogram.updateScore(isBlocked, episodeStar, newStarScore);
             }
 
         } else {
             //=== 제출 및 투표 ===//
             episodeStar = createOrGetSubmissionAndCreateOrUpdateStar(
-                    inlcudedWeek,
+                    weekRepository.getReferenceById(includedWeek.weekId()),
                     episode,
                     member,
                     cookieId,
@@ -355,16 +314,35 @@ public class VoteCommandServiceImpl implements VoteCommandService {
             );
         }
 
-        return VoteResultDto.builder()
-                .voterCount(episode.getVoterCount())
-                .info(
-                        StarInfoDto.of(
-                                episodeStar.getWeekVoteSubmission().isBlocked(),
-                                episodeStar,
-                                episode
-                        )
-                )
-                .build();
+        return VoteResultDto.of(
+                episodeStar.getWeekVoteSubmission().isBlocked(),
+                episodeStar,
+                episode,
+                starHistogram.pendingOf(episodeId)
+        );
+    }
+
+    private StarVoteCommand toStarCommand(
+            Long weekId,
+            Long episodeId,
+            Long memberId,
+            String cookieId,
+            HttpServletRequest requestRaw,
+            Integer starScore
+    ) {
+        return new StarVoteCommand(
+                0L,
+                weekId,
+                episodeId,
+                memberId,
+                cookieId,
+                voteCookieManager.toPrincipalKey(memberId, cookieId),
+                hasher.hash(identifierExtractor.extract(requestRaw)),
+                identifierExtractor.safeUserAgent(requestRaw),
+                identifierExtractor.safeFpHash(requestRaw),
+                starScore,
+                System.currentTimeMillis()
+        );
     }
 
     private EpisodeStar createOrGetSubmissionAndCreateOrUpdateStar(
@@ -413,16 +391,17 @@ public class VoteCommandServiceImpl implements VoteCommandService {
         EpisodeStar episodeStar;
         if (episodeStarOpt.isPresent()) {
             episodeStar = episodeStarOpt.get();
-            episodeStar.updateStarScore(isBlocked, starScore);
+            starHistogram.updateScore(isBlocked, episodeStar, starScore);
         } else {
             episodeStar = episodeStarRepository.save(
-                    EpisodeStar.create(
+                    starHistogram.create(
                             isBlocked,
                             submission,
                             episode,
                             starScore
                     )
             );
+            memberVoteCounter.increase(memberId, episode.getAnime().getId());
         }
 
         return episodeStar;
@@ -437,6 +416,15 @@ public class VoteCommandServiceImpl implements VoteCommandService {
         if (memberId == null) {
             throw new AuthHandler(ErrorStatus.LATE_STAR_UNAUTHORIZED);
         }
+
+        // write-behind: 이 회원(과 로그인 전 쿠키) 의 밀린 투표/회수부터 반영 (아래 어떤 조회보다 먼저)
+        List<String> principalKeys = new ArrayList<>();
+        principalKeys.add(voteCookieManager.toPrincipalKey(memberId, null));
+        for (String cookieId : voteCookieManager.readAllCookies(requestRaw)) {
+            principalKeys.add(voteCookieManager.toPrincipalKey(null, cookieId));
+        }
+        starVoteWriteBehind.drain(principalKeys);
+
         Member member = memberRepository.findById(memberId).orElseThrow(() ->
                 new MemberHandler(ErrorStatus.MEMBER_NOT_FOUND));
 
@@ -481,7 +469,7 @@ public class VoteCommandServiceImpl implements VoteCommandService {
                     throw new AuthHandler(ErrorStatus.STAR_UNAUTHORIZED);
                 }
 
-                episodeStar.updateStarScore(isBlocked, newStarScore);
+                starHistogram.updateScore(isBlocked, episodeStar, newStarScore);
             }
 
         } else {
@@ -506,11 +494,7 @@ public class VoteCommandServiceImpl implements VoteCommandService {
 
         } else {
             //=== 댓글 저장 ===//
-            int voteCount = episodeStarRepository
-                    .countAllByEpisode_Anime_IdAndWeekVoteSubmission_Member_Id(
-                            episode.getAnime().getId(),
-                            member.getId()
-                    );
+            int voteCount = memberVoteCounter.countOf(member.getId(), episode.getAnime().getId());
 
             AnimeComment animeComment = AnimeComment.create(
                     episode.getAnime(),
@@ -524,6 +508,7 @@ public class VoteCommandServiceImpl implements VoteCommandService {
             animeComment.setEpisodeStar(episodeStar);  // episode_star 관계 셋팅
 
             comment = animeCommentRepository.save(animeComment);
+            animeCommentCounter.increase(episode.getAnime().getId());
         }
 
         // 별점 통계
@@ -559,8 +544,8 @@ public class VoteCommandServiceImpl implements VoteCommandService {
             throw new VoteHandler(ErrorStatus.VOTE_CLOSED);
         }
 
-        // ** 방영된 에피소드가 속한 주
-        Week inlcudedWeek = weekService.getWeekByTime(episode.getScheduledAt());
+        // ** 방영된 에피소드가 속한 주 (메모리 타임라인)
+        WeekSlot includedWeek = weekService.getWeekSlotByTime(episode.getScheduledAt());
 
         //=== 멤버와 쿠키 ID 찾기 ===//
         String cookieId;
@@ -569,37 +554,59 @@ public class VoteCommandServiceImpl implements VoteCommandService {
                     new MemberHandler(ErrorStatus.MEMBER_NOT_FOUND));
             cookieId = null;
         } else {
-            Quarter quarter = inlcudedWeek.getQuarter();
             cookieId = voteCookieManager.ensureVoteCookie(
                     requestRaw,
                     responseRaw,
-                    quarter.getYearValue(),
-                    quarter.getQuarterValue(),
-                    inlcudedWeek.getWeekValue()
+                    includedWeek.yearValue(),
+                    includedWeek.quarterValue(),
+                    includedWeek.weekValue()
             );
         }
 
+        String principalKey = voteCookieManager.toPrincipalKey(memberId, cookieId);
+
+        //=== write-behind: 회수도 같은 큐로 (앞선 투표가 아직 큐에 있어도 순서대로 반영) ===//
+        if (starVoteWriteBehind.isEnabled()) {
+            if (episodeStarId != null) {
+                episodeStarRepository.findById(episodeStarId)
+                        .ifPresent(star -> checkStarOwner(star, episode, principalKey));
+            }
+            starVoteWriteBehind.submit(toStarCommand(
+                    includedWeek.weekId(), episodeId, memberId, cookieId, requestRaw, null));
+            return;
+        }
+
         //=== 표 수정 권한 검증 ===//
-        EpisodeStar episodeStar = episodeStarRepository.findById(episodeStarId).orElseThrow(() ->
-                new VoteHandler(ErrorStatus.STAR_NOT_FOUND));
+        EpisodeStar episodeStar = (episodeStarId != null ?
+                episodeStarRepository.findById(episodeStarId) :
+                submissionRepository.findByWeek_IdAndPrincipalKey(includedWeek.weekId(), principalKey)
+                        .flatMap(submission -> episodeStarRepository
+                                .findByEpisode_IdAndWeekVoteSubmission_Id(episodeId, submission.getId()))
+        ).orElseThrow(() -> new VoteHandler(ErrorStatus.STAR_NOT_FOUND));
 
+        checkStarOwner(episodeStar, episode, principalKey);
+
+        // 별점 회수
+        starHistogram.withdraw(episodeStar);
+    }
+
+    private void checkStarOwner(EpisodeStar episodeStar, Episode episode, String principalKey) {
         boolean isProperEpisode = episodeStar.getEpisode()
                 .equals(episode);
 
-        String principalKey = voteCookieManager.toPrincipalKey(memberId, cookieId);
         boolean isProperVoter = episodeStar.getWeekVoteSubmission().getPrincipalKey()
                 .equals(principalKey);
 
         if (!isProperEpisode || !isProperVoter) {
             throw new AuthHandler(ErrorStatus.STAR_UNAUTHORIZED);
         }
-
-        // 별점 회수
-        episodeStar.withdrawScore();
     }
 
     @Override
     public void refreshEpisodeStatsByWeekId(Long weekId) {
+        // 재집계 값에 덮어써지도록 밀린 증감분 먼저 반영
+        starHistogram.flush();
+
         Week lastWeek = weekRepository.findWeekById(weekId).orElseThrow(() ->
                 new WeekHandler(ErrorStatus.WEEK_NOT_FOUND));
 
@@ -646,11 +653,7 @@ public class VoteCommandServiceImpl implements VoteCommandService {
         Anime anime = animeRepository.findById(animeId).orElseThrow(() ->
                 new AnimeHandler(ErrorStatus.ANIME_NOT_FOUND));
 
-        int voteCount = episodeStarRepository
-                .countAllByEpisode_Anime_IdAndWeekVoteSubmission_Member_Id(
-                        animeId,
-                        memberId
-                );
+        int voteCount = memberVoteCounter.countOf(memberId, animeId);
 
 //        String imageUrl = null;
 //        MultipartFile image = request.getAttachedImage();
@@ -672,6 +675,7 @@ public class VoteCommandServiceImpl implements VoteCommandService {
         animeComment.setSurveyCandidate(candidate);
 
         AnimeComment saved = animeCommentRepository.save(animeComment);
+        animeCommentCounter.increase(animeId);
 
         return SurveyCommentDto.builder()
                 .commentId(saved.getId())
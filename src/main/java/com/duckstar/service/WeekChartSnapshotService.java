@@ -0,0 +1,223 @@
+package com.duckstar.service;
+
+import com.duckstar.apiPayload.code.status.ErrorStatus;
+import com.duckstar.apiPayload.exception.handler.WeekHandler;
+import com.duckstar.cache.LoadedChartSnapshot;
+import com.duckstar.cache.ReadModelCaches;
+import com.duckstar.domain.Week;
+import com.duckstar.domain.WeekChartSnapshot;
+import com.duckstar.repository.Week.WeekRepository;
+import com.duckstar.repository.WeekChartSnapshotRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static com.duckstar.web.dto.ChartDto.*;
+
+/**
+ * 발표된 주차 차트 스냅샷
+ *
+ *  - 차트 발표(calculateRankByYQW + 해외 차트 등록) 시 주차 전체 차트를 gzip JSON 한 행으로 발행하고,
+ *    이후 주차 차트 페이지는 Episode 조회 없이 스냅샷을 잘라서 응답한다.
+ *  - 스냅샷 해시로 ETag, 발행 시각으로 Last-Modified 를 내려 브라우저/CDN 재검증은 304 로 끝난다.
+ *  - 발표 이후 재집계/해외 차트 재등록/애니 정보 수정 시에는 스냅샷을 지우고, 다음 조회나 다음 발행 때 다시 만든다.
+ *  - 응답 DTO 는 역직렬화를 지원하지 않으므로 JSON 트리 그대로 저장/응답한다. (필드 구성은 AnimeRankSliceDto 와 같음)
+ */
+@Slf4j
+@Service
+public class WeekChartSnapshotService {
+
+    public record ChartSnapshotPage(JsonNode body, String etag, Instant lastModified) {}
+
+    private static final List<String> SLICED_FIELDS =
+            List.of("animeRankDtos", "animeTrendRankPreviews", "aniLabRankPreviews");
+
+    private final WeekService weekService;
+    private final WeekRepository weekRepository;
+    private final WeekChartSnapshotRepository weekChartSnapshotRepository;
+    private final ReadModelCaches readModelCaches;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate publishTransaction;
+
+    public WeekChartSnapshotService(
+            WeekService weekService,
+            WeekRepository weekRepository,
+            WeekChartSnapshotRepository weekChartSnapshotRepository,
+            ReadModelCaches readModelCaches,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.weekService = weekService;
+        this.weekRepository = weekRepository;
+        this.weekChartSnapshotRepository = weekChartSnapshotRepository;
+        this.readModelCaches = readModelCaches;
+        this.objectMapper = objectMapper;
+
+        // 조회 중 지연 발행 (조회 트랜잭션은 읽기 전용)
+        this.publishTransaction = new TransactionTemplate(transactionManager);
+        this.publishTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 주차 차트 스냅샷 발행 (있으면 교체)
+     */
+    @Transactional
+    public WeekChartSnapshot publish(Long weekId) {
+        Week week = weekRepository.findById(weekId)
+                .orElseThrow(() -> new WeekHandler(ErrorStatus.WEEK_NOT_FOUND));
+
+        byte[] payload = gzip(buildChart(weekId));
+        String etag = hash(payload);
+        LocalDateTime now = LocalDateTime.now();
+
+        WeekChartSnapshot snapshot = weekChartSnapshotRepository.findByWeek_Id(weekId)
+                .map(existing -> {
+                    existing.replace(payload, etag, now);
+                    // 이전 스냅샷 (커밋 이후)
+                    readModelCaches.evictWeekly();
+                    return existing;
+                })
+                .orElseGet(() -> weekChartSnapshotRepository.save(
+                        WeekChartSnapshot.create(week, payload, etag, now)));
+
+        log.info("주차 차트 스냅샷 발행 - weekId: {}, {} bytes", weekId, payload.length);
+        return snapshot;
+    }
+
+    /**
+     * 재집계, 해외 차트 재등록 시
+     */
+    @Transactional
+    public void invalidate(Long weekId) {
+        weekChartSnapshotRepository.deleteByWeekId(weekId);
+        readModelCaches.evictWeekly();
+    }
+
+    /**
+     * 애니 이미지/정보 수정 시 (이전 이미지 URL 은 S3 에서 지워짐)
+     */
+    @Transactional
+    public void invalidateByAnime(Long animeId) {
+        weekChartSnapshotRepository.deleteByAnimeId(animeId);
+        readModelCaches.evictWeekly();
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public ChartSnapshotPage getAnimeChartPage(Long weekId, int page, int size) {
+        LoadedChartSnapshot snapshot = readModelCaches.chartSnapshot()
+                .get(weekId, () -> loadSnapshot(weekId));
+
+        ObjectNode chart = snapshot.chart();
+        int from = (int) Math.min((long) page * size, Integer.MAX_VALUE);
+        int to = (int) Math.min((long) from + size, Integer.MAX_VALUE);
+
+        ObjectNode body = objectMapper.createObjectNode();
+        body.set("voterCount", chart.get("voterCount"));
+        body.set("voteTotalCount", chart.get("voteTotalCount"));
+
+        boolean hasNext = false;
+        for (String field : SLICED_FIELDS) {
+            JsonNode rows = chart.path(field);
+            ArrayNode slice = body.putArray(field);
+            for (int i = from; i < Math.min(to, rows.size()); i++) {
+                slice.add(rows.get(i));
+            }
+            hasNext |= rows.size() > to;
+        }
+
+        ObjectNode pageInfo = body.putObject("pageInfo");
+        pageInfo.put("hasNext", hasNext);
+        pageInfo.put("page", page);
+        pageInfo.put("size", size);
+
+        return new ChartSnapshotPage(
+                body,
+                snapshot.etag() + "-p" + page + "-s" + size,
+                snapshot.publishedAt()
+        );
+    }
+
+    private LoadedChartSnapshot loadSnapshot(Long weekId) {
+        WeekChartSnapshot snapshot = weekChartSnapshotRepository.findByWeek_Id(weekId)
+                .orElseGet(() -> publishLazily(weekId));
+
+        try {
+            ObjectNode chart = (ObjectNode) objectMapper.readTree(gunzip(snapshot.getPayload()));
+            Instant publishedAt = snapshot.getPublishedAt()
+                    .atZone(ZoneId.systemDefault()).toInstant();
+
+            return new LoadedChartSnapshot(chart, snapshot.getEtag(), publishedAt);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private WeekChartSnapshot publishLazily(Long weekId) {
+        try {
+            return publishTransaction.execute(status -> publish(weekId));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 발행
+            return weekChartSnapshotRepository.findByWeek_Id(weekId).orElseThrow(() -> e);
+        }
+    }
+
+    private byte[] buildChart(Long weekId) {
+        AnimeRankSliceDto chart = weekService.getFullAnimeChart(weekId);
+
+        ObjectNode tree = objectMapper.valueToTree(chart);
+        tree.remove("pageInfo");
+        try {
+            return objectMapper.writeValueAsBytes(tree);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] payload) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return gzip.readAllBytes();
+        }
+    }
+
+    private static String hash(byte[] payload) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(payload);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -5,17 +5,19 @@ import com.duckstar.abroad.animeCorner.AnimeCornerRepository;
 import com.duckstar.apiPayload.code.status.ErrorStatus;
 import com.duckstar.apiPayload.exception.handler.QuarterHandler;
 import com.duckstar.apiPayload.exception.handler.WeekHandler;
+import com.duckstar.cache.ReadModelCaches;
+import com.duckstar.cache.ReadModelCaches.YQWKey;
 import com.duckstar.domain.Quarter;
 import com.duckstar.domain.Week;
 import com.duckstar.domain.enums.DayOfWeekShort;
 import com.duckstar.repository.AnimeQuarter.AnimeQuarterRepository;
 import com.duckstar.repository.Episode.EpisodeRepository;
 import com.duckstar.repository.Week.WeekRepository;
-import com.duckstar.web.dto.PageInfo;
+import com.duckstar.service.WeekTimeline.WeekSlot;
 import com.duckstar.web.dto.RankInfoDto.RankPreviewDto;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
@@ -43,14 +45,41 @@ public class WeekService {
     private final AnilabRepository anilabRepository;
     private final AnimeCornerRepository animeCornerRepository;
 
+    private final ReadModelCaches readModelCaches;
+    private final WeekTimeline weekTimeline;
+
     public Week getCurrentWeek() {
         LocalDateTime now = LocalDateTime.now();
         return getWeekByTime(now);
     }
 
+    /**
+     * 타임라인에 있으면 엔티티는 프록시로만 (필드를 읽을 때 로드)
+     */
     public Week getWeekByTime(LocalDateTime time) {
-        return weekRepository.findWeekByStartDateTimeLessThanEqualAndEndDateTimeGreaterThan(time, time)
+        WeekSlot slot = weekTimeline.find(time);
+        if (slot != null) return weekRepository.getReferenceById(slot.weekId());
+
+        return findWeekByTimeAndRefresh(time);
+    }
+
+    /**
+     * 주차 ID 와 연도/분기/주차 값만 필요할 때 (DB 조회 없음)
+     */
+    public WeekSlot getWeekSlotByTime(LocalDateTime time) {
+        WeekSlot slot = weekTimeline.find(time);
+        if (slot != null) return slot;
+
+        return WeekSlot.of(findWeekByTimeAndRefresh(time));
+    }
+
+    // 다른 인스턴스가 만든 주차 등 타임라인에 아직 없는 경우
+    private Week findWeekByTimeAndRefresh(LocalDateTime time) {
+        Week week = weekRepository.findWeekByStartDateTimeLessThanEqualAndEndDateTimeGreaterThan(time, time)
                 .orElseThrow(() -> new WeekHandler(ErrorStatus.WEEK_NOT_FOUND));
+
+        weekTimeline.refresh();
+        return week;
     }
 
     public Long getQuarterIdByYQ(Integer year, Integer quarter) {
@@ -58,9 +87,13 @@ public class WeekService {
                 .orElseThrow(() -> new QuarterHandler(ErrorStatus.QUARTER_NOT_FOUND));
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Long getWeekIdByYQW(Integer year, Integer quarter, Integer week) {
-        return weekRepository.findWeekIdByYQW(year, quarter, week)
-                .orElseThrow(() -> new WeekHandler(ErrorStatus.WEEK_NOT_FOUND));
+        return readModelCaches.weekIdByYQW().get(
+                new YQWKey(year, quarter, week),
+                () -> weekRepository.findWeekIdByYQW(year, quarter, week)
+                        .orElseThrow(() -> new WeekHandler(ErrorStatus.WEEK_NOT_FOUND))
+        );
     }
 
     public AnimePreviewListDto getWeeklyScheduleFromOffset(LocalTime offset) {
@@ -160,49 +193,31 @@ public class WeekService {
                 .build();
     }
 
-    public AnimeRankSliceDto getAnimeRankSliceDto(Long weekId, Pageable pageable) {
+    /**
+     * 발표된 주차의 전체 차트 (페이지 정보 없음)
+     *  - 주간 차트 스냅샷(WeekChartSnapshotService) 발행용
+     */
+    public AnimeRankSliceDto getFullAnimeChart(Long weekId) {
         Week week = weekRepository.findById(weekId)
                 .orElseThrow(() -> new WeekHandler(ErrorStatus.WEEK_NOT_FOUND));
 
         if (!week.getAnnouncePrepared()) throw new WeekHandler(ErrorStatus.ANNOUNCEMENT_NOT_PREPARED);
 
-        LocalDateTime weekEndDateTime = week.getEndDateTime();
-
-        int page = pageable.getPageNumber();
-        int size = pageable.getPageSize();
-
         List<AnimeRankDto> rows = episodeRepository
                 .getAnimeRankDtosByWeekId(
-                        weekId, weekEndDateTime, page * size, size + 1);
-        boolean duckstarHasNext = rows.size() > size;
+                        weekId, week.getEndDateTime(), 0, Integer.MAX_VALUE);
 
         List<RankPreviewDto> animeCornerRankDtos = animeCornerRepository
-                .findAllByWeek_Id(weekId, page * size, size + 1)
+                .findAllByWeek_Id(weekId, 0, Integer.MAX_VALUE)
                 .stream()
                 .map(RankPreviewDto::of)
                 .toList();
-        boolean animeCornerHasNext = animeCornerRankDtos.size() > size;
 
         List<RankPreviewDto> aniLabRankDtos = anilabRepository
-                .findAllByWeek_Id(weekId, page * size, size + 1)
+                .findAllByWeek_Id(weekId, 0, Integer.MAX_VALUE)
                 .stream()
                 .map(RankPreviewDto::of)
                 .toList();
-        boolean aniLabHasNext = aniLabRankDtos.size() > size;
-
-        boolean hasNextTotal = duckstarHasNext || animeCornerHasNext || aniLabHasNext;
-
-        if (hasNextTotal) {
-            if (duckstarHasNext) rows = rows.subList(0, size);
-            if (animeCornerHasNext) animeCornerRankDtos = animeCornerRankDtos.subList(0, size);
-            if (aniLabHasNext) aniLabRankDtos = aniLabRankDtos.subList(0, size);
-        }
-
-        PageInfo pageInfo = PageInfo.builder()
-                .hasNext(hasNextTotal)
-                .page(page)
-                .size(size)
-                .build();
 
         return AnimeRankSliceDto.builder()
                 .voterCount(week.getAnimeVoterCount())
@@ -210,7 +225,6 @@ public class WeekService {
                 .animeRankDtos(rows)
                 .animeTrendRankPreviews(animeCornerRankDtos)
                 .aniLabRankPreviews(aniLabRankDtos)
-                .pageInfo(pageInfo)
                 .build();
     }
 
@@ -221,14 +235,22 @@ public class WeekService {
             LocalDateTime weekStartedAt
     ) {
         return weekRepository.findByQuarterAndWeekValue(quarter, weekValue)
-                .orElseGet(() -> weekRepository.save(Week.create(quarter, weekValue, weekStartedAt)));
+                .orElseGet(() -> {
+                    // 홈의 이번 주차가 바뀜
+                    readModelCaches.evictWeekly();
+                    weekTimeline.refresh();
+                    return weekRepository.save(Week.create(quarter, weekValue, weekStartedAt));
+                });
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<WeekDto> getAllWeeks() {
-        return weekRepository.findAll().stream()
-                .filter(Week::getAnnouncePrepared)
-                .sorted(Comparator.comparing(Week::getStartDateTime))
-                .map(WeekDto::of)
-                .toList();
+        return readModelCaches.announcedWeeks().get("all", () ->
+                weekRepository.findAll().stream()
+                        .filter(Week::getAnnouncePrepared)
+                        .sorted(Comparator.comparing(Week::getStartDateTime))
+                        .map(WeekDto::of)
+                        .toList()
+        );
     }
 }
@@ -0,0 +1,120 @@
+package com.duckstar.service;
+
+import com.duckstar.domain.Week;
+import com.duckstar.repository.Week.WeekRepository;
+import com.duckstar.repository.Week.WeekRepository.WeekSlotView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 주차 타임라인 (시작 시각 -> 주차 정보, 불변 맵)
+ *
+ *  - 주차는 겹치지 않는 연속 구간이라 floorEntry 한 번으로 시각이 속한 주차를 찾는다. (DB 조회 없음)
+ *  - 기동 시 읽고, 주차가 생성되면(WeekService.getOrCreateWeek) 커밋 이후 통째로 다시 읽어 참조를 바꾼다.
+ *  - 다른 인스턴스에서 생긴 주차는 조회가 빗나갈 때 (WeekService 가 DB 로 찾은 뒤) 다시 읽어 반영
+ */
+@Slf4j
+@Component
+public class WeekTimeline {
+
+    public record WeekSlot(
+            Long weekId,
+            Integer yearValue,
+            Integer quarterValue,
+            Integer weekValue,
+            LocalDateTime startDateTime,
+            LocalDateTime endDateTime
+    ) {
+        public static WeekSlot of(Week week) {
+            return new WeekSlot(
+                    week.getId(),
+                    week.getQuarter().getYearValue(),
+                    week.getQuarter().getQuarterValue(),
+                    week.getWeekValue(),
+                    week.getStartDateTime(),
+                    week.getEndDateTime()
+            );
+        }
+    }
+
+    private final WeekRepository weekRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile NavigableMap<LocalDateTime, WeekSlot> slots = Collections.emptyNavigableMap();
+
+    public WeekTimeline(
+            WeekRepository weekRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.weekRepository = weekRepository;
+
+        // 커밋 이후 콜백에서도 읽을 수 있도록 새 트랜잭션
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * @return 시각이 속한 주차 (타임라인에 없으면 null)
+     */
+    public WeekSlot find(LocalDateTime time) {
+        Map.Entry<LocalDateTime, WeekSlot> entry = slots.floorEntry(time);
+        if (entry == null || !time.isBefore(entry.getValue().endDateTime())) return null;
+
+        return entry.getValue();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        reload();
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 이후 다시 읽음
+     */
+    public void refresh() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reload();
+                }
+            });
+        } else {
+            reload();
+        }
+    }
+
+    private synchronized void reload() {
+        try {
+            List<WeekSlotView> views = readOnlyTransaction.execute(status -> weekRepository.findAllWeekSlots());
+
+            TreeMap<LocalDateTime, WeekSlot> loaded = new TreeMap<>();
+            for (WeekSlotView view : views == null ? List.<WeekSlotView>of() : views) {
+                loaded.put(view.getStartDateTime(), new WeekSlot(
+                        view.getWeekId(),
+                        view.getYearValue(),
+                        view.getQuarterValue(),
+                        view.getWeekValue(),
+                        view.getStartDateTime(),
+                        view.getEndDateTime()
+                ));
+            }
+            slots = Collections.unmodifiableNavigableMap(loaded);
+
+            log.info("주차 타임라인 로드 - {}주", loaded.size());
+        } catch (Exception e) {
+            log.warn("주차 타임라인 로드 실패 - 이전 타임라인 유지", e);
+        }
+    }
+}
@@ -33,9 +33,9 @@ public class ChosungUtil {
         }
     }
 
-    // 한글 초성 추출 함수
-    private static String extractChosung(String text) {
-        StringBuilder result = new StringBuilder();
+    // 한글 초성 추출 함수 (공백 제외)
+    public static String extractChosung(String text) {
+        StringBuilder result = new StringBuilder(text.length());
 
         for (int i = 0; i < text.length(); i++) {
             char ch = text.charAt(i);
@@ -46,7 +46,7 @@ public class ChosungUtil {
                 // 한글 초성 계산: (유니코드 - 44032) / 28 / 21
                 int chosungIndex = (code - 44032) / (28 * 21);
                 result.append(CHOSUNG_LIST[chosungIndex]);
-            } else if (ch != ' ') {
+            } else if (!Character.isWhitespace(ch)) {
                 // 공백이 아닌 다른 문자는 그대로 유지
                 result.append(ch);
             }
@@ -56,12 +56,32 @@ public class ChosungUtil {
     }
 
     // 초성만 입력했는지 확인 (한글 자음과 띄어쓰기만 있는지)
-    private static boolean isChosungOnly(String query) {
-        return query.matches("^[ㄱ-ㅎ\\s]+$");
+    public static boolean isChosungOnly(String query) {
+        if (query.isEmpty()) return false;
+
+        for (int i = 0; i < query.length(); i++) {
+            char ch = query.charAt(i);
+            if ((ch < 'ㄱ' || ch > 'ㅎ') && !Character.isWhitespace(ch)) return false;
+        }
+        return true;
     }
 
     // 띄어쓰기 제거
-    private static String removeSpaces(String text) {
-        return text.replaceAll("\\s+", "");
+    public static String removeSpaces(String text) {
+        StringBuilder result = null;
+
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (Character.isWhitespace(ch)) {
+                if (result == null) {
+                    result = new StringBuilder(text.length());
+                    result.append(text, 0, i);
+                }
+            } else if (result != null) {
+                result.append(ch);
+            }
+        }
+
+        return result == null ? text : result.toString();
     }
 }
@@ -0,0 +1,54 @@
+package com.duckstar.utils;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 이미지 헤더만 읽어 실제 포맷과 크기를 확인 (픽셀은 디코딩하지 않음)
+ *  - ImageIO.read 는 검증만 하려 해도 전체를 BufferedImage 로 올리므로, 큰 이미지는 요청 스레드를 오래 잡는다.
+ *  - 확장자/Content-Type 과 달리 파일 내용(매직 바이트) 기준
+ */
+public class ImageProbe {
+
+    public record ImageInfo(String format, int width, int height) {}
+
+    private ImageProbe() {}
+
+    /**
+     * @return format 은 jpeg, png, gif, webp 처럼 소문자, 읽을 수 있는 리더가 없거나 헤더가 깨졌으면 empty
+     */
+    public static Optional<ImageInfo> probe(File file) {
+        try (ImageInputStream iis = ImageIO.createImageInputStream(file)) {
+            if (iis == null) return Optional.empty();
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) return Optional.empty();
+
+            ImageReader reader = readers.next();
+            try {
+                // seekForwardOnly, ignoreMetadata -> 헤더까지만 읽음
+                reader.setInput(iis, true, true);
+                return Optional.of(new ImageInfo(
+                        normalize(reader.getFormatName()),
+                        reader.getWidth(0),
+                        reader.getHeight(0)
+                ));
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String normalize(String formatName) {
+        String format = formatName.toLowerCase(Locale.ROOT);
+        return format.equals("jpg") ? "jpeg" : format;
+    }
+}
@@ -15,6 +15,10 @@ import com.duckstar.service.ChartService;
 import com.duckstar.service.EpisodeService.EpisodeCommandService;
 import com.duckstar.service.EpisodeService.EpisodeQueryService;
 import com.duckstar.service.SubmissionService;
+import com.duckstar.service.SurveyLiveTally;
+import com.duckstar.service.SurveyLiveTally.ReconcileResult;
+import com.duckstar.service.SurveyService;
+import com.duckstar.service.WeekChartSnapshotService;
 import com.duckstar.service.WeekService;
 import com.duckstar.web.dto.admin.AdminLogDto.ManagementLogSliceDto;
 import io.swagger.v3.oas.annotations.Operation;
@@ -39,6 +43,7 @@ import static com.duckstar.web.dto.admin.ContentResponseDto.*;
 import static com.duckstar.web.dto.admin.CsvRequestDto.*;
 import static com.duckstar.web.dto.admin.EpisodeRequestDto.*;
 import static com.duckstar.web.dto.admin.SubmissionResponseDto.*;
+import static com.duckstar.web.dto.admin.SurveyTallyDto.*;
 
 @RestController
 @RequiredArgsConstructor
@@ -55,9 +60,12 @@ public class AdminController {
     private final ChartService chartService;
     private final AnimeCommandService animeCommandService;
     private final WeekService weekService;
+    private final WeekChartSnapshotService weekChartSnapshotService;
     private final EpisodeQueryService episodeQueryService;
     private final EpisodeCommandService episodeCommandService;
     private final AnimeQueryService animeQueryService;
+    private final SurveyService surveyService;
+    private final SurveyLiveTally surveyLiveTally;
 
     @Operation(summary = "매니저 관리 로그 조회 API", description = "커서 기반 무한 스크롤")
     @GetMapping("/logs")
@@ -298,6 +306,24 @@ public class AdminController {
         return ApiResponse.onSuccess(null);
     }
 
+    /**
+     * 서베이 실시간 집계
+     */
+    @Operation(summary = "진행 중 서베이 실시간 순위 조회 API", description = "제외 IP 필터 없는 원시 집계")
+    @GetMapping("/surveys/{surveyId}/live")
+    public ApiResponse<LiveLeaderboardDto> getLiveLeaderboard(@PathVariable Long surveyId) {
+        return ApiResponse.onSuccess(
+                surveyService.getLiveLeaderboard(surveyId));
+    }
+
+    @Operation(summary = "서베이 실시간 집계 재집계 API",
+            description = "표 전체를 다시 세어 실시간 집계와 비교, 다르면 교정 (MATCH / REPAIRED / SKIPPED)")
+    @PostMapping("/surveys/{surveyId}/live/reconcile")
+    public ApiResponse<ReconcileResult> reconcileLiveTally(@PathVariable Long surveyId) {
+        return ApiResponse.onSuccess(
+                surveyLiveTally.reconcile(surveyId));
+    }
+
     @Operation(summary = "편의용 주간 마감 API",
             description = "주간 덕스타 차트 계산, AniLab 차트 csv 읽고 등록")
     @PostMapping(value = "/chart/{year}/{quarter}/{week}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -315,6 +341,9 @@ public class AdminController {
         csvImportService.importAnimeCorner(weekId, request.getAnimeCornerCsv());
         csvImportService.importAnilab(weekId, request.getAnilabCsv());
 
+        // 발표 차트 스냅샷 발행
+        weekChartSnapshotService.publish(weekId);
+
         return ApiResponse.onSuccess(null);
     }
 }
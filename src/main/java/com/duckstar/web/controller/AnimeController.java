@@ -38,6 +38,7 @@ public class AnimeController {
             @PathVariable Long animeId,
             @RequestParam(required = false) List<Long> episodeIds,
             @RequestParam(defaultValue = "RECENT") CommentSortType sortBy,
+            @RequestParam(required = false) String cursor,
             @ParameterObject @PageableDefault(size = 10) Pageable pageable,
             @AuthenticationPrincipal MemberPrincipal principal
     ) {
@@ -46,6 +47,7 @@ public class AnimeController {
                         animeId,
                         episodeIds,
                         sortBy,
+                        cursor,
                         pageable,
                         principal
                 ));
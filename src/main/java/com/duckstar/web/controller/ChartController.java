@@ -2,13 +2,21 @@ package com.duckstar.web.controller;
 
 import com.duckstar.apiPayload.ApiResponse;
 import com.duckstar.security.MemberPrincipal;
+import com.duckstar.service.ProvisionalChartService;
 import com.duckstar.service.SurveyService;
+import com.duckstar.service.WeekChartSnapshotService;
+import com.duckstar.service.WeekChartSnapshotService.ChartSnapshotPage;
 import com.duckstar.service.WeekService;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -26,6 +34,8 @@ public class ChartController {
 
     private final WeekService weekService;
     private final SurveyService surveyService;
+    private final ProvisionalChartService provisionalChartService;
+    private final WeekChartSnapshotService weekChartSnapshotService;
 
     @Operation(summary = "모든 주차 조회 API")
     @GetMapping("/weeks")
@@ -34,9 +44,12 @@ public class ChartController {
     }
 
     @Operation(summary = "주차별 애니메이션 차트 슬라이스 조회 API (with Anime Trend, AniLab)",
-            description = "path variable 해당 주차 애니, Anime Trend, AniLab 커서 기반 무한 스크롤")
+            description = "path variable 해당 주차 애니, Anime Trend, AniLab 커서 기반 무한 스크롤. " +
+                    "응답 형식은 AnimeRankSliceDto, 발표 스냅샷 기준 ETag/Last-Modified 로 재검증 (304)")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200",
+            content = @Content(schema = @Schema(implementation = AnimeRankSliceResponse.class)))
     @GetMapping("/{year}/{quarter}/{week}/anime")
-    public ApiResponse<AnimeRankSliceDto> getWeeklyAnimeChart(
+    public ResponseEntity<ApiResponse<JsonNode>> getWeeklyAnimeChart(
             @PathVariable Integer year,
             @PathVariable Integer quarter,
             @PathVariable Integer week,
@@ -44,8 +57,22 @@ public class ChartController {
     ) {
         Long weekId = weekService.getWeekIdByYQW(year, quarter, week);
 
-        return ApiResponse.onSuccess(
-                weekService.getAnimeRankSliceDto(weekId, pageable));
+        ChartSnapshotPage chartPage = weekChartSnapshotService.getAnimeChartPage(
+                weekId, pageable.getPageNumber(), pageable.getPageSize());
+
+        // If-None-Match / If-Modified-Since 가 맞으면 본문 없이 304
+        return ResponseEntity.ok()
+                .eTag(chartPage.etag())
+                .lastModified(chartPage.lastModified())
+                .cacheControl(CacheControl.noCache().cachePublic())
+                .body(ApiResponse.onSuccess(chartPage.body()));
+    }
+
+    @Operation(summary = "이번 주 실시간 잠정 차트 조회 API",
+            description = "투표 진행 중인 이번 주 에피소드의 잠정 순위, 수 초 간격으로 갱신되는 스냅샷 (확정 차트 아님)")
+    @GetMapping("/provisional")
+    public ApiResponse<ProvisionalChartDto> getProvisionalChart() {
+        return ApiResponse.onSuccess(provisionalChartService.getProvisionalChart());
     }
 
     @Operation(summary = "서베이 차트 슬라이스 조회 API",
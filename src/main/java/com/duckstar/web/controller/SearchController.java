@@ -1,13 +1,17 @@
 package com.duckstar.web.controller;
 
 import com.duckstar.apiPayload.ApiResponse;
+import com.duckstar.service.AnimeTitleSuggester;
 import com.duckstar.service.QuarterService;
 import com.duckstar.service.SearchService;
 import com.duckstar.service.WeekService;
 import com.duckstar.web.dto.SearchResponseDto;
 import com.duckstar.web.dto.SearchResponseDto.AnimePreviewListDto;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalTime;
@@ -18,10 +22,12 @@ import static com.duckstar.web.dto.SearchResponseDto.*;
 @RestController
 @RequestMapping("/api/v1/search")
 @RequiredArgsConstructor
+@Validated
 public class SearchController {
 
     private final WeekService weekService;
     private final SearchService searchService;
+    private final AnimeTitleSuggester animeTitleSuggester;
     private final QuarterService quarterService;
 
     @GetMapping("/quarters")
@@ -58,6 +64,16 @@ public class SearchController {
                 weekService.getScheduleByQuarterId(year, quarter));
     }
 
+    @Operation(summary = "제목 자동완성 API",
+            description = "입력 중인 키워드(초성 포함, 예: ㄱㅈ)로 시작하는 제목 상위 N개, 메모리 트라이만 조회")
+    @GetMapping("/suggest")
+    public ApiResponse<List<TitleSuggestionDto>> suggestTitles(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(20) int size) {
+        return ApiResponse.onSuccess(
+                animeTitleSuggester.suggest(query, size));
+    }
+
     @Operation(summary = "키워드를 통한 애니메이션 검색 API")
     @GetMapping("/animes")
     public ApiResponse<SearchResponseDto> searchAnimes(@RequestParam String query) {
@@ -127,11 +127,12 @@ public class VoteController {
 //            description = "Episode 기반, 지난 주차")
 //    @PostMapping()
 
-    @Operation(summary = "별점 회수 API", description = "starScore 를 null 로 셋팅")
-    @PostMapping("/withdraw/{episodeId}/{episodeStarId}")
+    @Operation(summary = "별점 회수 API",
+            description = "starScore 를 null 로 셋팅. episodeStarId 가 없으면(반영 대기 중인 투표 등) 내 투표를 에피소드로 찾음")
+    @PostMapping({"/withdraw/{episodeId}/{episodeStarId}", "/withdraw/{episodeId}"})
     public ApiResponse<Void> withdrawStar(
             @PathVariable Long episodeId,
-            @PathVariable Long episodeStarId,
+            @PathVariable(required = false) Long episodeStarId,
             @AuthenticationPrincipal MemberPrincipal principal,
             HttpServletRequest requestRaw,
             HttpServletResponse responseRaw) {
@@ -1,10 +1,14 @@
 package com.duckstar.web.dto;
 
+import com.duckstar.apiPayload.ApiResponse;
 import com.duckstar.web.dto.CharacterResponseDto.CharacterRankDto;
 import com.duckstar.web.dto.RankInfoDto.RankPreviewDto;
+import com.duckstar.web.dto.WeekResponseDto.WeekDto;
+import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static com.duckstar.web.dto.AnimeResponseDto.*;
@@ -28,6 +32,17 @@ public class ChartDto {
         PageInfo pageInfo;
     }
 
+    /**
+     * Swagger 문서용 응답 형식 (생성하지 않음)
+     *  - 주차 차트 API 는 발표 스냅샷 JSON 을 그대로 잘라 내려주므로 반환 타입이 JsonNode
+     */
+    @Schema(name = "ApiResponseAnimeRankSliceDto")
+    public static class AnimeRankSliceResponse extends ApiResponse<AnimeRankSliceDto> {
+        private AnimeRankSliceResponse() {
+            super(null, null, null, null);
+        }
+    }
+
     @Builder
     @Getter
     public static class SurveyRankPage {
@@ -53,4 +68,41 @@ public class ChartDto {
 
         PageInfo pageInfo;
     }
+
+    /**
+     * 실시간 잠정 차트 (확정 전, IP 남용 필터 미적용)
+     */
+    @Builder
+    @Getter
+    public static class ProvisionalChartDto {
+        WeekDto weekDto;
+
+        LocalDateTime computedAt;
+
+        Integer voterCount;
+
+        Integer voteTotalCount;
+
+        List<ProvisionalRankDto> provisionalRankDtos;
+    }
+
+    @Builder
+    @Getter
+    public static class ProvisionalRankDto {
+        Integer rank;
+
+        Long episodeId;
+
+        Integer episodeNumber;
+
+        Long animeId;
+
+        String titleKor;
+
+        String mainThumbnailUrl;
+
+        Double starAverage;
+
+        Integer voterCount;
+    }
 }
@@ -73,6 +73,17 @@ public class CommentResponseDto {
         // 추가 (2025년 12월 24일)
         Long surveyCandidateId;
 
+        // 아직 반영되지 않은 좋아요 증감분 합산용 (LikeCounter)
+        public void setLikeCount(Integer likeCount) {
+            this.likeCount = likeCount;
+        }
+
+        // 조회자 좋아요 상태 (ViewerLikeHydrator)
+        public void setViewerLike(Long commentLikeId, Boolean isLiked) {
+            this.commentLikeId = commentLikeId;
+            this.isLiked = isLiked;
+        }
+
         public static CommentDto ofCreated(
                 AnimeComment comment,
                 Member author,
@@ -172,6 +183,17 @@ public class CommentResponseDto {
         String attachedImageUrl;
         String body;
 
+        // 아직 반영되지 않은 좋아요 증감분 합산용 (LikeCounter)
+        public void setLikeCount(Integer likeCount) {
+            this.likeCount = likeCount;
+        }
+
+        // 조회자 좋아요 상태 (ViewerLikeHydrator)
+        public void setViewerLike(Long replyLikeId, Boolean isLiked) {
+            this.replyLikeId = replyLikeId;
+            this.isLiked = isLiked;
+        }
+
         public static ReplyDto ofCreated(
                 Reply reply,
                 Member author,
@@ -208,26 +230,26 @@ public class CommentResponseDto {
         Integer likeCount;
         LocalDateTime likedAt;
 
-        public static LikeResultDto ofComment(CommentLike commentLike) {
+        public static LikeResultDto ofComment(CommentLike commentLike, int likeCount) {
             if (commentLike == null) {
                 return LikeResultDto.builder().build();
             }
 
             return LikeResultDto.builder()
                     .likeId(commentLike.getId())
-                    .likeCount(commentLike.getComment().getLikeCount())
+                    .likeCount(likeCount)
                     .likedAt(LocalDateTime.now())
                     .build();
         }
 
-        public static LikeResultDto ofReply(ReplyLike replyLike) {
+        public static LikeResultDto ofReply(ReplyLike replyLike, int likeCount) {
             if (replyLike == null) {
                 return LikeResultDto.builder().build();
             }
 
             return LikeResultDto.builder()
                     .likeId(replyLike.getId())
-                    .likeCount(replyLike.getReply().getLikeCount())
+                    .likeCount(likeCount)
                     .likedAt(LocalDateTime.now())
                     .build();
         }
@@ -1,5 +1,6 @@
 package com.duckstar.web.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -12,4 +13,8 @@ public class PageInfo {
     Integer page;
 
     Integer size;
+
+    // 커서 방식 목록에서만 (다음 요청의 cursor 로 그대로 전달)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    String nextCursor;
 }
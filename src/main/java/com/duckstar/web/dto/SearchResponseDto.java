@@ -25,6 +25,16 @@ public class SearchResponseDto {
         List<Integer> quarters;
     }
 
+    @Builder
+    @Getter
+    public static class TitleSuggestionDto {
+        Long animeId;
+
+        String titleKor;
+
+        String matchedTitle;  // 입력과 일치한 제목 (원제, 영제일 수 있음)
+    }
+
     @Builder
     @Getter
     public static class AnimePreviewListDto {
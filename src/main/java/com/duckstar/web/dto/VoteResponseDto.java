@@ -122,6 +122,21 @@ public class VoteResponseDto {
         Integer voterCount;
 
         StarInfoDto info;
+
+        /**
+         * @param pending 아직 DB 에 반영되지 않은 별점 증감분 (EpisodeStarHistogram), 없으면 null
+         */
+        public static VoteResultDto of(
+                Boolean isBlocked,
+                EpisodeStar episodeStar,
+                Episode episode,
+                int[] pending
+        ) {
+            return VoteResultDto.builder()
+                    .voterCount(episode.getVoterCount() + (pending != null ? pending[0] : 0))
+                    .info(StarInfoDto.of(isBlocked, episodeStar, episode, pending))
+                    .build();
+        }
     }
 
     @Getter
@@ -133,6 +148,8 @@ public class VoteResponseDto {
         Long episodeStarId;  // 추가
         Integer userStarScore;
 
+        Boolean isPending;  // write-behind 반영 대기 (episodeStarId 없음 -> 회수는 /withdraw/{episodeId})
+
         Double starAverage;
 
         Integer star_0_5;
@@ -150,15 +167,93 @@ public class VoteResponseDto {
                 Boolean isBlocked,
                 EpisodeStar episodeStar,
                 Episode episode
+        ) {
+            return of(isBlocked, episodeStar, episode, null);
+        }
+
+        /**
+         * @param pending [투표자 수, 0.5점, ..., 5.0점] 증감분, 없으면 null
+         */
+        public static StarInfoDto of(
+                Boolean isBlocked,
+                EpisodeStar episodeStar,
+                Episode episode,
+                int[] pending
         ) {
             if (episode == null) {
                 return StarInfoDto.builder().build();
             }
 
+            if (pending == null) {
+                return StarInfoDto.builder()
+                        .isBlocked(isBlocked)
+                        .episodeStarId(episodeStar != null ? episodeStar.getId() : null)
+                        .userStarScore(episodeStar != null ? episodeStar.getStarScore() : null)
+                        .starAverage(episode.getStarAverage())
+                        .star_0_5(episode.getStar_0_5())
+                        .star_1_0(episode.getStar_1_0())
+                        .star_1_5(episode.getStar_1_5())
+                        .star_2_0(episode.getStar_2_0())
+                        .star_2_5(episode.getStar_2_5())
+                        .star_3_0(episode.getStar_3_0())
+                        .star_3_5(episode.getStar_3_5())
+                        .star_4_0(episode.getStar_4_0())
+                        .star_4_5(episode.getStar_4_5())
+                        .star_5_0(episode.getStar_5_0())
+                        .build();
+            }
+
+            int[] stars = {
+                    0,
+                    episode.getStar_0_5() + pending[1],
+                    episode.getStar_1_0() + pending[2],
+                    episode.getStar_1_5() + pending[3],
+                    episode.getStar_2_0() + pending[4],
+                    episode.getStar_2_5() + pending[5],
+                    episode.getStar_3_0() + pending[6],
+                    episode.getStar_3_5() + pending[7],
+                    episode.getStar_4_0() + pending[8],
+                    episode.getStar_4_5() + pending[9],
+                    episode.getStar_5_0() + pending[10]
+            };
+            int voterCount = episode.getVoterCount() + pending[0];
+
+            double weightedSum = 0.0;
+            for (int score = 1; score <= 10; score++) {
+                weightedSum += score * stars[score];
+            }
+
             return StarInfoDto.builder()
                     .isBlocked(isBlocked)
                     .episodeStarId(episodeStar != null ? episodeStar.getId() : null)
                     .userStarScore(episodeStar != null ? episodeStar.getStarScore() : null)
+                    .starAverage(voterCount <= 0 ? 0.0 : weightedSum / voterCount)
+                    .star_0_5(stars[1])
+                    .star_1_0(stars[2])
+                    .star_1_5(stars[3])
+                    .star_2_0(stars[4])
+                    .star_2_5(stars[5])
+                    .star_3_0(stars[6])
+                    .star_3_5(stars[7])
+                    .star_4_0(stars[8])
+                    .star_4_5(stars[9])
+                    .star_5_0(stars[10])
+                    .build();
+        }
+
+        /**
+         * write-behind 모드: 아직 DB 반영 전이므로 내 점수만 채우고 통계는 현재 값으로 응답
+         *  - episodeStarId 가 없으므로 회수는 에피소드 기준으로 (withdrawStar, episodeStarId 생략)
+         */
+        public static StarInfoDto ofPending(
+                Integer starScore,
+                Episode episode
+        ) {
+            return StarInfoDto.builder()
+                    .isBlocked(false)
+                    .episodeStarId(null)
+                    .isPending(true)
+                    .userStarScore(starScore)
                     .starAverage(episode.getStarAverage())
                     .star_0_5(episode.getStar_0_5())
                     .star_1_0(episode.getStar_1_0())
@@ -0,0 +1,49 @@
+package com.duckstar.web.dto.admin;
+
+import com.duckstar.domain.enums.SurveyStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+public class SurveyTallyDto {
+
+    @Builder
+    @Getter
+    public static class LiveLeaderboardDto {
+        Long surveyId;
+        SurveyStatus status;
+        Integer totalVotes;
+
+        List<LiveTallyCandidateDto> liveTallyCandidateDtos;
+    }
+
+    @Builder
+    @Getter
+    public static class LiveTallyCandidateDto {
+        Integer rank;
+        Long candidateId;
+        String title;
+
+        Integer votes;  // bonus 점수는 소수점 탈락
+        Double votePercent;
+        Integer score;  // 도장 점수 합
+        Integer voteCount;
+
+        // 1. 표 종류
+        Integer normalCount;
+        Integer bonusCount;
+
+        // 2. 성별
+        Integer maleCount;
+        Integer femaleCount;
+
+        // 3. 연령대
+        Integer under14;
+        Integer age1519;
+        Integer age2024;
+        Integer age2529;
+        Integer age3034;
+        Integer over35;
+    }
+}
@@ -7,32 +7,109 @@ import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
+/**
+ * IP HMAC-SHA256 해시
+ *
+ *  - 키로 초기화한 Mac 을 풀에 두고 빌려 씀 (요청마다 Mac.getInstance + init 하지 않음)
+ *    ThreadLocal 대신 풀인 이유: 가상 스레드는 요청마다 새 스레드라 스레드별 보관이 재사용되지 않음
+ *  - HEX 는 글자 표로 변환
+ *  - 같은 IP 가 짧은 시간에 반복되면 (투표 폼 조회 -> 제출 등) 최근 결과 메모를 그대로 사용
+ *    메모는 IP 해시코드 자리에 하나씩만 두는 고정 크기 배열 (잠금 없음, 같은 자리면 최근 것이 이김)
+ *    IP 는 ttl 동안만 메모에 남음
+ */
 public class Hasher {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final int MAC_POOL_SIZE = 64;
+
+    private record Memo(String ip, String hash, long expiresAt) {}
+
     private final byte[] key;
     private final boolean useHex; // true면 HEX, false면 Base64
 
+    private final Mac prototype;
+    private final BlockingQueue<Mac> macPool = new ArrayBlockingQueue<>(MAC_POOL_SIZE);
+
+    private final Memo[] memos;  // 크기 0 이면 메모 안 함
+    private final long memoTtlMillis;
+
     public Hasher(byte[] key, boolean useHex) {
+        this(key, useHex, 4096, 60_000L);
+    }
+
+    /**
+     * @param memoSize 2의 거듭제곱으로 올림 (0 이면 메모 안 함)
+     */
+    public Hasher(byte[] key, boolean useHex, int memoSize, long memoTtlMillis) {
         this.key = key;
         this.useHex = useHex;
+        this.prototype = newMac();
+        this.memos = new Memo[memoSize <= 1 ? Math.max(memoSize, 0) : Integer.highestOneBit(memoSize - 1) << 1];
+        this.memoTtlMillis = memoTtlMillis;
     }
 
     public String hash(String ip) {
+        if (ip == null) throw new VoteHandler(ErrorStatus.HASH_FAILED);
+        if (memos.length == 0) return compute(ip);
+
+        int h = ip.hashCode();
+        int slot = (h ^ (h >>> 16)) & (memos.length - 1);
+        long now = System.currentTimeMillis();
+
+        Memo memo = memos[slot];
+        if (memo != null && memo.expiresAt() > now && memo.ip().equals(ip)) {
+            return memo.hash();
+        }
+
+        String hash = compute(ip);
+        memos[slot] = new Memo(ip, hash, now + memoTtlMillis);
+        return hash;
+    }
+
+    private String compute(String ip) {
+        Mac mac = borrowMac();
         try {
-            Mac mac = Mac.getInstance("HmacSHA256");
-            mac.init(new SecretKeySpec(key, "HmacSHA256"));
             byte[] macBytes = mac.doFinal(ip.getBytes(StandardCharsets.UTF_8));
             return useHex ? toHex(macBytes) : Base64.getUrlEncoder().withoutPadding().encodeToString(macBytes);
         } catch (Exception e) {
             throw new VoteHandler(ErrorStatus.HASH_FAILED);
+        } finally {
+            macPool.offer(mac);  // 풀이 가득 차 있으면 버림
+        }
+    }
+
+    private Mac borrowMac() {
+        Mac mac = macPool.poll();
+        if (mac != null) return mac;
+
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            return newMac();
+        }
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(key, ALGORITHM));
+            return mac;
+        } catch (Exception e) {
+            throw new VoteHandler(ErrorStatus.HASH_FAILED);
         }
     }
 
-    private String toHex(byte[] bytes) {
-        StringBuilder sb = new StringBuilder();
-        for (byte b : bytes) {
-            sb.append(String.format("%02x", b));
+    static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int b = bytes[i] & 0xFF;
+            chars[i * 2] = HEX_DIGITS[b >>> 4];
+            chars[i * 2 + 1] = HEX_DIGITS[b & 0x0F];
         }
-        return sb.toString();
+        return new String(chars);
     }
 }
@@ -0,0 +1,89 @@
+-- 좋아요 (comment_id, member_id) / (reply_id, member_id) 유니크 키 수동 마이그레이션 (MySQL)
+--
+--  - ddl-auto: update 는 중복 행이 남아 있으면 유니크 키 추가에 실패하고 로그만 남김
+--    -> 배포 전에 이 스크립트로 중복 정리 + 키 추가 + 예전 복합 인덱스 삭제
+--  - 여러 번 실행해도 됨 (키/인덱스 유무를 보고 ALTER)
+--  - 중복 중 가장 작은 id 한 행만 남김 (하나라도 좋아요 상태면 좋아요로)
+--  - 중복이 있던 댓글/답글은 like_count 를 좋아요 행 기준으로 다시 셈
+
+--=== comment_like ===--
+
+CREATE TEMPORARY TABLE tmp_comment_like_dup AS
+SELECT comment_id, member_id, MIN(id) AS keep_id, MAX(is_liked) AS is_liked
+FROM comment_like
+GROUP BY comment_id, member_id
+HAVING COUNT(*) > 1;
+
+UPDATE comment_like l
+    JOIN tmp_comment_like_dup d ON d.keep_id = l.id
+SET l.is_liked = d.is_liked;
+
+DELETE l
+FROM comment_like l
+         JOIN tmp_comment_like_dup d
+              ON d.comment_id = l.comment_id AND d.member_id = l.member_id AND l.id <> d.keep_id;
+
+UPDATE comment c
+    JOIN (SELECT DISTINCT comment_id FROM tmp_comment_like_dup) d ON d.comment_id = c.id
+SET c.like_count = (SELECT COUNT(*) FROM comment_like l WHERE l.comment_id = c.id AND l.is_liked = true);
+
+DROP TEMPORARY TABLE tmp_comment_like_dup;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'comment_like'
+                 AND index_name = 'uk_comment_like_cm') = 0,
+              'ALTER TABLE comment_like ADD CONSTRAINT uk_comment_like_cm UNIQUE (comment_id, member_id)',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'comment_like'
+                 AND index_name = 'idx_comment_like_cm') > 0,
+              'ALTER TABLE comment_like DROP INDEX idx_comment_like_cm',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+--=== reply_like ===--
+
+CREATE TEMPORARY TABLE tmp_reply_like_dup AS
+SELECT reply_id, member_id, MIN(id) AS keep_id, MAX(is_liked) AS is_liked
+FROM reply_like
+GROUP BY reply_id, member_id
+HAVING COUNT(*) > 1;
+
+UPDATE reply_like l
+    JOIN tmp_reply_like_dup d ON d.keep_id = l.id
+SET l.is_liked = d.is_liked;
+
+DELETE l
+FROM reply_like l
+         JOIN tmp_reply_like_dup d
+              ON d.reply_id = l.reply_id AND d.member_id = l.member_id AND l.id <> d.keep_id;
+
+UPDATE reply r
+    JOIN (SELECT DISTINCT reply_id FROM tmp_reply_like_dup) d ON d.reply_id = r.id
+SET r.like_count = (SELECT COUNT(*) FROM reply_like l WHERE l.reply_id = r.id AND l.is_liked = true);
+
+DROP TEMPORARY TABLE tmp_reply_like_dup;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'reply_like'
+                 AND index_name = 'uk_reply_like_rm') = 0,
+              'ALTER TABLE reply_like ADD CONSTRAINT uk_reply_like_rm UNIQUE (reply_id, member_id)',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'reply_like'
+                 AND index_name = 'idx_reply_like_rm') > 0,
+              'ALTER TABLE reply_like DROP INDEX idx_reply_like_rm',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
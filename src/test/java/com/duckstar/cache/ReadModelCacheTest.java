@@ -0,0 +1,124 @@
+package com.duckstar.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class ReadModelCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ReadModelCache<String, String> newCache(int maxSize) {
+        TransactionTemplate noOpTransaction = new TransactionTemplate(new AbstractPlatformTransactionManager() {
+            @Override
+            protected Object doGetTransaction() {
+                return new Object();
+            }
+
+            @Override
+            protected void doBegin(Object transaction, TransactionDefinition definition) {}
+
+            @Override
+            protected void doCommit(DefaultTransactionStatus status) {}
+
+            @Override
+            protected void doRollback(DefaultTransactionStatus status) {}
+        });
+
+        return new ReadModelCache<>(
+                "test", maxSize, Duration.ofMinutes(1), noOpTransaction, null, meterRegistry);
+    }
+
+    @Test
+    public void 동시에_놓쳐도_로드는_한_번만_한다() throws Exception {
+        ReadModelCache<String, String> cache = newCache(16);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        int threads = 32;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get("home", () -> {
+                        loadCount.incrementAndGet();
+                        sleep(200);
+                        return "loaded";
+                    });
+                }));
+            }
+            start.countDown();
+
+            for (Future<String> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    public void 로드_중_비우면_그_결과는_캐시하지_않는다() {
+        ReadModelCache<String, String> cache = newCache(16);
+
+        String first = cache.get("home", () -> {
+            cache.evictAll();  // 로드 도중 차트 발표
+            return "stale";
+        });
+        String second = cache.get("home", () -> "fresh");
+
+        assertThat(first).isEqualTo("stale");
+        assertThat(second).isEqualTo("fresh");
+    }
+
+    @Test
+    public void 로드_실패는_캐시하지_않는다() {
+        ReadModelCache<String, String> cache = newCache(16);
+
+        assertThatThrownBy(() -> cache.get("home", () -> {
+            throw new IllegalStateException("no week");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.get("home", () -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    public void 최대_크기를_넘으면_오래_안_쓴_것부터_밀어낸다() {
+        ReadModelCache<String, String> cache = newCache(2);
+
+        cache.get("a", () -> "A");
+        cache.get("b", () -> "B");
+        cache.get("a", () -> "A2");  // a 사용 -> b 가 가장 오래됨
+        cache.get("c", () -> "C");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("a", () -> "A3")).isEqualTo("A");
+        assertThat(cache.get("b", () -> "B2")).isEqualTo("B2");
+        assertThat(meterRegistry.get("cache.evictions").counter().count()).isPositive();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.duckstar.domain;
+
+import com.duckstar.domain.enums.OttType;
+import com.duckstar.domain.mapping.weeklyVote.Episode;
+import com.duckstar.fixture.AnimeFixture;
+import com.duckstar.repository.AnimeRepository;
+import com.duckstar.repository.Episode.EpisodeRepository;
+import com.duckstar.repository.OttRepository;
+import com.duckstar.security.domain.enums.OAuthProvider;
+import com.duckstar.security.repository.MemberRepository;
+import com.duckstar.service.AnimeService.AnimeCommandService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.jdbc.batch_size=200",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.id.optimizer.pooled.preferred=pooled-lo"
+})
+@ActiveProfiles("test")
+public class IdGenerationBatchTest {
+
+    private static final int ROWS = 2_000;
+
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired EntityManager entityManager;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @Autowired MemberRepository memberRepository;
+    @Autowired AnimeRepository animeRepository;
+    @Autowired EpisodeRepository episodeRepository;
+    @Autowired OttRepository ottRepository;
+    @Autowired AnimeCommandService animeCommandService;
+
+    @Test
+    void 채번_테이블_엔티티는_배치로_INSERT_된다() {
+        Long memberId = memberRepository.save(Member.createSocial(
+                OAuthProvider.KAKAO, "batch-provider", "batch", null)).getId();
+        Long animeId = animeCommandService.createAnime(memberId, AnimeFixture.tvaRequestBuilder().build());
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        //=== IDENTITY (기존 방식 기준선) ===//
+        statistics.clear();
+        tx.executeWithoutResult(status -> {
+            List<Ott> otts = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                otts.add(Ott.create(OttType.values()[i % OttType.values().length]));
+            }
+            ottRepository.saveAll(otts);
+        });
+        long identityStatements = statistics.getPrepareStatementCount();
+
+        //=== 채번 테이블 (Episode) ===//
+        statistics.clear();
+        List<Long> ids = tx.execute(status -> {
+            Anime anime = animeRepository.getReferenceById(animeId);
+            LocalDateTime base = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+            List<Episode> episodes = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                episodes.add(Episode.create(anime, 1000 + i, base.plusHours(i), base.plusHours(i + 1), false));
+            }
+            episodeRepository.saveAll(episodes);
+            entityManager.flush();
+            return episodes.stream().map(Episode::getId).toList();
+        });
+        long tableStatements = statistics.getPrepareStatementCount();
+
+        // id 는 겹치지 않고, INSERT 는 batch_size 단위로 묶임 (채번은 100개당 한 번)
+        Set<Long> unique = new HashSet<>(ids);
+        assertThat(unique).hasSize(ROWS).doesNotContainNull();
+        assertThat(identityStatements).isGreaterThanOrEqualTo(ROWS);
+        assertThat(tableStatements).isLessThan(ROWS / 10);
+    }
+}
@@ -0,0 +1,36 @@
+package com.duckstar.repository.AnimeComment;
+
+import com.duckstar.apiPayload.exception.handler.CommentHandler;
+import com.duckstar.domain.enums.CommentSortType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class CommentCursorTest {
+
+    @Test
+    public void 토큰으로_바꿨다가_되돌리면_같은_커서다() {
+        CommentCursor cursor = new CommentCursor(
+                CommentSortType.POPULAR, 12, 3, LocalDateTime.of(2025, 10, 3, 21, 4, 5, 123_456_000), 98765L);
+
+        String token = cursor.encode();
+
+        assertThat(token).doesNotContain("|");
+        assertThat(CommentCursor.decode(token, CommentSortType.POPULAR)).isEqualTo(cursor);
+    }
+
+    @Test
+    public void 정렬이_다르거나_깨진_토큰은_거부한다() {
+        String recent = new CommentCursor(
+                CommentSortType.RECENT, 0, 0, LocalDateTime.of(2025, 1, 1, 0, 0), 1L).encode();
+
+        assertThatThrownBy(() -> CommentCursor.decode(recent, CommentSortType.OLDEST))
+                .isInstanceOf(CommentHandler.class);
+        assertThatThrownBy(() -> CommentCursor.decode("not-a-cursor!", CommentSortType.RECENT))
+                .isInstanceOf(CommentHandler.class);
+        assertThatThrownBy(() -> CommentCursor.decode(recent.substring(3), CommentSortType.RECENT))
+                .isInstanceOf(CommentHandler.class);
+    }
+}
@@ -0,0 +1,130 @@
+package com.duckstar.schedule;
+
+import com.duckstar.repository.Episode.EpisodeStateBatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class EpisodeStateTimelineTest {
+
+    private static final LocalDateTime SCHEDULED_AT = LocalDateTime.of(2025, 7, 1, 23, 0);
+
+    /**
+     * 에피소드 1개 (SCHEDULED_AT) 의 전이 호출만 기록
+     */
+    static class RecordingStateBatchRepository extends EpisodeStateBatchRepository {
+        final Map<String, List<Long>> calls = new LinkedHashMap<>();
+
+        RecordingStateBatchRepository() {
+            super(null);
+        }
+
+        @Override
+        public List<TransitionRef> findTransitionRefs(LocalDateTime from, LocalDateTime to) {
+            if (SCHEDULED_AT.isBefore(from) || !SCHEDULED_AT.isBefore(to)) return List.of();
+            return List.of(new TransitionRef(1L, SCHEDULED_AT));
+        }
+
+        @Override
+        public int openVotingWindow(Collection<Long> episodeIds, LocalDateTime now) {
+            return record("openVotingWindow", episodeIds);
+        }
+
+        @Override
+        public int startShowing(Collection<Long> episodeIds, LocalDateTime now) {
+            return record("startShowing", episodeIds);
+        }
+
+        @Override
+        public int endShowing(Collection<Long> episodeIds, LocalDateTime now) {
+            return record("endShowing", episodeIds);
+        }
+
+        @Override
+        public int requireLogin(Collection<Long> episodeIds, LocalDateTime now) {
+            return record("requireLogin", episodeIds);
+        }
+
+        private int record(String name, Collection<Long> episodeIds) {
+            if (episodeIds.isEmpty()) return 0;
+            calls.computeIfAbsent(name, k -> new ArrayList<>()).addAll(episodeIds);
+            return episodeIds.size();
+        }
+    }
+
+    private RecordingStateBatchRepository repository;
+    private EpisodeStateTimeline timeline;
+
+    @BeforeEach
+    void setUp() {
+        repository = new RecordingStateBatchRepository();
+        timeline = new EpisodeStateTimeline(repository, new AbstractPlatformTransactionManager() {
+            @Override
+            protected Object doGetTransaction() {
+                return new Object();
+            }
+
+            @Override
+            protected void doBegin(Object transaction, TransactionDefinition definition) {}
+
+            @Override
+            protected void doCommit(DefaultTransactionStatus status) {}
+
+            @Override
+            protected void doRollback(DefaultTransactionStatus status) {}
+        });
+        ReflectionTestUtils.setField(timeline, "horizonHours", 6L);
+        ReflectionTestUtils.setField(timeline, "catchUpHours", 168L);
+        ReflectionTestUtils.setField(timeline, "reloadIntervalMinutes", 10L);
+    }
+
+    @Test
+    public void 방영_시각을_넘기는_tick_에서_전이가_한_번씩_실행된다() {
+        timeline.start(SCHEDULED_AT.minusMinutes(1));
+        timeline.tick(SCHEDULED_AT.minusSeconds(1));
+        assertThat(repository.calls).isEmpty();
+
+        // 방영 시작 경계
+        timeline.tick(SCHEDULED_AT);
+        assertThat(repository.calls).containsOnlyKeys("openVotingWindow", "startShowing");
+        assertThat(repository.calls.get("openVotingWindow")).containsExactly(1L);
+
+        // 방영 24분 후 경계
+        timeline.tick(SCHEDULED_AT.plusMinutes(24).minusSeconds(1));
+        assertThat(repository.calls).doesNotContainKey("endShowing");
+        timeline.tick(SCHEDULED_AT.plusMinutes(24));
+        assertThat(repository.calls.get("endShowing")).containsExactly(1L);
+
+        // 다시 불러와도 지난 전이는 또 실행하지 않음
+        timeline.requestReload();
+        timeline.tick(SCHEDULED_AT.plusMinutes(30));
+        assertThat(repository.calls.get("openVotingWindow")).containsExactly(1L);
+        assertThat(repository.calls.get("endShowing")).containsExactly(1L);
+
+        // 방영 36시간 후 경계 (horizon 밖이던 전이도 시간이 흐르며 큐에 올라옴)
+        for (int hour = 1; hour < 36; hour++) {
+            timeline.tick(SCHEDULED_AT.plusHours(hour));
+        }
+        assertThat(repository.calls).doesNotContainKey("requireLogin");
+        timeline.tick(SCHEDULED_AT.plusHours(36));
+        assertThat(repository.calls.get("requireLogin")).containsExactly(1L);
+    }
+
+    @Test
+    public void 기동_시_다운타임_동안_놓친_전이를_한_번에_따라잡는다() {
+        timeline.start(SCHEDULED_AT.plusHours(40));
+
+        assertThat(repository.calls.get("openVotingWindow")).containsExactly(1L);
+        assertThat(repository.calls.get("startShowing")).containsExactly(1L);
+        assertThat(repository.calls.get("endShowing")).containsExactly(1L);
+        assertThat(repository.calls.get("requireLogin")).containsExactly(1L);
+    }
+}
@@ -0,0 +1,82 @@
+package com.duckstar.security.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void 한도를_넘으면_거절하고_채워지는_시간을_알려준다() {
+        RateLimiter limiter = new RateLimiter(3, Duration.ofMinutes(1), 1_000);
+        long now = 0L;
+
+        assertThat(limiter.tryAcquire("ip:a", now)).isZero();
+        assertThat(limiter.tryAcquire("ip:a", now)).isZero();
+        assertThat(limiter.tryAcquire("ip:a", now)).isZero();
+
+        // 분당 3개 -> 20초에 하나씩 채워짐
+        long retryAfter = limiter.tryAcquire("ip:a", now);
+        assertThat(retryAfter).isBetween(19 * SECOND, 20 * SECOND + 1);
+        assertThat(limiter.tryAcquire("ip:b", now)).isZero();  // 다른 키는 별도
+
+        assertThat(limiter.tryAcquire("ip:a", now + 21 * SECOND)).isZero();
+        assertThat(limiter.tryAcquire("ip:a", now + 21 * SECOND)).isPositive();
+    }
+
+    @Test
+    public void 돌려받은_토큰은_다시_쓸_수_있고_용량을_넘지_않는다() {
+        RateLimiter limiter = new RateLimiter(2, Duration.ofMinutes(1), 1_000);
+        long now = 0L;
+
+        assertThat(limiter.tryAcquire("m:1", now)).isZero();
+        assertThat(limiter.tryAcquire("m:1", now)).isZero();
+        assertThat(limiter.tryAcquire("m:1", now)).isPositive();
+
+        limiter.refund("m:1");
+        assertThat(limiter.tryAcquire("m:1", now)).isZero();
+        assertThat(limiter.tryAcquire("m:1", now)).isPositive();
+
+        // 가득 찬 버킷에 돌려줘도 용량 이상 쌓이지 않음
+        limiter.refund("m:2");
+        assertThat(limiter.tryAcquire("m:2", now)).isZero();
+        limiter.refund("m:2");
+        limiter.refund("m:2");
+        assertThat(limiter.tryAcquire("m:2", now)).isZero();
+        assertThat(limiter.tryAcquire("m:2", now)).isZero();
+        assertThat(limiter.tryAcquire("m:2", now)).isPositive();
+    }
+
+    @Test
+    public void 오래_쉰_키는_치운다() {
+        RateLimiter limiter = new RateLimiter(10, Duration.ofSeconds(10), 1_000);
+
+        for (int i = 0; i < 500; i++) {
+            limiter.tryAcquire("key-" + i, 0L);
+        }
+        assertThat(limiter.trackedKeys()).isEqualTo(500);
+
+        // 가득 찰 만큼 지난 뒤 다른 키로 접근할 때마다 조금씩 치움
+        for (int i = 0; i < 5_000; i++) {
+            limiter.tryAcquire("later-" + (i % 200), 11 * SECOND);
+        }
+        assertThat(limiter.trackedKeys()).isEqualTo(200);
+    }
+
+    @Test
+    public void 서로_다른_키_100만_개에도_추적하는_키는_상한을_넘지_않는다() {
+        int maxKeys = 100_000;
+        RateLimiter limiter = new RateLimiter(10, Duration.ofMinutes(1), maxKeys);
+
+        for (int i = 0; i < 1_000_000; i++) {
+            limiter.tryAcquire("ip:" + Integer.toHexString(i * 0x9E3779B1), i);
+        }
+
+        assertThat(limiter.trackedKeys()).isLessThanOrEqualTo(maxKeys);
+    }
+}
@@ -0,0 +1,124 @@
+package com.duckstar.service;
+
+import com.duckstar.service.AnimeTitleIndex.Title;
+import com.duckstar.util.ChosungUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class AnimeTitleIndexTest {
+
+    private static final String[] SYLLABLES = {
+            "귀", "멸", "의", "칼", "날", "진", "격", "거", "인", "주", "술", "회", "전",
+            "스", "파", "이", "패", "밀", "리", "장", "송", "프", "리", "렌", "최", "애", "아"
+    };
+
+    private static final String[] WORDS = {
+            "kimetsu", "no", "yaiba", "shingeki", "kyojin", "jujutsu", "kaisen",
+            "spy", "family", "frieren", "oshi", "ko", "dandadan", "blue", "lock"
+    };
+
+    @Test
+    public void 띄어쓰기_무시와_초성_검색() {
+        AnimeTitleIndex index = new AnimeTitleIndex(List.of(
+                new Title(1L, "귀멸의 칼날", "鬼滅の刃", "Demon Slayer"),
+                new Title(2L, "장송의 프리렌", "葬送のフリーレン", "Frieren: Beyond Journey's End"),
+                new Title(3L, "주술회전", "呪術廻戦", "Jujutsu Kaisen")
+        ));
+
+        assertThat(index.search("귀멸의칼날", 10)).containsExactly(1L);
+        assertThat(index.search("ㄱㅁㅇ ㅋ", 10)).containsExactly(1L);
+        assertThat(index.search("ㅈㅅ", 10)).containsExactly(3L, 2L);  // 앞부분 일치 우선
+        assertThat(index.search("FRIEREN", 10)).containsExactly(2L);
+        assertThat(index.search("  ", 10)).isEmpty();
+        assertThat(index.search("없는제목", 10)).isEmpty();
+    }
+
+    @Test
+    public void 전체_일치_앞부분_일치_포함_순으로_정렬한다() {
+        AnimeTitleIndex index = new AnimeTitleIndex(List.of(
+                new Title(1L, "최애의 아이 2기", null, null),
+                new Title(2L, "나의 최애", null, null),
+                new Title(3L, "최애", null, null),
+                new Title(4L, "최애의 아이", null, null)
+        ));
+
+        assertThat(index.search("최애", 10)).containsExactly(3L, 4L, 1L, 2L);
+        assertThat(index.search("최애", 2)).containsExactly(3L, 4L);
+    }
+
+    @Test
+    public void 갱신과_삭제를_반영한다() {
+        AnimeTitleIndex index = new AnimeTitleIndex(List.of(
+                new Title(1L, "스파이 패밀리", null, "Spy x Family")
+        ));
+
+        index.upsert(new Title(1L, "스파이 패밀리 2기", null, "Spy x Family Season 2"));
+        index.upsert(new Title(2L, "블루 록", null, "Blue Lock"));
+
+        assertThat(index.search("2기", 10)).containsExactly(1L);
+        assertThat(index.search("blue", 10)).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(2);
+
+        index.remove(1L);
+        assertThat(index.search("스파이", 10)).isEmpty();
+
+        // 지운 슬롯이 쌓여 다시 만들어져도 결과는 같다
+        for (long i = 0; i < 500; i++) {
+            index.upsert(new Title(2L, "블루 록", null, "Blue Lock"));
+        }
+        assertThat(index.search("ㅂㄹ", 10)).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void 제목_1만_10만_개에서도_전체_탐색과_같은_결과를_낸다() {
+        for (int count : new int[]{10_000, 100_000}) {
+            List<Title> titles = syntheticTitles(count);
+            List<String> queries = List.of("귀멸", "ㄱㅁ", "ㅈ ㅅ ㅎ", "kai", "spy fam", "의칼날", "렌최", "z");
+
+            AnimeTitleIndex index = new AnimeTitleIndex(titles);
+
+            // 결과 집합은 기존 전체 탐색(ChosungUtil.searchMatch) 과 같아야 한다
+            for (String query : queries) {
+                Set<Long> expected = new HashSet<>();
+                for (Title title : titles) {
+                    if (ChosungUtil.searchMatch(query, title.titleKor())
+                            || ChosungUtil.searchMatch(query, title.titleEng())) {
+                        expected.add(title.animeId());
+                    }
+                }
+                assertThat(new HashSet<>(index.search(query, Integer.MAX_VALUE)))
+                        .as("query: %s", query)
+                        .isEqualTo(expected);
+            }
+        }
+    }
+
+    private List<Title> syntheticTitles(int count) {
+        Random random = new Random(20251018L);
+        List<Title> titles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder kor = new StringBuilder();
+            int words = 1 + random.nextInt(3);
+            for (int w = 0; w < words; w++) {
+                if (w > 0) kor.append(' ');
+                int syllables = 2 + random.nextInt(3);
+                for (int s = 0; s < syllables; s++) {
+                    kor.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+                }
+            }
+
+            StringBuilder eng = new StringBuilder();
+            for (int w = 0; w < 1 + random.nextInt(3); w++) {
+                if (w > 0) eng.append(' ');
+                eng.append(WORDS[random.nextInt(WORDS.length)]);
+            }
+
+            titles.add(new Title((long) i + 1, kor.toString(), null, eng.toString()));
+        }
+        return titles;
+    }
+}
@@ -0,0 +1,103 @@
+package com.duckstar.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class DeltaAccumulatorTest {
+
+    private static final AbstractPlatformTransactionManager NO_OP_TRANSACTION = new AbstractPlatformTransactionManager() {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {}
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {}
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {}
+    };
+
+    private static DeltaAccumulator<Long> accumulatorOf(int stripes, Consumer<Map<Long, int[]>> applier) {
+        return new DeltaAccumulator<>("test", 2, stripes, applier, NO_OP_TRANSACTION);
+    }
+
+    @Test
+    public void 여러_스레드의_증감분을_합쳐_한_번에_반영한다() throws Exception {
+        Map<Long, int[]> applied = new HashMap<>();
+        DeltaAccumulator<Long> accumulator = accumulatorOf(4, applied::putAll);
+
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    accumulator.add(1L, new int[]{1, 2});
+                    accumulator.add(2L, 1, -1);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) thread.join();
+
+        assertThat(accumulator.pendingOf(1L)).containsExactly(8_000, 16_000);
+        assertThat(accumulator.snapshot().get(2L)).containsExactly(0, -8_000);
+
+        accumulator.flush();
+        assertThat(applied.get(1L)).containsExactly(8_000, 16_000);
+        assertThat(applied.get(2L)).containsExactly(0, -8_000);
+        assertThat(accumulator.pendingOf(1L)).isNull();
+        assertThat(accumulator.size()).isZero();
+    }
+
+    @Test
+    public void 합이_0_이_된_키는_지운다() {
+        DeltaAccumulator<Long> accumulator = accumulatorOf(1, deltas -> {});
+
+        accumulator.add(1L, 0, 1);
+        accumulator.add(1L, 0, -1);
+
+        assertThat(accumulator.size()).isZero();
+        assertThat(accumulator.pendingOf(1L)).isNull();
+    }
+
+    @Test
+    public void 반영_중인_증감분도_미반영분으로_보이고_실패하면_다시_쌓는다() throws Exception {
+        CountDownLatch applying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        DeltaAccumulator<Long> accumulator = accumulatorOf(1, deltas -> {
+            applying.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IllegalStateException("DB 장애");
+        });
+        accumulator.add(1L, 0, 3);
+
+        Thread flusher = new Thread(accumulator::flush);
+        flusher.start();
+        applying.await();
+
+        // 반영 도중에 들어온 증감분은 새 항목으로
+        accumulator.add(1L, 0, 1);
+        assertThat(accumulator.pendingOf(1L)).containsExactly(4, 0);
+
+        release.countDown();
+        flusher.join();
+
+        assertThat(accumulator.pendingOf(1L)).containsExactly(4, 0);
+        assertThat(accumulator.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,107 @@
+package com.duckstar.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class DuckstarTallyTest {
+
+    record StarRow(long episodeId, long submissionId, String ipHash, int starScore) {}
+
+    /**
+     * 합성 주차: 에피소드 300개, 제출 20만 개, 별점 100만 개
+     *  - IP 는 제출보다 적게 만들어 같은 IP 공유가 흔하도록 하고
+     *  - 일부 IP 는 특정 에피소드에 같은 점수를 몰아주도록 해서 남용 필터가 실제로 걸리게 한다.
+     */
+    private List<StarRow> syntheticWeek() {
+        Random random = new Random(20251013L);
+        int episodeCount = 300;
+        int submissionCount = 200_000;
+        int ipCount = 60_000;
+
+        String[] ipHashes = new String[ipCount];
+        for (int i = 0; i < ipCount; i++) {
+            ipHashes[i] = Integer.toHexString(i * 31 + 7);
+        }
+
+        List<StarRow> rows = new ArrayList<>(1_000_000);
+        for (int i = 0; i < 1_000_000; i++) {
+            long submissionId = 1L + random.nextInt(submissionCount);
+
+            if (i % 50 == 0) {
+                // 어뷰징: 소수의 IP 가 소수의 에피소드에 같은 점수 몰아주기
+                long episodeId = 1000L + random.nextInt(5);
+                String ipHash = ipHashes[random.nextInt(40)];
+                rows.add(new StarRow(episodeId, submissionId, ipHash, 10));
+                continue;
+            }
+
+            long episodeId = 1000L + random.nextInt(episodeCount);
+            String ipHash = ipHashes[random.nextInt(ipCount)];
+            rows.add(new StarRow(episodeId, submissionId, ipHash, 1 + random.nextInt(10)));
+        }
+        return rows;
+    }
+
+    @Test
+    public void 기존_집계와_같은_결과를_낸다() {
+        List<StarRow> rows = syntheticWeek();
+
+        DuckstarTally tally = new DuckstarTally();
+        rows.forEach(r -> tally.add(r.episodeId(), r.submissionId(), r.ipHash(), r.starScore()));
+        tally.finish();
+
+        //=== 기존 buildDuckstars 로직 그대로 ===//
+        Map<Long, List<StarRow>> starMap = rows.stream()
+                .collect(Collectors.groupingBy(StarRow::episodeId));
+
+        int blockedEpisodes = 0;
+        for (Map.Entry<Long, List<StarRow>> entry : starMap.entrySet()) {
+            List<StarRow> thisEpisodeStars = entry.getValue();
+
+            Map<String, List<Integer>> ipHashScoresMap = thisEpisodeStars.stream()
+                    .collect(Collectors.groupingBy(
+                            StarRow::ipHash,
+                            Collectors.mapping(StarRow::starScore, Collectors.toList())
+                    ));
+
+            List<String> blockedIpHashes = new ArrayList<>();
+            for (Map.Entry<String, List<Integer>> ipEntry : ipHashScoresMap.entrySet()) {
+                Map<Integer, Long> scoreCountMap = ipEntry.getValue().stream()
+                        .collect(Collectors.groupingBy(s -> s, Collectors.counting()));
+
+                if (scoreCountMap.values().stream().anyMatch(count -> count >= 4)) {
+                    blockedIpHashes.add(ipEntry.getKey());
+                }
+            }
+            if (!blockedIpHashes.isEmpty()) blockedEpisodes++;
+
+            List<StarRow> filtered = thisEpisodeStars.stream()
+                    .filter(es -> !blockedIpHashes.contains(es.ipHash()))
+                    .toList();
+
+            int[] scores = new int[10];
+            for (StarRow row : filtered) {
+                scores[row.starScore() - 1] += 1;
+            }
+
+            Long episodeId = entry.getKey();
+            assertThat(tally.hasStars(episodeId)).isTrue();
+            assertThat(tally.voterCountOf(episodeId)).isEqualTo(filtered.size());
+            assertThat(tally.scoresOf(episodeId)).containsExactly(scores);
+        }
+
+        int uniqueVoterCount = (int) rows.stream()
+                .map(StarRow::submissionId)
+                .distinct()
+                .count();
+
+        assertThat(blockedEpisodes).isPositive();  // 필터가 실제로 동작한 데이터인지
+        assertThat(tally.uniqueVoterCount()).isEqualTo(uniqueVoterCount);
+        assertThat(tally.hasStars(1L)).isFalse();
+        assertThat(tally.voterCountOf(1L)).isZero();
+    }
+}
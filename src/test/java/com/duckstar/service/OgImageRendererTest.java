@@ -0,0 +1,117 @@
+package com.duckstar.service;
+
+import com.duckstar.apiPayload.exception.handler.ImageHandler;
+import com.duckstar.service.OgImageRenderer.RenderedImage;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class OgImageRendererTest {
+
+    @Test
+    public void 동시에_같은_요청은_한_번만_만들고_다음부터는_캐시에서_준다() throws Exception {
+        AtomicInteger fetches = new AtomicInteger();
+        HttpServer server = imageServer(fetches);
+        try {
+            OgImageRenderer renderer = renderer();
+            String url = "http://localhost:" + server.getAddress().getPort() + "/poster.png";
+
+            int callers = 8;
+            ExecutorService pool = Executors.newFixedThreadPool(callers);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<RenderedImage>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return renderer.render(url, "jpg", 300, null);
+                }));
+            }
+            start.countDown();
+
+            Path file = results.get(0).get(10, TimeUnit.SECONDS).file();
+            for (Future<RenderedImage> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS).file()).isEqualTo(file);
+            }
+            pool.shutdown();
+
+            BufferedImage rendered = ImageIO.read(file.toFile());
+            assertThat(rendered.getWidth()).isEqualTo(300);
+            assertThat(fetches.get()).isEqualTo(1);
+
+            // 캐시 히트 -> 원본을 다시 받지 않음
+            assertThat(renderer.render(url, "jpeg", 300, null).file()).isEqualTo(file);
+            assertThat(fetches.get()).isEqualTo(1);
+
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void 허용되지_않은_주소는_받아오지_않는다() throws Exception {
+        OgImageRenderer renderer = renderer();
+
+        assertThatThrownBy(() -> renderer.render("http://example.com/poster.png", "jpg", null, null))
+                .isInstanceOf(ImageHandler.class);
+        assertThatThrownBy(() -> renderer.render("file:///etc/passwd", "jpg", null, null))
+                .isInstanceOf(ImageHandler.class);
+        assertThatThrownBy(() -> renderer.render("http://localhost/poster.png", "gif", null, null))
+                .isInstanceOf(ImageHandler.class);
+    }
+
+    private static OgImageRenderer renderer() throws IOException {
+        return new OgImageRenderer(
+                new SimpleMeterRegistry(),
+                Files.createTempDirectory("og-cache-").toString(),
+                List.of("localhost"),
+                1024 * 1024,
+                64 * 1024 * 1024,
+                1000,
+                5000,
+                10_000,
+                2,
+                4
+        );
+    }
+
+    private static HttpServer imageServer(AtomicInteger fetches) throws IOException {
+        BufferedImage source = new BufferedImage(600, 400, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(source, "png", png);
+        byte[] body = png.toByteArray();
+
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/poster.png", exchange -> {
+            fetches.incrementAndGet();
+            try {
+                Thread.sleep(200);  // 느린 원본 -> 그 사이 요청이 모두 겹치게
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "image/png");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.start();
+        return server;
+    }
+}
@@ -0,0 +1,123 @@
+package com.duckstar.service;
+
+import com.duckstar.domain.enums.AgeGroup;
+import com.duckstar.domain.enums.Gender;
+import com.duckstar.service.ChartService.SurveyStatRecord;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class SurveyAwardTallyTest {
+
+    record BallotRow(long submissionId, String ipHash, Gender gender, AgeGroup ageGroup, long candidateId, int score) {}
+
+    /**
+     * 합성 연말 서베이: 후보 200개, 제출 30만 개, 표 약 150만 개
+     *  - 일부 제출은 표가 없고, 일부는 ipHash 가 없음
+     */
+    private List<BallotRow> syntheticSurvey() {
+        Random random = new Random(20251231L);
+        int candidateCount = 200;
+        int submissionCount = 300_000;
+        int ipCount = 100_000;
+
+        List<BallotRow> rows = new ArrayList<>(1_600_000);
+        for (long submissionId = 1; submissionId <= submissionCount; submissionId++) {
+            String ipHash = submissionId % 997 == 0 ? null : Integer.toHexString(random.nextInt(ipCount));
+            Gender gender = Gender.values()[random.nextInt(Gender.values().length)];
+            AgeGroup ageGroup = random.nextInt(10) == 0 ? null : AgeGroup.values()[random.nextInt(AgeGroup.values().length)];
+
+            int ballots = random.nextInt(10);
+            if (ballots == 0) {
+                rows.add(new BallotRow(submissionId, ipHash, gender, ageGroup, 0L, 0));
+                continue;
+            }
+            for (int i = 0; i < ballots; i++) {
+                long candidateId = 1L + random.nextInt(candidateCount);
+                int score = i < 8 ? 100 : 50;
+                rows.add(new BallotRow(submissionId, ipHash, gender, ageGroup, candidateId, score));
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * 기존 쿼리 (survey_vote JOIN submission WHERE ip_hash NOT IN (...) GROUP BY candidate) 와 같은 방식
+     */
+    private Map<Long, SurveyStatRecord> legacyStatMap(List<BallotRow> rows, Set<String> outlaws) {
+        Map<Long, long[]> sums = new HashMap<>();
+        for (BallotRow row : rows) {
+            if (row.candidateId() == 0L) continue;  // INNER JOIN
+            if (!outlaws.isEmpty() && (row.ipHash() == null || outlaws.contains(row.ipHash()))) continue;
+
+            long[] s = sums.computeIfAbsent(row.candidateId(), k -> new long[12]);
+            s[0] += row.score();
+            s[1] += 1;
+            if (row.score() == 100) s[2] += 1;
+            if (row.score() == 50) s[3] += 1;
+            if (row.gender() == Gender.MALE) s[4] += 1;
+            if (row.gender() == Gender.FEMALE) s[5] += 1;
+            if (row.ageGroup() != null) s[6 + row.ageGroup().ordinal()] += 1;
+        }
+
+        Map<Long, SurveyStatRecord> result = new HashMap<>();
+        sums.forEach((id, s) -> result.put(id, new SurveyStatRecord(
+                (int) s[0], s[1], (int) s[2], (int) s[3], (int) s[4], (int) s[5],
+                (int) s[6], (int) s[7], (int) s[8], (int) s[9], (int) s[10], (int) s[11])));
+        return result;
+    }
+
+    private long legacyVoterCount(List<BallotRow> rows, Set<String> outlaws) {
+        return rows.stream()
+                .filter(r -> outlaws.isEmpty() || (r.ipHash() != null && !outlaws.contains(r.ipHash())))
+                .mapToLong(BallotRow::submissionId)
+                .distinct()
+                .count();
+    }
+
+    private SurveyAwardTally tally(List<BallotRow> rows, List<String> outlaws) {
+        SurveyAwardTally tally = new SurveyAwardTally(outlaws);
+        for (BallotRow r : rows) {
+            tally.add(r.submissionId(), r.ipHash(), r.gender(), r.ageGroup(), r.candidateId(), r.score());
+        }
+        return tally;
+    }
+
+    @Test
+    public void 기존_집계와_같은_결과를_낸다() {
+        List<BallotRow> rows = syntheticSurvey();
+        List<String> outlaws = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            outlaws.add(Integer.toHexString(i * 7));
+        }
+
+        for (List<String> excluded : List.of(List.<String>of(), outlaws)) {
+            Map<Long, SurveyStatRecord> expected = legacyStatMap(rows, new HashSet<>(excluded));
+            SurveyAwardTally tally = tally(rows, excluded);
+
+            for (long candidateId = 1; candidateId <= 200; candidateId++) {
+                assertThat(tally.statOf(candidateId)).isEqualTo(expected.get(candidateId));
+            }
+            assertThat(tally.statOf(999L)).isNull();
+            assertThat((long) tally.voterCount()).isEqualTo(legacyVoterCount(rows, new HashSet<>(excluded)));
+        }
+    }
+
+    @Test
+    public void 제외_목록이_있으면_ipHash_없는_제출도_빠진다() {
+        SurveyAwardTally tally = new SurveyAwardTally(List.of("bad"));
+        tally.add(1L, "bad", Gender.MALE, AgeGroup.AGE_20_24, 10L, 100);
+        tally.add(2L, null, Gender.MALE, AgeGroup.AGE_20_24, 10L, 100);
+        tally.add(3L, "good", Gender.FEMALE, null, 10L, 50);
+        tally.add(4L, "good", Gender.UNKNOWN, null, 0L, 0);
+
+        SurveyStatRecord stat = tally.statOf(10L);
+        assertThat(stat.score()).isEqualTo(50);
+        assertThat(stat.voterCount()).isEqualTo(1L);
+        assertThat(stat.bonusCount()).isEqualTo(1);
+        assertThat(stat.femaleCount()).isEqualTo(1);
+        assertThat(tally.voterCount()).isEqualTo(2);
+    }
+}
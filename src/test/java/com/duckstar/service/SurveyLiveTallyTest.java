@@ -0,0 +1,134 @@
+package com.duckstar.service;
+
+import com.duckstar.domain.enums.Gender;
+import com.duckstar.repository.SurveyVote.SurveyVoteBatchRepository;
+import com.duckstar.service.SurveyLiveTally.ReconcileResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.duckstar.repository.SurveyVote.SurveyVoteBatchRepository.TALLY_SLOTS;
+import static org.assertj.core.api.Assertions.*;
+
+public class SurveyLiveTallyTest {
+
+    private static final Long SURVEY_ID = 1L;
+    private static final Long CANDIDATE_ID = 10L;
+
+    record Ballot(long submissionId, Gender gender, long candidateId, int score) {}
+
+    /**
+     * 표 목록과 survey_candidate_tally 를 메모리에 두는 저장소
+     */
+    static class InMemoryBatchRepository extends SurveyVoteBatchRepository {
+        final List<Ballot> ballots = new CopyOnWriteArrayList<>();
+        final Map<Long, int[]> stored = new HashMap<>();
+        Runnable onStream = () -> {};
+
+        InMemoryBatchRepository() {
+            super(null);
+        }
+
+        @Override
+        public void streamBallots(Long surveyId, BallotRowHandler handler) {
+            onStream.run();
+            for (Ballot b : ballots) {
+                handler.accept(b.submissionId(), null, b.gender(), null, b.candidateId(), b.score());
+            }
+        }
+
+        @Override
+        public synchronized Map<Long, int[]> findCandidateTallies(Long surveyId) {
+            Map<Long, int[]> copy = new HashMap<>();
+            stored.forEach((id, tally) -> copy.put(id, tally.clone()));
+            return copy;
+        }
+
+        @Override
+        public synchronized void applyCandidateDeltas(List<CandidateDelta> deltas) {
+            for (CandidateDelta d : deltas) {
+                int[] tally = stored.computeIfAbsent(d.candidateId(), id -> new int[TALLY_SLOTS]);
+                for (int i = 0; i < TALLY_SLOTS; i++) tally[i] += d.delta()[i];
+            }
+        }
+    }
+
+    private InMemoryBatchRepository repository;
+    private SurveyLiveTally liveTally;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryBatchRepository();
+        liveTally = new SurveyLiveTally(repository, null, new AbstractPlatformTransactionManager() {
+            @Override
+            protected Object doGetTransaction() {
+                return new Object();
+            }
+
+            @Override
+            protected void doBegin(Object transaction, TransactionDefinition definition) {}
+
+            @Override
+            protected void doCommit(DefaultTransactionStatus status) {}
+
+            @Override
+            protected void doRollback(DefaultTransactionStatus status) {}
+        }, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(liveTally, "enabled", true);
+        ReflectionTestUtils.setField(liveTally, "flushIntervalMs", 0L);
+
+        // 표 2개 중 1개만 집계에 반영된 상태
+        repository.ballots.add(new Ballot(1L, null, CANDIDATE_ID, 100));
+        repository.ballots.add(new Ballot(2L, null, CANDIDATE_ID, 50));
+        repository.stored.put(CANDIDATE_ID, new int[]{100, 1, 1, 0, 0, 0, 0, 0, 0, 0, 0, 0});
+    }
+
+    @Test
+    public void 다시_세는_도중_들어온_표는_건너뛰고_같은_차이가_다시_나오면_교정한다() {
+        assertThat(liveTally.reconcile(SURVEY_ID)).isEqualTo(ReconcileResult.SUSPECTED);
+
+        // 다시 세는 도중 새 표가 들어옴 -> 이번 판정은 건너뜀
+        repository.onStream = () -> {
+            repository.ballots.add(new Ballot(3L, Gender.MALE, CANDIDATE_ID, 100));
+            liveTally.record(SURVEY_ID, CANDIDATE_ID, Gender.MALE, null, null, 100);
+            repository.onStream = () -> {};
+        };
+        assertThat(liveTally.reconcile(SURVEY_ID)).isEqualTo(ReconcileResult.SKIPPED);
+
+        // 새 표는 flush 로 반영되고, 남은 차이(표 2) 는 처음과 같으므로 교정
+        assertThat(liveTally.reconcile(SURVEY_ID)).isEqualTo(ReconcileResult.REPAIRED);
+        assertThat(repository.stored.get(CANDIDATE_ID))
+                .containsExactly(250, 3, 2, 1, 1, 0, 0, 0, 0, 0, 0, 0);
+
+        assertThat(liveTally.reconcile(SURVEY_ID)).isEqualTo(ReconcileResult.MATCH);
+    }
+
+    @Test
+    public void 다시_세는_동안에는_flush_가_기다리지_않는다() throws Exception {
+        liveTally.record(SURVEY_ID, CANDIDATE_ID, null, null, null, 100);
+        repository.ballots.add(new Ballot(3L, null, CANDIDATE_ID, 100));
+
+        boolean[] flushedDuringRecount = {false};
+        repository.onStream = () -> {
+            Thread flusher = new Thread(liveTally::flush);
+            flusher.start();
+            try {
+                flusher.join(1_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            flushedDuringRecount[0] = !flusher.isAlive();
+            repository.onStream = () -> {};
+        };
+        liveTally.reconcile(SURVEY_ID);
+
+        assertThat(flushedDuringRecount[0]).isTrue();
+    }
+}
@@ -0,0 +1,76 @@
+package com.duckstar.service;
+
+import com.duckstar.service.AnimeTitleIndex.Title;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class TitleSuggestTrieTest {
+
+    private TitleSuggestTrie<String> build(List<Title> titles) {
+        return TitleSuggestTrie.build(titles, 10, (title, matched) -> title.animeId() + ":" + matched);
+    }
+
+    @Test
+    public void 앞부분과_단어_시작_초성으로_완성한다() {
+        TitleSuggestTrie<String> trie = build(List.of(
+                new Title(1L, "귀멸의 칼날", "鬼滅の刃", "Demon Slayer"),
+                new Title(2L, "장송의 프리렌", "葬送のフリーレン", "Frieren"),
+                new Title(3L, "주술회전", "呪術廻戦", "Jujutsu Kaisen"),
+                new Title(4L, "귀멸의 칼날 합동 강화 훈련편", null, null)
+        ));
+
+        assertThat(trie.suggest("귀멸", 10)).containsExactly("1:귀멸의 칼날", "4:귀멸의 칼날 합동 강화 훈련편");
+        assertThat(trie.suggest("귀멸의칼", 1)).containsExactly("1:귀멸의 칼날");
+        assertThat(trie.suggest("칼날", 10)).containsExactly("1:귀멸의 칼날", "4:귀멸의 칼날 합동 강화 훈련편");
+        assertThat(trie.suggest("ㅈㅅ", 10)).containsExactly("3:주술회전", "2:장송의 프리렌");
+        assertThat(trie.suggest("귀멸ㅇ", 10)).containsExactly("1:귀멸의 칼날", "4:귀멸의 칼날 합동 강화 훈련편");
+        assertThat(trie.suggest("jujutsu k", 10)).containsExactly("3:Jujutsu Kaisen");
+        assertThat(trie.suggest("kaisen", 10)).containsExactly("3:Jujutsu Kaisen");
+        assertThat(trie.suggest("없는", 10)).isEmpty();
+        assertThat(trie.suggest("", 10)).isEmpty();
+    }
+
+    @Test
+    public void 제목_처음부터_일치가_중간_단어_일치보다_앞선다() {
+        TitleSuggestTrie<String> trie = build(List.of(
+                new Title(1L, "나의 히어로 아카데미아", null, null),
+                new Title(2L, "히어로 아카데미아 극장판 외전", null, null),
+                new Title(3L, "히어로", null, null)
+        ));
+
+        assertThat(trie.suggest("히어로", 10)).containsExactly("3:히어로", "2:히어로 아카데미아 극장판 외전", "1:나의 히어로 아카데미아");
+    }
+
+    @Test
+    public void 제목_10만_개에서도_입력한_앞부분으로_완성한다() {
+        Random random = new Random(20251018L);
+        String[] syllables = {"귀", "멸", "의", "칼", "날", "진", "격", "거", "인", "주", "술", "회", "전", "스", "파", "이"};
+
+        List<Title> titles = new ArrayList<>(100_000);
+        for (int i = 0; i < 100_000; i++) {
+            StringBuilder kor = new StringBuilder();
+            int words = 1 + random.nextInt(3);
+            for (int w = 0; w < words; w++) {
+                if (w > 0) kor.append(' ');
+                for (int s = 0; s < 2 + random.nextInt(3); s++) {
+                    kor.append(syllables[random.nextInt(syllables.length)]);
+                }
+            }
+            titles.add(new Title((long) i + 1, kor.toString(), null, "title " + i));
+        }
+
+        TitleSuggestTrie<String> trie = build(titles);
+
+        List<String> suggested = trie.suggest("귀멸", 10);
+        assertThat(suggested).hasSize(10);
+        for (String value : suggested) {
+            assertThat(value).contains("귀멸");
+        }
+        for (String value : trie.suggest("title 12", 10)) {
+            assertThat(value).contains("title 12");
+        }
+    }
+}
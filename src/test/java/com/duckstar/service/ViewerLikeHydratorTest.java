@@ -0,0 +1,95 @@
+package com.duckstar.service;
+
+import com.duckstar.domain.Anime;
+import com.duckstar.domain.Member;
+import com.duckstar.domain.enums.CommentSortType;
+import com.duckstar.domain.mapping.CommentLike;
+import com.duckstar.domain.mapping.comment.AnimeComment;
+import com.duckstar.fixture.AnimeFixture;
+import com.duckstar.repository.AnimeComment.AnimeCommentRepository;
+import com.duckstar.repository.AnimeComment.AnimeCommentRepositoryCustom.CommentSlice;
+import com.duckstar.repository.AnimeRepository;
+import com.duckstar.repository.CommentLikeRepository;
+import com.duckstar.security.MemberPrincipal;
+import com.duckstar.security.domain.enums.OAuthProvider;
+import com.duckstar.security.repository.MemberRepository;
+import com.duckstar.service.AnimeService.AnimeCommandService;
+import com.duckstar.web.dto.CommentResponseDto.CommentDto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+public class ViewerLikeHydratorTest {
+
+    private static final int PAGE = 50;
+
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @Autowired MemberRepository memberRepository;
+    @Autowired AnimeRepository animeRepository;
+    @Autowired AnimeCommentRepository animeCommentRepository;
+    @Autowired CommentLikeRepository commentLikeRepository;
+    @Autowired AnimeCommandService animeCommandService;
+    @Autowired ViewerLikeHydrator viewerLikeHydrator;
+
+    @Test
+    void 댓글_페이지의_조회자_좋아요는_한_번에_읽는다() {
+        Member author = memberRepository.save(Member.createSocial(
+                OAuthProvider.KAKAO, "hydrate-author", "author", null));
+        Member viewer = memberRepository.save(Member.createSocial(
+                OAuthProvider.KAKAO, "hydrate-viewer", "viewer", null));
+        Long animeId = animeCommandService.createAnime(author.getId(), AnimeFixture.tvaRequestBuilder().build());
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        Set<Long> likedIds = tx.execute(status -> {
+            Anime anime = animeRepository.getReferenceById(animeId);
+            Set<Long> liked = new HashSet<>();
+            for (int i = 0; i < PAGE; i++) {
+                AnimeComment comment = animeCommentRepository.save(
+                        AnimeComment.create(anime, null, author, false, 0, null, "댓글 " + i));
+                if (i % 3 == 0) {
+                    commentLikeRepository.save(CommentLike.create(comment, viewer));
+                    liked.add(comment.getId());
+                }
+            }
+            return liked;
+        });
+        MemberPrincipal principal = MemberPrincipal.of(viewer);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        List<CommentDto> dtos = tx.execute(status -> {
+            CommentSlice slice = animeCommentRepository.getCommentSlice(
+                    animeId, List.of(), CommentSortType.RECENT, principal, null, 0, PAGE);
+            viewerLikeHydrator.hydrateComments(slice.commentDtos(), principal);
+            return slice.commentDtos();
+        });
+        long statements = statistics.getPrepareStatementCount();
+
+        // 목록 1번 + 조회자 좋아요 IN 1번 (행마다 서브쿼리 없음)
+        assertThat(statements).isEqualTo(2);
+        assertThat(dtos).hasSize(PAGE);
+        for (CommentDto dto : dtos) {
+            boolean liked = likedIds.contains(dto.getCommentId());
+            assertThat(dto.getIsLiked()).isEqualTo(liked);
+            assertThat(dto.getCommentLikeId() != null).isEqualTo(liked);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.duckstar.service.VoteService;
+
+import com.duckstar.domain.Member;
+import com.duckstar.domain.enums.ContentType;
+import com.duckstar.domain.mapping.weeklyVote.Episode;
+import com.duckstar.domain.mapping.weeklyVote.EpisodeStar;
+import com.duckstar.domain.mapping.weeklyVote.WeekVoteSubmission;
+import com.duckstar.fixture.AnimeFixture;
+import com.duckstar.repository.Episode.EpisodeRepository;
+import com.duckstar.repository.EpisodeStar.EpisodeStarRepository;
+import com.duckstar.repository.EpisodeStar.MemberVoteCountRepository;
+import com.duckstar.repository.EpisodeStar.MemberVoteCountRepository.MemberAnime;
+import com.duckstar.repository.WeekVoteSubmission.WeekVoteSubmissionRepository;
+import com.duckstar.security.domain.enums.OAuthProvider;
+import com.duckstar.security.repository.MemberRepository;
+import com.duckstar.service.AnimeService.AnimeCommandService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class MemberVoteCounterTest {
+
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @Autowired MemberRepository memberRepository;
+    @Autowired EpisodeRepository episodeRepository;
+    @Autowired EpisodeStarRepository episodeStarRepository;
+    @Autowired WeekVoteSubmissionRepository weekVoteSubmissionRepository;
+    @Autowired MemberVoteCountRepository memberVoteCountRepository;
+    @Autowired AnimeCommandService animeCommandService;
+    @Autowired MemberVoteCounter memberVoteCounter;
+
+    @Test
+    void 투표_로그인_이전_재집계까지_회원별_투표_수가_맞는다() {
+        Member member = memberRepository.save(Member.createSocial(
+                OAuthProvider.KAKAO, "vote-count-member", "voter", null));
+        Long memberId = member.getId();
+        Long animeId = animeCommandService.createAnime(memberId, AnimeFixture.tvaRequestBuilder().build());
+        List<Episode> episodes = episodeRepository.findEpisodesByReleaseOrderByAnimeId(animeId);
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        //=== 회원 투표: 별점 행과 같은 트랜잭션에서 +1 ===//
+        tx.executeWithoutResult(status -> {
+            WeekVoteSubmission submission = weekVoteSubmissionRepository.save(WeekVoteSubmission.create(
+                    false, null, memberRepository.getReferenceById(memberId), null,
+                    "ip", "ua", "fp", "m:" + memberId, ContentType.ANIME));
+            episodeStarRepository.save(EpisodeStar.create(false, submission, episodes.get(0), 8));
+            memberVoteCounter.increase(memberId, animeId);
+        });
+        assertThat(memberVoteCountRepository.findCount(memberId, animeId)).contains(1);
+
+        //=== 비로그인 투표 2개 -> 로그인으로 회원에게 옮김 ===//
+        Long guestSubmissionId = tx.execute(status -> {
+            WeekVoteSubmission guest = weekVoteSubmissionRepository.save(WeekVoteSubmission.create(
+                    false, null, null, "cookie-a", "ip", "ua", "fp", "c:cookie-a", ContentType.ANIME));
+            episodeStarRepository.save(EpisodeStar.create(false, guest, episodes.get(1), 6));
+            episodeStarRepository.save(EpisodeStar.create(false, guest, episodes.get(2), 10));
+            return guest.getId();
+        });
+        tx.executeWithoutResult(status -> {
+            WeekVoteSubmission guest = weekVoteSubmissionRepository.findById(guestSubmissionId).orElseThrow();
+            memberVoteCounter.addSubmission(memberId, guestSubmissionId);
+            guest.setMember(memberRepository.getReferenceById(memberId), "m:" + memberId);
+        });
+        assertThat(memberVoteCountRepository.findCount(memberId, animeId)).contains(3);
+
+        //=== 어긋난 값은 재집계가 별점 행 기준으로 교정 ===//
+        memberVoteCountRepository.addCounts(Map.of(new MemberAnime(memberId, animeId), 5));
+        assertThat(memberVoteCountRepository.findCount(memberId, animeId)).contains(8);
+
+        memberVoteCounter.reconcile();
+
+        assertThat(memberVoteCountRepository.findCount(memberId, animeId)).contains(3);
+        assertThat(memberVoteCounter.countOf(memberId, animeId)).isEqualTo(3);
+    }
+}
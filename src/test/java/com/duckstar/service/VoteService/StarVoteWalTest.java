@@ -0,0 +1,128 @@
+package com.duckstar.service.VoteService;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class StarVoteWalTest {
+
+    @TempDir
+    Path dir;
+
+    private StarVoteCommand vote(Long episodeId, String principalKey, Integer starScore) {
+        return new StarVoteCommand(
+                0L, 1L, episodeId, null, "cookie", principalKey,
+                "ipHash", "ua", "fp", starScore, System.currentTimeMillis()
+        );
+    }
+
+    @Test
+    public void 체크포인트_전_크래시하면_재시작시_재생된다() throws Exception {
+        try (StarVoteWal wal = new StarVoteWal(dir)) {
+            wal.append(vote(10L, "c:a", 8));
+            wal.append(vote(10L, "c:b", 6));
+        }
+
+        try (StarVoteWal reopened = new StarVoteWal(dir)) {
+            List<StarVoteCommand> recovered = reopened.drainRecovered();
+
+            assertThat(recovered).extracting(StarVoteCommand::seq).containsExactly(1L, 2L);
+            assertThat(recovered).extracting(StarVoteCommand::starScore).containsExactly(8, 6);
+            assertThat(reopened.drainRecovered()).isEmpty();
+        }
+    }
+
+    @Test
+    public void 앞_기록까지_한_번의_fsync_로_함께_내려간다() throws Exception {
+        try (StarVoteWal wal = new StarVoteWal(dir)) {
+            StarVoteCommand first = wal.append(vote(10L, "c:a", 8));
+            StarVoteCommand second = wal.append(vote(10L, "c:b", 6));
+            StarVoteCommand third = wal.append(vote(11L, "c:a", 4));
+
+            wal.sync(third.seq());
+            wal.sync(first.seq());
+            wal.sync(second.seq());
+
+            assertThat(wal.getSyncCount()).isEqualTo(1L);
+
+            wal.sync(wal.append(vote(12L, "c:a", 10)).seq());
+            assertThat(wal.getSyncCount()).isEqualTo(2L);
+        }
+    }
+
+    @Test
+    public void 체크포인트_이후만_재생되고_seq는_이어진다() throws Exception {
+        try (StarVoteWal wal = new StarVoteWal(dir)) {
+            wal.append(vote(10L, "c:a", 8));
+            wal.append(vote(10L, "c:b", 6));
+            wal.append(vote(11L, "c:a", 4));
+            wal.checkpoint(2L);
+        }
+
+        try (StarVoteWal reopened = new StarVoteWal(dir)) {
+            assertThat(reopened.drainRecovered())
+                    .extracting(StarVoteCommand::seq).containsExactly(3L);
+
+            reopened.checkpoint(3L);
+            assertThat(reopened.append(vote(12L, "c:a", 10)).seq()).isEqualTo(4L);
+        }
+
+        try (StarVoteWal reopened = new StarVoteWal(dir)) {
+            assertThat(reopened.drainRecovered())
+                    .extracting(StarVoteCommand::seq).containsExactly(4L);
+        }
+    }
+
+    @Test
+    public void 잘린_마지막_줄은_무시된다() throws Exception {
+        try (StarVoteWal wal = new StarVoteWal(dir)) {
+            wal.append(vote(10L, "c:a", 8));
+        }
+        Files.writeString(dir.resolve("star-vote.wal"), "{\"seq\":2,\"weekId\":1,\"epis",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        try (StarVoteWal reopened = new StarVoteWal(dir)) {
+            assertThat(reopened.drainRecovered())
+                    .extracting(StarVoteCommand::seq).containsExactly(1L);
+
+            // 잘린 줄 뒤에 이어 쓰더라도 다음 재시작에서 정상적으로 읽힌다
+            reopened.append(vote(11L, "c:a", 2));
+        }
+
+        try (StarVoteWal reopened = new StarVoteWal(dir)) {
+            assertThat(reopened.drainRecovered())
+                    .extracting(StarVoteCommand::seq).containsExactly(1L, 2L);
+        }
+    }
+
+    @Test
+    public void 반영할_수_없는_표는_dead_letter_로_남고_체크포인트_이후_재생되지_않는다() throws Exception {
+        try (StarVoteWal wal = new StarVoteWal(dir)) {
+            StarVoteCommand first = wal.append(vote(10L, "c:a", 8));
+            StarVoteCommand broken = wal.append(vote(99L, "c:b", 6));
+            wal.append(vote(11L, "c:a", 4));
+
+            wal.deadLetter(broken, "episode not found");
+            wal.checkpoint(broken.seq());
+
+            assertThat(first.seq()).isEqualTo(1L);
+        }
+
+        try (StarVoteWal reopened = new StarVoteWal(dir)) {
+            assertThat(reopened.drainRecovered())
+                    .extracting(StarVoteCommand::seq).containsExactly(3L);
+
+            List<StarVoteWal.DeadLetter> deadLetters = reopened.readDeadLetters();
+            assertThat(deadLetters).hasSize(1);
+            assertThat(deadLetters.get(0).command().episodeId()).isEqualTo(99L);
+            assertThat(deadLetters.get(0).reason()).isEqualTo("episode not found");
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.duckstar.utils;
+
+import com.duckstar.utils.ImageProbe.ImageInfo;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ImageProbeTest {
+
+    @Test
+    public void 헤더에서_포맷과_크기를_읽는다() throws IOException {
+        for (String format : new String[]{"png", "jpeg", "gif"}) {
+            File file = write(encode(new BufferedImage(320, 180, BufferedImage.TYPE_INT_RGB), format));
+
+            Optional<ImageInfo> info = ImageProbe.probe(file);
+
+            assertThat(info).contains(new ImageInfo(format, 320, 180));
+        }
+    }
+
+    @Test
+    public void 픽셀을_디코딩하지_않아_헤더만_큰_이미지도_바로_판정한다() throws IOException {
+        // 1x1 PNG 의 IHDR 만 50000x50000 으로 바꿈 (디코딩했다면 픽셀 데이터가 모자라 실패)
+        byte[] png = encode(new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB), "png");
+        ByteBuffer ihdr = ByteBuffer.wrap(png);
+        ihdr.putInt(16, 50_000);
+        ihdr.putInt(20, 50_000);
+        CRC32 crc = new CRC32();
+        crc.update(png, 12, 17);  // "IHDR" + 13바이트
+        ihdr.putInt(29, (int) crc.getValue());
+
+        Optional<ImageInfo> info = ImageProbe.probe(write(png));
+
+        assertThat(info).contains(new ImageInfo("png", 50_000, 50_000));
+    }
+
+    @Test
+    public void 이미지가_아니면_비어있다() throws IOException {
+        File file = write("<html>not an image</html>".getBytes());
+
+        assertThat(ImageProbe.probe(file)).isEmpty();
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+
+    private static File write(byte[] bytes) throws IOException {
+        File file = Files.createTempFile("image-probe-", ".bin").toFile();
+        file.deleteOnExit();
+        Files.write(file.toPath(), bytes);
+        return file;
+    }
+}
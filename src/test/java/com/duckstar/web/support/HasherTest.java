@@ -0,0 +1,75 @@
+package com.duckstar.web.support;
+
+import com.duckstar.apiPayload.exception.handler.VoteHandler;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class HasherTest {
+
+    private static final byte[] KEY = "local-secret-key-1234567890".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void 기존_구현과_같은_해시를_낸다() throws Exception {
+        Hasher hex = new Hasher(KEY, true);
+        Hasher base64 = new Hasher(KEY, false, 0, 0L);
+
+        for (String ip : List.of("127.0.0.1", "211.36.142.7", "2001:db8::1", "")) {
+            assertThat(hex.hash(ip)).isEqualTo(legacyHash(ip, true));
+            assertThat(hex.hash(ip)).isEqualTo(legacyHash(ip, true));  // 메모 적중
+            assertThat(base64.hash(ip)).isEqualTo(legacyHash(ip, false));
+        }
+    }
+
+    @Test
+    public void null_IP는_HASH_FAILED로_실패한다() {
+        Hasher hasher = new Hasher(KEY, true);
+
+        assertThatThrownBy(() -> hasher.hash(null))
+                .isInstanceOf(VoteHandler.class);
+    }
+
+    @Test
+    public void 여러_스레드에서_동시에_써도_결과가_같다() throws Exception {
+        Hasher hasher = new Hasher(KEY, true, 16, 60_000L);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> futures = new java.util.ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 5_000; i++) {
+                        String ip = "10.0." + (i % 50) + "." + (i % 7);
+                        if (!hasher.hash(ip).equals(legacyHash(ip, true))) return false;
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                assertThat(future.get()).isTrue();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    // 변경 전 Hasher.hash
+    private static String legacyHash(String ip, boolean useHex) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(KEY, "HmacSHA256"));
+        byte[] macBytes = mac.doFinal(ip.getBytes(StandardCharsets.UTF_8));
+        if (!useHex) return Base64.getUrlEncoder().withoutPadding().encodeToString(macBytes);
+
+        StringBuilder sb = new StringBuilder();
+        for (byte b : macBytes) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+}